@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# 기동 모드별 기동 시간 비교 (컨텍스트 refresh 직후 종료 기준)
+#
+# 사용법: ./gradlew bootJar [-Paot] && ./scripts/startup-benchmark.sh [반복 횟수]
+# 공통 JVM 옵션은 STARTUP_OPTS 로 전달 (예: 로컬 H2/프로필 지정)
+#   STARTUP_OPTS="-Dspring.profiles.active=local" ./scripts/startup-benchmark.sh 5
+#
+# 모드
+#   jar          java -jar (fat jar, 기존 방식)
+#   extracted    추출된 jar
+#   lazy-off     추출 + 비핵심 빈 지연 생성 끔 (app.fast-start.lazy-non-critical=false)
+#   cds          추출 + CDS 아카이브
+#   cds-aot      추출 + CDS + Spring AOT (jar 가 -Paot 로 빌드된 경우만)
+set -euo pipefail
+
+RUNS="${1:-5}"
+JAR="build/libs/payment-service-0.0.1-SNAPSHOT.jar"
+WORK="build/startup-bench"
+OPTS="${STARTUP_OPTS:-} -Dspring.context.exit=onRefresh -Dspring.quartz.auto-startup=false -Dspring.kafka.admin.auto-create=false"
+
+[ -f "$JAR" ] || { echo "jar 없음: $JAR (./gradlew bootJar 먼저 실행)"; exit 1; }
+
+rm -rf "$WORK" && mkdir -p "$WORK"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/extracted" > /dev/null
+APP="$WORK/extracted/$(basename "$JAR")"
+
+HAS_AOT=false
+if jar tf "$JAR" | grep -q "__ApplicationContextInitializer"; then
+  HAS_AOT=true
+fi
+
+echo "[준비] CDS 아카이브 학습 실행"
+# shellcheck disable=SC2086
+java -XX:ArchiveClassesAtExit="$WORK/app.jsa" $OPTS -jar "$APP" > "$WORK/training.log" 2>&1
+if [ "$HAS_AOT" = true ]; then
+  # shellcheck disable=SC2086
+  java -XX:ArchiveClassesAtExit="$WORK/app-aot.jsa" -Dspring.aot.enabled=true $OPTS -jar "$APP" > "$WORK/training-aot.log" 2>&1
+fi
+
+run_mode() {
+  local name="$1"; shift
+  local total=0 min=0 max=0 ms
+  for i in $(seq 1 "$RUNS"); do
+    local t0 t1
+    t0=$(date +%s%N)
+    # shellcheck disable=SC2086
+    java "$@" $OPTS > "$WORK/$name-$i.log" 2>&1
+    t1=$(date +%s%N)
+    ms=$(( (t1 - t0) / 1000000 ))
+    total=$(( total + ms ))
+    if [ "$min" -eq 0 ] || [ "$ms" -lt "$min" ]; then min=$ms; fi
+    if [ "$ms" -gt "$max" ]; then max=$ms; fi
+  done
+  local spring
+  spring=$(grep -o "Started [A-Za-z]* in [0-9.]* seconds" "$WORK/$name-$RUNS.log" | grep -o "[0-9.]* seconds" || echo "-")
+  printf "%-10s avg=%6dms min=%6dms max=%6dms  (마지막 실행 Spring 보고: %s)\n" \
+    "$name" $(( total / RUNS )) "$min" "$max" "$spring"
+}
+
+echo "[측정] 모드별 ${RUNS}회 (JVM 시작 ~ 컨텍스트 refresh 완료 후 종료)"
+run_mode jar -jar "$JAR"
+run_mode extracted -jar "$APP"
+run_mode lazy-off -Dapp.fast-start.lazy-non-critical=false -jar "$APP"
+run_mode cds -XX:SharedArchiveFile="$WORK/app.jsa" -jar "$APP"
+if [ "$HAS_AOT" = true ]; then
+  run_mode cds-aot -XX:SharedArchiveFile="$WORK/app-aot.jsa" -Dspring.aot.enabled=true -jar "$APP"
+else
+  echo "cds-aot    건너뜀 (./gradlew bootJar -Paot 로 빌드하면 측정)"
+fi
@@ -0,0 +1,121 @@
+package com.grow.payment_service.global.logging;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * 결제 승인 1건당 로깅 비용 벤치마크
+ * - legacySteps: 기존 confirm 흐름의 단계별 INFO 8줄 (이메일/키 원문 포함)
+ * - flowSummary: FlowLog 한 줄 요약 (sampleRate=1.0 전량 기록 / 0.1 기본 샘플링)
+ * - async: AsyncAppender 경유 여부 (true 면 요청 스레드는 큐 적재까지만 부담)
+ * 출력은 버려지는 스트림으로 보내 포맷/인코딩 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FlowLogBenchmark {
+
+	private static final String PATTERN = "%d %5p [%t] %logger{39} : %m %kvp%n";
+
+	@Param({"false", "true"})
+	public boolean async;
+
+	@Param({"1.0", "0.1"})
+	public double sampleRate;
+
+	private org.slf4j.Logger legacy;
+	private FlowLogger flowLogger;
+	private LoggerContext context;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		context.reset();
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern(PATTERN);
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+		sink.setContext(context);
+		sink.setEncoder(encoder);
+		sink.setOutputStream(OutputStream.nullOutputStream());
+		sink.start();
+
+		ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		root.setLevel(ch.qos.logback.classic.Level.INFO);
+		if (async) {
+			AsyncAppender asyncAppender = new AsyncAppender();
+			asyncAppender.setContext(context);
+			asyncAppender.setQueueSize(AsyncAppenderBase.DEFAULT_QUEUE_SIZE * 32);
+			asyncAppender.setDiscardingThreshold(0);
+			asyncAppender.setNeverBlock(true);
+			asyncAppender.addAppender(sink);
+			asyncAppender.start();
+			root.addAppender(asyncAppender);
+		} else {
+			root.addAppender(sink);
+		}
+
+		legacy = LoggerFactory.getLogger("bench.legacy");
+		flowLogger = new FlowLogger(sampleRate, Duration.ofSeconds(1));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.stop();
+	}
+
+	@Benchmark
+	public void legacySteps() {
+		Long memberId = 1L;
+		String orderId = "20250101100001";
+		int amount = 10000;
+		String paymentKey = "pk_test_1234567890";
+		String email = "member@grow.com";
+		String name = "member";
+		legacy.info("[결제 승인 요청 시작] memberId={}, orderId={}, amount={}, paymentKey={}",
+			memberId, orderId, amount, paymentKey);
+		legacy.info("[1/4] 멤버 서비스 호출 중... memberId={}", memberId);
+		legacy.info("[2/4] 주문 조회 및 소유권 검증 → orderId={}", orderId);
+		legacy.info("[2/4] 소유권 검증 및 Plan 조회 완료 → memberId={}, planId={}", memberId, 1L);
+		legacy.info("[1/4] 멤버 정보 조회 완료 → email={}, nickname={}", email, name);
+		legacy.info("[3/4] SAGA 호출 → paymentKey={}, orderId={}, amount={}, idempotencyKey={}, email={}, name={}",
+			paymentKey, orderId, amount, "idem-1", email, name);
+		legacy.info("[3/4] SAGA 결제 승인 완료 → paymentId={}", 42L);
+		legacy.info("[4/4] 자동 갱신 대상 아님 (One-time purchase)");
+	}
+
+	@Benchmark
+	public void flowSummary() {
+		flowLogger.start("confirm")
+			.kv("memberId", 1L).kv("orderId", "20250101100001").kv("amount", 10000)
+			.masked("paymentKey", "pk_test_1234567890", LogMasker::key)
+			.kv("planId", 1L).step("order")
+			.masked("email", "member@grow.com", LogMasker::email).step("member")
+			.kv("paymentId", 42L).step("saga")
+			.step("post")
+			.success();
+	}
+}
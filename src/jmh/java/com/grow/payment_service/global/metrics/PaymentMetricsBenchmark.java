@@ -0,0 +1,61 @@
+package com.grow.payment_service.global.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PaymentMetrics 카운터 증가 비용 벤치마크
+ * - registryLookup: 기존 방식 (호출마다 registry.counter(...) 조회)
+ * - 나머지: 캐시/전이 행렬 경유, gc 프로파일러의 gc.alloc.rate.norm 이 0 에 가까워야 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentMetricsBenchmark {
+
+	private static final String[] FAIL_TAGS = {"reason", "TIMEOUT"};
+
+	private MeterRegistry registry;
+	private PaymentMetrics metrics;
+
+	@Setup
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+		metrics = new PaymentMetrics(registry);
+		// 최초 등록 비용은 측정에서 제외
+		metrics.result("payment_confirm_fail_total", FAIL_TAGS);
+		metrics.transition(PayStatus.READY, PayStatus.DONE);
+	}
+
+	@Benchmark
+	public void registryLookup() {
+		registry.counter("payment_confirm_fail_total", FAIL_TAGS).increment();
+	}
+
+	@Benchmark
+	public void cachedResult() {
+		metrics.result("payment_confirm_fail_total", FAIL_TAGS);
+	}
+
+	@Benchmark
+	public void transitionByName() {
+		metrics.transition("READY", "DONE");
+	}
+
+	@Benchmark
+	public void transitionByEnum() {
+		metrics.transition(PayStatus.READY, PayStatus.DONE);
+	}
+}
@@ -0,0 +1,44 @@
+package com.grow.payment_service.payment.application.event;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.grow.payment_service.global.util.JsonUtils;
+
+/**
+ * 결제 알림 이벤트 JSON 직렬화 벤치마크 (Kafka 발행 직전 단계)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentNotificationEventJsonBenchmark {
+
+	private PaymentNotificationEvent event;
+
+	@Setup
+	public void setUp() {
+		event = new PaymentNotificationEvent(
+			1L,
+			"PAYMENT_APPROVED",
+			"PAYMENT",
+			"결제 완료",
+			"결제가 정상적으로 완료되었습니다.",
+			"2025010110001",
+			10000L,
+			LocalDateTime.of(2025, 1, 1, 12, 0)
+		);
+	}
+
+	@Benchmark
+	public String toJsonString() {
+		return JsonUtils.toJsonString(event);
+	}
+}
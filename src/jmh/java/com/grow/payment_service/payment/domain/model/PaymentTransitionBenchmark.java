@@ -0,0 +1,70 @@
+package com.grow.payment_service.payment.domain.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+/**
+ * Payment 상태 전이 / PayStatus.canTransitionTo 벤치마크
+ * - 전이마다 새 Payment 를 만드는 불변 모델이므로 연산당 할당량(gc 프로파일러)도 함께 확인
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentTransitionBenchmark {
+
+	@Param({"READY", "AUTO_BILLING_APPROVED", "CANCELLED"})
+	public PayStatus from;
+
+	private Payment ready;
+	private Payment autoBillingReady;
+	private Payment autoBillingApproved;
+
+	@Setup
+	public void setUp() {
+		ready = Payment.of(1L, 1L, 1L, "20250101100001",
+			null, null, "cust_1", 10000L, PayStatus.READY, "CARD", null, null);
+		autoBillingReady = Payment.of(2L, 1L, 2L, "20250101100002",
+			null, "bill-1", "cust_1", 10000L, PayStatus.AUTO_BILLING_READY, "CARD", null, null);
+		autoBillingApproved = Payment.of(3L, 1L, 2L, "20250101100003",
+			"pk-1", "bill-1", "cust_1", 10000L, PayStatus.AUTO_BILLING_APPROVED, "CARD", null, null);
+	}
+
+	/** 전이 가능 여부 조회 (허용/거부 모두 포함) */
+	@Benchmark
+	public boolean canTransitionTo() {
+		return from.canTransitionTo(PayStatus.DONE) | from.canTransitionTo(PayStatus.AUTO_BILLING_READY);
+	}
+
+	@Benchmark
+	public Payment transitionTo() {
+		return ready.transitionTo(PayStatus.IN_PROGRESS);
+	}
+
+	@Benchmark
+	public Payment approve() {
+		return ready.approve("pk-bench");
+	}
+
+	@Benchmark
+	public Payment resetForNextCycle() {
+		return autoBillingApproved.resetForNextCycle();
+	}
+
+	/** 자동결제 한 사이클: READY -> IN_PROGRESS -> APPROVED -> READY */
+	@Benchmark
+	public Payment autoBillingCycle() {
+		return autoBillingReady.startAutoBilling()
+			.approveAutoBilling("pk-bench")
+			.resetForNextCycle();
+	}
+}
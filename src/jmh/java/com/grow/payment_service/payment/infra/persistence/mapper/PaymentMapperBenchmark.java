@@ -0,0 +1,45 @@
+package com.grow.payment_service.payment.infra.persistence.mapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.PaymentHistory;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+/**
+ * 도메인 <-> JPA 엔티티 매퍼 왕복 벤치마크
+ * - 저장/조회마다 호출되므로 연산당 할당량 추적 대상
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentMapperBenchmark {
+
+	private Payment payment;
+	private PaymentHistory history;
+
+	@Setup
+	public void setUp() {
+		payment = Payment.of(1L, 1L, 1L, "2025010110001",
+			"pk-1", "bill-1", "cust_1", 10000L, PayStatus.DONE, "CARD", null, null);
+		history = PaymentHistory.create(1L, PayStatus.DONE, "결제 승인 완료");
+	}
+
+	@Benchmark
+	public Payment paymentRoundTrip() {
+		return PaymentMapper.toDomain(PaymentMapper.toEntity(payment));
+	}
+
+	@Benchmark
+	public PaymentHistory historyRoundTrip() {
+		return PaymentHistoryMapper.toDomain(PaymentHistoryMapper.toEntity(history));
+	}
+}
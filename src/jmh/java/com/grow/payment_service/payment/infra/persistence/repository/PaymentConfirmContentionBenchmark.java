@@ -0,0 +1,184 @@
+package com.grow.payment_service.payment.infra.persistence.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 중복 승인 경합 벤치마크: 비관적 락(SELECT ... FOR UPDATE) vs 낙관적 락(version 조건부 UPDATE)
+ * - 16 스레드가 duplicates 건씩 같은 주문을 동시에 승인 (결제창 중복 클릭/재시도 상황)
+ * - 주문마다 첫 요청만 READY → DONE 전이, 나머지는 DONE 확인 후 그대로 반환 (PaymentPersistenceServiceImpl 와 같은 흐름)
+ * - pessimistic: 중복 요청도 행 락을 잡고 줄을 서서 확인
+ *   optimistic: 락 없이 읽고, 전이는 version 일치 시에만 반영, 졌으면 재조회해 DONE 확인 (재시도는 새 트랜잭션)
+ * - 내장 H2(인메모리)라 절대값보다 두 방식의 처리량 비율을 볼 것
+ * - 순번이 rows 를 넘으면 처음 주문부터 다시 돌며 전부 중복 요청이 됨 (iteration 마다 READY 로 초기화)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class PaymentConfirmContentionBenchmark {
+
+	private static final String URL = "jdbc:h2:mem:contention;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+	private static final int ROWS = 200_000;
+
+	@Param({"1", "16"})
+	public int duplicates;
+
+	private final AtomicLong seq = new AtomicLong();
+	private Connection admin;
+
+	@State(Scope.Thread)
+	public static class Session {
+
+		Connection conn;
+		PreparedStatement selectForUpdate;
+		PreparedStatement select;
+		PreparedStatement updateStatus;
+		PreparedStatement updateIfVersion;
+
+		@Setup(Level.Trial)
+		public void open() throws SQLException {
+			conn = DriverManager.getConnection(URL);
+			conn.setAutoCommit(false);
+			conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+			selectForUpdate = conn.prepareStatement(
+				"SELECT payment_id, pay_status, version FROM payment WHERE order_id = ? FOR UPDATE");
+			select = conn.prepareStatement(
+				"SELECT payment_id, pay_status, version FROM payment WHERE order_id = ?");
+			updateStatus = conn.prepareStatement(
+				"UPDATE payment SET pay_status = 'DONE', payment_key = ? WHERE payment_id = ?");
+			updateIfVersion = conn.prepareStatement(
+				"UPDATE payment SET pay_status = 'DONE', payment_key = ?, version = version + 1 "
+					+ "WHERE payment_id = ? AND version = ?");
+		}
+
+		@TearDown(Level.Trial)
+		public void close() throws SQLException {
+			conn.close();
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void createTable() throws SQLException {
+		admin = DriverManager.getConnection(URL);
+		try (Statement st = admin.createStatement()) {
+			st.execute("DROP TABLE IF EXISTS payment");
+			st.execute("CREATE TABLE payment (payment_id BIGINT PRIMARY KEY, order_id VARCHAR(30) UNIQUE, "
+				+ "payment_key VARCHAR(64), pay_status VARCHAR(32) NOT NULL, version BIGINT NOT NULL)");
+		}
+		admin.setAutoCommit(false);
+		try (PreparedStatement insert = admin.prepareStatement(
+			"INSERT INTO payment (payment_id, order_id, pay_status, version) VALUES (?, ?, 'READY', 0)")) {
+			for (int i = 0; i < ROWS; i++) {
+				insert.setLong(1, i);
+				insert.setString(2, orderId(i));
+				insert.addBatch();
+				if (i % 1000 == 999) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		admin.commit();
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() throws SQLException {
+		try (Statement st = admin.createStatement()) {
+			st.executeUpdate("UPDATE payment SET pay_status = 'READY', payment_key = NULL, version = 0");
+		}
+		admin.commit();
+		seq.set(0);
+	}
+
+	@TearDown(Level.Trial)
+	public void dropTable() throws SQLException {
+		try (Statement st = admin.createStatement()) {
+			st.execute("DROP TABLE payment");
+		}
+		admin.commit();
+		admin.close();
+	}
+
+	@Benchmark
+	public boolean pessimistic(Session s) throws SQLException {
+		String orderId = nextOrderId();
+		try {
+			s.selectForUpdate.setString(1, orderId);
+			boolean changed = false;
+			try (ResultSet rs = s.selectForUpdate.executeQuery()) {
+				rs.next();
+				if (!"DONE".equals(rs.getString(2))) {
+					s.updateStatus.setString(1, "pk-" + orderId);
+					s.updateStatus.setLong(2, rs.getLong(1));
+					changed = s.updateStatus.executeUpdate() == 1;
+				}
+			}
+			s.conn.commit();
+			return changed;
+		} catch (SQLException e) {
+			s.conn.rollback();
+			throw e;
+		}
+	}
+
+	@Benchmark
+	public boolean optimistic(Session s) throws SQLException {
+		String orderId = nextOrderId();
+		// 충돌 시 재조회하면 DONE 이라 최대 2회면 끝남
+		while (true) {
+			try {
+				s.select.setString(1, orderId);
+				long paymentId;
+				long version;
+				try (ResultSet rs = s.select.executeQuery()) {
+					rs.next();
+					if ("DONE".equals(rs.getString(2))) {
+						s.conn.commit();
+						return false;
+					}
+					paymentId = rs.getLong(1);
+					version = rs.getLong(3);
+				}
+				s.updateIfVersion.setString(1, "pk-" + orderId);
+				s.updateIfVersion.setLong(2, paymentId);
+				s.updateIfVersion.setLong(3, version);
+				boolean changed = s.updateIfVersion.executeUpdate() == 1;
+				s.conn.commit();
+				if (changed) {
+					return true;
+				}
+			} catch (SQLException e) {
+				s.conn.rollback();
+				throw e;
+			}
+		}
+	}
+
+	private String nextOrderId() {
+		long n = seq.getAndIncrement() / duplicates;
+		return orderId((int)(n % ROWS));
+	}
+
+	private static String orderId(int i) {
+		return String.format("20250101%010d", i);
+	}
+}
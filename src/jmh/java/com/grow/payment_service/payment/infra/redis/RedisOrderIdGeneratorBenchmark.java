@@ -0,0 +1,29 @@
+package com.grow.payment_service.payment.infra.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * orderId 포맷팅 벤치마크
+ * - Redis INCR 왕복은 제외하고 문자열 조립 비용만 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisOrderIdGeneratorBenchmark {
+
+	private final String date = "20250101";
+	private final Long memberId = 1L;
+	private long seq;
+
+	@Benchmark
+	public String format() {
+		return RedisOrderIdGenerator.format(date, memberId, ++seq % 10_000);
+	}
+}
@@ -0,0 +1,89 @@
+package com.grow.payment_service.payment.saga;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
+import com.grow.payment_service.payment.domain.repository.SagaLogRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 사가 1건당 SagaLog 추가 지연 벤치마크 (16 스레드 동시 결제 가정)
+ * - gatewayDone: 저장 확인까지 대기하는 단계, 결제 요청이 실제로 더 기다리는 시간
+ * - sagaSteps: 승인 사가 한 건이 남기는 기록 전체 (STARTED → GATEWAY_DONE → COMPLETED)
+ *   대기 없는 단계는 큐 적재 비용만 더해지므로 gatewayDone 과의 차이가 곧 그 비용
+ * - batchRttMicros: 배치 INSERT 한 번의 DB 왕복을 흉내 낸 지연 (배치 크기와 무관하게 고정)
+ * 그룹 커밋이라 동시 요청이 늘어도 gatewayDone 은 배치 왕복 1~2회 이내로 유지되어야 함
+ * (결과의 avgt 가 batchRttMicros × 2 를 넘으면 writer 가 밀리고 있다는 뜻)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class SagaLogBenchmark {
+
+	@Param({"200", "1000"})
+	public long batchRttMicros;
+
+	private final AtomicLong seq = new AtomicLong();
+	private SagaLog sagaLog;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		SagaLogRepository repository = new SagaLogRepository() {
+			@Override
+			public void appendAll(List<SagaLogEntry> entries) {
+				LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(batchRttMicros));
+			}
+
+			@Override
+			public List<SagaLogEntry> findOpen(LocalDateTime from, LocalDateTime to) {
+				return List.of();
+			}
+		};
+		sagaLog = new SagaLog(repository, new PaymentMetrics(registry), registry, 200, 10_000,
+			Duration.ofSeconds(1));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws InterruptedException {
+		sagaLog.close();
+	}
+
+	@Benchmark
+	public void gatewayDone() {
+		sagaLog.gatewayDone(SagaOperation.CONFIRM, orderId(), "pk", 10_000, null);
+	}
+
+	@Benchmark
+	public void sagaSteps() {
+		String orderId = orderId();
+		sagaLog.started(SagaOperation.CONFIRM, orderId, "pk", 10_000, null);
+		sagaLog.gatewayDone(SagaOperation.CONFIRM, orderId, "pk", 10_000, null);
+		sagaLog.completed(SagaOperation.CONFIRM, orderId);
+	}
+
+	private String orderId() {
+		return "order-" + seq.incrementAndGet();
+	}
+}
@@ -0,0 +1,202 @@
+package com.grow.payment_service.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.grow.payment_service.global.tracing.QuartzTracing;
+import com.grow.payment_service.loadtest.dataset.DatasetSpec;
+import com.grow.payment_service.loadtest.dataset.SyntheticDataGenerator;
+import com.grow.payment_service.payment.application.event.PaymentNotificationProducer;
+import com.grow.payment_service.payment.application.service.EmailService;
+import com.grow.payment_service.payment.application.service.PaymentBatchService;
+import com.grow.payment_service.payment.application.service.PaymentQueryService;
+import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.domain.service.OrderIdGenerator;
+import com.grow.payment_service.payment.infra.batch.DailyAutoChargeJob;
+import com.grow.payment_service.payment.infra.client.MemberClient;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
+import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
+import com.grow.payment_service.plan.domain.model.enums.PlanType;
+import com.grow.payment_service.plan.infra.persistence.entity.PlanJpaEntity;
+import com.grow.payment_service.plan.infra.persistence.repository.PlanJpaRepository;
+import com.grow.payment_service.subscription.application.service.SubscriptionHistoryApplicationService;
+import com.grow.payment_service.subscription.infra.batch.SubscriptionExpiryJob;
+
+/**
+ * 대용량 합성 데이터 기준 배치 잡 / 조회 벤치마크 (./gradlew loadTest --tests '*BatchJobBenchmarkTest')
+ * - SyntheticDataGenerator 로 DatasetSpec 규모만큼 적재 후 각 잡/조회 소요 시간을 측정
+ * - 잡은 1회 실행 시간, 조회는 표본 회원 dataset.query-samples 명에 대한 호출별 지연 백분위
+ * - 결과는 표준 출력과 build/reports/load-test/batch-summary.txt 에 기록
+ * - 예: ./gradlew loadTest -Pdataset.members=100000 -Pdataset.history-depth=2:12
+ */
+@SpringBootTest(
+	properties = {
+		"toss.secret-key=test_sk_load",
+		"toss.base-url=http://127.0.0.1:9",
+		"app.mail.from=noreply@grow.com",
+		"spring.mail.host=localhost",
+		"spring.quartz.auto-startup=false",
+		"spring.kafka.admin.auto-create=false",
+		"app.warmup.enabled=false",
+		"management.tracing.enabled=false",
+		"logging.level.com.grow.payment_service=WARN"
+	}
+)
+@DisplayName("합성 데이터셋 기반 배치/조회 벤치마크")
+class BatchJobBenchmarkTest {
+
+	private static final int QUERY_SAMPLES = Integer.getInteger("dataset.query-samples", 200);
+
+	@Autowired JdbcTemplate jdbcTemplate;
+	@Autowired PlanJpaRepository planJpaRepository;
+	@Autowired PaymentRepository paymentRepository;
+	@Autowired PaymentHistoryRepository historyRepository;
+	@Autowired PaymentBatchService batchService;
+	@Autowired PaymentQueryService queryService;
+	@Autowired SubscriptionHistoryApplicationService subscriptionService;
+	@Autowired SubscriptionExpiryJob subscriptionExpiryJob;
+	@Autowired QuartzTracing quartzTracing;
+
+	@MockitoBean MemberClient memberClient;
+	@MockitoBean RedisIdempotencyAdapter idempotencyAdapter;
+	@MockitoBean OrderIdGenerator orderIdGenerator;
+	@MockitoBean PaymentNotificationProducer notificationProducer;
+	@MockitoBean EmailService emailService;
+
+	@Test
+	@DisplayName("DailyAutoChargeJob / SubscriptionExpiryJob / 조회 소요 시간 측정")
+	void benchmarkAgainstSyntheticDataset() throws Exception {
+		DatasetSpec spec = DatasetSpec.fromSystemProperties();
+		Long subscriptionPlanId = savePlan(PlanType.SUBSCRIPTION, PlanPeriod.MONTHLY);
+		Long oneTimePlanId = savePlan(PlanType.ONE_TIME_PAYMENT, PlanPeriod.YEARLY);
+
+		SyntheticDataGenerator.Result data = new SyntheticDataGenerator(jdbcTemplate, spec)
+			.generate(subscriptionPlanId, oneTimePlanId);
+		List<LoadReport> reports = new ArrayList<>();
+
+		// 1) 일일 자동결제 디스패치 (Quartz 스케줄러는 목, 예약은 전부 성공으로 가정)
+		Scheduler scheduler = mock(Scheduler.class);
+		given(idempotencyAdapter.reserveAll(anyCollection()))
+			.willAnswer(inv -> new LinkedHashSet<>(inv.<Collection<String>>getArgument(0)));
+		DailyAutoChargeJob dailyJob = new DailyAutoChargeJob(
+			paymentRepository, historyRepository, scheduler, idempotencyAdapter, quartzTracing);
+		reports.add(timeOnce("DailyAutoCharge", () -> dailyJob.execute(null)));
+		then(scheduler).should(times((int)data.duePayments()))
+			.scheduleJob(any(JobDetail.class), any(Trigger.class));
+
+		// 2) 연간 구독 만료
+		long subscriptionsBefore = count("subscription_history");
+		reports.add(timeOnce("SubscriptionExpiry", () -> subscriptionExpiryJob.execute(null)));
+		assertThat(count("subscription_history") - subscriptionsBefore)
+			.isGreaterThanOrEqualTo(data.expiredYearlySubscriptions());
+
+		// 3) 재시도 한계 도달 자동결제 실패 처리
+		reports.add(timeOnce("AutoChargeFailPerm", () -> batchService.markAutoChargeFailedPermanently()));
+
+		// 4) 회원 단위 조회 (표본 회원)
+		long[] sample = sampleMembers(spec);
+		reports.add(timeEach("SubscriptionSummary", sample,
+			memberId -> subscriptionService.getSubscriptionSummaries(memberId)));
+		reports.add(timeEach("PaymentsByMember", sample,
+			memberId -> queryService.getPaymentsByMemberId(memberId)));
+
+		writeSummary(spec, data, reports);
+
+		assertThat(count("payment")).isEqualTo(data.payments());
+		assertThat(count("payment_history")).isGreaterThanOrEqualTo(data.histories());
+	}
+
+	@FunctionalInterface
+	private interface Step {
+		void run() throws Exception;
+	}
+
+	@FunctionalInterface
+	private interface MemberQuery {
+		void run(Long memberId);
+	}
+
+	private static LoadReport timeOnce(String name, Step step) throws Exception {
+		long t0 = System.nanoTime();
+		step.run();
+		long elapsed = System.nanoTime() - t0;
+		return LoadReport.of(name, new long[] {elapsed}, 0, elapsed);
+	}
+
+	private static LoadReport timeEach(String name, long[] memberIds, MemberQuery query) {
+		long[] latencies = new long[memberIds.length];
+		int errors = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < memberIds.length; i++) {
+			long t0 = System.nanoTime();
+			try {
+				query.run(memberIds[i]);
+			} catch (RuntimeException e) {
+				errors++;
+			}
+			latencies[i] = System.nanoTime() - t0;
+		}
+		return LoadReport.of(name, latencies, errors, System.nanoTime() - start);
+	}
+
+	private static long[] sampleMembers(DatasetSpec spec) {
+		SplittableRandom random = new SplittableRandom(spec.seed());
+		int n = Math.min(QUERY_SAMPLES, spec.members());
+		long[] ids = new long[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = SyntheticDataGenerator.memberId(random.nextInt(spec.members()));
+		}
+		return ids;
+	}
+
+	private Long savePlan(PlanType type, PlanPeriod period) {
+		return planJpaRepository.save(PlanJpaEntity.builder()
+			.type(type)
+			.amount(type == PlanType.SUBSCRIPTION ? 9_900L : 29_000L)
+			.period(period)
+			.benefits("benchmark")
+			.build()).getPlanId();
+	}
+
+	private long count(String table) {
+		Long n = jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+		return n == null ? 0 : n;
+	}
+
+	private void writeSummary(DatasetSpec spec, SyntheticDataGenerator.Result data, List<LoadReport> reports)
+		throws IOException {
+		String header = String.format(
+			"%s%npayments=%d histories=%d subscriptions=%d due=%d expiredYearly=%d loaded in %dms",
+			spec, data.payments(), data.histories(), data.subscriptions(),
+			data.duePayments(), data.expiredYearlySubscriptions(), data.elapsedMillis());
+		String summary = header + System.lineSeparator() + reports.stream()
+			.map(LoadReport::format)
+			.collect(Collectors.joining(System.lineSeparator()));
+		System.out.println(summary);
+
+		Path dir = Path.of("build", "reports", "load-test");
+		Files.createDirectories(dir);
+		Files.writeString(dir.resolve("batch-summary.txt"), summary + System.lineSeparator());
+	}
+}
@@ -0,0 +1,62 @@
+package com.grow.payment_service.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 부하 테스트용 로컬 OTLP/HTTP 수집기 대역 (JDK HttpServer)
+ * - POST /v1/traces 를 받아 건수/바이트만 세고 200 응답 (protobuf 본문은 해석하지 않음)
+ * - 실제 분석이 필요하면 management.otlp.tracing.endpoint 를 OTel Collector/Jaeger 로 지정
+ */
+public class FakeOtlpCollector implements AutoCloseable {
+
+	private final HttpServer server;
+	private final LongAdder exports = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+
+	private FakeOtlpCollector(HttpServer server) {
+		this.server = server;
+	}
+
+	public static FakeOtlpCollector start() throws IOException {
+		HttpServer http = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		FakeOtlpCollector collector = new FakeOtlpCollector(http);
+		http.createContext("/v1/traces", collector::handle);
+		http.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		http.start();
+		return collector;
+	}
+
+	public String tracesEndpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/traces";
+	}
+
+	/** 수신한 내보내기 요청 수 */
+	public long exports() {
+		return exports.sum();
+	}
+
+	/** 수신한 내보내기 본문 총 바이트 */
+	public long bytes() {
+		return bytes.sum();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			bytes.add(exchange.getRequestBody().readAllBytes().length);
+			exports.increment();
+			exchange.getResponseHeaders().set("Content-Type", "application/x-protobuf");
+			exchange.sendResponseHeaders(200, -1);
+		}
+	}
+}
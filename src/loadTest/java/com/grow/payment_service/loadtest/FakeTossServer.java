@@ -0,0 +1,197 @@
+package com.grow.payment_service.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 부하 테스트용 로컬 토스 대역 서버 (JDK HttpServer, 외부 네트워크 불필요)
+ * - TossPaymentClientImpl 이 호출하는 엔드포인트만 구현
+ *   POST /payments, /payments/confirm, /payments/{paymentKey}/cancel,
+ *        /billing/authorizations/issue, /billing/{billingKey}
+ * - 요청마다 LatencyDistribution 만큼 지연 후, errorRate 확률로 500 응답
+ * - traceparent 헤더가 붙은 요청 수를 따로 세어 WebClient 추적 전파를 확인
+ */
+public class FakeTossServer implements AutoCloseable {
+
+	private static final TypeReference<Map<String, Object>> BODY = new TypeReference<>() {};
+
+	private final HttpServer server;
+	private final LatencyDistribution latency;
+	private final double errorRate;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicLong sequence = new AtomicLong();
+	private final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+	private final LongAdder tracedHits = new LongAdder();
+
+	private FakeTossServer(HttpServer server, LatencyDistribution latency, double errorRate) {
+		this.server = server;
+		this.latency = latency;
+		this.errorRate = errorRate;
+	}
+
+	public static FakeTossServer start(LatencyDistribution latency, double errorRate) throws IOException {
+		HttpServer http = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		FakeTossServer fake = new FakeTossServer(http, latency, errorRate);
+		http.createContext("/", fake::handle);
+		http.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		http.start();
+		return fake;
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	/** 엔드포인트별 호출 횟수 (confirm, cancel, init, billing-issue, billing-charge) */
+	public long hits(String endpoint) {
+		LongAdder adder = hits.get(endpoint);
+		return adder == null ? 0 : adder.sum();
+	}
+
+	/** traceparent 헤더가 전달된 요청 수 */
+	public long tracedHits() {
+		return tracedHits.sum();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String path = exchange.getRequestURI().getPath();
+			String[] seg = path.substring(1).split("/");
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				respond(exchange, 405, Map.of("code", "METHOD_NOT_ALLOWED", "message", path));
+				return;
+			}
+			Map<String, Object> req = readBody(exchange.getRequestBody());
+
+			String endpoint;
+			Map<String, Object> res;
+			if (path.equals("/payments")) {
+				endpoint = "init";
+				res = init(req);
+			} else if (path.equals("/payments/confirm")) {
+				endpoint = "confirm";
+				res = confirm(req);
+			} else if (seg.length == 3 && seg[0].equals("payments") && seg[2].equals("cancel")) {
+				endpoint = "cancel";
+				res = cancel(req);
+			} else if (path.equals("/billing/authorizations/issue")) {
+				endpoint = "billing-issue";
+				res = issueBillingKey(req);
+			} else if (seg.length == 2 && seg[0].equals("billing")) {
+				endpoint = "billing-charge";
+				res = charge(req);
+			} else {
+				respond(exchange, 404, Map.of("code", "NOT_FOUND", "message", path));
+				return;
+			}
+			hits.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+			if (exchange.getRequestHeaders().containsKey("traceparent")) {
+				tracedHits.increment();
+			}
+
+			sleep(latency.sampleMillis(ThreadLocalRandom.current()));
+			if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				respond(exchange, 500, Map.of("code", "FAKE_PROVIDER_ERROR", "message", "주입된 장애 (" + endpoint + ")"));
+				return;
+			}
+			respond(exchange, 200, res);
+		}
+	}
+
+	private Map<String, Object> init(Map<String, Object> req) {
+		Map<String, Object> res = new LinkedHashMap<>();
+		res.put("paymentKey", "pk_fake_" + sequence.incrementAndGet());
+		res.put("orderId", req.get("orderId"));
+		res.put("status", "READY");
+		res.put("totalAmount", req.get("amount"));
+		res.put("checkout", Map.of("url", baseUrl() + "/checkout"));
+		return res;
+	}
+
+	private Map<String, Object> confirm(Map<String, Object> req) {
+		Map<String, Object> res = new LinkedHashMap<>();
+		res.put("paymentKey", req.get("paymentKey"));
+		res.put("orderId", req.get("orderId"));
+		res.put("status", "DONE");
+		res.put("totalAmount", req.get("amount"));
+		res.put("method", "카드");
+		return res;
+	}
+
+	private Map<String, Object> cancel(Map<String, Object> req) {
+		Map<String, Object> res = new LinkedHashMap<>();
+		res.put("status", "CANCELED");
+		res.put("canceledAmount", req.get("cancelAmount"));
+		return res;
+	}
+
+	private Map<String, Object> issueBillingKey(Map<String, Object> req) {
+		Map<String, Object> res = new LinkedHashMap<>();
+		res.put("customerKey", req.get("customerKey"));
+		res.put("authenticatedAt", OffsetDateTime.now().toString());
+		res.put("method", "카드");
+		res.put("billingKey", "bk_fake_" + sequence.incrementAndGet());
+		res.put("cardCompany", "현대");
+		res.put("cardNumber", "433012******1234");
+		return res;
+	}
+
+	private Map<String, Object> charge(Map<String, Object> req) {
+		String now = OffsetDateTime.now().toString();
+		Map<String, Object> res = new LinkedHashMap<>();
+		res.put("lastTransactionKey", "tx_fake_" + sequence.incrementAndGet());
+		res.put("paymentKey", "pk_auto_fake_" + sequence.incrementAndGet());
+		res.put("orderId", req.get("orderId"));
+		res.put("orderName", req.get("orderName"));
+		res.put("status", "DONE");
+		res.put("requestedAt", now);
+		res.put("approvedAt", now);
+		return res;
+	}
+
+	private Map<String, Object> readBody(InputStream in) throws IOException {
+		byte[] bytes = in.readAllBytes();
+		return bytes.length == 0 ? Map.of() : objectMapper.readValue(bytes, BODY);
+	}
+
+	private void respond(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static void sleep(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
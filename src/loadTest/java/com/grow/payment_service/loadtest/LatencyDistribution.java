@@ -0,0 +1,42 @@
+package com.grow.payment_service.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 가짜 토스 서버 응답 지연 분포
+ * - 스펙 문자열: none | fixed:{ms} | uniform:{minMs}:{maxMs} | lognormal:{medianMs}:{sigma}
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+	long sampleMillis(RandomGenerator random);
+
+	static LatencyDistribution none() {
+		return random -> 0L;
+	}
+
+	static LatencyDistribution fixed(long millis) {
+		return random -> millis;
+	}
+
+	static LatencyDistribution uniform(long minMillis, long maxMillis) {
+		return random -> random.nextLong(minMillis, maxMillis + 1);
+	}
+
+	/** 실제 PG 응답처럼 꼬리가 긴 분포 (중앙값 medianMillis, 로그 표준편차 sigma) */
+	static LatencyDistribution logNormal(double medianMillis, double sigma) {
+		double mu = Math.log(medianMillis);
+		return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+	}
+
+	static LatencyDistribution parse(String spec) {
+		String[] p = spec.trim().toLowerCase().split(":");
+		return switch (p[0]) {
+			case "none" -> none();
+			case "fixed" -> fixed(Long.parseLong(p[1]));
+			case "uniform" -> uniform(Long.parseLong(p[1]), Long.parseLong(p[2]));
+			case "lognormal" -> logNormal(Double.parseDouble(p[1]), Double.parseDouble(p[2]));
+			default -> throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+		};
+	}
+}
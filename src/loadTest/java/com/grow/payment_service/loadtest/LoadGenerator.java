@@ -0,0 +1,63 @@
+package com.grow.payment_service.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 폐쇄형(closed-loop) 부하 생성기
+ * - 동시 요청 수를 concurrency 로 제한하고 요청 i 마다 requestFactory(i) 를 전송
+ * - 4xx/5xx 와 I/O 오류는 에러로 집계, 지연은 요청 단위로 기록
+ */
+public class LoadGenerator {
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.connectTimeout(Duration.ofSeconds(5))
+		.executor(Executors.newVirtualThreadPerTaskExecutor())
+		.build();
+
+	public LoadReport run(
+		String scenario,
+		int requests,
+		int concurrency,
+		IntFunction<HttpRequest> requestFactory
+	) throws InterruptedException {
+		long[] latencies = new long[requests];
+		AtomicInteger errors = new AtomicInteger();
+		Semaphore permits = new Semaphore(concurrency);
+
+		long start = System.nanoTime();
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < requests; i++) {
+				permits.acquire();
+				int idx = i;
+				workers.submit(() -> {
+					long t0 = System.nanoTime();
+					try {
+						HttpResponse<Void> res = client.send(requestFactory.apply(idx),
+							HttpResponse.BodyHandlers.discarding());
+						if (res.statusCode() >= 400) {
+							errors.incrementAndGet();
+						}
+					} catch (IOException e) {
+						errors.incrementAndGet();
+					} catch (InterruptedException e) {
+						errors.incrementAndGet();
+						Thread.currentThread().interrupt();
+					} finally {
+						latencies[idx] = System.nanoTime() - t0;
+						permits.release();
+					}
+				});
+			}
+		}
+		return LoadReport.of(scenario, latencies, errors.get(), System.nanoTime() - start);
+	}
+}
@@ -0,0 +1,52 @@
+package com.grow.payment_service.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 시나리오 하나의 부하 결과 (처리량 + 지연 백분위)
+ */
+public record LoadReport(
+	String scenario,
+	int requests,
+	int errors,
+	double throughputPerSec,
+	double p50Millis,
+	double p95Millis,
+	double p99Millis,
+	double maxMillis
+) {
+
+	static LoadReport of(String scenario, long[] latencyNanos, int errors, long elapsedNanos) {
+		long[] sorted = latencyNanos.clone();
+		Arrays.sort(sorted);
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		return new LoadReport(
+			scenario,
+			sorted.length,
+			errors,
+			seconds == 0 ? 0 : sorted.length / seconds,
+			percentile(sorted, 0.50),
+			percentile(sorted, 0.95),
+			percentile(sorted, 0.99),
+			sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0
+		);
+	}
+
+	public double errorRate() {
+		return requests == 0 ? 0 : (double)errors / requests;
+	}
+
+	public String format() {
+		return String.format("%-16s req=%5d err=%4d  %8.1f req/s  p50=%7.2fms p95=%7.2fms p99=%7.2fms max=%7.2fms",
+			scenario, requests, errors, throughputPerSec, p50Millis, p95Millis, p99Millis, maxMillis);
+	}
+
+	/** nearest-rank 백분위 */
+	private static double percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int)Math.ceil(p * sorted.length);
+		return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+	}
+}
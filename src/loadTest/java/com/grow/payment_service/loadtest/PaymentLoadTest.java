@@ -0,0 +1,256 @@
+package com.grow.payment_service.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.payment_service.global.dto.RsData;
+import com.grow.payment_service.payment.application.event.PaymentNotificationProducer;
+import com.grow.payment_service.payment.application.service.EmailService;
+import com.grow.payment_service.payment.domain.service.OrderIdGenerator;
+import com.grow.payment_service.payment.infra.client.MemberClient;
+import com.grow.payment_service.payment.infra.client.MemberInfoResponse;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
+import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
+import com.grow.payment_service.plan.domain.model.enums.PlanType;
+import com.grow.payment_service.plan.infra.persistence.entity.PlanJpaEntity;
+import com.grow.payment_service.plan.infra.persistence.repository.PlanJpaRepository;
+
+/**
+ * 결제 API 종단 부하 테스트 (./gradlew loadTest)
+ * - 토스는 FakeTossServer, DB는 내장 H2, 멤버/Redis/Kafka/메일은 스텁 → 오프라인 CI 에서 실행 가능
+ * - 시나리오: 주문 생성 → 승인 → 웹훅 → 취소, 구독 주문 생성 → 빌링키 발급 → 자동결제
+ * - 결과는 표준 출력과 build/reports/load-test/summary.txt 에 기록
+ * - 추적은 전량 샘플링해 FakeOtlpCollector 로 내보냄 (추적 비용까지 포함한 수치)
+ *
+ * 조정 가능한 시스템 프로퍼티 (gradle -P 로 전달)
+ * - loadtest.requests       시나리오당 요청 수 (기본 200)
+ * - loadtest.concurrency    동시 요청 수 (기본 16)
+ * - loadtest.toss.latency   토스 지연 분포 (기본 lognormal:20:0.4, LatencyDistribution 참고)
+ * - loadtest.toss.error-rate 토스 장애 주입 비율 0.0~1.0 (기본 0)
+ */
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"toss.secret-key=test_sk_load",
+		"app.mail.from=noreply@grow.com",
+		"spring.mail.host=localhost",
+		"spring.quartz.auto-startup=false",
+		"spring.kafka.admin.auto-create=false",
+		"app.warmup.enabled=false",
+		"management.tracing.sampling.probability=1.0",
+		"logging.level.com.grow.payment_service=WARN"
+	}
+)
+@DisplayName("결제 API 부하 테스트 (가짜 토스 서버)")
+class PaymentLoadTest {
+
+	private static final int REQUESTS = Integer.getInteger("loadtest.requests", 200);
+	private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+	private static final double TOSS_ERROR_RATE =
+		Double.parseDouble(System.getProperty("loadtest.toss.error-rate", "0"));
+	private static final LatencyDistribution TOSS_LATENCY =
+		LatencyDistribution.parse(System.getProperty("loadtest.toss.latency", "lognormal:20:0.4"));
+
+	private static final Long MEMBER_ID = 1L;
+	private static final int AMOUNT = 10000;
+
+	private static FakeTossServer toss;
+	private static FakeOtlpCollector collector;
+
+	@DynamicPropertySource
+	static void tossProperties(DynamicPropertyRegistry registry) throws IOException {
+		toss = FakeTossServer.start(TOSS_LATENCY, TOSS_ERROR_RATE);
+		collector = FakeOtlpCollector.start();
+		registry.add("toss.base-url", toss::baseUrl);
+		registry.add("management.otlp.tracing.endpoint", collector::tracesEndpoint);
+	}
+
+	@AfterAll
+	static void stopToss() {
+		if (toss != null) {
+			toss.close();
+		}
+		if (collector != null) {
+			collector.close();
+		}
+	}
+
+	@LocalServerPort int port;
+	@Autowired PlanJpaRepository planJpaRepository;
+
+	@MockitoBean MemberClient memberClient;
+	@MockitoBean RedisIdempotencyAdapter idempotencyAdapter;
+	@MockitoBean OrderIdGenerator orderIdGenerator;
+	@MockitoBean PaymentNotificationProducer notificationProducer;
+	@MockitoBean EmailService emailService;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final LoadGenerator load = new LoadGenerator();
+	private final AtomicLong orderSeq = new AtomicLong();
+	private final List<String> generatedOrderIds = Collections.synchronizedList(new ArrayList<>());
+
+	@BeforeEach
+	void stubDependencies() {
+		given(memberClient.getMyInfo(anyLong()))
+			.willReturn(new RsData<>("200", "OK", new MemberInfoResponse(MEMBER_ID, "load@grow.com", "load")));
+		given(idempotencyAdapter.reserve(anyString())).willReturn(true);
+		given(orderIdGenerator.generate(anyLong())).willAnswer(inv -> {
+			String orderId = "LT" + orderSeq.incrementAndGet();
+			generatedOrderIds.add(orderId);
+			return orderId;
+		});
+	}
+
+	@Test
+	@DisplayName("결제 핫 플로우 처리량 / 지연 백분위 측정")
+	void paymentFlowsUnderLoad() throws Exception {
+		Long oneTimePlanId = savePlan(PlanType.ONE_TIME_PAYMENT, PlanPeriod.YEARLY);
+		Long subscriptionPlanId = savePlan(PlanType.SUBSCRIPTION, PlanPeriod.MONTHLY);
+		List<LoadReport> reports = new ArrayList<>();
+
+		// 일회성 결제: 주문 생성 → 승인 → 웹훅 → 취소
+		reports.add(load.run("create", REQUESTS, CONCURRENCY,
+			i -> post("/api/v1/payment/create?planId=" + oneTimePlanId + "&amount=" + AMOUNT, null, null)));
+		List<String> oneTimeOrders = drainOrderIds();
+
+		reports.add(load.run("confirm", oneTimeOrders.size(), CONCURRENCY,
+			i -> post("/api/v1/payment/confirm", UUID.randomUUID().toString(), Map.of(
+				"paymentKey", "pk_" + oneTimeOrders.get(i),
+				"orderId", oneTimeOrders.get(i),
+				"amount", AMOUNT
+			))));
+
+		reports.add(load.run("webhook", oneTimeOrders.size(), CONCURRENCY,
+			i -> post("/api/v1/payment/webhooks/tosspayments", null, Map.of(
+				"eventType", "PAYMENT_STATUS_CHANGED",
+				"data", Map.of(
+					"orderId", oneTimeOrders.get(i),
+					"status", "DONE",
+					"totalAmount", AMOUNT,
+					"method", "카드",
+					"currency", "KRW"
+				)
+			))));
+
+		reports.add(load.run("cancel", oneTimeOrders.size(), CONCURRENCY,
+			i -> post("/api/v1/payment/cancel", null, Map.of(
+				"orderId", oneTimeOrders.get(i),
+				"cancelAmount", AMOUNT,
+				"cancelReason", "USER_REQUEST"
+			))));
+
+		// 구독 결제: 주문 생성 → 빌링키 발급 → 자동결제
+		reports.add(load.run("create-sub", REQUESTS, CONCURRENCY,
+			i -> post("/api/v1/payment/create?planId=" + subscriptionPlanId + "&amount=" + AMOUNT, null, null)));
+		List<String> subscriptionOrders = drainOrderIds();
+
+		reports.add(load.run("billing-issue", subscriptionOrders.size(), CONCURRENCY,
+			i -> post("/api/v1/payment/billing/issue", null, Map.of(
+				"orderId", subscriptionOrders.get(i),
+				"authKey", "auth_" + i,
+				"customerKey", "cust_" + MEMBER_ID
+			))));
+
+		reports.add(load.run("billing-charge", subscriptionOrders.size(), CONCURRENCY,
+			i -> post("/api/v1/payment/billing/charge", UUID.randomUUID().toString(), Map.of(
+				"billingKey", "bk_load",
+				"customerKey", "cust_" + MEMBER_ID,
+				"amount", AMOUNT,
+				"orderId", subscriptionOrders.get(i),
+				"orderName", "GROW Plan #" + subscriptionOrders.get(i),
+				"customerEmail", "load@grow.com",
+				"customerName", "load"
+			))));
+
+		writeSummary(reports);
+
+		assertThat(oneTimeOrders).hasSize(REQUESTS);
+		assertThat(subscriptionOrders).hasSize(REQUESTS);
+		if (TOSS_ERROR_RATE == 0) {
+			assertThat(reports).allSatisfy(r -> assertThat(r.errors()).as(r.scenario() + " 에러 수").isZero());
+			assertThat(toss.hits("confirm")).isEqualTo(REQUESTS);
+			assertThat(toss.hits("cancel")).isEqualTo(REQUESTS);
+			assertThat(toss.hits("billing-charge")).isEqualTo(REQUESTS);
+		}
+		// WebClient 호출에 추적 헤더가 전파됨
+		assertThat(toss.tracedHits()).isPositive();
+	}
+
+	private Long savePlan(PlanType type, PlanPeriod period) {
+		return planJpaRepository.save(PlanJpaEntity.builder()
+			.type(type)
+			.amount((long)AMOUNT)
+			.period(period)
+			.benefits("load-test")
+			.build()).getPlanId();
+	}
+
+	private List<String> drainOrderIds() {
+		synchronized (generatedOrderIds) {
+			List<String> copy = List.copyOf(generatedOrderIds);
+			generatedOrderIds.clear();
+			return copy;
+		}
+	}
+
+	private HttpRequest post(String path, String idempotencyKey, Map<String, Object> body) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+			.header("X-Authorization-Id", String.valueOf(MEMBER_ID))
+			.header("Content-Type", "application/json");
+		if (idempotencyKey != null) {
+			builder.header("Idempotency-Key", idempotencyKey);
+		}
+		return builder.POST(body == null
+			? HttpRequest.BodyPublishers.noBody()
+			: HttpRequest.BodyPublishers.ofString(toJson(body))).build();
+	}
+
+	private String toJson(Map<String, Object> body) {
+		try {
+			return objectMapper.writeValueAsString(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void writeSummary(List<LoadReport> reports) throws IOException {
+		String header = String.format(
+			"requests=%d concurrency=%d toss.latency=%s toss.error-rate=%.3f toss.traced=%d otlp.exports=%d otlp.bytes=%d",
+			REQUESTS, CONCURRENCY, System.getProperty("loadtest.toss.latency", "lognormal:20:0.4"), TOSS_ERROR_RATE,
+			toss.tracedHits(), collector.exports(), collector.bytes());
+		String summary = header + System.lineSeparator() + reports.stream()
+			.map(LoadReport::format)
+			.collect(Collectors.joining(System.lineSeparator()));
+		System.out.println(summary);
+
+		Path dir = Path.of("build", "reports", "load-test");
+		Files.createDirectories(dir);
+		Files.writeString(dir.resolve("summary.txt"), summary + System.lineSeparator());
+	}
+}
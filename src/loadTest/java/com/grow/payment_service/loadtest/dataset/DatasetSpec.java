@@ -0,0 +1,56 @@
+package com.grow.payment_service.loadtest.dataset;
+
+/**
+ * 합성 데이터셋 규모 설정
+ * - 시스템 프로퍼티 dataset.* 로 조정 (gradle -P 로 전달)
+ *
+ * @param members                회원 수 (dataset.members)
+ * @param paymentsPerMember      회원당 결제 건수 (dataset.payments-per-member), PayStatus 전체를 순환 배정
+ * @param minHistoryDepth        결제당 최소 이력 수 (dataset.history-depth=min:max)
+ * @param maxHistoryDepth        결제당 최대 이력 수
+ * @param subscriptionsPerMember 회원당 구독 이력 수 (dataset.subscriptions-per-member)
+ * @param dueRatio               오늘 결제일/만료 대상이 되는 비율 (dataset.due-ratio)
+ * @param batchSize              JDBC 배치 크기 (dataset.batch-size)
+ * @param seed                   난수 시드 (dataset.seed)
+ */
+public record DatasetSpec(
+	int members,
+	int paymentsPerMember,
+	int minHistoryDepth,
+	int maxHistoryDepth,
+	int subscriptionsPerMember,
+	double dueRatio,
+	int batchSize,
+	long seed
+) {
+
+	public DatasetSpec {
+		if (members <= 0 || paymentsPerMember <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException("members, paymentsPerMember, batchSize 는 1 이상이어야 합니다.");
+		}
+		if (minHistoryDepth < 1 || maxHistoryDepth < minHistoryDepth) {
+			throw new IllegalArgumentException("history-depth 는 1 <= min <= max 이어야 합니다.");
+		}
+		if (dueRatio < 0 || dueRatio > 1) {
+			throw new IllegalArgumentException("due-ratio 는 0~1 사이여야 합니다.");
+		}
+	}
+
+	public static DatasetSpec fromSystemProperties() {
+		String[] depth = System.getProperty("dataset.history-depth", "1:6").split(":");
+		return new DatasetSpec(
+			Integer.getInteger("dataset.members", 1_000),
+			Integer.getInteger("dataset.payments-per-member", 3),
+			Integer.parseInt(depth[0]),
+			Integer.parseInt(depth.length > 1 ? depth[1] : depth[0]),
+			Integer.getInteger("dataset.subscriptions-per-member", 2),
+			Double.parseDouble(System.getProperty("dataset.due-ratio", "0.1")),
+			Integer.getInteger("dataset.batch-size", 1_000),
+			Long.getLong("dataset.seed", 42L)
+		);
+	}
+
+	public long totalPayments() {
+		return (long)members * paymentsPerMember;
+	}
+}
@@ -0,0 +1,228 @@
+package com.grow.payment_service.loadtest.dataset;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.grow.payment_service.payment.domain.model.enums.CancelReason;
+import com.grow.payment_service.payment.domain.model.enums.FailureReason;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
+import com.grow.payment_service.subscription.domain.model.SubscriptionStatus;
+
+/**
+ * 배치/조회 벤치마크용 합성 데이터 생성기 (JdbcTemplate 배치 INSERT)
+ * - 결제: PayStatus 전체를 순환 배정, AUTO_BILLING_* 는 구독 플랜 + 빌링키 보유
+ * - 결제 이력: 결제당 [min, max] 개, AUTO_BILLING_READY 중 dueRatio 만큼은 오늘이 결제일
+ * - 구독 이력: 회원당 N개, ACTIVE 연간 구독 중 dueRatio 만큼은 이미 endAt 경과(만료 대상)
+ * - 테이블/컬럼명은 JPA 엔티티 + Spring 기본 네이밍 전략(snake_case) 기준
+ */
+public class SyntheticDataGenerator {
+
+	private static final String ORDER_PREFIX = "SYN";
+	private static final long MEMBER_ID_OFFSET = 100_000L;
+	private static final PayStatus[] STATUSES = PayStatus.values();
+
+	private static final String INSERT_PAYMENT = """
+		insert into payment (member_id, plan_id, order_id, payment_key, billing_key, customer_key,
+		                     total_amount, pay_status, method, failure_reason, cancel_reason)
+		values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+	private static final String INSERT_HISTORY = """
+		insert into payment_history (payment_id, status, changed_at, reason_detail)
+		values (?, ?, ?, ?)
+		""";
+	private static final String INSERT_SUBSCRIPTION = """
+		insert into subscription_history (member_id, subscription_status, period, start_at, end_at, change_at)
+		values (?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbc;
+	private final DatasetSpec spec;
+	private final SplittableRandom random;
+
+	public SyntheticDataGenerator(JdbcTemplate jdbc, DatasetSpec spec) {
+		this.jdbc = jdbc;
+		this.spec = spec;
+		this.random = new SplittableRandom(spec.seed());
+	}
+
+	/** 생성 결과 (기대값 검증용 카운트 포함) */
+	public record Result(
+		long payments,
+		long histories,
+		long subscriptions,
+		long duePayments,
+		long expiredYearlySubscriptions,
+		long elapsedMillis
+	) {
+	}
+
+	public Result generate(Long subscriptionPlanId, Long oneTimePlanId) {
+		long start = System.nanoTime();
+		LocalDateTime now = LocalDateTime.now();
+		long histories = 0;
+		long due = 0;
+
+		long total = spec.totalPayments();
+		for (long from = 0; from < total; from += spec.batchSize()) {
+			long to = Math.min(total, from + spec.batchSize());
+
+			// 1) 결제 배치 INSERT
+			List<Object[]> paymentRows = new ArrayList<>((int)(to - from));
+			for (long i = from; i < to; i++) {
+				paymentRows.add(paymentRow(i, subscriptionPlanId, oneTimePlanId));
+			}
+			jdbc.batchUpdate(INSERT_PAYMENT, paymentRows);
+
+			// 2) 방금 넣은 구간의 paymentId 조회 (IDENTITY 이므로 orderId 로 역조회)
+			Map<String, Long> ids = new HashMap<>();
+			jdbc.query("select payment_id, order_id from payment where order_id between ? and ?",
+				rs -> {
+					ids.put(rs.getString(2), rs.getLong(1));
+				},
+				orderId(from), orderId(to - 1));
+
+			// 3) 결제 이력 배치 INSERT
+			List<Object[]> historyRows = new ArrayList<>();
+			for (long i = from; i < to; i++) {
+				PayStatus status = statusOf(i);
+				boolean isDue = status == PayStatus.AUTO_BILLING_READY && random.nextDouble() < spec.dueRatio();
+				LocalDateTime last = isDue
+					? now.minusMonths(1)
+					: now.minusDays(random.nextInt(1, 28)).minusMinutes(random.nextInt(0, 1440));
+				if (isDue && last.toLocalDate().plusMonths(1).equals(LocalDate.now())) {
+					due++;
+				}
+				appendHistories(historyRows, ids.get(orderId(i)), status, last);
+				if (historyRows.size() >= spec.batchSize()) {
+					histories += flush(INSERT_HISTORY, historyRows);
+				}
+			}
+			histories += flush(INSERT_HISTORY, historyRows);
+		}
+
+		// 4) 구독 이력 배치 INSERT
+		long subscriptions = 0;
+		long expiredYearly = 0;
+		List<Object[]> subscriptionRows = new ArrayList<>();
+		for (long m = 0; m < spec.members(); m++) {
+			for (int k = 0; k < spec.subscriptionsPerMember(); k++) {
+				boolean yearly = random.nextBoolean();
+				PlanPeriod period = yearly ? PlanPeriod.YEARLY : PlanPeriod.MONTHLY;
+				boolean expiredCandidate = yearly && random.nextDouble() < spec.dueRatio();
+				LocalDateTime startAt = expiredCandidate
+					? now.minusMonths(12).minusDays(random.nextInt(1, 30))
+					: now.minusDays(random.nextInt(0, 25));
+				LocalDateTime endAt = startAt.plusMonths(period.getMonths());
+				if (expiredCandidate) {
+					expiredYearly++;
+				}
+				subscriptionRows.add(new Object[] {
+					MEMBER_ID_OFFSET + m,
+					SubscriptionStatus.ACTIVE.name(),
+					period.ordinal(),   // 엔티티에 @Enumerated 가 없어 ORDINAL 로 저장됨
+					Timestamp.valueOf(startAt),
+					Timestamp.valueOf(endAt),
+					null
+				});
+				if (subscriptionRows.size() >= spec.batchSize()) {
+					subscriptions += flush(INSERT_SUBSCRIPTION, subscriptionRows);
+				}
+			}
+		}
+		subscriptions += flush(INSERT_SUBSCRIPTION, subscriptionRows);
+
+		return new Result(total, histories, subscriptions, due, expiredYearly,
+			(System.nanoTime() - start) / 1_000_000);
+	}
+
+	/** 벤치마크 조회 대상으로 쓸 회원 ID */
+	public static long memberId(long memberIndex) {
+		return MEMBER_ID_OFFSET + memberIndex;
+	}
+
+	private Object[] paymentRow(long i, Long subscriptionPlanId, Long oneTimePlanId) {
+		PayStatus status = statusOf(i);
+		boolean autoBilling = status.name().startsWith("AUTO_BILLING");
+		String orderId = orderId(i);
+		boolean hasPaymentKey = status == PayStatus.DONE
+			|| status == PayStatus.CANCEL_REQUESTED
+			|| status == PayStatus.CANCELLED
+			|| status == PayStatus.AUTO_BILLING_APPROVED;
+		FailureReason failure = (status == PayStatus.FAILED || status == PayStatus.AUTO_BILLING_FAILED)
+			? FailureReason.values()[random.nextInt(FailureReason.values().length)]
+			: null;
+		CancelReason cancel = (status == PayStatus.CANCEL_REQUESTED || status == PayStatus.CANCELLED)
+			? CancelReason.USER_REQUEST
+			: null;
+		long memberId = MEMBER_ID_OFFSET + i / spec.paymentsPerMember();
+
+		return new Object[] {
+			memberId,
+			autoBilling ? subscriptionPlanId : oneTimePlanId,
+			orderId,
+			hasPaymentKey ? "pk_" + orderId : null,
+			autoBilling && status != PayStatus.AUTO_BILLING_FAILED ? "bk_" + orderId : null,
+			"cust_" + memberId,
+			autoBilling ? 9_900L : 29_000L,
+			status.name(),
+			"CARD",
+			failure == null ? null : failure.name(),
+			cancel == null ? null : cancel.name()
+		};
+	}
+
+	/**
+	 * 결제 한 건의 이력: READY 로 시작해 최종 상태로 끝나도록 depth 개 생성
+	 * - 자동결제 건은 중간 이력을 월 단위 APPROVED/READY 반복으로 채움
+	 */
+	private void appendHistories(List<Object[]> rows, Long paymentId, PayStatus finalStatus, LocalDateTime last) {
+		int depth = random.nextInt(spec.minHistoryDepth(), spec.maxHistoryDepth() + 1);
+		boolean autoBilling = finalStatus.name().startsWith("AUTO_BILLING");
+		for (int d = 0; d < depth; d++) {
+			int stepsFromEnd = depth - 1 - d;
+			PayStatus status;
+			if (stepsFromEnd == 0) {
+				status = finalStatus;
+			} else if (d == 0) {
+				status = PayStatus.READY;
+			} else if (autoBilling) {
+				status = (stepsFromEnd % 2 == 1) ? PayStatus.AUTO_BILLING_APPROVED : PayStatus.AUTO_BILLING_READY;
+			} else {
+				status = PayStatus.IN_PROGRESS;
+			}
+			rows.add(new Object[] {
+				paymentId,
+				status.name(),
+				Timestamp.valueOf(last.minusMonths(stepsFromEnd)),
+				"synthetic"
+			});
+		}
+	}
+
+	private int flush(String sql, List<Object[]> rows) {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+		jdbc.batchUpdate(sql, rows);
+		int n = rows.size();
+		rows.clear();
+		return n;
+	}
+
+	private static PayStatus statusOf(long paymentIndex) {
+		return STATUSES[(int)(paymentIndex % STATUSES.length)];
+	}
+
+	private static String orderId(long paymentIndex) {
+		return ORDER_PREFIX + String.format("%012d", paymentIndex);
+	}
+}
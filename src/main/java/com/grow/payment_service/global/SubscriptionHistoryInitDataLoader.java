@@ -1,30 +1,52 @@
 package com.grow.payment_service.global;
 
+import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
 import com.grow.payment_service.plan.domain.model.enums.PlanType;
-import com.grow.payment_service.plan.infra.persistence.entity.PlanJpaEntity;
 import com.grow.payment_service.plan.infra.persistence.repository.PlanJpaRepository;
 import com.grow.payment_service.subscription.domain.model.SubscriptionHistory;
-import com.grow.payment_service.subscription.infra.persistence.entity.SubscriptionHistoryJpaEntity;
 import com.grow.payment_service.subscription.infra.persistence.repository.SubscriptionHistoryJpaRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 로컬/개발용 초기 데이터 시드
+ * - 기본 비활성: app.seed.enabled=true 일 때만 빈 등록 → 운영 기동 시 쓰기 없음
+ * - 멱등: 같은 플랜(유형/금액/주기)이나 이미 이력이 있는 회원은 건너뜀 → 재기동해도 중복 없음
+ * - IDENTITY 키라 JPA saveAll 은 배치가 안 되므로 JdbcTemplate 배치 INSERT 사용
+ */
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true")
 public class SubscriptionHistoryInitDataLoader implements ApplicationRunner {
 
+	private static final String INSERT_PLAN = """
+		insert into plan (type, amount, period, benefits)
+		values (?, ?, ?, ?)
+		""";
+	private static final String INSERT_SUBSCRIPTION_HISTORY = """
+		insert into subscription_history (member_id, subscription_status, period, start_at, end_at, change_at)
+		values (?, ?, ?, ?, ?, ?)
+		""";
+
 	private final SubscriptionHistoryJpaRepository subscriptionHistoryRepo;
 	private final PlanJpaRepository           planRepo;
+	private final JdbcTemplate                jdbcTemplate;
 
 	// 월간 구독만 예제이므로 모두 MONTHLY 고정
 	private static final PlanPeriod PERIOD = PlanPeriod.MONTHLY;
@@ -32,88 +54,93 @@ public class SubscriptionHistoryInitDataLoader implements ApplicationRunner {
 	// memberId 1→2개, 2→3개, … 만료 이력
 	private static final int[]      EXPIRED_COUNTS = {2, 3, 4, 2, 3};
 
+	private record SeedPlan(PlanType type, Long amount, PlanPeriod period, String benefits) {
+	}
+
+	private static final List<SeedPlan> PLANS = List.of(
+		new SeedPlan(PlanType.ONE_TIME_PAYMENT, 10000L, PlanPeriod.YEARLY, "기본 플랜 혜택: 월간 리포트 제공"),
+		new SeedPlan(PlanType.SUBSCRIPTION, 20000L, PlanPeriod.MONTHLY, "스탠다드 플랜 혜택: 월간 리포트 + 전용 지원"),
+		new SeedPlan(PlanType.SUBSCRIPTION, 30000L, PlanPeriod.MONTHLY, "프리미엄 플랜 혜택: 모든 기능 무제한 이용")
+	);
+
 	public SubscriptionHistoryInitDataLoader(
 		SubscriptionHistoryJpaRepository subscriptionHistoryRepo,
-		PlanJpaRepository planRepo
+		PlanJpaRepository planRepo,
+		JdbcTemplate jdbcTemplate
 	) {
 		this.subscriptionHistoryRepo = subscriptionHistoryRepo;
 		this.planRepo                = planRepo;
+		this.jdbcTemplate            = jdbcTemplate;
 	}
 
 	@Override
+	@Transactional
 	public void run(ApplicationArguments args) throws Exception {
-		initPlans();               // 1) 플랜 초기 삽입
-		initSubscriptionHistory(); // 2) 구독 이력 초기 삽입
+		int plans = initPlans();                 // 1) 플랜 초기 삽입
+		int histories = initSubscriptionHistory(); // 2) 구독 이력 초기 삽입
+		log.info("[시드] 초기 데이터 적재 완료 → plan={}건, subscriptionHistory={}건", plans, histories);
 	}
 
-	private void initPlans() {
-		List<PlanJpaEntity> plans = List.of(
-			PlanJpaEntity.builder()
-				.type(PlanType.ONE_TIME_PAYMENT)
-				.amount(10000L)
-				.period(PlanPeriod.YEARLY)
-				.benefits("기본 플랜 혜택: 월간 리포트 제공")
-				.build(),
-			PlanJpaEntity.builder()
-				.type(PlanType.SUBSCRIPTION)
-				.amount(20000L)
-				.period(PlanPeriod.MONTHLY)
-				.benefits("스탠다드 플랜 혜택: 월간 리포트 + 전용 지원")
-				.build(),
-			PlanJpaEntity.builder()
-				.type(PlanType.SUBSCRIPTION)
-				.amount(30000L)
-				.period(PlanPeriod.MONTHLY)
-				.benefits("프리미엄 플랜 혜택: 모든 기능 무제한 이용")
-				.build()
-		);
-
-		// 저장 및 planId 확인
-		List<PlanJpaEntity> saved = planRepo.saveAll(plans);
-		saved.forEach(p ->
-			log.info("Initialized Plan → id={}, type={}, amount={}, period={}, benefits={}",
-				p.getPlanId(), p.getType(), p.getAmount(), p.getPeriod(), p.getBenefits())
-		);
+	private int initPlans() {
+		List<Object[]> rows = new ArrayList<>();
+		for (SeedPlan p : PLANS) {
+			if (planRepo.existsByTypeAndAmountAndPeriod(p.type(), p.amount(), p.period())) {
+				continue;
+			}
+			rows.add(new Object[] {p.type().name(), p.amount(), p.period().name(), p.benefits()});
+		}
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_PLAN, rows);
+		}
+		return rows.size();
 	}
 
-	private void initSubscriptionHistory() {
-		List<SubscriptionHistoryJpaEntity> entities = new ArrayList<>();
+	private int initSubscriptionHistory() {
+		List<Long> memberIds = LongStream.rangeClosed(1, EXPIRED_COUNTS.length).boxed().toList();
+		Set<Long> seeded = new HashSet<>(subscriptionHistoryRepo.findMemberIdsWithHistory(memberIds));
+
+		List<Object[]> rows = new ArrayList<>();
 		LocalDateTime now = LocalDateTime.now(CLOCK);
 
 		for (int i = 0; i < EXPIRED_COUNTS.length; i++) {
 			long memberId = i + 1;
+			if (seeded.contains(memberId)) {
+				continue;
+			}
 
 			// 1) 활성 구독 이력 (ACTIVE)
-			SubscriptionHistory active = SubscriptionHistory.createRenewal(memberId, PERIOD, CLOCK);
-			entities.add(toEntity(active));
+			rows.add(toRow(SubscriptionHistory.createRenewal(memberId, PERIOD, CLOCK)));
 
 			// 2) 만료 이력 (EXPIRED)
 			int expiredCount = EXPIRED_COUNTS[i];
 			for (int j = 0; j < expiredCount; j++) {
 				LocalDateTime endAt   = now.minusMonths(j + 1);
 				LocalDateTime startAt = endAt.minusMonths(1);
-				SubscriptionHistory expired = SubscriptionHistory.createExpiry(
+				rows.add(toRow(SubscriptionHistory.createExpiry(
 					memberId,
 					PERIOD,
 					startAt,
 					endAt,
 					endAt  // changeAt = 만료 시점
-				);
-				entities.add(toEntity(expired));
+				)));
 			}
 		}
 
-		subscriptionHistoryRepo.saveAll(entities);
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_SUBSCRIPTION_HISTORY, rows);
+		}
+		return rows.size();
 	}
 
-	private SubscriptionHistoryJpaEntity toEntity(SubscriptionHistory d) {
-		return SubscriptionHistoryJpaEntity.builder()
-			.memberId(d.getMemberId())
-			.subscriptionStatus(d.getSubscriptionStatus())
-			.period(d.getPeriod())
-			.startAt(d.getStartAt())
-			.endAt(d.getEndAt())
-			.changeAt(d.getChangeAt())
-			.build();
+	/** period 는 엔티티에 @Enumerated 가 없어 ORDINAL 로 저장됨 */
+	private Object[] toRow(SubscriptionHistory d) {
+		return new Object[] {
+			d.getMemberId(),
+			d.getSubscriptionStatus().name(),
+			d.getPeriod().ordinal(),
+			Timestamp.valueOf(d.getStartAt()),
+			Timestamp.valueOf(d.getEndAt()),
+			d.getChangeAt() == null ? null : Timestamp.valueOf(d.getChangeAt())
+		};
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.grow.payment_service.global.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+
+@Configuration
+public class AsyncConfig {
+
+	/**
+	 * 결제 흐름에서 원격 호출(멤버 서비스 등)을 병렬로 실행하기 위한 가상 스레드 Executor
+	 * - 제출 스레드의 관측/추적 컨텍스트를 작업 스레드로 전파 (Feign 스팬이 요청 트레이스에 이어지도록)
+	 */
+	@Bean(name = "paymentIoExecutor", destroyMethod = "close")
+	public ExecutorService paymentIoExecutor() {
+		ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+		return ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(), snapshots::captureAll);
+	}
+
+	/**
+	 * 토스 호출 전용 가상 스레드 Executor (TossCallGuard 의 TimeLimiter 용)
+	 * - 제한 시간 초과 시 Future 취소 → 블로킹 중인 WebClient 호출 스레드를 인터럽트
+	 * - 호출 스레드의 추적 컨텍스트를 전파해 WebClient 스팬이 요청 트레이스에 이어지도록 함
+	 */
+	@Bean(name = "tossCallExecutor", destroyMethod = "close")
+	public ExecutorService tossCallExecutor() {
+		ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+		return ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(), snapshots::captureAll);
+	}
+}
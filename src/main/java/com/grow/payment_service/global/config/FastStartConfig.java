@@ -0,0 +1,68 @@
+package com.grow.payment_service.global.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시간 단축 설정
+ * - 결제 처리 경로와 무관한 빈(springdoc, 메일)을 첫 사용 시점까지 지연 생성
+ * - 전역 spring.main.lazy-initialization 과 달리 대상만 골라 지연 → 첫 결제 요청 지연 없음
+ * - app.fast-start.lazy-non-critical=false 로 끌 수 있음
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.fast-start.lazy-non-critical", havingValue = "true", matchIfMissing = true)
+public class FastStartConfig {
+
+	/** 지연 생성 대상 (빈 클래스 또는 @Bean 을 선언한 설정 클래스 기준 접두사) */
+	private static final List<String> NON_CRITICAL_PREFIXES = List.of(
+		"org.springdoc.",
+		"org.springframework.boot.autoconfigure.mail.",
+		SwaggerConfig.class.getName(),
+		"com.grow.payment_service.payment.application.service.impl.EmailServiceImpl"
+	);
+
+	@Bean
+	public static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+		return beanFactory -> {
+			int marked = 0;
+			for (String name : beanFactory.getBeanDefinitionNames()) {
+				BeanDefinition bd = beanFactory.getBeanDefinition(name);
+				if (bd.isLazyInit() || bd.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+					continue;
+				}
+				String type = declaringType(beanFactory, bd);
+				if (type != null && NON_CRITICAL_PREFIXES.stream().anyMatch(type::startsWith)) {
+					bd.setLazyInit(true);
+					marked++;
+				}
+			}
+			log.info("[FastStart] 비핵심 빈 {}개 지연 생성으로 전환", marked);
+		};
+	}
+
+	/** 빈 클래스명, 없으면(@Bean 팩토리 메서드) 선언한 설정 클래스명 */
+	private static String declaringType(ConfigurableListableBeanFactory beanFactory, BeanDefinition bd) {
+		if (bd.getBeanClassName() != null) {
+			return bd.getBeanClassName();
+		}
+		String factoryBeanName = bd.getFactoryBeanName();
+		if (factoryBeanName == null) {
+			return null;
+		}
+		try {
+			return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+		} catch (NoSuchBeanDefinitionException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.grow.payment_service.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.grow.payment_service.global.lane.InteractiveLaneInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트래픽 레인 설정
+ * - 배치 동시 실행 상한 가중치, 배치 대기 시간, 배치 처리량 예산
+ * - 결제 API 는 INTERACTIVE, 자동결제 Job 은 PaymentAutoChargeJob 에서 BATCH 레인으로 진입
+ */
+@Configuration
+@RequiredArgsConstructor
+@PropertySource("classpath:lanes.properties")
+public class LaneConfig implements WebMvcConfigurer {
+
+	private final InteractiveLaneInterceptor interactiveLaneInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(interactiveLaneInterceptor).addPathPatterns("/api/v1/payment/**");
+	}
+}
@@ -0,0 +1,91 @@
+package com.grow.payment_service.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.saga.PersistenceFailure;
+import com.grow.payment_service.payment.saga.PersistenceRetryBackoff;
+
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+
+/**
+ * 결제 DB 저장 재시도(dataSaveInstance) 설정
+ * - 일시 오류(락/타임아웃/연결)만 재시도, 영구 오류는 첫 실패에서 바로 fallback(보상)으로
+ * - 재시도 간격은 실패 분류별 지수 백오프 + 지터 (PersistenceRetryBackoff)
+ * - 시도별 결과는 db_retry_total{name, failure, event} 로 발행
+ *   event: retry(재시도 예약) / recovered(재시도 후 성공) / exhausted(재시도 소진) / not_retried(영구 오류)
+ */
+@Configuration
+@PropertySource("classpath:resilience4j-persistence.properties")
+public class PersistenceRetryConfig {
+
+	public static final String INSTANCE = "dataSaveInstance";
+	public static final String RETRY = "db_retry_total";
+
+	@Bean
+	PersistenceRetryBackoff persistenceRetryBackoff(
+		@Value("${app.db-retry.lock-conflict.initial-interval:50ms}") Duration lockConflict,
+		@Value("${app.db-retry.timeout.initial-interval:200ms}") Duration timeout,
+		@Value("${app.db-retry.connection.initial-interval:500ms}") Duration connection,
+		@Value("${app.db-retry.multiplier:2.0}") double multiplier,
+		@Value("${app.db-retry.randomization-factor:0.5}") double randomization,
+		@Value("${app.db-retry.max-interval:2s}") Duration maxInterval
+	) {
+		return new PersistenceRetryBackoff(lockConflict, timeout, connection, multiplier, randomization, maxInterval);
+	}
+
+	@Bean
+	RetryConfigCustomizer dataSaveRetryCustomizer(PersistenceRetryBackoff backoff) {
+		return RetryConfigCustomizer.of(INSTANCE, builder -> classified(builder, backoff));
+	}
+
+	/** 분류 기반 재시도 조건 + 간격 적용 (테스트에서도 같은 설정으로 Retry 를 만들 수 있도록 분리) */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static RetryConfig.Builder classified(RetryConfig.Builder builder, PersistenceRetryBackoff backoff) {
+		return builder
+			.retryOnException(PersistenceFailure::retryable)
+			.intervalBiFunction(backoff);
+	}
+
+	@Bean
+	RegistryEventConsumer<Retry> retryAttemptRecorder(PaymentMetrics metrics) {
+		return new RegistryEventConsumer<>() {
+			@Override
+			public void onEntryAddedEvent(EntryAddedEvent<Retry> entryAddedEvent) {
+				record(entryAddedEvent.getAddedEntry(), metrics);
+			}
+
+			@Override
+			public void onEntryRemovedEvent(EntryRemovedEvent<Retry> entryRemoveEvent) {
+			}
+
+			@Override
+			public void onEntryReplacedEvent(EntryReplacedEvent<Retry> entryReplacedEvent) {
+			}
+		};
+	}
+
+	public static void record(Retry retry, PaymentMetrics metrics) {
+		String name = retry.getName();
+		retry.getEventPublisher()
+			.onRetry(e -> metrics.result(RETRY, "name", name, "failure", failure(e.getLastThrowable()), "event", "retry"))
+			.onSuccess(e -> metrics.result(RETRY, "name", name, "failure", failure(e.getLastThrowable()), "event", "recovered"))
+			.onError(e -> metrics.result(RETRY, "name", name, "failure", failure(e.getLastThrowable()), "event", "exhausted"))
+			.onIgnoredError(e -> metrics.result(RETRY, "name", name, "failure", "permanent", "event", "not_retried"));
+	}
+
+	private static String failure(Throwable t) {
+		return t == null ? "none" : PersistenceFailure.classify(t).name().toLowerCase();
+	}
+}
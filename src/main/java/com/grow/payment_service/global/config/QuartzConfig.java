@@ -9,8 +9,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 
+import com.grow.payment_service.global.tracing.QuartzTracingJobListener;
 import com.grow.payment_service.payment.infra.batch.AutoChargeJobListener;
 import com.grow.payment_service.payment.infra.batch.DailyAutoChargeJob;
+import com.grow.payment_service.payment.infra.batch.PaymentHistoryArchiveJob;
+import com.grow.payment_service.payment.infra.batch.PaymentReconcileJob;
+import com.grow.payment_service.payment.infra.batch.ReadyOrderExpiryJob;
 import com.grow.payment_service.subscription.infra.batch.SubscriptionExpiryJob;
 import com.grow.payment_service.subscription.infra.batch.SubscriptionExpiryJobListener;
 
@@ -19,13 +23,16 @@ public class QuartzConfig {
 
 	private final AutoChargeJobListener autoChargeJobListener;
 	private final SubscriptionExpiryJobListener subscriptionExpiryJobListener;
+	private final QuartzTracingJobListener tracingJobListener;
 
 	public QuartzConfig(
 		AutoChargeJobListener autoChargeJobListener,
-		SubscriptionExpiryJobListener subscriptionExpiryJobListener
+		SubscriptionExpiryJobListener subscriptionExpiryJobListener,
+		QuartzTracingJobListener tracingJobListener
 	) {
 		this.autoChargeJobListener = autoChargeJobListener;
 		this.subscriptionExpiryJobListener = subscriptionExpiryJobListener;
+		this.tracingJobListener = tracingJobListener;
 	}
 
 	/** DailyAutoChargeJob Bean 등록 */
@@ -74,18 +81,93 @@ public class QuartzConfig {
 			.build();
 	}
 
+	/** 결제 대사 JobDetail Bean */
+	@Bean
+	public JobDetail paymentReconcileJobDetail() {
+		return JobBuilder.newJob(PaymentReconcileJob.class)
+			.withIdentity("paymentReconcileJob")
+			.storeDurably()
+			.build();
+	}
+
+	/** 매일 3시 결제 대사 Trigger (자정 자동결제·구독 만료 배치가 끝난 뒤) */
+	@Bean
+	public Trigger paymentReconcileTrigger(JobDetail paymentReconcileJobDetail) {
+		return TriggerBuilder.newTrigger()
+			.forJob(paymentReconcileJobDetail)
+			.withIdentity("paymentReconcileTrigger")
+			.withSchedule(
+				CronScheduleBuilder.cronSchedule("0 0 3 * * ?")
+					.withMisfireHandlingInstructionFireAndProceed()
+			)
+			.build();
+	}
+
+	/** READY 주문 만료 JobDetail Bean */
+	@Bean
+	public JobDetail readyOrderExpiryJobDetail() {
+		return JobBuilder.newJob(ReadyOrderExpiryJob.class)
+			.withIdentity("readyOrderExpiryJob")
+			.storeDurably()
+			.build();
+	}
+
+	/** 매일 4시 READY 주문 만료 Trigger (대사가 READY 주문의 실제 승인 건을 먼저 바로잡은 뒤) */
+	@Bean
+	public Trigger readyOrderExpiryTrigger(JobDetail readyOrderExpiryJobDetail) {
+		return TriggerBuilder.newTrigger()
+			.forJob(readyOrderExpiryJobDetail)
+			.withIdentity("readyOrderExpiryTrigger")
+			.withSchedule(
+				CronScheduleBuilder.cronSchedule("0 0 4 * * ?")
+					.withMisfireHandlingInstructionFireAndProceed()
+			)
+			.build();
+	}
+
+	/** 결제 이력 보관 JobDetail Bean */
+	@Bean
+	public JobDetail paymentHistoryArchiveJobDetail() {
+		return JobBuilder.newJob(PaymentHistoryArchiveJob.class)
+			.withIdentity("paymentHistoryArchiveJob")
+			.storeDurably()
+			.build();
+	}
+
+	/** 매일 5시 결제 이력 보관 Trigger (새벽 배치들이 이력을 다 쓴 뒤) */
+	@Bean
+	public Trigger paymentHistoryArchiveTrigger(JobDetail paymentHistoryArchiveJobDetail) {
+		return TriggerBuilder.newTrigger()
+			.forJob(paymentHistoryArchiveJobDetail)
+			.withIdentity("paymentHistoryArchiveTrigger")
+			.withSchedule(
+				CronScheduleBuilder.cronSchedule("0 0 5 * * ?")
+					.withMisfireHandlingInstructionFireAndProceed()
+			)
+			.build();
+	}
+
 	/** Quartz Scheduler 설정: JobDetail, Trigger, Global Listener 등록 */
 	@Bean
 	public SchedulerFactoryBean schedulerFactoryBean(
 		JobDetail dailyAutoChargeJobDetail,
 		Trigger dailyAutoChargeTrigger,
 		JobDetail subscriptionExpiryJobDetail,
-		Trigger subscriptionExpiryTrigger
+		Trigger subscriptionExpiryTrigger,
+		JobDetail paymentReconcileJobDetail,
+		Trigger paymentReconcileTrigger,
+		JobDetail readyOrderExpiryJobDetail,
+		Trigger readyOrderExpiryTrigger,
+		JobDetail paymentHistoryArchiveJobDetail,
+		Trigger paymentHistoryArchiveTrigger
 	) {
 		SchedulerFactoryBean factory = new SchedulerFactoryBean();
-		factory.setJobDetails(dailyAutoChargeJobDetail, subscriptionExpiryJobDetail);
-		factory.setTriggers(dailyAutoChargeTrigger, subscriptionExpiryTrigger);
-		factory.setGlobalJobListeners(autoChargeJobListener, subscriptionExpiryJobListener);
+		factory.setJobDetails(dailyAutoChargeJobDetail, subscriptionExpiryJobDetail, paymentReconcileJobDetail,
+			readyOrderExpiryJobDetail, paymentHistoryArchiveJobDetail);
+		factory.setTriggers(dailyAutoChargeTrigger, subscriptionExpiryTrigger, paymentReconcileTrigger,
+			readyOrderExpiryTrigger, paymentHistoryArchiveTrigger);
+		// 추적 리스너를 먼저 등록해 Job 실행 전에 스팬/스코프가 열리도록 함
+		factory.setGlobalJobListeners(tracingJobListener, autoChargeJobListener, subscriptionExpiryJobListener);
 		return factory;
 	}
 }
\ No newline at end of file
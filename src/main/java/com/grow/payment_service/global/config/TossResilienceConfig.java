@@ -0,0 +1,51 @@
+package com.grow.payment_service.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스 호출 서킷 브레이커/벌크헤드/타임리미터 설정
+ * - 상태/호출 수 게이지는 resilience4j 마이크로미터 자동 설정이 발행
+ *   여기서는 상태 전이 자체를 카운터 + 경고 로그로 남겨 장애 시점을 추적
+ */
+@Slf4j
+@Configuration
+@PropertySource("classpath:resilience4j-toss.properties")
+public class TossResilienceConfig {
+
+	static final String TRANSITION = "circuit_breaker_transition_total";
+
+	@Bean
+	RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionRecorder(PaymentMetrics metrics) {
+		return new RegistryEventConsumer<>() {
+			@Override
+			public void onEntryAddedEvent(EntryAddedEvent<CircuitBreaker> entryAddedEvent) {
+				CircuitBreaker circuitBreaker = entryAddedEvent.getAddedEntry();
+				circuitBreaker.getEventPublisher().onStateTransition(event -> {
+					String from = event.getStateTransition().getFromState().name();
+					String to = event.getStateTransition().getToState().name();
+					metrics.result(TRANSITION, "name", circuitBreaker.getName(), "from", from, "to", to);
+					log.warn("[서킷 브레이커 전이] name={}, {} -> {}", circuitBreaker.getName(), from, to);
+				});
+			}
+
+			@Override
+			public void onEntryRemovedEvent(EntryRemovedEvent<CircuitBreaker> entryRemoveEvent) {
+			}
+
+			@Override
+			public void onEntryReplacedEvent(EntryReplacedEvent<CircuitBreaker> entryReplacedEvent) {
+			}
+		};
+	}
+}
@@ -0,0 +1,26 @@
+package com.grow.payment_service.global.config;
+
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * 분산 추적 설정
+ * - OTLP 수집기 주소, 샘플링 비율, Kafka 템플릿 관측, Reactor 컨텍스트 전파
+ * - HTTP 서버/WebClient/Feign/Kafka 는 스프링 관측 자동 설정으로, Redis 는 아래 Lettuce 설정으로 스팬 생성
+ * - Quartz Job 은 QuartzTracingJobListener, 비동기 Executor 는 AsyncConfig 에서 컨텍스트 전파
+ */
+@Configuration
+@PropertySource("classpath:tracing.properties")
+public class TracingConfig {
+
+	/** Lettuce 명령마다 스팬 생성 (명령 인자는 태그에 남기지 않음: 멱등키/주문번호 노출 방지) */
+	@Bean
+	ClientResourcesBuilderCustomizer lettuceTracing(ObservationRegistry observationRegistry) {
+		return builder -> builder.tracing(new MicrometerTracing(observationRegistry, "payment-redis"));
+	}
+}
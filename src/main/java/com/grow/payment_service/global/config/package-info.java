@@ -0,0 +1,7 @@
+/**
+ * 전역 설정
+ * - 각 설정 클래스가 @PropertySource 로 읽는 classpath *.properties 는 기본값만 담음
+ *   (resilience4j-toss, resilience4j-persistence, lanes, tracing)
+ * - @PropertySource 는 우선순위가 가장 낮으므로 외부 설정 파일/환경 변수/실행 인자로 지정한 값이 항상 이김
+ */
+package com.grow.payment_service.global.config;
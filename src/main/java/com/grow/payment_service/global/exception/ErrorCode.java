@@ -11,6 +11,8 @@ public enum ErrorCode {
 
 	// 토스 클라이언트
 	TOSS_API_ERROR(HttpStatus.BAD_GATEWAY, "502-0", "toss.api.error"),
+	TOSS_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "503-0", "toss.unavailable"),
+	TOSS_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "504-0", "toss.timeout"),
 	ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "404-0", "order.not.found"),
 	// 애플리케이션 전용
 	PAYMENT_INIT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500-0", "payment.init.failed"),
@@ -23,10 +25,12 @@ public enum ErrorCode {
 	BATCH_AUTO_CHARGE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500-6","batch.auto.charge.failed"),
 	BATCH_CLEAR_BILLINGKEY_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500-7","batch.clear.billingkey.failed"),
 	PAYMENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "403-0", "payment.access.denied"),
+	LANE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "503-1", "lane.busy"),
 
 	// Saga 에러
 	SAGA_COMPENSATE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500-8", "saga.compensate.error"),
 	SAGA_COMPENSATE_COMPLETED(HttpStatus.INTERNAL_SERVER_ERROR, "500-9","saga.compensate.completed"),
+	SAGA_COMPENSATE_SCHEDULED(HttpStatus.INTERNAL_SERVER_ERROR, "500-10", "saga.compensate.scheduled"),
 	IDEMPOTENCY_IN_FLIGHT(HttpStatus.CONFLICT, "409-0", "idempotency.in.flight"),
 
 	// 구독 내역 도메인
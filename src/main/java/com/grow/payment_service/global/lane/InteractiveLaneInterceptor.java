@@ -0,0 +1,32 @@
+package com.grow.payment_service.global.lane;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/** 결제 API 요청을 INTERACTIVE 레인으로 표시 (요청 완료 시 이탈) */
+@Component
+@RequiredArgsConstructor
+public class InteractiveLaneInterceptor implements HandlerInterceptor {
+
+	private static final String TICKET = InteractiveLaneInterceptor.class.getName() + ".ticket";
+
+	private final LaneGate laneGate;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		request.setAttribute(TICKET, laneGate.open(TrafficLane.INTERACTIVE));
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (request.getAttribute(TICKET) instanceof LaneGate.Ticket ticket) {
+			ticket.close();
+			request.removeAttribute(TICKET);
+		}
+	}
+}
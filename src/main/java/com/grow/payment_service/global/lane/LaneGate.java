@@ -0,0 +1,160 @@
+package com.grow.payment_service.global.lane;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.PaymentApplicationException;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레인 진입 관문
+ * - BATCH 레인에 동시에 들어와 있는 작업 수의 상한(capacity)을 DB 풀 크기와 가중치로 정함
+ *   커넥션을 예약하거나 나누는 것이 아님: 작업 하나가 실행 중에 커넥션을 여러 번 빌리고 돌려주며,
+ *   토스 호출처럼 커넥션 없이 보내는 시간도 자리를 차지함 → 배치가 풀을 다 쓰는 것을 막는 간접 상한
+ *   BATCH: 상한을 넘지 못하고, 자리가 날 때까지 batch-max-wait 동안 대기 + 초당 처리량 예산(laneBatch 레이트 리미터)
+ *   INTERACTIVE: 우선 레인이므로 제한 없이 진입 (사용 중 수만 집계)
+ * - 레인별 사용 중/상한 게이지, 대기 시간, 거절 수를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class LaneGate {
+
+	static final String IN_USE = "lane_in_use";
+	static final String CAPACITY = "lane_capacity";
+	static final String WAIT = "lane_wait_duration";
+	static final String REJECTED = "lane_rejected_total";
+	static final String BATCH_RATE_LIMITER = "laneBatch";
+
+	private final Map<TrafficLane, AtomicInteger> inUse = new EnumMap<>(TrafficLane.class);
+	private final Map<TrafficLane, Integer> capacity = new EnumMap<>(TrafficLane.class);
+	private final Semaphore batchSlots;
+	private final long batchMaxWaitNanos;
+	private final RateLimiter batchRate;
+	private final Timer batchWait;
+	private final PaymentMetrics metrics;
+
+	public LaneGate(
+		MeterRegistry registry,
+		PaymentMetrics metrics,
+		RateLimiterRegistry rateLimiterRegistry,
+		@Value("${app.lanes.db-pool-size:10}") int poolSize,
+		@Value("${app.lanes.weight.interactive:3}") int interactiveWeight,
+		@Value("${app.lanes.weight.batch:1}") int batchWeight,
+		@Value("${app.lanes.batch.max-wait:30s}") Duration batchMaxWait
+	) {
+		this.metrics = metrics;
+		int batchCapacity = Math.max(1, poolSize * batchWeight / (interactiveWeight + batchWeight));
+		capacity.put(TrafficLane.INTERACTIVE, poolSize);
+		capacity.put(TrafficLane.BATCH, batchCapacity);
+		this.batchSlots = new Semaphore(batchCapacity, true);
+		this.batchMaxWaitNanos = batchMaxWait.toNanos();
+		this.batchRate = rateLimiterRegistry.rateLimiter(BATCH_RATE_LIMITER);
+		this.batchWait = Timer.builder(WAIT).tag("lane", TrafficLane.BATCH.tag()).register(registry);
+
+		for (TrafficLane lane : TrafficLane.values()) {
+			AtomicInteger counter = new AtomicInteger();
+			inUse.put(lane, counter);
+			Gauge.builder(IN_USE, counter, AtomicInteger::get).tag("lane", lane.tag()).register(registry);
+			Gauge.builder(CAPACITY, capacity, c -> c.get(lane)).tag("lane", lane.tag()).register(registry);
+		}
+		log.info("[레인] 배치 동시 실행 상한 {} (DB 풀 {} 기준), interactive 제한 없음", batchCapacity, poolSize);
+	}
+
+	/** 레인 안에서 실행 (이미 BATCH 레인 안이면 자리를 다시 잡지 않음) */
+	public <T> T call(TrafficLane lane, Supplier<T> work) {
+		try (Ticket ignored = open(lane)) {
+			return work.get();
+		}
+	}
+
+	public void run(TrafficLane lane, Runnable work) {
+		try (Ticket ignored = open(lane)) {
+			work.run();
+		}
+	}
+
+	/**
+	 * 레인 진입, 반환된 Ticket 을 같은 스레드에서 close 해야 함
+	 * - BATCH 자리/예산을 대기 시간 안에 얻지 못하면 LANE_BUSY
+	 */
+	public Ticket open(TrafficLane lane) {
+		if (lane == TrafficLane.BATCH && TrafficLane.current() == TrafficLane.BATCH) {
+			return new Ticket(lane, TrafficLane.swap(lane), false);
+		}
+		if (lane == TrafficLane.BATCH) {
+			acquireBatch();
+		}
+		inUse.get(lane).incrementAndGet();
+		return new Ticket(lane, TrafficLane.swap(lane), true);
+	}
+
+	private void acquireBatch() {
+		long start = System.nanoTime();
+		try {
+			if (!batchRate.acquirePermission()) {
+				throw reject("rate");
+			}
+			long remaining = batchMaxWaitNanos - (System.nanoTime() - start);
+			if (!batchSlots.tryAcquire(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+				throw reject("capacity");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw reject("interrupted");
+		} finally {
+			batchWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private PaymentApplicationException reject(String reason) {
+		metrics.result(REJECTED, "lane", TrafficLane.BATCH.tag(), "reason", reason);
+		log.warn("[레인 거절] lane=batch, reason={}", reason);
+		return new PaymentApplicationException(ErrorCode.LANE_BUSY);
+	}
+
+	/** 레인 점유 1건: close 시 자리 반납 + 이전 레인 복원 */
+	public final class Ticket implements AutoCloseable {
+
+		private final TrafficLane lane;
+		private final TrafficLane previous;
+		private final boolean counted;
+		private boolean closed;
+
+		private Ticket(TrafficLane lane, TrafficLane previous, boolean counted) {
+			this.lane = lane;
+			this.previous = previous;
+			this.counted = counted;
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			TrafficLane.restore(previous);
+			if (counted) {
+				inUse.get(lane).decrementAndGet();
+				if (lane == TrafficLane.BATCH) {
+					batchSlots.release();
+				}
+			}
+		}
+	}
+}
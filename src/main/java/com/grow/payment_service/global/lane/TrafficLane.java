@@ -0,0 +1,37 @@
+package com.grow.payment_service.global.lane;
+
+/**
+ * 트래픽 레인: 사용자 요청(INTERACTIVE)과 자동결제 배치(BATCH)를 구분
+ * - 현재 스레드의 레인은 LaneGate 가 진입/이탈 시 설정, 설정이 없으면 INTERACTIVE
+ * - 하위 계층(토스 호출 등)은 파라미터 전달 없이 current() 로 우선순위를 판단
+ */
+public enum TrafficLane {
+	INTERACTIVE,
+	BATCH;
+
+	private static final ThreadLocal<TrafficLane> CURRENT = new ThreadLocal<>();
+
+	public static TrafficLane current() {
+		TrafficLane lane = CURRENT.get();
+		return lane == null ? INTERACTIVE : lane;
+	}
+
+	/** 레인 설정 후 이전 값(없으면 null) 반환 */
+	static TrafficLane swap(TrafficLane lane) {
+		TrafficLane previous = CURRENT.get();
+		CURRENT.set(lane);
+		return previous;
+	}
+
+	static void restore(TrafficLane previous) {
+		if (previous == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(previous);
+		}
+	}
+
+	public String tag() {
+		return name().toLowerCase();
+	}
+}
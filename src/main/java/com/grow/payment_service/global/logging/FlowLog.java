@@ -0,0 +1,122 @@
+package com.grow.payment_service.global.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * 흐름 하나의 요약 로그 누적기 (FlowLogger.start 로 생성, 스레드 간 공유 금지)
+ * - kv/masked 로 필드를, step 으로 단계별 소요 시간을 모았다가 종료 시 한 줄로 기록
+ * - 마스킹/문자열 조립은 실제로 기록할 때만 수행 (샘플링으로 버려지는 흐름은 비용 없음)
+ */
+public final class FlowLog {
+
+	private static final int MAX_FIELDS = 12;
+	private static final int MAX_STEPS = 8;
+
+	private final String flow;
+	private final long startNanos;
+	private final FlowLogger owner;
+
+	private final String[] keys = new String[MAX_FIELDS];
+	private final Object[] values = new Object[MAX_FIELDS];
+	private final UnaryOperator<String>[] maskers = newMaskers();
+	private int fields;
+
+	private final String[] stepNames = new String[MAX_STEPS];
+	private final long[] stepNanos = new long[MAX_STEPS];
+	private int steps;
+	private long lastMark;
+
+	FlowLog(String flow, long startNanos, FlowLogger owner) {
+		this.flow = flow;
+		this.startNanos = startNanos;
+		this.owner = owner;
+		this.lastMark = startNanos;
+	}
+
+	public FlowLog kv(String key, Object value) {
+		return put(key, value, null);
+	}
+
+	/** 기록 시점에 masker 를 적용할 민감 필드 (예: LogMasker::email) */
+	public FlowLog masked(String key, String value, UnaryOperator<String> masker) {
+		return put(key, value, masker);
+	}
+
+	/** 직전 step(또는 시작) 이후 경과 시간을 name 단계로 기록 */
+	public FlowLog step(String name) {
+		long now = System.nanoTime();
+		if (steps < MAX_STEPS) {
+			stepNames[steps] = name;
+			stepNanos[steps] = now - lastMark;
+			steps++;
+		}
+		lastMark = now;
+		return this;
+	}
+
+	public void success() {
+		long elapsed = System.nanoTime() - startNanos;
+		if (owner.sampleSuccess(elapsed)) {
+			emit(FlowLogger.log.atInfo(), "success", elapsed);
+		}
+	}
+
+	public void failure(Throwable cause) {
+		long elapsed = System.nanoTime() - startNanos;
+		emit(FlowLogger.log.atError().setCause(cause), "error", elapsed);
+	}
+
+	private FlowLog put(String key, Object value, UnaryOperator<String> masker) {
+		for (int i = 0; i < fields; i++) {
+			if (keys[i].equals(key)) {
+				values[i] = value;
+				maskers[i] = masker;
+				return this;
+			}
+		}
+		if (fields < MAX_FIELDS) {
+			keys[fields] = key;
+			values[fields] = value;
+			maskers[fields] = masker;
+			fields++;
+		}
+		return this;
+	}
+
+	private void emit(LoggingEventBuilder event, String outcome, long elapsedNanos) {
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+		event.addKeyValue("flow", flow)
+			.addKeyValue("outcome", outcome)
+			.addKeyValue("elapsedMs", elapsedMs);
+		for (int i = 0; i < fields; i++) {
+			Object value = values[i];
+			if (maskers[i] != null && value != null) {
+				value = maskers[i].apply((String)value);
+			}
+			event.addKeyValue(keys[i], value);
+		}
+		if (steps > 0) {
+			event.addKeyValue("steps", formatSteps());
+		}
+		event.log("[FLOW] {} {} {}ms", flow, outcome, elapsedMs);
+	}
+
+	private String formatSteps() {
+		StringBuilder sb = new StringBuilder(steps * 16);
+		for (int i = 0; i < steps; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append(stepNames[i]).append(':').append(TimeUnit.NANOSECONDS.toMillis(stepNanos[i])).append("ms");
+		}
+		return sb.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static UnaryOperator<String>[] newMaskers() {
+		return (UnaryOperator<String>[])new UnaryOperator[MAX_FIELDS];
+	}
+}
@@ -0,0 +1,47 @@
+package com.grow.payment_service.global.logging;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 흐름 요약 로그 (흐름당 한 줄, key-value)
+ * - 성공: success-sample-rate 비율만 기록, slow-threshold 이상 걸린 흐름은 항상 기록
+ * - 실패: 항상 ERROR 로 기록 (예외 포함)
+ * - 로거 이름 payment.flow → 레벨/어펜더를 단계별 로그와 분리해 조정 가능
+ */
+@Component
+public class FlowLogger {
+
+	static final Logger log = LoggerFactory.getLogger("payment.flow");
+
+	private final double successSampleRate;
+	private final long slowThresholdNanos;
+
+	public FlowLogger(
+		@Value("${app.logging.flow.success-sample-rate:0.1}") double successSampleRate,
+		@Value("${app.logging.flow.slow-threshold:1s}") Duration slowThreshold
+	) {
+		this.successSampleRate = successSampleRate;
+		this.slowThresholdNanos = slowThreshold.toNanos();
+	}
+
+	/** 흐름 시작 (같은 스레드에서 success/failure 로 종료) */
+	public FlowLog start(String flow) {
+		return new FlowLog(flow, System.nanoTime(), this);
+	}
+
+	boolean sampleSuccess(long elapsedNanos) {
+		if (!log.isInfoEnabled()) {
+			return false;
+		}
+		if (elapsedNanos >= slowThresholdNanos || successSampleRate >= 1.0) {
+			return true;
+		}
+		return successSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+	}
+}
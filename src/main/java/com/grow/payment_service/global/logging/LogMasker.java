@@ -0,0 +1,43 @@
+package com.grow.payment_service.global.logging;
+
+/**
+ * 로그용 민감정보 마스킹
+ * - 이메일: 로컬 파트 첫 글자만 (user@grow.com → u***@grow.com)
+ * - 결제/빌링/인증 키: 앞 4자, 뒤 4자만 (bk_fake_12345678 → bk_f****5678)
+ * - 이름: 첫 글자만 (홍길동 → 홍**)
+ */
+public final class LogMasker {
+
+	private static final String MASK = "****";
+
+	private LogMasker() {
+	}
+
+	public static String email(String email) {
+		if (email == null || email.isBlank()) {
+			return email;
+		}
+		int at = email.indexOf('@');
+		if (at <= 0) {
+			return MASK;
+		}
+		return email.charAt(0) + "***" + email.substring(at);
+	}
+
+	public static String key(String key) {
+		if (key == null || key.isBlank()) {
+			return key;
+		}
+		if (key.length() <= 8) {
+			return MASK;
+		}
+		return key.substring(0, 4) + MASK + key.substring(key.length() - 4);
+	}
+
+	public static String name(String name) {
+		if (name == null || name.isBlank()) {
+			return name;
+		}
+		return name.charAt(0) + "*".repeat(Math.max(1, name.length() - 1));
+	}
+}
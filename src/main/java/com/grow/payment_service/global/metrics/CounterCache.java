@@ -0,0 +1,96 @@
+package com.grow.payment_service.global.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * (이름, 태그) → Counter 캐시
+ * - 조회: 불변 테이블을 선형 탐색, 키 객체/태그 배열을 만들지 않으므로 할당 없음
+ * - 추가: 처음 보는 조합만 동기화 구간에서 테이블을 복사해 교체 (copy-on-write)
+ * - 라벨 값 대부분은 코드에 고정돼 있지만 exception 태그는 예외 클래스 이름(getSimpleName)이라
+ *   조합 수 = 결과 카운터 이름 × 이 서비스에서 던져질 수 있는 예외 클래스 수 (보통 수십~수백 개)
+ * - 예상 밖의 조합 폭증에 대비해 MAX_ENTRIES 를 넘으면 캐시에 넣지 않고 레지스트리 조회로 대신함
+ */
+final class CounterCache {
+
+	private record Entry(String name, String[] tags, int hash, Counter counter) {
+	}
+
+	static final int MAX_ENTRIES = 4096;
+
+	private final MeterRegistry registry;
+	private volatile Entry[] table = new Entry[64];
+	private int size; // guarded by this
+
+	CounterCache(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	Counter get(String name, String[] tags) {
+		int hash = hash(name, tags);
+		Entry found = find(table, name, tags, hash);
+		return found != null ? found.counter() : register(name, tags, hash);
+	}
+
+	private synchronized Counter register(String name, String[] tags, int hash) {
+		Entry[] current = table;
+		Entry found = find(current, name, tags, hash);
+		if (found != null) {
+			return found.counter();
+		}
+		Counter counter = registry.counter(name, tags);
+		if (size >= MAX_ENTRIES) {
+			return counter;
+		}
+		Entry[] next = (size + 1) * 2 > current.length
+			? rehash(current, current.length * 2)
+			: current.clone();
+		insert(next, new Entry(name, tags.clone(), hash, counter));
+		size++;
+		table = next;
+		return counter;
+	}
+
+	private static Entry find(Entry[] t, String name, String[] tags, int hash) {
+		int mask = t.length - 1;
+		for (int i = hash & mask; ; i = (i + 1) & mask) {
+			Entry e = t[i];
+			if (e == null) {
+				return null;
+			}
+			if (e.hash() == hash && e.name().equals(name) && Arrays.equals(e.tags(), tags)) {
+				return e;
+			}
+		}
+	}
+
+	private static Entry[] rehash(Entry[] old, int capacity) {
+		Entry[] next = new Entry[capacity];
+		for (Entry e : old) {
+			if (e != null) {
+				insert(next, e);
+			}
+		}
+		return next;
+	}
+
+	private static void insert(Entry[] t, Entry e) {
+		int mask = t.length - 1;
+		int i = e.hash() & mask;
+		while (t[i] != null) {
+			i = (i + 1) & mask;
+		}
+		t[i] = e;
+	}
+
+	private static int hash(String name, String[] tags) {
+		int h = name.hashCode();
+		for (String tag : tags) {
+			h = 31 * h + Objects.hashCode(tag);
+		}
+		return h ^ (h >>> 16);
+	}
+}
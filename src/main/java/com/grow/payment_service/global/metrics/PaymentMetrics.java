@@ -1,25 +1,79 @@
 package com.grow.payment_service.global.metrics;
 
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.AllArgsConstructor;
 
+/**
+ * 결제 도메인 카운터
+ * - 호출마다 registry.counter(...) 로 Meter.Id 를 만들지 않도록 카운터를 한 번만 조회해 재사용
+ * - 상태 전이: PayStatus × PayStatus 행렬(ordinal 인덱스)에 보관
+ * - 결과 카운터: (이름, 태그) 캐시(CounterCache)
+ */
 @Component
-@AllArgsConstructor
 public class PaymentMetrics {
 
+	private static final String TRANSITION = "payment_state_transition_total";
+	private static final PayStatus[] STATUSES = PayStatus.values();
+	private static final Map<String, PayStatus> STATUS_BY_NAME = Stream.of(STATUSES)
+		.collect(Collectors.toUnmodifiableMap(PayStatus::name, Function.identity()));
+
 	private final MeterRegistry registry;
+	private final CounterCache results;
+	/** [from.ordinal * N + to.ordinal] → 전이 카운터 (처음 발생 시 등록) */
+	private final AtomicReferenceArray<Counter> transitions =
+		new AtomicReferenceArray<>(STATUSES.length * STATUSES.length);
+
+	public PaymentMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		this.results = new CounterCache(registry);
+	}
 
 	// 상태 전이 카운터
 	public void transition(String from, String to) {
-		registry.counter("payment_state_transition_total", "from", from, "to", to).increment();
+		PayStatus f = STATUS_BY_NAME.get(from);
+		PayStatus t = STATUS_BY_NAME.get(to);
+		if (f == null || t == null) {
+			results.get(TRANSITION, new String[] {"from", from, "to", to}).increment();
+			return;
+		}
+		transition(f, t);
+	}
+
+	public void transition(PayStatus from, PayStatus to) {
+		transition(from, to, 1);
+	}
+
+	// 상태 전이 카운터 (일괄 전이 건수를 한 번에 반영)
+	public void transition(PayStatus from, PayStatus to, double count) {
+		int idx = from.ordinal() * STATUSES.length + to.ordinal();
+		Counter counter = transitions.get(idx);
+		if (counter == null) {
+			counter = registry.counter(TRANSITION, "from", from.name(), "to", to.name());
+			transitions.set(idx, counter);
+		}
+		counter.increment(count);
 	}
 
 	// 결과 카운터
 	public void result(String name, String... tags) {
-		registry.counter(name, tags).increment();
+		results.get(name, tags).increment();
+	}
+
+	// 결과 카운터 (여러 건을 한 번에 반영)
+	public void result(String name, double amount, String... tags) {
+		results.get(name, tags).increment(amount);
 	}
 
 	// null/blank 라벨 방지
 	public static String v(String s) { return (s == null || s.isBlank()) ? "unknown" : s; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.grow.payment_service.global.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 사가 단계별 소요 시간 타이머
+ * - payment_saga_step_duration{operation, step, outcome}
+ *   operation: confirm / auto_charge / cancel / issue_key
+ *   step: idempotency_reserve, gateway, db_save, db_attempt, idempotency_finish, compensation
+ *   (cancel 은 DB 저장이 두 번이라 db_save 대신 db_cancel_request / db_cancel_complete 로 구분)
+ * - 퍼센타일 히스토그램 + SLO 버킷을 기본으로 게시 (Prometheus histogram_quantile 집계용)
+ *   management.metrics.distribution.slo.payment_saga_step_duration 로 버킷 재정의 가능
+ * - 재시도 횟수 = db_attempt 건수 - db_save 건수 (db_attempt 는 리트라이 시도마다 1건, cancel 은 두 저장 단계 합)
+ */
+@Component
+public class SagaStepMetrics {
+
+	static final String NAME = "payment_saga_step_duration";
+
+	private static final Duration[] SLO = {
+		Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+		Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5)
+	};
+
+	private record StepKey(String operation, String step) {
+	}
+
+	private final MeterRegistry registry;
+	/** (operation, step) → [success, error] 타이머 */
+	private final Map<StepKey, Timer[]> timers = new ConcurrentHashMap<>();
+
+	public SagaStepMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	// 값을 반환하는 단계 측정
+	public <T> T record(String operation, String step, Supplier<T> body) {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			T result = body.get();
+			success = true;
+			return result;
+		} finally {
+			timer(operation, step, success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	// 반환값이 없는 단계 측정
+	public void run(String operation, String step, Runnable body) {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			body.run();
+			success = true;
+		} finally {
+			timer(operation, step, success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Timer timer(String operation, String step, boolean success) {
+		Timer[] pair = timers.computeIfAbsent(new StepKey(operation, step), k -> new Timer[] {
+			register(k, "success"),
+			register(k, "error")
+		});
+		return success ? pair[0] : pair[1];
+	}
+
+	private Timer register(StepKey key, String outcome) {
+		return Timer.builder(NAME)
+			.description("결제 사가 단계별 소요 시간")
+			.tags("operation", key.operation(), "step", key.step(), "outcome", outcome)
+			.publishPercentileHistogram()
+			.serviceLevelObjectives(SLO)
+			.minimumExpectedValue(Duration.ofMillis(1))
+			.maximumExpectedValue(Duration.ofSeconds(30))
+			.register(registry);
+	}
+}
@@ -0,0 +1,49 @@
+package com.grow.payment_service.global.tracing;
+
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.observation.transport.SenderContext;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Quartz Job 간 추적 컨텍스트 전파
+ * - 스케줄 시점: 현재 트레이스 헤더(traceparent 등)를 JobDataMap 에 기록
+ * - 실행 시점: JobDataMap 의 헤더를 부모로 삼아 Job 관측 시작 (QuartzTracingJobListener)
+ * → DailyAutoChargeJob 트레이스 아래에 개별 PaymentAutoChargeJob 스팬이 이어짐
+ */
+@Component
+@RequiredArgsConstructor
+public class QuartzTracing {
+
+	private final ObservationRegistry observationRegistry;
+
+	/** 현재 트레이스를 JobDetail 의 JobDataMap 에 기록 (스케줄 직전 호출) */
+	public void inject(JobDetail job) {
+		SenderContext<JobDataMap> context = new SenderContext<>((carrier, key, value) -> carrier.put(key, value));
+		context.setCarrier(job.getJobDataMap());
+		context.setRemoteServiceName("quartz");
+		Observation.createNotStarted("quartz.job.dispatch", () -> context, observationRegistry)
+			.contextualName("quartz dispatch " + job.getKey().getName())
+			.lowCardinalityKeyValue("job.group", String.valueOf(job.getKey().getGroup()))
+			.start()
+			.stop();
+	}
+
+	/** JobDataMap 에 기록된 트레이스를 부모로 하는 Job 실행 관측 생성 */
+	Observation executionObservation(JobDetail job) {
+		ReceiverContext<JobDataMap> context = new ReceiverContext<>(
+			(carrier, key) -> carrier.get(key) instanceof String value ? value : null);
+		context.setCarrier(job.getJobDataMap());
+		context.setRemoteServiceName("quartz");
+		return Observation.createNotStarted("quartz.job.execute", () -> context, observationRegistry)
+			.contextualName("quartz " + job.getKey().getName())
+			.lowCardinalityKeyValue("job.group", String.valueOf(job.getKey().getGroup()))
+			.lowCardinalityKeyValue("job.class", job.getJobClass().getSimpleName());
+	}
+}
@@ -0,0 +1,72 @@
+package com.grow.payment_service.global.tracing;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.listeners.JobListenerSupport;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모든 Quartz Job 실행을 하나의 스팬으로 감싸는 전역 리스너
+ * - jobToBeExecuted / jobWasExecuted 는 Job 과 같은 워커 스레드에서 호출되므로
+ *   그 사이에 연 스코프 안에서 Toss/Redis/Kafka/DB 호출 스팬이 자식으로 이어짐
+ */
+@Component
+@RequiredArgsConstructor
+public class QuartzTracingJobListener extends JobListenerSupport {
+
+	public static final String LISTENER_NAME = "QuartzTracingListener";
+
+	private static final String OBSERVATION = QuartzTracingJobListener.class.getName() + ".observation";
+	private static final String SCOPE = QuartzTracingJobListener.class.getName() + ".scope";
+
+	private final QuartzTracing quartzTracing;
+
+	@Override
+	public String getName() {
+		return LISTENER_NAME;
+	}
+
+	@Override
+	public void jobToBeExecuted(JobExecutionContext ctx) {
+		Observation observation = quartzTracing.executionObservation(ctx.getJobDetail()).start();
+		ctx.put(OBSERVATION, observation);
+		ctx.put(SCOPE, observation.openScope());
+	}
+
+	@Override
+	public void jobWasExecuted(JobExecutionContext ctx, JobExecutionException jobException) {
+		finish(ctx, jobException);
+	}
+
+	/** 트리거 리스너가 실행을 거부한 경우에도 열린 스코프/관측이 남지 않도록 정리 */
+	@Override
+	public void jobExecutionVetoed(JobExecutionContext ctx) {
+		Observation observation = (Observation) ctx.get(OBSERVATION);
+		if (observation != null) {
+			observation.lowCardinalityKeyValue("job.vetoed", "true");
+		}
+		finish(ctx, null);
+	}
+
+	// 스코프를 닫고 관측 종료, 두 번 정리되지 않도록 컨텍스트에서 제거
+	private void finish(JobExecutionContext ctx, Throwable error) {
+		Observation observation = (Observation) ctx.get(OBSERVATION);
+		Observation.Scope scope = (Observation.Scope) ctx.get(SCOPE);
+		ctx.put(OBSERVATION, null);
+		ctx.put(SCOPE, null);
+		if (scope != null) {
+			scope.close();
+		}
+		if (observation == null) {
+			return;
+		}
+		if (error != null) {
+			observation.error(error);
+		}
+		observation.stop();
+	}
+}
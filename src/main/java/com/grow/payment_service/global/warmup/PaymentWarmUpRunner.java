@@ -0,0 +1,137 @@
+package com.grow.payment_service.global.warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.global.util.JsonUtils;
+import com.grow.payment_service.payment.application.event.PaymentNotificationEvent;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.PaymentHistory;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.infra.paymentprovider.TossPaymentClient;
+import com.grow.payment_service.payment.infra.persistence.mapper.PaymentHistoryMapper;
+import com.grow.payment_service.payment.infra.persistence.mapper.PaymentMapper;
+import com.grow.payment_service.plan.domain.repository.PlanRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 워밍업
+ * - ApplicationRunner 는 ApplicationReadyEvent(readiness=ACCEPTING_TRAFFIC) 전에 실행되므로
+ *   여기서 끝낸 작업은 첫 트래픽 이전에 완료됨
+ * - 단계: 도메인/매퍼/JSON 반복 실행(JIT) → 승인 경로 드라이런 → JPA 조회 → Redis ping → 토스 커넥션
+ * - 각 단계 실패는 경고만 남기고 기동은 계속 (워밍업이 배포를 막지 않도록)
+ * - 소요 시간: payment_warmup_duration{step=...}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentWarmUpRunner implements ApplicationRunner {
+
+	private static final String WARMUP_ORDER_ID = "__warmup__";
+
+	private final MeterRegistry registry;
+	private final StringRedisTemplate redisTemplate;
+	private final TossPaymentClient tossPaymentClient;
+	private final PaymentRepository paymentRepository;
+	private final PaymentHistoryRepository historyRepository;
+	private final PlanRepository planRepository;
+
+	@Value("${app.warmup.iterations:2000}")
+	private int iterations;
+
+	@Value("${app.warmup.toss-timeout:3s}")
+	private Duration tossTimeout;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		long start = System.nanoTime();
+
+		step("domain", this::warmUpDomain);
+		step("confirm_dry_run", this::dryRunConfirm);
+		step("jpa", this::warmUpJpa);
+		step("redis", () -> redisTemplate.execute((RedisCallback<String>)RedisConnection::ping));
+		step("toss", () -> tossPaymentClient.warmUpConnection(tossTimeout));
+
+		long elapsed = System.nanoTime() - start;
+		record("total", elapsed);
+		log.info("[워밍업] 완료 → {}ms", elapsed / 1_000_000);
+	}
+
+	/** 상태 전이 / 매퍼 / JSON 직렬화 반복 → JIT 컴파일 유도 */
+	private void warmUpDomain() {
+		for (int i = 0; i < iterations; i++) {
+			for (PayStatus from : PayStatus.values()) {
+				for (PayStatus to : PayStatus.values()) {
+					from.canTransitionTo(to);
+				}
+			}
+			Payment ready = Payment.of((long)i, 0L, 0L, WARMUP_ORDER_ID,
+				null, "bk_warmup", "cust_warmup", 1000L, PayStatus.AUTO_BILLING_READY, "CARD", null, null);
+			Payment cycled = ready.startAutoBilling().approveAutoBilling("pk_warmup").resetForNextCycle();
+			PaymentMapper.toDomain(PaymentMapper.toEntity(cycled));
+		}
+	}
+
+	/**
+	 * 승인 경로 드라이런 (DB/외부 호출 없이 승인 시 수행되는 변환만 실행)
+	 * - READY → approve → 엔티티 매핑 → 이력 생성/매핑 → 알림 이벤트 JSON
+	 */
+	private void dryRunConfirm() {
+		for (int i = 0; i < iterations; i++) {
+			Payment order = Payment.create(0L, 0L, WARMUP_ORDER_ID, null, null, "cust_warmup", 1000L, "CARD");
+			Payment approved = order.approve("pk_warmup");
+			PaymentMapper.toDomain(PaymentMapper.toEntity(approved));
+			PaymentHistoryMapper.toDomain(PaymentHistoryMapper.toEntity(
+				PaymentHistory.create(approved.getPaymentId(), approved.getPayStatus(), "워밍업")
+			));
+			JsonUtils.toJsonString(new PaymentNotificationEvent(
+				0L, "PAYMENT_APPROVED", "PAYMENT", "워밍업", "워밍업",
+				WARMUP_ORDER_ID, 1000L, LocalDateTime.now()
+			));
+		}
+	}
+
+	/** 승인/조회 경로 쿼리를 존재하지 않는 키로 1회씩 실행 → 커넥션 풀, 쿼리 플랜 캐시 준비 (쓰기 없음) */
+	private void warmUpJpa() {
+		paymentRepository.findByOrderId(WARMUP_ORDER_ID);
+		planRepository.findById(-1L);
+		historyRepository.findByPaymentIdIn(List.of(-1L));
+	}
+
+	private void step(String name, Runnable task) {
+		long t0 = System.nanoTime();
+		try {
+			task.run();
+			log.info("[워밍업] {} 완료", name);
+		} catch (Exception e) {
+			log.warn("[워밍업] {} 실패(무시하고 계속): {}", name, e.toString());
+		} finally {
+			record(name, System.nanoTime() - t0);
+		}
+	}
+
+	private void record(String step, long nanos) {
+		Timer.builder("payment_warmup_duration")
+			.description("기동 워밍업 단계별 소요 시간")
+			.tag("step", step)
+			.register(registry)
+			.record(Duration.ofNanos(nanos));
+	}
+}
@@ -43,8 +43,10 @@ public class PaymentNotificationProducer {
 		String payload = JsonUtils.toJsonString(event);
 
 		kafkaTemplate.send(TOPIC, key, payload);
-		log.info("[KAFKA][SENT] topic={}, key={}, type={}, code={}, orderId={}",
-			TOPIC, key, TYPE, code, orderId);
+		if (log.isDebugEnabled()) {
+			log.debug("[KAFKA][SENT] topic={}, key={}, type={}, code={}, orderId={}",
+				TOPIC, key, TYPE, code, orderId);
+		}
 	}
 
 	/** 결제 승인 성공 */
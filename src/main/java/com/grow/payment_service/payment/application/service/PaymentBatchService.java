@@ -1,5 +1,7 @@
 package com.grow.payment_service.payment.application.service;
 
+import java.util.List;
+
 public interface PaymentBatchService {
 
 	/** 구독 취소 시 해당 멤버의 빌링키 제거 */
@@ -10,4 +12,7 @@ public interface PaymentBatchService {
 
 	/** 오늘 결제일인 단일 결제 건만 처리 */
 	void processSingleAutoCharge(Long paymentId);
+
+	/** 방치된 READY 주문 한 묶음을 일괄 만료 (READY → ABORTED), 만료된 건수 반환 */
+	int expireReadyOrders(List<Long> paymentIds);
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.grow.payment_service.payment.application.service;
 
 import com.grow.payment_service.payment.application.dto.PaymentCancelResponse;
-import com.grow.payment_service.payment.application.dto.PaymentConfirmResponse;
 import com.grow.payment_service.payment.application.dto.PaymentIssueBillingKeyResponse;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
@@ -11,8 +10,8 @@ import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingCha
 
 public interface PaymentPersistenceService {
 
-	/** 결제 승인 후 DB 저장 */
-	Long savePaymentConfirmation(String orderId, String paymentKey);
+	/** 결제 승인 후 DB 저장, 갱신된 결제를 그대로 반환(재조회 불필요) */
+	Payment savePaymentConfirmation(String orderId, String paymentKey);
 
 	/** 결제 취소 요청 후 DB 저장 */
 	PaymentCancelResponse requestCancel(String orderId, CancelReason reason, int amount);
@@ -23,8 +22,8 @@ public interface PaymentPersistenceService {
 	/** 빌링키 등록 후 DB 저장 */
 	PaymentIssueBillingKeyResponse saveBillingKeyRegistration(String orderId, String billingKey);
 
-	/** 자동결제 승인 결과 DB 저장 */
-	PaymentConfirmResponse saveAutoChargeResult(String orderId, TossBillingChargeResponse tossRes);
+	/** 자동결제 승인 결과 DB 저장, 갱신된 결제를 그대로 반환(재조회 불필요) */
+	Payment saveAutoChargeResult(String orderId, TossBillingChargeResponse tossRes);
 
 	/** 보상 트랜잭션에 의해 강제 취소된 결제를 저장 */
 	void saveForceCancelledPayment(Payment cancelled);
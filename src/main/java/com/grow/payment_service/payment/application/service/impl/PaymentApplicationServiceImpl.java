@@ -1,18 +1,25 @@
 package com.grow.payment_service.payment.application.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.grow.payment_service.global.dto.RsData;
 import com.grow.payment_service.global.exception.ErrorCode;
 import com.grow.payment_service.global.exception.PaymentApplicationException;
+import com.grow.payment_service.global.logging.FlowLog;
+import com.grow.payment_service.global.logging.FlowLogger;
+import com.grow.payment_service.global.logging.LogMasker;
 import com.grow.payment_service.global.metrics.PaymentMetrics;
 import com.grow.payment_service.payment.application.dto.*;
 import com.grow.payment_service.payment.application.event.PaymentNotificationProducer;
 import com.grow.payment_service.payment.application.service.PaymentApplicationService;
+import com.grow.payment_service.payment.domain.exception.PaymentDomainException;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.PaymentHistory;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
@@ -33,6 +40,12 @@ import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 결제 유스케이스
+ * - 사가를 부르는 승인/취소/빌링키 발급/자동결제는 트랜잭션 없이 실행
+ *   사가의 DB 저장 단계가 각자 새 트랜잭션으로 커밋하므로, 토스 호출 동안 커넥션을 잡지 않고
+ *   재시도된 저장의 실패가 바깥 트랜잭션을 rollback-only 로 만들지 않음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -50,6 +63,8 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 	private final MemberClient memberClient;
 	private final PaymentNotificationProducer notificationProducer;
 	private final PaymentMetrics metrics;
+	private final ExecutorService paymentIoExecutor;
+	private final FlowLogger flowLogger;
 
 
 	/**
@@ -62,16 +77,15 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 	public PaymentInitResponse initPaymentData(
 		Long memberId, Long planId, int amount
 	) {
-		log.info("[주문 생성 요청 시작] memberId={}, planId={}, amount={}",
-			memberId, planId, amount);
+		FlowLog flow = flowLogger.start("init")
+			.kv("memberId", memberId).kv("planId", planId).kv("amount", amount);
 
 		try {
 			// [1/3] Redis를 이용해 고유 orderId 생성
-			log.info("[1/3] orderId 생성 중... memberId={}", memberId);
 			String orderId = orderIdGenerator.generate(memberId);
+			flow.kv("orderId", orderId).step("order_id");
 
 			// [2/3] Payment & History 저장
-			log.info("[2/3] 결제 엔티티 저장 및 이력 기록 → orderId={}", orderId);
 			Payment payment = Payment.create(
 				memberId, planId, orderId,
 				null, null,
@@ -88,17 +102,20 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 				)
 			);
 
+			flow.step("save");
+
 			// [3/3] Plan 조회 및 응답 생성
-			log.info("[3/3] Plan 조회 → planId={}", planId);
 			Plan plan = planRepository.findById(planId)
 				.orElseThrow(() -> new PaymentApplicationException(
 					ErrorCode.PAYMENT_INIT_ERROR
 				));
+			flow.step("plan");
 
 			metrics.result("payment_init_result_total",
 				"result","success",
 				"auto_renewal", plan.isAutoRenewal() ? "true" : "false"
 			);
+			flow.success();
 
 			return new PaymentInitResponse(
 				orderId,
@@ -116,8 +133,7 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 				"exception", ex.getClass().getSimpleName()
 			);
 
-			log.error("주문 생성 실패: memberId={}, planId={}, amount={}",
-				memberId, planId, amount, ex);
+			flow.failure(ex);
 			throw new PaymentApplicationException(ErrorCode.PAYMENT_INIT_ERROR, ex);
 		}
 	}
@@ -126,7 +142,6 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 	 * 토스 위젯이 발급한 paymentKey 로 승인 처리
 	 */
 	@Override
-	@Transactional
 	@Timed(value = "payment_confirm_latency")
 	@Counted(value = "payment_confirm_total")
 	public Long confirmPayment(
@@ -136,23 +151,32 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 		int amount,
 		String idempotencyKey
 	) {
-		log.info("[결제 승인 요청 시작] memberId={}, orderId={}, amount={}, paymentKey={}",
-			memberId, orderId, amount, paymentKey);
+		FlowLog flow = flowLogger.start("confirm")
+			.kv("memberId", memberId).kv("orderId", orderId).kv("amount", amount)
+			.masked("paymentKey", paymentKey, LogMasker::key);
 
 		try {
-			// [1/4] 멤버 서비스 호출 → 이메일·이름 조회
-			log.info("[1/4] 멤버 서비스 호출 중... memberId={}", memberId);
-			RsData<MemberInfoResponse> rs = memberClient.getMyInfo(memberId);
-			MemberInfoResponse profile = rs.getData();
+			// [1/4] 멤버 서비스 호출(비동기) → 이메일·이름 조회, 주문/플랜 조회와 병렬 진행
+			CompletableFuture<MemberInfoResponse> profileFuture = CompletableFuture.supplyAsync(
+				() -> memberClient.getMyInfo(memberId).getData(),
+				paymentIoExecutor
+			);
+
+			// [2/4] 주문 조회 & 소유권 검증, Plan 조회 (SAGA 이전에 미리 수행)
+			Payment order = paymentRepository.findByOrderId(orderId)
+				.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
+			order.verifyOwnership(memberId);
+			Plan plan = planRepository.findById(order.getPlanId())
+				.orElseThrow(() -> new PaymentApplicationException(ErrorCode.PAYMENT_INIT_ERROR));
+			flow.kv("planId", order.getPlanId()).step("order");
+
+			MemberInfoResponse profile = await(profileFuture);
 			String customerEmail = profile.getEmail();
 			String customerName = profile.getNickname();
-			log.info("[1/4] 멤버 정보 조회 완료 → email={}, nickname={}",
-				customerEmail, customerName);
+			flow.masked("email", customerEmail, LogMasker::email).step("member");
 
-			// [2/4] SAGA 결제 승인 호출
-			log.info("[2/4] SAGA 호출 → paymentKey={}, orderId={}, amount={}, idempotencyKey={}, email={}, name={}",
-				paymentKey, orderId, amount, idempotencyKey, customerEmail, customerName);
-			Long paymentId = paymentSaga.confirmWithCompensation(
+			// [3/4] SAGA 결제 승인 호출
+			Payment confirmed = paymentSaga.confirmWithCompensation(
 				paymentKey,
 				orderId,
 				amount,
@@ -160,64 +184,60 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 				customerEmail,
 				customerName
 			);
-			log.info("[2/4] SAGA 결제 승인 완료 → paymentId={}", paymentId);
-
-			// [3/4] 주문 조회 & 소유권 검증
-			log.info("[3/4] 주문 조회 및 소유권 검증 → paymentId={}", paymentId);
-			Payment paid = paymentRepository.findById(paymentId)
-				.orElseThrow(() -> new PaymentApplicationException(ErrorCode.PAYMENT_NOT_FOUND));
-			paid.verifyOwnership(memberId);
-			log.info("[3/4] 소유권 검증 완료 → memberId={} owns paymentId={}",
-				memberId, paymentId);
+			Long paymentId = confirmed.getPaymentId();
+			flow.kv("paymentId", paymentId).step("saga");
 
 			// 결제 승인 알림
 			notificationProducer.paymentApproved(memberId, orderId, amount);
 
-			// [4/4] 구독 플랜 갱신 처리
-			log.info("[4/4] Plan 조회 → planId={}", paid.getPlanId());
-			Plan plan = planRepository.findById(paid.getPlanId())
-				.orElseThrow(() -> new PaymentApplicationException(ErrorCode.PAYMENT_INIT_ERROR));
+			// [4/4] 구독 플랜 갱신 처리 (미리 조회한 Plan 재사용)
 			if (plan.isAutoRenewal()) {
 				subscriptionService.recordSubscriptionRenewal(memberId, plan.getPeriod());
-				log.info("[4/4] 구독 갱신 기록 완료 → memberId={}, period={}",
-					memberId, plan.getPeriod());
-			} else {
-				log.info("[4/4] 자동 갱신 대상 아님 (One-time purchase)");
+				flow.kv("renewal", plan.getPeriod());
 			}
+			flow.step("post");
 
 			// 결과 메트릭
 			metrics.result("payment_confirm_result_total", "result","success");
+			flow.success();
 
 			return paymentId;
 		} catch (Exception e) {
 			metrics.result("payment_confirm_result_total", "result","error", "exception", e.getClass().getSimpleName());
-			log.error("[결제 승인 실패] memberId={}, orderId={}, amount={}, paymentKey={}",
-				memberId, orderId, amount, paymentKey, e);
+			flow.failure(e);
 			throw new PaymentApplicationException(ErrorCode.PAYMENT_CONFIRM_ERROR, e);
 		}
 	}
 
+	/** 비동기 결과 대기, CompletionException 은 원래 예외로 풀어서 전파 */
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
 	/**
 	 * 결제 취소 요청 처리
 	 */
 	@Override
-	@Transactional
 	public PaymentCancelResponse cancelPayment(
 		Long memberId,
 		String orderId,
 		int cancelAmount,
 		CancelReason reason
 	) {
-		log.info("[결제 취소 요청 시작] memberId={}, orderId={}, cancelAmount={}, reason={}",
-			memberId, orderId, cancelAmount, reason);
+		FlowLog flow = flowLogger.start("cancel")
+			.kv("memberId", memberId).kv("orderId", orderId).kv("amount", cancelAmount).kv("reason", reason);
 
 		// [1/2] 주문 조회 & 소유권 검증
-		log.info("[1/2] 주문 조회 및 소유권 검증 → orderId={}", orderId);
 		Payment paid = paymentRepository.findByOrderId(orderId)
 			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
 		paid.verifyOwnership(memberId);
-		log.info("[1/2] 소유권 검증 완료 → memberId={} owns orderId={}",
-			memberId, orderId);
 
 		// 플랜 조회 (구독 여부 판단용)
 		Plan plan = planRepository.findById(paid.getPlanId())
@@ -252,14 +272,13 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 					: paid.getTotalAmount().intValue();
 
 				// [2/2] SAGA 결제 취소 호출
-				log.info("[2/2] SAGA 결제 취소 호출 → paymentKey={}, orderId={}, cancelAmount={}, reason={}",
-					paymentKey, orderId, fullAmount, reason);
+				flow.kv("result", "refund").kv("amount", fullAmount)
+					.masked("paymentKey", paymentKey, LogMasker::key);
 				try {
 					PaymentCancelResponse res = paymentSaga.cancelWithCompensation(
 						paymentKey, orderId, fullAmount, reason
 					);
-					log.info("[2/2] SAGA 결제 취소 완료 → paymentKey={}, orderId={}",
-						paymentKey, orderId);
+					flow.step("saga");
 
 					// 결제 취소 알림
 					notificationProducer.cancelled(memberId, orderId, fullAmount);
@@ -270,32 +289,35 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 						"auto_renewal","true",
 						"within_7d","true"
 					);
-
+					flow.success();
 
 					return res;
 				} catch (Exception ex) {
-					log.error("결제 취소 실패: paymentKey={}, orderId={}, cancelAmount={}",
-						paymentKey, orderId, fullAmount, ex);
+					flow.failure(ex);
 					throw new PaymentApplicationException(
 						ErrorCode.PAYMENT_CANCEL_ERROR, ex
 					);
 				}
 			} else {
 				// 7일 초과 = 다음달부터 해지(빌링키 제거)
+				flow.kv("result", "scheduled");
 				try {
-					Payment toSave = paid;
-					// 방금 달 결제가 APPROVED 상태라면 다음 사이클 준비 상태로 리셋
-					if (toSave.getPayStatus() == PayStatus.AUTO_BILLING_APPROVED) {
-						toSave = toSave.resetForNextCycle();
+					PayStatus before = paid.getPayStatus();
+					if (!before.canTransitionTo(PayStatus.ABORTED)) {
+						throw PaymentDomainException.invalidStatusTransition(before, PayStatus.ABORTED);
+					}
+					// 빌링키 제거 + ABORTED: 조회 시점 상태 그대로일 때만 반영 (UPDATE 1회)
+					// 승인 직후(APPROVED)도 포함, 다음 달 READY 리셋 없이 바로 해지
+					if (paymentRepository.clearBillingKeyIfStatus(paid.getPaymentId(), EnumSet.of(before)) == 0) {
+						log.warn("[구독 해지 예약 실패] orderId={}, 조회 후 상태 변경됨(before={})", orderId, before);
+						throw new PaymentApplicationException(ErrorCode.PAYMENT_CANCEL_ERROR);
 					}
-					// 빌링키 제거 + ABORTED 전이
-					toSave = toSave.clearBillingKey();
-					paymentRepository.save(toSave);
+					metrics.transition(before, PayStatus.ABORTED);
 
 					historyRepository.save(
 						PaymentHistory.create(
-							toSave.getPaymentId(),
-							toSave.getPayStatus(),
+							paid.getPaymentId(),
+							PayStatus.ABORTED,
 							"구독 해지 예약(다음 결제 미청구)"
 						)
 					);
@@ -309,10 +331,11 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 						"auto_renewal","true",
 						"within_7d","false"
 					);
+					flow.success();
 
 					return new PaymentCancelResponse(
-						toSave.getPaymentId(),
-						toSave.getPayStatus().name()
+						paid.getPaymentId(),
+						PayStatus.ABORTED.name()
 					);
 				} catch (Exception ex) {
 					metrics.result("payment_cancel_result_total",
@@ -322,7 +345,7 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 						"within_7d","false",
 						"exception", ex.getClass().getSimpleName()
 					);
-					log.error("구독 해지 예약 실패: orderId={}", orderId, ex);
+					flow.failure(ex);
 					throw new PaymentApplicationException(ErrorCode.PAYMENT_CANCEL_ERROR, ex);
 				}
 			}
@@ -336,23 +359,20 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 		}
 
 		// [2/2] SAGA 결제 취소 호출
-		log.info("[2/2] SAGA 결제 취소 호출 → paymentKey={}, orderId={}, cancelAmount={}, reason={}",
-			paymentKey, orderId, cancelAmount, reason);
+		flow.kv("result", "refund").masked("paymentKey", paymentKey, LogMasker::key);
 		try {
 			PaymentCancelResponse res = paymentSaga.cancelWithCompensation(
 				paymentKey, orderId, cancelAmount, reason
 			);
-			log.info("[2/2] SAGA 결제 취소 완료 → paymentKey={}, orderId={}",
-				paymentKey, orderId);
+			flow.step("saga");
 
 			// 결제 취소 알림
 			notificationProducer.cancelled(memberId, orderId, cancelAmount);
-
+			flow.success();
 
 			return res;
 		} catch (Exception ex) {
-			log.error("결제 취소 실패: paymentKey={}, orderId={}, cancelAmount={}",
-				paymentKey, orderId, cancelAmount, ex);
+			flow.failure(ex);
 			throw new PaymentApplicationException(
 				ErrorCode.PAYMENT_CANCEL_ERROR, ex
 			);
@@ -363,44 +383,38 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 	 * 빌링키 발급
 	 */
 	@Override
-	@Transactional
 	@Timed(value = "billingkey_issue_latency")
 	@Counted(value = "billingkey_issue_total")
 	public PaymentIssueBillingKeyResponse issueBillingKey(
 		Long memberId,
 		PaymentIssueBillingKeyParam param
 	) {
-		log.info("[빌링키 발급 요청 시작] memberId={}, orderId={}, authKey={}, customerKey={}",
-			memberId,
-			param.getOrderId(),
-			param.getAuthKey(),
-			param.getCustomerKey()
-		);
+		FlowLog flow = flowLogger.start("issue_key")
+			.kv("memberId", memberId).kv("orderId", param.getOrderId())
+			.masked("authKey", param.getAuthKey(), LogMasker::key)
+			.masked("customerKey", param.getCustomerKey(), LogMasker::key);
 
 		// [1/2] 주문 조회 & 소유권 검증
-		log.info("[1/2] 주문 조회 및 소유권 검증 → orderId={}", param.getOrderId());
 		Payment paid = paymentRepository.findByOrderId(param.getOrderId())
 			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
 		paid.verifyOwnership(memberId);
-		log.info("[1/2] 소유권 검증 완료 → memberId={} owns orderId={}", memberId, param.getOrderId());
+		flow.step("order");
 
 		// [2/2] SAGA 빌링키 발급 호출
-		log.info("[2/2] SAGA 빌링키 발급 호출 → orderId={}, authKey={}, customerKey={}",
-			param.getOrderId(), param.getAuthKey(), param.getCustomerKey());
 		try {
 			PaymentIssueBillingKeyResponse res = paymentSaga.issueKeyWithCompensation(param);
-			log.info("[2/2] SAGA 빌링키 발급 완료 → orderId={}, billingKey={}",
-				param.getOrderId(), res.getBillingKey());
+			flow.masked("billingKey", res.getBillingKey(), LogMasker::key).step("saga");
 
 			// 자동결제 승인 알림
 			notificationProducer.billingKeyIssued(memberId, param.getOrderId());
 
 			metrics.result("billingkey_issue_result_total", "result","success");
+			flow.success();
 
 			return res;
 		} catch (Exception ex) {
 			metrics.result("billingkey_issue_result_total", "result","error", "exception", ex.getClass().getSimpleName());
-			log.error("빌링키 발급 실패: orderId={}", param.getOrderId(), ex);
+			flow.failure(ex);
 			throw new PaymentApplicationException(
 				ErrorCode.BILLING_ISSUE_ERROR, ex
 			);
@@ -411,7 +425,6 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 	 * 자동결제 승인
 	 */
 	@Override
-	@Transactional
 	@Timed(value = "autobilling_confirm_latency")
 	@Counted(value = "autobilling_confirm_total")
 	public PaymentConfirmResponse chargeWithBillingKey(
@@ -419,41 +432,32 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 		PaymentAutoChargeParam param,
 		String idempotencyKey
 	) {
-		log.info("[자동결제 승인 요청 시작] memberId={}, orderId={}, billingKey={}, amount={}, customerKey={}",
-			memberId,
-			param.getOrderId(),
-			param.getBillingKey(),
-			param.getAmount(),
-			param.getCustomerKey()
-		);
+		FlowLog flow = flowLogger.start("auto_charge")
+			.kv("memberId", memberId).kv("orderId", param.getOrderId()).kv("amount", param.getAmount())
+			.masked("billingKey", param.getBillingKey(), LogMasker::key);
 
 		// [1/3] 주문 조회 & 소유권 검증
-		log.info("[1/3] 주문 조회 및 소유권 검증 → orderId={}", param.getOrderId());
 		Payment paid = paymentRepository.findByOrderId(param.getOrderId())
 			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
 		paid.verifyOwnership(memberId);
-		log.info("[1/3] 소유권 검증 완료 → memberId={} owns orderId={}",
-			memberId, param.getOrderId());
+		flow.step("order");
 
 		// [2/3] SAGA 자동결제 호출
-		log.info("[2/3] SAGA 자동결제 호출 → billingKey={}, orderId={}, amount={}, idemKey={}",
-			param.getBillingKey(), param.getOrderId(), param.getAmount(), idempotencyKey);
 		try {
 			PaymentConfirmResponse res = paymentSaga.autoChargeWithCompensation(param, idempotencyKey);
-			log.info("[2/3] SAGA 자동결제 완료 → paymentId={}", res.getPaymentId());
+			flow.kv("paymentId", res.getPaymentId()).step("saga");
 
 			// 자동결제 승인 알림
 			notificationProducer.autoBillingApproved(memberId, param.getOrderId(), param.getAmount());
 
 			metrics.result("autobilling_confirm_result_total", "result","success");
+			flow.success();
 
 			// [3/3] 결과 반환
-			log.info("[3/3] 자동결제 응답 반환 → paymentId={}", res.getPaymentId());
 			return res;
 		} catch (Exception ex) {
 			metrics.result("autobilling_confirm_result_total", "result","error", "exception", ex.getClass().getSimpleName());
-			log.error("자동결제 승인 실패: billingKey={}, orderId={}",
-				param.getBillingKey(), param.getOrderId(), ex);
+			flow.failure(ex);
 			throw new PaymentApplicationException(
 				ErrorCode.AUTO_CHARGE_ERROR, ex
 			);
@@ -462,20 +466,22 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 
 	/**
 	 * 미결제 주문 만료 메서드
+	 * - 소유권 확인용 조회 후 READY 일 때만 ABORTED 로 바꾸는 상태 CAS (락 없음)
+	 * - 그 사이 승인 등으로 상태가 바뀌었으면 반영 0건 → 스킵
 	 */
 	@Override
 	@Transactional
 	public void expireIfReady(Long memberId, String orderId) {
-		Payment p = paymentRepository.findByOrderIdForUpdate(orderId)
+		Payment p = paymentRepository.findByOrderId(orderId)
 			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
 		p.verifyOwnership(memberId);
 
-		if (p.getPayStatus() == PayStatus.READY) {
-			Payment aborted = p.transitionTo(PayStatus.ABORTED);
-			paymentRepository.save(aborted);
+		if (p.getPayStatus() == PayStatus.READY
+			&& paymentRepository.transitionIfStatus(orderId, PayStatus.READY, PayStatus.ABORTED) == 1) {
 			historyRepository.save(PaymentHistory.create(
-				aborted.getPaymentId(), aborted.getPayStatus(), "사용자 이탈로 주문 만료"
+				p.getPaymentId(), PayStatus.ABORTED, "사용자 이탈로 주문 만료"
 			));
+			metrics.transition(PayStatus.READY, PayStatus.ABORTED);
 			log.info("[주문 만료] orderId={} -> ABORTED", orderId);
 		} else {
 			log.info("[주문 만료 스킵] orderId={}, status={}", orderId, p.getPayStatus());
@@ -489,7 +495,7 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 	@Transactional
 	public void testTransitionToReady(String orderId, String billingKey) {
 		log.info("[테스트용 빌링키 전이 요청 시작] orderId={}, billingKey={}",
-			orderId, billingKey);
+			orderId, LogMasker.key(billingKey));
 
 		// [1/2] 주문 조회
 		log.info("[1/2] 주문 조회 → orderId={}", orderId);
@@ -498,7 +504,7 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 
 		// [2/2] 상태 전이 및 이력 기록
 		log.info("[2/2] 상태 전이 및 이력 기록 → orderId={}, billingKey={}",
-			orderId, billingKey);
+			orderId, LogMasker.key(billingKey));
 		try {
 			payment = payment.registerBillingKey(billingKey);
 			paymentRepository.save(payment);
@@ -512,7 +518,7 @@ public class PaymentApplicationServiceImpl implements PaymentApplicationService
 			log.info("[2/2] 전이 완료 → paymentId={}", payment.getPaymentId());
 		} catch (Exception ex) {
 			log.error("테스트용 빌링키 전이 실패: orderId={}, billingKey={}",
-				orderId, billingKey, ex);
+				orderId, LogMasker.key(billingKey), ex);
 			throw new PaymentApplicationException(
 				ErrorCode.TEST_READY_ERROR, ex
 			);
@@ -2,7 +2,11 @@ package com.grow.payment_service.payment.application.service.impl;
 
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,12 +20,12 @@ import com.grow.payment_service.payment.application.service.PaymentApplicationSe
 import com.grow.payment_service.payment.application.service.PaymentBatchService;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.PaymentHistory;
-import com.grow.payment_service.payment.domain.model.enums.FailureReason;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
 import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
 import com.grow.payment_service.payment.domain.repository.PaymentRepository;
 import com.grow.payment_service.global.exception.ErrorCode;
 import com.grow.payment_service.global.exception.PaymentApplicationException;
+import com.grow.payment_service.payment.domain.exception.PaymentDomainException;
 import com.grow.payment_service.payment.infra.client.MemberClient;
 import com.grow.payment_service.payment.infra.client.MemberInfoResponse;
 import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
@@ -68,24 +72,28 @@ public class PaymentBatchServiceImpl implements PaymentBatchService {
 
 				try {
 					PayStatus before = p.getPayStatus();
-					// 빌링 키 제거
-					Payment updated = p.clearBillingKey();
-					// 변경된 결제 저장
-					paymentRepository.save(updated);
-					// 히스토리 기록
+					if (!before.canTransitionTo(PayStatus.ABORTED)) {
+						throw PaymentDomainException.invalidStatusTransition(before, PayStatus.ABORTED);
+					}
+					// 빌링 키 제거 + ABORTED: 조회 시점 상태 그대로일 때만 반영 (UPDATE 1회)
+					if (paymentRepository.clearBillingKeyIfStatus(p.getPaymentId(), EnumSet.of(before)) == 0) {
+						metrics.result("billingkey_remove_total", "result", "skipped");
+						log.info("[빌링키 제거 스킵] 결제ID={}, 조회 후 상태 변경됨", p.getPaymentId());
+						continue;
+					}
 					// 상태 전이 기록
-					metrics.transition(before.name(), updated.getPayStatus().name());
+					metrics.transition(before, PayStatus.ABORTED);
 
 					historyRepository.save(
 						PaymentHistory.create(
-							updated.getPaymentId(),
-							updated.getPayStatus(),
+							p.getPaymentId(),
+							PayStatus.ABORTED,
 							"빌링키 제거"
 						)
 					);
 					metrics.result("billingkey_remove_total", "result","success");
 					log.info("[빌링키 제거 완료] 결제ID={}, billingKey=null 로 변경",
-						updated.getPaymentId());
+						p.getPaymentId());
 				} catch (Exception ex) {
 					metrics.result("billingkey_remove_total", "result","error", "exception", ex.getClass().getSimpleName());
 					log.error("[빌링키 제거 실패] 결제ID={}, 원인={}",
@@ -100,28 +108,32 @@ public class PaymentBatchServiceImpl implements PaymentBatchService {
 
 	/**
 	 * 재시도 한계를 초과한 자동결제에 대해 실패 처리 및 빌링키를 제거합니다.
+	 * 마지막 시도가 승인 거절로 끝났으면 AUTO_BILLING_FAILED, 과금 전 오류였으면 IN_PROGRESS 로 남아 있으므로 둘 다 대상
 	 */
 	@Override
 	public void markAutoChargeFailedPermanently() {
-		// AUTO_BILLING_IN_PROGRESS 상태의 결제 목록 조회
-		List<Payment> targets = paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(
-			PayStatus.AUTO_BILLING_IN_PROGRESS);
+		// AUTO_BILLING_IN_PROGRESS / AUTO_BILLING_FAILED 상태의 결제 목록 조회
+		List<Payment> targets = new ArrayList<>(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(
+			PayStatus.AUTO_BILLING_IN_PROGRESS));
+		targets.addAll(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(
+			PayStatus.AUTO_BILLING_FAILED));
 
 		int processed = 0;
 
 		// 각 결제에 대해 실패 상태로 전이
 		for (Payment p : targets) {
 			PayStatus before = p.getPayStatus();
-			Payment failed = p.failAutoBilling(FailureReason.RETRY_EXCEEDED);
-			Payment cleared = failed.clearBillingKey(); // 빌링키 제거
-
-			paymentRepository.save(cleared);
+			// 실패 처리 + 빌링키 제거 (→ ABORTED) 를 상태 CAS 한 번으로, 그 사이 승인 등으로 바뀌었으면 건너뜀
+			if (paymentRepository.clearBillingKeyIfStatus(p.getPaymentId(), EnumSet.of(before)) == 0) {
+				log.info("[자동결제 실패 처리 스킵] paymentId={}, 조회 후 상태 변경됨", p.getPaymentId());
+				continue;
+			}
 			// 상태 전이 기록
-			metrics.transition(before.name(), cleared.getPayStatus().name());
+			metrics.transition(before, PayStatus.ABORTED);
 			historyRepository.save(
 				PaymentHistory.create(
-					cleared.getPaymentId(),
-					cleared.getPayStatus(),
+					p.getPaymentId(),
+					PayStatus.ABORTED,
 					"자동결제 재시도 한계 도달 -> 실패 처리 및 빌링키 제거"
 				)
 			);
@@ -130,34 +142,64 @@ public class PaymentBatchServiceImpl implements PaymentBatchService {
 
 			// 자동결제 실패 알림
 			notificationProducer.autoBillingFailed(
-				cleared.getMemberId(),
-				cleared.getOrderId(),
-				cleared.getTotalAmount() == null ? 0 : cleared.getTotalAmount().intValue()
+				p.getMemberId(),
+				p.getOrderId(),
+				p.getTotalAmount() == null ? 0 : p.getTotalAmount().intValue()
 			);
 		}
 
 		// 영구 실패 처리 건수
 		if (processed > 0) {
-			for (int i = 0; i < processed; i++) {
-				metrics.result("autobilling_permanent_fail_total");
-			}
+			metrics.result("autobilling_permanent_fail_total", processed);
 		}
 
 		log.info("[자동결제] 5회 재시도 후 실패 상태 전이 완료: count={}", targets.size());
 	}
 
+	/**
+	 * 방치된 READY 주문 한 묶음을 만료 처리합니다. (ReadyOrderExpirySweeper 가 묶음마다 호출)
+	 * 1. READY 인 건만 ABORTED 로 일괄 UPDATE (한 번)
+	 * 2. 만료 이력을 배치 INSERT
+	 * 조회 후 일부가 먼저 승인/만료된 경우, 이번 UPDATE 로 ABORTED 가 되고 아직 만료 이력이 없는 건만 기록
+	 */
+	@Override
+	@Transactional
+	public int expireReadyOrders(List<Long> paymentIds) {
+		int expired = paymentRepository.transitionAllIfStatus(paymentIds, PayStatus.READY, PayStatus.ABORTED);
+		if (expired == 0) {
+			return 0;
+		}
+
+		List<Long> targets = paymentIds;
+		if (expired < paymentIds.size()) {
+			Set<Long> logged = historyRepository.findByPaymentIdIn(paymentIds).stream()
+				.filter(h -> h.getStatus() == PayStatus.ABORTED)
+				.map(PaymentHistory::getPaymentId)
+				.collect(Collectors.toSet());
+			targets = paymentRepository.findIdsInStatus(paymentIds, PayStatus.ABORTED).stream()
+				.filter(id -> !logged.contains(id))
+				.toList();
+		}
+		historyRepository.saveAll(targets.stream()
+			.map(id -> PaymentHistory.create(id, PayStatus.ABORTED, "미결제 주문 일괄 만료"))
+			.toList());
+
+		// 상태 전이 기록
+		metrics.transition(PayStatus.READY, PayStatus.ABORTED, expired);
+		return expired;
+	}
+
 	/**
 	 * 단일 결제 건에 대해 자동결제 시도
 	 * Quartz JobListener를 활용한 재시도 로직을 위해 분리된 메서드입니다.
 	 * 1. 결제 정보 조회
-	 * 2. idempotency 키 생성 및 예약
-	 * 3. READY -> IN_PROGRESS 전이 및 이력 저장
-	 * 4. 외부 과금 호출
-	 * 5. IN_PROGRESS -> APPROVED 전이 및 이력 저장
-	 * 6. APPROVED -> READY 리셋(다음 달 준비) 및 이력 저장
+	 * 2. idempotency 키 생성, 이번 달 결제가 이미 끝났으면 종료 (예약은 사가에서)
+	 * 3. READY(또는 승인 거절로 남은 FAILED) -> IN_PROGRESS 상태 CAS 및 이력 저장 (이전 시도가 남긴 IN_PROGRESS 면 그대로 재시도)
+	 * 4. 외부 과금 호출 (사가가 APPROVED/FAILED 전이와 이력을 저장)
+	 * 5. APPROVED -> READY 상태 CAS(다음 달 준비) 및 이력 저장
+	 * 트랜잭션 없이 실행, 각 DB 반영이 바로 커밋되므로 토스 호출 동안 커넥션을 잡지 않음
 	 */
 	@Override
-	@Transactional
 	@Timed("autobilling_job_latency")
 	@Counted("autobilling_job_total")
 	public void processSingleAutoCharge(Long paymentId) {
@@ -170,24 +212,32 @@ public class PaymentBatchServiceImpl implements PaymentBatchService {
 		String recordKey = "autoCharge:" + p.getOrderId() + ":" + billingMonth;
 		String idemKey = idempotencyAdapter.getOrCreateKey(recordKey);
 
-		if (!idempotencyAdapter.reserve(idemKey)) {
+		if (idempotencyAdapter.getResult(idemKey) != null) {
 			log.warn("[중복 자동결제 차단] paymentId={}, idemKey={}", paymentId, idemKey);
 			return;
 		}
 
 		try {
-			// READY -> IN_PROGRESS 전이
-			PayStatus beforeStart = p.getPayStatus();
-			Payment inProgress = p.startAutoBilling();
-			paymentRepository.save(inProgress);
-			historyRepository.save(PaymentHistory.create(
-				inProgress.getPaymentId(),
-				inProgress.getPayStatus(),
-				"자동결제 진행 중 상태로 전이"
-			));
-
-			// 상태 전이
-			metrics.transition(beforeStart.name(), inProgress.getPayStatus().name());
+			// READY/FAILED -> IN_PROGRESS 전이 (다른 실행이 먼저 바꿨으면 반영 0건 → 건너뜀)
+			if (p.getPayStatus() != PayStatus.AUTO_BILLING_IN_PROGRESS) {
+				PayStatus beforeStart = p.getPayStatus();
+				if (!beforeStart.canTransitionTo(PayStatus.AUTO_BILLING_IN_PROGRESS)) {
+					throw PaymentDomainException.invalidStatusTransition(beforeStart, PayStatus.AUTO_BILLING_IN_PROGRESS);
+				}
+				if (paymentRepository.transitionIfStatus(
+					p.getOrderId(), beforeStart, PayStatus.AUTO_BILLING_IN_PROGRESS) == 0) {
+					log.warn("[자동결제] 다른 실행이 먼저 상태를 바꿔 건너뜀: paymentId={}", paymentId);
+					return;
+				}
+				historyRepository.save(PaymentHistory.create(
+					p.getPaymentId(),
+					PayStatus.AUTO_BILLING_IN_PROGRESS,
+					"자동결제 진행 중 상태로 전이"
+				));
+
+				// 상태 전이
+				metrics.transition(beforeStart, PayStatus.AUTO_BILLING_IN_PROGRESS);
+			}
 
 			// 회원 서비스 호출 -> 이메일, 닉네임 조회
 			RsData<MemberInfoResponse> memberResp = memberClient.getMyInfo(p.getMemberId());
@@ -197,51 +247,46 @@ public class PaymentBatchServiceImpl implements PaymentBatchService {
 
 			// 2) 외부 과금 호출
 			PaymentAutoChargeParam param = PaymentAutoChargeParam.builder()
-				.billingKey(inProgress.getBillingKey())
-				.customerKey(inProgress.getCustomerKey())
-				.amount(inProgress.getTotalAmount().intValue())
-				.orderId(inProgress.getOrderId())
-				.orderName("GROW Plan #" + inProgress.getOrderId())
+				.billingKey(p.getBillingKey())
+				.customerKey(p.getCustomerKey())
+				.amount(p.getTotalAmount().intValue())
+				.orderId(p.getOrderId())
+				.orderName("GROW Plan #" + p.getOrderId())
 				.customerEmail(customerEmail)
 				.customerName(customerName)
 				.build();
 
 			PaymentConfirmResponse res =
 				paymentService.chargeWithBillingKey(p.getMemberId(), param, idemKey);
-			log.info("[자동결제 성공] paymentId={}, idemKey={}, 결과={}",
+			log.info("[자동결제 결과] paymentId={}, idemKey={}, 결과={}",
 				paymentId, idemKey, res.getPayStatus());
 
+			// 승인 거절이면 사가가 이미 FAILED 로 저장하고 멱등키를 풀어 둠 → 리스너 재시도가 FAILED 에서 다시 시작
+			if (!PayStatus.AUTO_BILLING_APPROVED.name().equals(res.getPayStatus())) {
+				throw new PaymentApplicationException(ErrorCode.BATCH_AUTO_CHARGE_ERROR);
+			}
+
 			String approvedPaymentKey = res.getPaymentKey();
 			if (approvedPaymentKey == null || approvedPaymentKey.isBlank()) {
 				log.error("[자동결제] 성공 응답에 paymentKey 누락: paymentId={}, orderId={}",
-					paymentId, inProgress.getOrderId());
+					paymentId, p.getOrderId());
 				throw new PaymentApplicationException(ErrorCode.BATCH_AUTO_CHARGE_ERROR
 				);
 			}
 
-			// IN_PROGRESS -> APPROVED 전이
-			PayStatus beforeApprove = inProgress.getPayStatus();
-			Payment approved = inProgress.approveAutoBilling(approvedPaymentKey);
-			paymentRepository.save(approved);
-			historyRepository.save(PaymentHistory.create(
-				approved.getPaymentId(),
-				approved.getPayStatus(),
-				"자동결제 승인 처리"
-			));
-			// 상태 전이
-			metrics.transition(beforeApprove.name(), approved.getPayStatus().name());
-
-			// APPROVED -> READY 리셋 (다음 달 결제 준비)
-			PayStatus beforeReset = approved.getPayStatus();
-			Payment ready = approved.resetForNextCycle();
-			paymentRepository.save(ready);
-			historyRepository.save(PaymentHistory.create(
-				ready.getPaymentId(),
-				ready.getPayStatus(),
-				"다음 달 READY로 전이"
-			));
-			// 상태 전이
-			metrics.transition(beforeReset.name(), ready.getPayStatus().name());
+			// APPROVED -> READY 리셋 (다음 달 결제 준비), 사가가 저장한 최신 행에 상태 CAS
+			if (paymentRepository.transitionIfStatus(
+				p.getOrderId(), PayStatus.AUTO_BILLING_APPROVED, PayStatus.AUTO_BILLING_READY) == 1) {
+				historyRepository.save(PaymentHistory.create(
+					p.getPaymentId(),
+					PayStatus.AUTO_BILLING_READY,
+					"다음 달 READY로 전이"
+				));
+				// 상태 전이
+				metrics.transition(PayStatus.AUTO_BILLING_APPROVED, PayStatus.AUTO_BILLING_READY);
+			} else {
+				log.warn("[자동결제] 승인 후 다른 실행이 먼저 상태를 바꿔 리셋 생략: paymentId={}", paymentId);
+			}
 			metrics.result("autobilling_confirm_total", "result","success");
 
 		} catch (Exception ex) {
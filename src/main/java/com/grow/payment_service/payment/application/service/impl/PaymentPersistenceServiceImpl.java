@@ -1,11 +1,11 @@
 package com.grow.payment_service.payment.application.service.impl;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.payment_service.global.metrics.PaymentMetrics;
-import com.grow.payment_service.payment.application.dto.PaymentConfirmResponse;
 import com.grow.payment_service.payment.application.dto.PaymentIssueBillingKeyResponse;
 import com.grow.payment_service.payment.application.dto.PaymentCancelResponse;
 import com.grow.payment_service.payment.application.service.PaymentPersistenceService;
@@ -22,29 +22,37 @@ import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingCha
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 결제 상태 전이 DB 반영
+ * - 승인/취소 요청/빌링키 등록은 락 없이 조회 → 전이 → version 조건부 UPDATE (낙관적 락)
+ * - 취소 완료처럼 상태만 바뀌는 전이는 상태 CAS (WHERE pay_status = from) 한 번으로 반영
+ * - 상태 전이 저장은 REQUIRES_NEW: 호출 측 트랜잭션 여부와 상관없이 시도마다 자기 트랜잭션에서 커밋/롤백
+ * - 다른 요청이 먼저 바꿨으면 OptimisticLockingFailureException → RetryablePersistenceService(dataSaveInstance)가
+ *   LOCK_CONFLICT 로 분류해 짧은 백오프 후 다시 호출, 새 트랜잭션에서 재조회 (중복 요청이면 재조회 결과로 바로 반환)
+ */
 @Service
 @RequiredArgsConstructor
 public class PaymentPersistenceServiceImpl implements PaymentPersistenceService {
 
+	static final String VERSION_CONFLICT = "payment_version_conflict_total";
+
 	private final PaymentRepository paymentRepository;
 	private final PaymentHistoryRepository historyRepository;
 	private final PaymentMetrics metrics;
 
-	/** 결제 승인 후 DB 저장 */
+	/** 결제 승인 후 DB 저장 (낙관적 락) */
 	@Override
-	@Transactional
-	public Long savePaymentConfirmation(String orderId, String paymentKey) {
-		Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
-			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public Payment savePaymentConfirmation(String orderId, String paymentKey) {
+		Payment payment = load(orderId);
 
 		// 이미 DONE이면 그대로 반환
 		if (payment.getPayStatus() == PayStatus.DONE) {
-			return payment.getPaymentId();
+			return payment;
 		}
 
 		PayStatus before = payment.getPayStatus();
-		payment = payment.approve(paymentKey);   // 키 저장 + DONE 전이
-		payment = paymentRepository.save(payment);
+		payment = update("confirm", payment.approve(paymentKey));   // 키 저장 + DONE 전이
 		historyRepository.save(
 			PaymentHistory.create(
 				payment.getPaymentId(),
@@ -54,17 +62,15 @@ public class PaymentPersistenceServiceImpl implements PaymentPersistenceService
 		);
 		// 상태 전이
 		metrics.transition(before.name(), payment.getPayStatus().name());
-		return payment.getPaymentId();
+		return payment;
 	}
 
 
-	/** 결제 취소 요청 후 DB 저장 (Pessimistic Lock 적용) */
+	/** 결제 취소 요청 후 DB 저장 (낙관적 락) */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public PaymentCancelResponse requestCancel(String orderId, CancelReason reason, int amount) {
-		// 락 모드로 조회
-		Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
-			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
+		Payment payment = load(orderId);
 
 		// 이미 요청됐거나 완료된 경우 무시
 		if (payment.getPayStatus() == PayStatus.CANCEL_REQUESTED
@@ -74,8 +80,7 @@ public class PaymentPersistenceServiceImpl implements PaymentPersistenceService
 
 		// 취소 요청 상태로 전이
 		PayStatus before = payment.getPayStatus();
-		payment = payment.requestCancel(reason);
-		paymentRepository.save(payment);
+		payment = update("cancel_request", payment.requestCancel(reason));
 		historyRepository.save(
 			PaymentHistory.create(
 				payment.getPaymentId(),
@@ -88,50 +93,45 @@ public class PaymentPersistenceServiceImpl implements PaymentPersistenceService
 		return new PaymentCancelResponse(payment.getPaymentId(), payment.getPayStatus().name());
 	}
 
-	/** 결제 취소 완료 후 DB 저장 (Pessimistic Lock 적용) */
+	/** 결제 취소 완료 후 DB 저장 (상태 CAS: CANCEL_REQUESTED 일 때만 CANCELLED) */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public PaymentCancelResponse completeCancel(String orderId) {
-		// 락 모드로 조회
-		Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
-			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
+		Payment payment = load(orderId);
 
 		// 취소 요청 상태가 아니면 무시
 		if (payment.getPayStatus() != PayStatus.CANCEL_REQUESTED) {
 			return new PaymentCancelResponse(payment.getPaymentId(), payment.getPayStatus().name());
 		}
 
-		// 취소 완료 상태로 전이
-		PayStatus before = payment.getPayStatus();
-		payment = payment.completeCancel();
-		paymentRepository.save(payment);
+		// 취소 완료 상태로 전이, 동시에 다른 요청이 먼저 완료했으면 반영 0건 → 이력 없이 완료 응답
+		if (paymentRepository.transitionIfStatus(orderId, PayStatus.CANCEL_REQUESTED, PayStatus.CANCELLED) == 0) {
+			return new PaymentCancelResponse(payment.getPaymentId(), PayStatus.CANCELLED.name());
+		}
 		historyRepository.save(
 			PaymentHistory.create(
 				payment.getPaymentId(),
-				payment.getPayStatus(),
+				PayStatus.CANCELLED,
 				"취소 완료"
 			)
 		);
 		// 전이 기록
-		metrics.transition(before.name(), payment.getPayStatus().name());
-		return new PaymentCancelResponse(payment.getPaymentId(), payment.getPayStatus().name());
+		metrics.transition(PayStatus.CANCEL_REQUESTED, PayStatus.CANCELLED);
+		return new PaymentCancelResponse(payment.getPaymentId(), PayStatus.CANCELLED.name());
 	}
 
-	/** 빌링키 등록 후 DB 저장 (Pessimistic Lock 적용) */
+	/** 빌링키 등록 후 DB 저장 (낙관적 락) */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public PaymentIssueBillingKeyResponse saveBillingKeyRegistration(
 		String orderId,
 		String billingKey
 	) {
-		// 락 모드로 조회
-		Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
-			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
+		Payment payment = load(orderId);
 
 		// 빌링키 등록 상태 전이
 		PayStatus before = payment.getPayStatus();
-		payment = payment.registerBillingKey(billingKey);
-		paymentRepository.save(payment);
+		payment = update("billing_key", payment.registerBillingKey(billingKey));
 		historyRepository.save(
 			PaymentHistory.create(
 				payment.getPaymentId(),
@@ -144,21 +144,20 @@ public class PaymentPersistenceServiceImpl implements PaymentPersistenceService
 		return new PaymentIssueBillingKeyResponse(billingKey);
 	}
 
-	/** 자동결제 승인 결과 DB 저장 */
+	/** 자동결제 승인 결과 DB 저장 (낙관적 락) */
 	@Override
-	@Transactional
-	public PaymentConfirmResponse saveAutoChargeResult(
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public Payment saveAutoChargeResult(
 		String orderId,
 		TossBillingChargeResponse tossRes
 	) {
-		Payment payment = paymentRepository.findByOrderId(orderId)
-			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
+		Payment payment = load(orderId);
 
 		PayStatus before = payment.getPayStatus();
 
 		if ("DONE".equals(tossRes.getStatus())) {
 			//  paymentKey 반영 + 승인 전이
-			payment = payment.approveAutoBilling(tossRes.getPaymentKey());
+			payment = update("auto_charge", payment.approveAutoBilling(tossRes.getPaymentKey()));
 
 			historyRepository.save(
 				PaymentHistory.create(
@@ -168,7 +167,7 @@ public class PaymentPersistenceServiceImpl implements PaymentPersistenceService
 				)
 			);
 		} else {
-			payment = payment.failAutoBilling(FailureReason.UNKNOWN);
+			payment = update("auto_charge", payment.failAutoBilling(FailureReason.UNKNOWN));
 			historyRepository.save(
 				PaymentHistory.create(
 					payment.getPaymentId(),
@@ -177,18 +176,23 @@ public class PaymentPersistenceServiceImpl implements PaymentPersistenceService
 				)
 			);
 		}
-		paymentRepository.save(payment);
 
 		// 전이 기록
 		metrics.transition(before.name(), payment.getPayStatus().name());
+		return payment;
+	}
 
-		return new PaymentConfirmResponse(
-			payment.getPaymentId(),
-			payment.getPayStatus().name(),
-			tossRes.getPaymentKey(),
-			null,
-			null
-		);
+	private Payment load(String orderId) {
+		return paymentRepository.findByOrderId(orderId)
+			.orElseThrow(() -> new PaymentApplicationException(ErrorCode.ORDER_NOT_FOUND));
+	}
+
+	/** 조회 시점 version 으로 조건부 갱신, 그 사이 다른 요청이 바꿨으면 충돌 예외 (재시도는 호출 측) */
+	private Payment update(String operation, Payment next) {
+		return paymentRepository.updateIfVersionMatches(next).orElseThrow(() -> {
+			metrics.result(VERSION_CONFLICT, "operation", operation);
+			return new OptimisticLockingFailureException("결제 버전 충돌: orderId=" + next.getOrderId());
+		});
 	}
 
 	@Override
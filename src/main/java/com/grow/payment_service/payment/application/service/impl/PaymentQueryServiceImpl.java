@@ -1,6 +1,7 @@
 package com.grow.payment_service.payment.application.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -60,12 +61,21 @@ public class PaymentQueryServiceImpl implements PaymentQueryService {
 	@Transactional(readOnly = true)
 	public List<PaymentDetailResponse> getPaymentsByMemberId(Long memberId) {
 		List<Payment> payments = paymentRepository.findAllByMemberId(memberId);
+		if (payments.isEmpty()) {
+			return List.of();
+		}
+
+		// 결제별 이력을 한 번의 IN 쿼리로 조회 후 paymentId 기준으로 묶음 (N+1 방지)
+		Map<Long, List<PaymentHistory>> historiesByPaymentId = paymentHistoryRepository
+			.findByPaymentIdIn(payments.stream().map(Payment::getPaymentId).toList())
+			.stream()
+			.collect(Collectors.groupingBy(PaymentHistory::getPaymentId));
 
 		return payments.stream()
-			// 결제 내역을 조회하고, 각 결제에 대한 기록을 조회하여 응답 DTO로 변환
+			// 결제 내역과 미리 묶어둔 기록으로 응답 DTO 변환
 			.map(payment -> {
 				List<PaymentHistory> histories =
-					paymentHistoryRepository.findByPaymentId(payment.getPaymentId());
+					historiesByPaymentId.getOrDefault(payment.getPaymentId(), List.of());
 
 				List<PaymentHistoryResponse> historyResponses = histories.stream()
 					.map(h -> new PaymentHistoryResponse(
@@ -2,10 +2,14 @@ package com.grow.payment_service.payment.application.service.impl;
 
 import java.util.List;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.payment_service.global.dto.RsData;
+import com.grow.payment_service.global.logging.FlowLog;
+import com.grow.payment_service.global.logging.FlowLogger;
+import com.grow.payment_service.global.logging.LogMasker;
 import com.grow.payment_service.payment.application.service.EmailService;
 import com.grow.payment_service.payment.infra.client.MemberClient;
 import com.grow.payment_service.payment.infra.client.MemberInfoResponse;
@@ -27,7 +31,9 @@ public class WebhookService {
 
 	private final PaymentRepository paymentRepository;
 	private final MemberClient memberClient;
+	@Lazy // 메일 빈은 첫 웹훅 처리 시점에 생성 (FastStartConfig)
 	private final EmailService emailService;
+	private final FlowLogger flowLogger;
 
 	/**
 	 * 결제 완료/실패 웹훅 처리
@@ -40,25 +46,23 @@ public class WebhookService {
 		if (!"DONE".equals(d.getStatus()) && !"FAILED".equals(d.getStatus())) {
 			return;
 		}
-		log.info("[웹훅 처리 시작] orderId={}, status={}", d.getOrderId(), d.getStatus());
+		FlowLog flow = flowLogger.start("webhook_payment")
+			.kv("orderId", d.getOrderId()).kv("status", d.getStatus());
 
 		// 2) 주문 정보 조회
-		log.info("[1/4] 주문 정보 조회 중... orderId={}", d.getOrderId());
 		Payment payment = paymentRepository.findByOrderId(d.getOrderId())
 			.orElseThrow(() -> new IllegalArgumentException(
 				"Unknown orderId for webhook: " + d.getOrderId()
 			));
 		Long memberId = payment.getMemberId();
-		log.info("[1/4] 주문 정보 조회 완료 → paymentId={}, memberId={}",
-			payment.getPaymentId(), memberId);
+		flow.kv("paymentId", payment.getPaymentId()).kv("memberId", memberId).step("order");
 
 		// 3) 멤버 서비스에서 실제 이메일·이름 조회
-		log.info("[2/4] 멤버 서비스 호출 중... memberId={}", memberId);
 		RsData<MemberInfoResponse> rs = memberClient.getMyInfo(memberId);
 		MemberInfoResponse profile = rs.getData();
 		String email = profile.getEmail();
 		String name = profile.getNickname();
-		log.info("[2/4] 멤버 정보 조회 완료 → email={}, nickname={}", email, name);
+		flow.masked("email", email, LogMasker::email).step("member");
 
 		// 4) 이메일이 없으면 로깅만
 		if (email == null || email.isBlank()) {
@@ -67,7 +71,6 @@ public class WebhookService {
 		}
 
 		// 5) 영수증 및 추가 결제 정보 추출
-		log.info("[3/4] 영수증 및 결제 정보 추출 중...");
 		String receiptUrl = d.getReceipt() != null ? d.getReceipt().getUrl() : null;
 		String method = d.getMethod();
 		EasyPay easyPay = d.getEasyPay();
@@ -75,12 +78,9 @@ public class WebhookService {
 		String requestedAt = d.getRequestedAt();
 		String approvedAt = d.getApprovedAt();
 		String currency = d.getCurrency();
-		log.info("[3/4] 추출 완료 → receiptUrl={}, method={}, provider={}, requestedAt={}, approvedAt={}, currency={}",
-			receiptUrl, method, provider, requestedAt, approvedAt, currency);
+		flow.kv("method", method).kv("provider", provider);
 
 		// 6) 성공/실패에 따라 발송
-		log.info("[4/4] 이메일 발송 호출 → type={}, orderId={}, email={}",
-			d.getStatus(), d.getOrderId(), email);
 		if ("DONE".equals(d.getStatus())) {
 			emailService.sendPaymentSuccess(
 				email,
@@ -108,7 +108,7 @@ public class WebhookService {
 				currency
 			);
 		}
-		log.info("[4/4] 이메일 발송 완료 → orderId={}, email={}", d.getOrderId(), email);
+		flow.step("email").success();
 	}
 
 	/**
@@ -122,25 +122,23 @@ public class WebhookService {
 		if (!"CANCELED".equals(d.getStatus())) {
 			return;
 		}
-		log.info("[웹훅 처리 시작 - 취소] orderId={}, status={}", d.getOrderId(), d.getStatus());
+		FlowLog flow = flowLogger.start("webhook_cancel")
+			.kv("orderId", d.getOrderId()).kv("status", d.getStatus());
 
 		// 2) 주문 정보 조회
-		log.info("[1/4] 주문 정보 조회 중... orderId={}", d.getOrderId());
 		Payment payment = paymentRepository.findByOrderId(d.getOrderId())
 			.orElseThrow(() -> new IllegalArgumentException(
 				"Unknown orderId for webhook: " + d.getOrderId()
 			));
 		Long memberId = payment.getMemberId();
-		log.info("[1/4] 주문 정보 조회 완료 → paymentId={}, memberId={}",
-			payment.getPaymentId(), memberId);
+		flow.kv("paymentId", payment.getPaymentId()).kv("memberId", memberId).step("order");
 
 		// 3) 멤버 서비스 호출
-		log.info("[2/4] 멤버 서비스 호출 중... memberId={}", memberId);
 		RsData<MemberInfoResponse> rs = memberClient.getMyInfo(memberId);
 		MemberInfoResponse profile = rs.getData();
 		String email = profile.getEmail();
 		String name = profile.getNickname();
-		log.info("[2/4] 멤버 정보 조회 완료 → email={}, nickname={}", email, name);
+		flow.masked("email", email, LogMasker::email).step("member");
 
 		// 이메일 없으면 로깅 후 종료
 		if (email == null || email.isBlank()) {
@@ -149,7 +147,6 @@ public class WebhookService {
 		}
 
 		// 4) 영수증 및 취소 상세 정보 추출
-		log.info("[3/4] 영수증 및 취소 정보 추출 중...");
 		String receiptUrl = d.getReceipt() != null ? d.getReceipt().getUrl() : null;
 		String method = d.getMethod();
 		EasyPay easyPay = d.getEasyPay();
@@ -162,12 +159,9 @@ public class WebhookService {
 			? cancels.get(0).getCancelReason() : null;
 		Integer cancelAmount = (cancels != null && !cancels.isEmpty())
 			? cancels.get(0).getCancelAmount() : null;
-		log.info(
-			"[3/4] 추출 완료 → receiptUrl={}, method={}, provider={}, requestedAt={}, approvedAt={}, currency={}, cancelReason={}, cancelAmount={}",
-			receiptUrl, method, provider, requestedAt, approvedAt, currency, cancelReason, cancelAmount);
+		flow.kv("method", method).kv("cancelReason", cancelReason).kv("cancelAmount", cancelAmount);
 
 		// 5) 취소 안내 메일 발송
-		log.info("[4/4] 취소 안내 메일 발송 호출 → orderId={}, email={}", d.getOrderId(), email);
 		emailService.sendCancellation(
 			email,
 			name,
@@ -182,6 +176,6 @@ public class WebhookService {
 			cancelAmount,
 			currency
 		);
-		log.info("[4/4] 취소 안내 메일 발송 완료 → orderId={}, email={}", d.getOrderId(), email);
+		flow.step("email").success();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.grow.payment_service.payment.archive;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 이력 보관 (payment_history → payment_history_archive)
+ * - 결제마다 매달 2~4건씩 쌓이는 이력 중 cutoff 이전 행을 batch-size 건씩 옮겨 hot 테이블과 인덱스를 작게 유지
+ * - 묶음마다 별도 트랜잭션 (PaymentHistoryRepository.archiveBefore), 한 묶음만큼만 잠그고 바로 커밋
+ * - 옮긴 이력도 PaymentHistoryRepository 조회로 그대로 보이므로 자동결제 결제일 계산/이력 조회에 영향 없음
+ * - 메트릭: payment_history_archived_total(옮긴 행 수), payment_history_archive_batch_duration(묶음당 소요 시간)
+ */
+@Slf4j
+@Service
+public class PaymentHistoryArchiver {
+
+	static final String ARCHIVED = "payment_history_archived_total";
+	static final String BATCH_DURATION = "payment_history_archive_batch_duration";
+
+	private final PaymentHistoryRepository historyRepository;
+	private final PaymentMetrics metrics;
+	private final Timer batchDuration;
+	private final int batchSize;
+
+	public PaymentHistoryArchiver(
+		PaymentHistoryRepository historyRepository,
+		PaymentMetrics metrics,
+		MeterRegistry registry,
+		@Value("${app.history-archive.batch-size:1000}") int batchSize
+	) {
+		this.historyRepository = historyRepository;
+		this.metrics = metrics;
+		this.batchDuration = Timer.builder(BATCH_DURATION).register(registry);
+		this.batchSize = batchSize;
+	}
+
+	/** cutoff 이전 이력을 모두 옮기고 옮긴 건수 반환 */
+	public long archive(LocalDateTime cutoff) {
+		long startNanos = System.nanoTime();
+		long archived = 0;
+
+		while (true) {
+			long batchStart = System.nanoTime();
+			int moved = historyRepository.archiveBefore(cutoff, batchSize);
+			batchDuration.record(System.nanoTime() - batchStart, TimeUnit.NANOSECONDS);
+			if (moved == 0) {
+				break;
+			}
+			metrics.result(ARCHIVED, moved);
+			archived += moved;
+		}
+
+		long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+		log.info("[이력 보관] 완료: cutoff={}, archived={}, elapsedMs={}", cutoff, archived, elapsedMs);
+		return archived;
+	}
+}
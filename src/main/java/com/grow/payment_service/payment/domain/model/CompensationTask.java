@@ -0,0 +1,76 @@
+package com.grow.payment_service.payment.domain.model;
+
+import java.time.LocalDateTime;
+
+import com.grow.payment_service.payment.domain.model.enums.CompensationStatus;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+
+import lombok.Getter;
+
+/**
+ * 보상 작업 (승인 건(orderId, paymentKey)당 1건, 자동결제는 같은 주문번호로 회차마다 따로 등록)
+ * - 요청 스레드는 작업만 기록하고 실패 응답, 실제 토스 취소 + 내부 보상은 CompensationWorker 가 수행
+ */
+@Getter
+public class CompensationTask {
+
+	private final Long taskId;
+	private final String orderId;
+	private final CompensationType type;
+	private final String paymentKey;
+	private final int amount;
+	private final String cause;
+	private final CompensationStatus status;
+	private final int attempts;
+	private final LocalDateTime nextAttemptAt;
+	private final LocalDateTime createdAt;
+	private final String lastError;
+
+	public CompensationTask(Long taskId, String orderId, CompensationType type, String paymentKey, int amount,
+		String cause, CompensationStatus status, int attempts, LocalDateTime nextAttemptAt,
+		LocalDateTime createdAt, String lastError) {
+		this.taskId = taskId;
+		this.orderId = orderId;
+		this.type = type;
+		this.paymentKey = paymentKey;
+		this.amount = amount;
+		this.cause = cause;
+		this.status = status;
+		this.attempts = attempts;
+		this.nextAttemptAt = nextAttemptAt;
+		this.createdAt = createdAt;
+		this.lastError = lastError;
+	}
+
+	public static CompensationTask create(String orderId, CompensationType type, String paymentKey, int amount,
+		String cause) {
+		LocalDateTime now = LocalDateTime.now();
+		return new CompensationTask(null, orderId, type, paymentKey, amount, cause,
+			CompensationStatus.PENDING, 0, now, now, null);
+	}
+
+	public static CompensationTask of(Long taskId, String orderId, CompensationType type, String paymentKey,
+		int amount, String cause, CompensationStatus status, int attempts, LocalDateTime nextAttemptAt,
+		LocalDateTime createdAt, String lastError) {
+		return new CompensationTask(taskId, orderId, type, paymentKey, amount, cause, status, attempts,
+			nextAttemptAt, createdAt, lastError);
+	}
+
+	/** 보상 완료 */
+	public CompensationTask complete() {
+		return new CompensationTask(taskId, orderId, type, paymentKey, amount, cause,
+			CompensationStatus.DONE, attempts + 1, nextAttemptAt, createdAt, lastError);
+	}
+
+	/** 실패: 다음 시도 시각 예약 */
+	public CompensationTask retryAt(LocalDateTime next, String error) {
+		return new CompensationTask(taskId, orderId, type, paymentKey, amount, cause,
+			CompensationStatus.PENDING, attempts + 1, next, createdAt, error);
+	}
+
+	/** 재시도 한계 도달: 수동 처리 대상 */
+	public CompensationTask fail(String error) {
+		return new CompensationTask(taskId, orderId, type, paymentKey, amount, cause,
+			CompensationStatus.FAILED, attempts + 1, nextAttemptAt, createdAt, error);
+	}
+}
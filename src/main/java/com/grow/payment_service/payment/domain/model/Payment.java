@@ -2,8 +2,6 @@ package com.grow.payment_service.payment.domain.model;
 
 import static com.grow.payment_service.payment.domain.model.enums.PayStatus.*;
 
-import java.util.EnumSet;
-
 import com.grow.payment_service.payment.domain.exception.PaymentDomainException;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
 import com.grow.payment_service.payment.domain.model.enums.FailureReason;
@@ -13,6 +11,7 @@ import lombok.Getter;
 
 @Getter
 public class Payment {
+
 	private final Long paymentId;
 	private final Long memberId;
 	private final Long planId;
@@ -25,10 +24,12 @@ public class Payment {
 	private final String method;
 	private final FailureReason failureReason;
 	private final CancelReason cancelReason;
+	/** 낙관적 락 버전 (저장 전 신규 결제는 null), 전이 시 그대로 이어받고 저장소가 갱신 */
+	private final Long version;
 
 	public Payment(Long paymentId, Long memberId, Long planId, String orderId, String paymentKey, String billingKey,
 			String customerKey, Long totalAmount, PayStatus payStatus, String method, FailureReason failureReason,
-			CancelReason cancelReason) {
+			CancelReason cancelReason, Long version) {
 		this.paymentId = paymentId;
 		this.memberId = memberId;
 		this.planId = planId;
@@ -41,6 +42,7 @@ public class Payment {
 		this.method = method;
 		this.failureReason = failureReason;
 		this.cancelReason = cancelReason;
+		this.version = version;
 	}
 
 	public static Payment create(Long memberId, Long planId, String orderId,
@@ -58,6 +60,7 @@ public class Payment {
 			PayStatus.READY,
 			method,
 			null,
+			null,
 			null
 		);
 	}
@@ -70,7 +73,8 @@ public class Payment {
 			paymentId, memberId, planId, orderId,
 			paymentKey, billingKey, customerKey,
 			totalAmount, nextStatus, method,
-			this.failureReason, this.cancelReason
+			this.failureReason, this.cancelReason,
+			version
 		);
 	}
 
@@ -84,7 +88,8 @@ public class Payment {
 			paymentId, memberId, planId, orderId,
 			paymentKey, billingKey, customerKey,
 			totalAmount, PayStatus.CANCEL_REQUESTED, method,
-			failureReason, reason
+			failureReason, reason,
+			version
 		);
 	}
 
@@ -97,7 +102,8 @@ public class Payment {
 			paymentId, memberId, planId, orderId,
 			paymentKey, billingKey, customerKey,
 			totalAmount, PayStatus.CANCELLED, method,
-			failureReason, this.cancelReason
+			failureReason, this.cancelReason,
+			version
 		);
 	}
 
@@ -109,7 +115,8 @@ public class Payment {
 			paymentId, memberId, planId, orderId,
 			paymentKey, billingKey, customerKey,
 			totalAmount, PayStatus.AUTO_BILLING_READY,
-			method, failureReason, cancelReason
+			method, failureReason, cancelReason,
+			version
 		);
 	}
 
@@ -126,7 +133,8 @@ public class Payment {
 			paymentKey,
 			billingKey, customerKey,
 			totalAmount, AUTO_BILLING_APPROVED,
-			method, failureReason, cancelReason
+			method, failureReason, cancelReason,
+			version
 		);
 	}
 
@@ -138,15 +146,15 @@ public class Payment {
 			paymentId, memberId, planId, orderId,
 			paymentKey, billingKey, customerKey,
 			totalAmount, PayStatus.AUTO_BILLING_FAILED,
-			method, reason, cancelReason
+			method, reason, cancelReason,
+			version
 		);
 	}
 
 
-    /** 자동결제 중단 -> 빌링 키 제거 */
+    /** 자동결제 중단 -> 빌링 키 제거 (APPROVED 는 이번 달 승인은 두고 다음 달 리셋 대신 해지) */
 	public Payment clearBillingKey() {
-		if (!EnumSet.of(PayStatus.AUTO_BILLING_READY, PayStatus.AUTO_BILLING_IN_PROGRESS, PayStatus.AUTO_BILLING_FAILED)
-			.contains(this.payStatus)) {
+		if (!this.payStatus.canTransitionTo(ABORTED)) {
 			throw PaymentDomainException.invalidStatusTransition(this.payStatus, PayStatus.ABORTED);
 		}
 		// 2) 빌링키 제거 + 상태 전이
@@ -162,12 +170,13 @@ public class Payment {
 			PayStatus.ABORTED,
 			this.method,
 			null,
-			this.cancelReason
+			this.cancelReason,
+			version
 		);
 	}
 
 	/**
-	 * 자동결제 준비 상태에서 자동결제 진행 중으로 전이
+	 * 자동결제 준비(또는 승인 거절 후 재시도) 상태에서 자동결제 진행 중으로 전이
 	 */
 	public Payment startAutoBilling() {
 		if (!this.payStatus.canTransitionTo(PayStatus.AUTO_BILLING_IN_PROGRESS)) {
@@ -177,7 +186,8 @@ public class Payment {
 			paymentId, memberId, planId, orderId,
 			paymentKey, billingKey, customerKey,
 			totalAmount, PayStatus.AUTO_BILLING_IN_PROGRESS,
-			method, failureReason, cancelReason
+			method, failureReason, cancelReason,
+			version
 		);
 	}
 
@@ -187,7 +197,8 @@ public class Payment {
 			paymentId, memberId, planId, orderId,
 			paymentKey, billingKey, customerKey,
 			totalAmount, PayStatus.CANCELLED,
-			method, failureReason, reason
+			method, failureReason, reason,
+			version
 		);
 	}
 
@@ -209,7 +220,8 @@ public class Payment {
 			AUTO_BILLING_READY,   // 다시 준비 상태
 			method,
 			null,                 // 실패 사유 초기화
-			null                  // 취소 사유 초기화
+			null,                 // 취소 사유 초기화
+			version
 		);
 	}
 
@@ -240,7 +252,8 @@ public class Payment {
 			DONE,
 			this.method,
 			null,
-			null
+			null,
+			version
 		);
 	}
 
@@ -261,7 +274,8 @@ public class Payment {
 			ABORTED,
 			this.method,
 			null,
-			this.cancelReason
+			this.cancelReason,
+			version
 		);
 	}
 
@@ -271,7 +285,21 @@ public class Payment {
 		String paymentKey, String billingKey, String customerKey,
 		Long totalAmount, PayStatus payStatus, String method,
 		FailureReason failureReason, CancelReason cancelReason) {
+		return of(paymentId, memberId, planId, orderId, paymentKey, billingKey,
+			customerKey, totalAmount, payStatus, method, failureReason, cancelReason, null);
+	}
+
+	public static Payment of(Long paymentId, Long memberId, Long planId, String orderId,
+		String paymentKey, String billingKey, String customerKey,
+		Long totalAmount, PayStatus payStatus, String method,
+		FailureReason failureReason, CancelReason cancelReason, Long version) {
+		return new Payment(paymentId, memberId, planId, orderId, paymentKey, billingKey,
+			customerKey, totalAmount, payStatus, method, failureReason, cancelReason, version);
+	}
+
+	/** 버전 조건부 갱신이 반영된 뒤 DB 와 같은 버전으로 맞춤 */
+	public Payment withVersion(Long version) {
 		return new Payment(paymentId, memberId, planId, orderId, paymentKey, billingKey,
-			customerKey, totalAmount, payStatus, method, failureReason, cancelReason);
+			customerKey, totalAmount, payStatus, method, failureReason, cancelReason, version);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.grow.payment_service.payment.domain.model;
+
+import java.time.LocalDateTime;
+
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+
+import lombok.Getter;
+
+/**
+ * 사가 진행 기록 한 줄 (추가 전용, 수정·삭제 없음)
+ * - 같은 주문·작업의 마지막 기록이 진행 중 단계면 재기동 시 SagaRecoveryRunner 가 이어서 처리
+ * - 복구에 필요한 최소 정보(paymentKey, 금액, detail)만 함께 남김
+ *   detail 은 취소면 취소 사유, 승인/자동결제면 멱등키 (복구 시 결과에 따라 완료/해제)
+ */
+@Getter
+public class SagaLogEntry {
+
+	private final Long logId;
+	private final String orderId;
+	private final SagaOperation operation;
+	private final SagaStep step;
+	private final int attempt;
+	private final String paymentKey;
+	private final int amount;
+	private final String detail;
+	private final LocalDateTime loggedAt;
+
+	public SagaLogEntry(Long logId, String orderId, SagaOperation operation, SagaStep step, int attempt,
+		String paymentKey, int amount, String detail, LocalDateTime loggedAt) {
+		this.logId = logId;
+		this.orderId = orderId;
+		this.operation = operation;
+		this.step = step;
+		this.attempt = attempt;
+		this.paymentKey = paymentKey;
+		this.amount = amount;
+		this.detail = detail;
+		this.loggedAt = loggedAt;
+	}
+
+	public static SagaLogEntry create(String orderId, SagaOperation operation, SagaStep step, int attempt,
+		String paymentKey, int amount, String detail) {
+		return new SagaLogEntry(null, orderId, operation, step, attempt, paymentKey, amount, detail,
+			LocalDateTime.now());
+	}
+
+	public static SagaLogEntry of(Long logId, String orderId, SagaOperation operation, SagaStep step, int attempt,
+		String paymentKey, int amount, String detail, LocalDateTime loggedAt) {
+		return new SagaLogEntry(logId, orderId, operation, step, attempt, paymentKey, amount, detail, loggedAt);
+	}
+
+	/** 같은 사가의 다음 단계 (복구 시 attempt 를 올려 기록) */
+	public SagaLogEntry next(SagaStep nextStep, int nextAttempt, String nextDetail) {
+		return create(orderId, operation, nextStep, nextAttempt, paymentKey, amount, nextDetail);
+	}
+}
@@ -0,0 +1,6 @@
+package com.grow.payment_service.payment.domain.model.enums;
+
+/** 비동기 보상 작업 종류: 토스 승인 후 DB 반영에 실패한 흐름 */
+public enum CompensationType {
+	APPROVAL, AUTO_CHARGE
+}
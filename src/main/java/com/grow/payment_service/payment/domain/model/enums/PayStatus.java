@@ -80,13 +80,17 @@ public enum PayStatus {
 				AUTO_BILLING_FAILED,
 				ABORTED
 			)),
-			// AUTO_BILLING_APPROVED → 다음 달 READY로 리셋
+			// AUTO_BILLING_APPROVED → 다음 달 READY로 리셋, 취소 요청, 또는 구독 해지 예약(빌링키 제거 후 중단)
 			entry(AUTO_BILLING_APPROVED, EnumSet.of(
 				CANCEL_REQUESTED,
-				AUTO_BILLING_READY
+				AUTO_BILLING_READY,
+				ABORTED
+			)),
+			// 자동결제 승인 거절 -> 배치 재시도(진행 중) or 재시도 한계 도달 시 중단
+			entry(AUTO_BILLING_FAILED,   EnumSet.of(
+				AUTO_BILLING_IN_PROGRESS,
+				ABORTED
 			)),
-			// 자동결제 승인/실패 이후 -> 종료
-			entry(AUTO_BILLING_FAILED,   EnumSet.of(ABORTED)),
 			// 예외·종료 상태들 -> 더 이상의 전이 불가
 			entry(ABORTED, EnumSet.noneOf(PayStatus.class)),
 			entry(EXPIRED, EnumSet.noneOf(PayStatus.class)),
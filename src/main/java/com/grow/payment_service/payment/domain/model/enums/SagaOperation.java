@@ -0,0 +1,5 @@
+package com.grow.payment_service.payment.domain.model.enums;
+
+public enum SagaOperation {
+	CONFIRM, AUTO_CHARGE, CANCEL
+}
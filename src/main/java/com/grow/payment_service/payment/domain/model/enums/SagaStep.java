@@ -0,0 +1,21 @@
+package com.grow.payment_service.payment.domain.model.enums;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum SagaStep {
+
+	// 사가 시작 (토스 호출 전)
+	STARTED,
+	// 토스 처리 완료, 아직 DB 반영 전
+	GATEWAY_DONE,
+
+	// 종료 상태: 여기까지 기록된 사가는 복구 대상이 아님
+	COMPLETED,
+	FAILED,
+	// 토스 처리 여부를 알 수 없어 대사로 넘김
+	UNRESOLVED;
+
+	/** 마지막 기록이 이 단계면 진행 중(복구 대상) */
+	public static final Set<SagaStep> OPEN = EnumSet.of(STARTED, GATEWAY_DONE);
+}
@@ -0,0 +1,21 @@
+package com.grow.payment_service.payment.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.grow.payment_service.payment.domain.model.CompensationTask;
+
+public interface CompensationTaskRepository {
+	CompensationTask save(CompensationTask task);
+	boolean existsByOrderIdAndPaymentKey(String orderId, String paymentKey);
+	/** 재시도 시각이 지난 PENDING 작업 (오래 기다린 순) */
+	List<CompensationTask> findDue(LocalDateTime now, int limit);
+	/**
+	 * 처리권 획득: 아직 PENDING 이고 기한이 지난 작업만 leaseUntil 까지 다음 시도를 미룸
+	 * 여러 인스턴스가 같은 작업을 동시에 집어도 한 곳만 true
+	 */
+	boolean claim(Long taskId, LocalDateTime now, LocalDateTime leaseUntil);
+	long countPending();
+	Optional<LocalDateTime> findOldestPendingCreatedAt();
+}
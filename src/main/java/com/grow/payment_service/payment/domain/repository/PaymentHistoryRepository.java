@@ -1,5 +1,7 @@
 package com.grow.payment_service.payment.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,11 +10,21 @@ import com.grow.payment_service.payment.domain.model.enums.PayStatus;
 
 public interface PaymentHistoryRepository {
 	PaymentHistory save(PaymentHistory paymentHistory);
+	/** 이력 일괄 저장 (배치 INSERT, 생성된 ID 는 돌려주지 않음) */
+	void saveAll(List<PaymentHistory> histories);
 	List<PaymentHistory> findByPaymentId(Long paymentId);
+	/** 여러 결제의 이력을 한 번에 조회 (목록 조회 N+1 방지) */
+	List<PaymentHistory> findByPaymentIdIn(Collection<Long> paymentIds);
 
 	// paymentId별로, 주어진 상태 목록에 해당하는 마지막 이력을 changedAt 기준 내림차순 정렬하여 한 건만 반환
 	Optional<PaymentHistory> findLastByPaymentIdAndStatuses(
 		Long paymentId,
 		List<PayStatus> statuses
 	);
+
+	/**
+	 * changedAt 이 cutoff 이전인 이력을 ID 순으로 최대 limit 건 보관 테이블로 옮김 (한 트랜잭션)
+	 * 옮긴 건수 반환, 0 이면 더 옮길 이력 없음. 옮긴 이력도 위 조회 메서드로 계속 조회됨
+	 */
+	int archiveBefore(LocalDateTime cutoff, int limit);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.grow.payment_service.payment.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
@@ -13,6 +15,33 @@ public interface PaymentRepository {
 	List<Payment> findAllByMemberId(Long memberId);
 	/** 빌링키 준비 완료된 건(월간 자동청구 대상) 조회 */
 	List<Payment> findAllByPayStatusAndBillingKeyIsNotNull(PayStatus payStatus);
-	/** PESSIMISTIC_WRITE 락 모드로 조회 */
-	Optional<Payment> findByOrderIdForUpdate(String orderId);
+	/**
+	 * 낙관적 락 갱신: payment.version 이 DB 의 현재 버전과 같을 때만 전이 결과를 반영 (락 없이 UPDATE 1회)
+	 * 반영되면 버전이 올라간 결제, 다른 요청이 먼저 바꿨으면 empty
+	 */
+	Optional<Payment> updateIfVersionMatches(Payment payment);
+	/**
+	 * 단순 전이용 상태 CAS: 현재 상태가 from 일 때만 to 로 바꾸는 UPDATE 1회 (조회/락 없음)
+	 * from → to 가 PayStatus 전이 표에 없으면 PaymentDomainException, 반영된 행 수(0 또는 1) 반환
+	 */
+	int transitionIfStatus(String orderId, PayStatus from, PayStatus to);
+	/**
+	 * transitionIfStatus 의 다건 버전: paymentIds 중 현재 상태가 from 인 것만 to 로 (UPDATE 1회)
+	 * 반영된 행 수 반환, 조회 후 다른 요청이 먼저 바꾼 건은 제외됨
+	 */
+	int transitionAllIfStatus(Collection<Long> paymentIds, PayStatus from, PayStatus to);
+	/** 상태가 status 이고 주문번호가 beforeOrderId 미만인 결제 ID 를 orderId 오름차순으로 최대 limit 건 */
+	List<Long> findIdsByStatusOrderedBefore(PayStatus status, String beforeOrderId, int limit);
+	/** paymentIds 중 현재 상태가 status 인 결제 ID */
+	List<Long> findIdsInStatus(Collection<Long> paymentIds, PayStatus status);
+	/**
+	 * 빌링키 제거 CAS: 현재 상태가 from 중 하나일 때만 빌링키/실패 사유를 지우고 ABORTED 로
+	 * from 은 모두 ABORTED 로 전이 가능한 상태여야 함, 반영된 행 수 반환
+	 */
+	int clearBillingKeyIfStatus(Long paymentId, Set<PayStatus> from);
+	/**
+	 * 대사용 키셋 페이지: orderId 오름차순으로 afterOrderId 다음부터 최대 limit 건 (beforeOrderId 미만)
+	 * offset 없이 마지막 orderId 로 이어 읽으므로 테이블 크기와 무관하게 페이지당 비용 일정
+	 */
+	List<Payment> findReconcilePage(Collection<PayStatus> statuses, String afterOrderId, String beforeOrderId, int limit);
 }
\ No newline at end of file
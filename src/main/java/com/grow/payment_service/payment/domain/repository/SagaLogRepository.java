@@ -0,0 +1,13 @@
+package com.grow.payment_service.payment.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+
+public interface SagaLogRepository {
+	/** 한 번의 배치 INSERT 로 추가 (수정·삭제 없음) */
+	void appendAll(List<SagaLogEntry> entries);
+	/** 주문·작업별 마지막 기록이 진행 중 단계이고 [from, to] 사이에 남은 사가 */
+	List<SagaLogEntry> findOpen(LocalDateTime from, LocalDateTime to);
+}
@@ -1,5 +1,10 @@
 package com.grow.payment_service.payment.domain.service;
 
+import java.time.ZoneId;
+
 public interface OrderIdGenerator {
+	/** orderId 앞 8자리(yyyyMMdd) 주문일 기준 시간대, 주문일로 비교하는 곳은 모두 이 시간대 사용 */
+	ZoneId ORDER_DATE_ZONE = ZoneId.of("Asia/Seoul");
+
 	String generate(Long memberId);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.grow.payment_service.payment.domain.service;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingAuthResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossCancelResponse;
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossPaymentResponse;
 
 /**
  * 결제 게이트웨이 포트 인터페이스
@@ -30,4 +31,7 @@ public interface PaymentGatewayPort {
 		int taxFreeAmount,
 		int taxExemptionAmount
 	);
-}
\ No newline at end of file
+
+	/** 주문번호로 결제 상태 조회(토스), 대사 전용 */
+	TossPaymentResponse getPaymentByOrderId(String orderId);
+}
@@ -0,0 +1,96 @@
+package com.grow.payment_service.payment.expiry;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.application.service.PaymentBatchService;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방치된 READY 주문 일괄 만료
+ * - initPaymentData 로 만들어진 뒤 결제창을 떠나 READY 로 남은 주문을 ABORTED 로 정리 (payment 핫 테이블 축소)
+ * - 주문일(orderId 앞 8자리 yyyyMMdd)이 기준일 이전인 READY 주문을 chunk-size 건씩 처리
+ * - 묶음마다 ID 조회 → 별도 트랜잭션에서 일괄 UPDATE + 이력 배치 INSERT (PaymentBatchService.expireReadyOrders)
+ * - 만료된 행은 READY 조건에서 빠지므로 커서 없이 매번 앞에서부터 다시 조회
+ * - 메트릭: payment_ready_expiry_rows_total{result}(처리량), payment_ready_expiry_chunk_rows(묶음당 반영 행 수),
+ *   payment_ready_expiry_chunk_duration(묶음당 소요 시간)
+ */
+@Slf4j
+@Service
+public class ReadyOrderExpirySweeper {
+
+	static final String ROWS = "payment_ready_expiry_rows_total";
+	static final String CHUNK_ROWS = "payment_ready_expiry_chunk_rows";
+	static final String CHUNK_DURATION = "payment_ready_expiry_chunk_duration";
+
+	private static final DateTimeFormatter ORDER_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private final PaymentRepository paymentRepository;
+	private final PaymentBatchService batchService;
+	private final PaymentMetrics metrics;
+	private final DistributionSummary chunkRows;
+	private final Timer chunkDuration;
+	private final int chunkSize;
+
+	public ReadyOrderExpirySweeper(
+		PaymentRepository paymentRepository,
+		PaymentBatchService batchService,
+		PaymentMetrics metrics,
+		MeterRegistry registry,
+		@Value("${app.ready-expiry.chunk-size:500}") int chunkSize
+	) {
+		this.paymentRepository = paymentRepository;
+		this.batchService = batchService;
+		this.metrics = metrics;
+		this.chunkRows = DistributionSummary.builder(CHUNK_ROWS).register(registry);
+		this.chunkDuration = Timer.builder(CHUNK_DURATION).register(registry);
+		this.chunkSize = chunkSize;
+	}
+
+	/** orderedBefore 이전 주문일(OrderIdGenerator.ORDER_DATE_ZONE 기준)의 READY 주문을 만료, 만료된 건수 반환 */
+	public int sweep(LocalDate orderedBefore) {
+		String beforeOrderId = orderedBefore.format(ORDER_DATE);
+		long startNanos = System.nanoTime();
+		int scanned = 0;
+		int expired = 0;
+
+		while (true) {
+			List<Long> ids = paymentRepository.findIdsByStatusOrderedBefore(PayStatus.READY, beforeOrderId, chunkSize);
+			if (ids.isEmpty()) {
+				break;
+			}
+			long chunkStart = System.nanoTime();
+			int n = batchService.expireReadyOrders(ids);
+			chunkDuration.record(System.nanoTime() - chunkStart, TimeUnit.NANOSECONDS);
+			chunkRows.record(n);
+			metrics.result(ROWS, n, "result", "expired");
+			if (n < ids.size()) {
+				// 조회 후 승인/사용자 만료 등으로 먼저 전이된 건
+				metrics.result(ROWS, ids.size() - n, "result", "skipped");
+			}
+			scanned += ids.size();
+			expired += n;
+			// 마지막 묶음이거나, 한 건도 반영되지 않았으면 같은 묶음을 반복 조회하지 않도록 종료
+			if (ids.size() < chunkSize || n == 0) {
+				break;
+			}
+		}
+
+		long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+		log.info("[주문 만료] 완료: before={}, scanned={}, expired={}, elapsedMs={}, rowsPerSec={}",
+			beforeOrderId, scanned, expired, elapsedMs, elapsedMs == 0 ? expired : expired * 1000L / elapsedMs);
+		return expired;
+	}
+}
@@ -7,6 +7,8 @@ import org.quartz.*;
 import org.quartz.listeners.JobListenerSupport;
 import org.springframework.stereotype.Component;
 
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.PaymentApplicationException;
 import com.grow.payment_service.payment.application.service.PaymentBatchService;
 import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
 import com.grow.payment_service.subscription.application.service.SubscriptionHistoryApplicationService;
@@ -18,6 +20,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AutoChargeJobListener extends JobListenerSupport {
 
 	public static final String LISTENER_NAME = "AutoChargeListener";
+	// 레인 혼잡 시 다시 실행까지 대기 (분), 같은 시각에 다시 몰리지 않도록 0~같은 값만큼 지터 추가
+	static final int LANE_BUSY_DELAY_MIN = 5;
 
 	private final PaymentBatchService paymentBatchService;
 	private final SubscriptionHistoryApplicationService subscriptionService;
@@ -38,6 +42,7 @@ public class AutoChargeJobListener extends JobListenerSupport {
 	/**
 	 * PaymentAutoChargeJob 실행 후 호출
 	 * - 성공: retryCount 초기화 + JobDetail 삭제
+	 * - 레인 혼잡(LANE_BUSY): 결제 시도 전에 거절된 것이므로 retryCount 그대로 두고 몇 분 뒤 다시 실행
 	 * - 실패: retryCount < maxRetry -> 지수 백오프 재시도
 	 *         retryCount ≥ maxRetry -> 영구 실패 처리 + JobDetail 삭제
 	 */
@@ -61,6 +66,14 @@ public class AutoChargeJobListener extends JobListenerSupport {
 			return;
 		}
 
+		if (laneBusy(jobEx)) {
+			int delayMin = LANE_BUSY_DELAY_MIN + ThreadLocalRandom.current().nextInt(0, LANE_BUSY_DELAY_MIN + 1);
+			log.warn("[자동결제] {} 배치 레인 혼잡, 재시도 횟수 유지하고 {}분 뒤 다시 실행 (retryCount={}/{})",
+				key, delayMin, retryCount, maxRetry);
+			reschedule(scheduler, key, data, delayMin);
+			return;
+		}
+
 		// 실패 시 재시도 카운트 증가
 		retryCount++;
 		data.put("retryCount", retryCount);
@@ -75,17 +88,8 @@ public class AutoChargeJobListener extends JobListenerSupport {
 			int jitter       = ThreadLocalRandom.current().nextInt(0, baseDelayMin);
 			int actualDelay  = Math.max(1, delayMin - jitter);
 
-			Trigger retryTrigger = TriggerBuilder.newTrigger()
-				.forJob(key)
-				.usingJobData(data)
-				.startAt(DateBuilder.futureDate(actualDelay, DateBuilder.IntervalUnit.MINUTE))
-				.build();
-
-			try {
-				scheduler.scheduleJob(retryTrigger);
+			if (reschedule(scheduler, key, data, actualDelay)) {
 				log.warn("[자동결제] 재시도 예약 (count={}, delay={}분)", retryCount, actualDelay);
-			} catch (SchedulerException e) {
-				log.error("[자동결제] 재시도 Trigger 등록 실패", e);
 			}
 		} else {
 			// 재시도 한계 도달
@@ -115,4 +119,32 @@ public class AutoChargeJobListener extends JobListenerSupport {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	private boolean reschedule(Scheduler scheduler, JobKey key, JobDataMap data, int delayMin) {
+		Trigger retryTrigger = TriggerBuilder.newTrigger()
+			.forJob(key)
+			.usingJobData(data)
+			.startAt(DateBuilder.futureDate(delayMin, DateBuilder.IntervalUnit.MINUTE))
+			.build();
+		try {
+			scheduler.scheduleJob(retryTrigger);
+			return true;
+		} catch (SchedulerException e) {
+			log.error("[자동결제] 재시도 Trigger 등록 실패", e);
+			return false;
+		}
+	}
+
+	/**
+	 * Quartz 는 Job 이 던진 예외를 JobExecutionException 으로 감싸므로 원인 체인에서 확인
+	 * 처음 만나는 PaymentApplicationException 만 봄 (자동결제 실패로 감싼 안쪽 LANE_BUSY 는 결제 시도 후일 수 있음)
+	 */
+	static boolean laneBusy(Throwable t) {
+		for (Throwable cur = t; cur != null; cur = cur.getCause()) {
+			if (cur instanceof PaymentApplicationException e) {
+				return e.getErrorCode() == ErrorCode.LANE_BUSY;
+			}
+		}
+		return false;
+	}
+}
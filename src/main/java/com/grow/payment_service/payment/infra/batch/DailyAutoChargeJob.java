@@ -1,7 +1,13 @@
 package com.grow.payment_service.payment.infra.batch;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.quartz.Job;
 import org.quartz.JobBuilder;
@@ -9,15 +15,16 @@ import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
 import org.springframework.stereotype.Component;
 
+import com.grow.payment_service.global.tracing.QuartzTracing;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
 import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
 import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,31 +36,41 @@ public class DailyAutoChargeJob implements Job {
 	private final PaymentRepository paymentRepository;
 	private final PaymentHistoryRepository historyRepository;
 	private final Scheduler scheduler;
+	private final RedisIdempotencyAdapter idempotencyAdapter;
+	private final QuartzTracing quartzTracing;
 
 	public DailyAutoChargeJob(
 		PaymentRepository paymentRepository,
 		PaymentHistoryRepository historyRepository,
-		Scheduler scheduler
+		Scheduler scheduler,
+		RedisIdempotencyAdapter idempotencyAdapter,
+		QuartzTracing quartzTracing
 	) {
 		this.paymentRepository   = paymentRepository;
 		this.historyRepository   = historyRepository;
 		this.scheduler           = scheduler;
+		this.idempotencyAdapter  = idempotencyAdapter;
+		this.quartzTracing       = quartzTracing;
 	}
 
 	/**
 	 * 매일 0시에 실행
 	 * 1. AUTO_BILLING_READY 결제 조회
 	 * 2. 변경 이력 기준으로 오늘 결제일인 건만 필터
-	 * 3. 개별 PaymentAutoChargeJob 스케줄링
+	 * 3. 이번 달 디스패치 키를 파이프라인으로 일괄 예약 -> 새로 예약된 건만 남김
+	 * 4. 개별 PaymentAutoChargeJob 스케줄링
 	 */
 	@Override
 	public void execute(JobExecutionContext ctx) throws JobExecutionException {
 		log.info("[스케줄러] DailyAutoChargeJob 시작");
 		LocalDate today = LocalDate.now();
+		String billingMonth = YearMonth.from(today).format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
 		List<Payment> dueList = paymentRepository
 			.findAllByPayStatusAndBillingKeyIsNotNull(PayStatus.AUTO_BILLING_READY);
 
+		// 디스패치 키 -> 결제 (입력 순서 유지)
+		Map<String, Payment> dueByKey = new LinkedHashMap<>();
 		for (Payment p : dueList) {
 			try {
 				boolean isDue = historyRepository
@@ -63,8 +80,26 @@ public class DailyAutoChargeJob implements Job {
 					)
 					.filter(h -> h.getChangedAt().toLocalDate().plusMonths(1).equals(today))
 					.isPresent();
-				if (!isDue) continue;
+				if (isDue) {
+					dueByKey.put(dispatchKey(p, billingMonth), p);
+				}
+			} catch (Exception e) {
+				log.error("[스케줄러] DailyAutoChargeJob 처리 중 예외: paymentId={}", p.getPaymentId(), e);
+			}
+		}
+
+		if (dueByKey.isEmpty()) {
+			log.info("[스케줄러] DailyAutoChargeJob 완료: 대상 없음");
+			return;
+		}
+
+		// 한 번의 라운드트립으로 예약, 이미 다른 인스턴스/이전 실행이 가져간 건은 제외
+		Set<String> winners = idempotencyAdapter.reserveAll(new ArrayList<>(dueByKey.keySet()));
+		log.info("[스케줄러] 디스패치 예약 완료: due={}, reserved={}", dueByKey.size(), winners.size());
 
+		for (String dispatchKey : winners) {
+			Payment p = dueByKey.get(dispatchKey);
+			try {
 				String jobKey     = "autoChargeJob_" + p.getPaymentId();
 				String triggerKey = "autoChargeTrig_" + p.getPaymentId();
 
@@ -88,16 +123,24 @@ public class DailyAutoChargeJob implements Job {
 				if (scheduler.checkExists(job.getKey())) {
 					scheduler.deleteJob(job.getKey());
 				}
+				// 개별 Job 스팬이 이 배치 트레이스에 이어지도록 추적 헤더 기록
+				quartzTracing.inject(job);
 				scheduler.scheduleJob(job, trigger);
 				log.info("[스케줄러] 개별 Job 스케줄 완료: paymentId={}", p.getPaymentId());
 
-			} catch (SchedulerException e) {
-				log.error("[스케줄러] Job 스케줄 중 오류: paymentId={}", p.getPaymentId(), e);
 			} catch (Exception e) {
-				log.error("[스케줄러] DailyAutoChargeJob 처리 중 예외: paymentId={}", p.getPaymentId(), e);
+				// 스케줄 실패(Quartz 오류, 추적 헤더 기록/Job 생성 중 예외 등) 시 예약 해제 -> 다음 실행에서 다시 디스패치 가능
+				// 해제하지 않으면 이번 달 키가 TTL 동안 남아 이 결제는 이번 달 청구에서 빠짐
+				idempotencyAdapter.invalidate(dispatchKey);
+				log.error("[스케줄러] Job 스케줄 중 오류, 디스패치 예약 해제: paymentId={}", p.getPaymentId(), e);
 			}
 		}
 
 		log.info("[스케줄러] DailyAutoChargeJob 완료");
 	}
-}
\ No newline at end of file
+
+	/** 결제 건 + 청구 월 단위 디스패치 키 */
+	private static String dispatchKey(Payment p, String billingMonth) {
+		return "autoCharge:dispatch:" + p.getOrderId() + ":" + billingMonth;
+	}
+}
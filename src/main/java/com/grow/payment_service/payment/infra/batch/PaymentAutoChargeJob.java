@@ -5,6 +5,8 @@ import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.stereotype.Component;
 
+import com.grow.payment_service.global.lane.LaneGate;
+import com.grow.payment_service.global.lane.TrafficLane;
 import com.grow.payment_service.payment.application.service.PaymentBatchService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -15,14 +17,17 @@ public class PaymentAutoChargeJob implements Job {
 
 	public static final String KEY_PAYMENT_ID = "paymentId";
 	private final PaymentBatchService paymentBatchService;
+	private final LaneGate laneGate;
 
-	public PaymentAutoChargeJob(PaymentBatchService paymentBatchService) {
+	public PaymentAutoChargeJob(PaymentBatchService paymentBatchService, LaneGate laneGate) {
 		this.paymentBatchService = paymentBatchService;
+		this.laneGate = laneGate;
 	}
 
 	/**
 	 * 개별 결제 자동결제 실행
 	 * - paymentId 하나만 처리
+	 * - BATCH 레인에서 실행: 배치 동시 실행 상한/처리량 예산 안에서만 실행, 자리를 못 얻으면 LANE_BUSY
 	 */
 	@Override
 	public void execute(JobExecutionContext ctx) throws JobExecutionException {
@@ -30,7 +35,7 @@ public class PaymentAutoChargeJob implements Job {
 			.getJobDataMap()
 			.getLong(KEY_PAYMENT_ID);
 		log.info("[자동결제 Job 시작] paymentId={}", paymentId);
-		paymentBatchService.processSingleAutoCharge(paymentId);
+		laneGate.run(TrafficLane.BATCH, () -> paymentBatchService.processSingleAutoCharge(paymentId));
 		log.info("[자동결제 Job 완료] paymentId={}", paymentId);
 	}
 }
\ No newline at end of file
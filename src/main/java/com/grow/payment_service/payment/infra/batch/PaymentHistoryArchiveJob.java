@@ -0,0 +1,46 @@
+package com.grow.payment_service.payment.infra.batch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.payment.archive.PaymentHistoryArchiver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매일 새벽 결제 이력 보관
+ * - 오늘 0시 기준 after-days 일 이전 이력을 보관 테이블로 이동
+ * - 자동결제 결제일 계산은 최근 한 달 이력만 보므로 기본 90일이면 hot 테이블만으로 충분
+ */
+@Slf4j
+@Component
+public class PaymentHistoryArchiveJob implements Job {
+
+	private final PaymentHistoryArchiver archiver;
+	private final int afterDays;
+
+	public PaymentHistoryArchiveJob(
+		PaymentHistoryArchiver archiver,
+		@Value("${app.history-archive.after-days:90}") int afterDays
+	) {
+		this.archiver = archiver;
+		this.afterDays = afterDays;
+	}
+
+	@Override
+	public void execute(JobExecutionContext ctx) throws JobExecutionException {
+		LocalDateTime cutoff = LocalDate.now().minusDays(afterDays).atStartOfDay();
+		try {
+			long archived = archiver.archive(cutoff);
+			log.info("[스케줄러] PaymentHistoryArchiveJob 완료: cutoff={}, archived={}", cutoff, archived);
+		} catch (Exception e) {
+			throw new JobExecutionException("결제 이력 보관 실패", e);
+		}
+	}
+}
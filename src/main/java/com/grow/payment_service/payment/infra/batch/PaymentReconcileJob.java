@@ -0,0 +1,62 @@
+package com.grow.payment_service.payment.infra.batch;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.quartz.Job;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.payment.reconcile.PaymentReconciler;
+import com.grow.payment_service.payment.reconcile.ReconcileReport;
+import com.grow.payment_service.payment.reconcile.ReconcileRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매일 새벽 결제 대사
+ * - 기본: 어제까지 window-days 일치 주문을 토스 조회 API 로 대사
+ *   범위는 orderId 의 주문일 기준이라 그 전에 시작한 구독의 자동결제 청구는 이 일일 대사에 잡히지 않음
+ *   (자동결제 불일치는 사가 복구/보상 작업이 1차로 처리, 전체 확인은 from 없이 수동 실행)
+ * - JobDataMap 에 exportFile 이 있으면 토스 내보내기 파일로 대사 (수동 실행용)
+ */
+@Slf4j
+@Component
+public class PaymentReconcileJob implements Job {
+
+	public static final String KEY_EXPORT_FILE = "exportFile";
+
+	private final PaymentReconciler reconciler;
+	private final int windowDays;
+	private final boolean autoRepair;
+
+	public PaymentReconcileJob(
+		PaymentReconciler reconciler,
+		@Value("${app.reconcile.window-days:2}") int windowDays,
+		@Value("${app.reconcile.auto-repair:false}") boolean autoRepair
+	) {
+		this.reconciler = reconciler;
+		this.windowDays = windowDays;
+		this.autoRepair = autoRepair;
+	}
+
+	@Override
+	public void execute(JobExecutionContext ctx) throws JobExecutionException {
+		LocalDate to = LocalDate.now().minusDays(1);
+		ReconcileRequest request = ReconcileRequest.window(to.minusDays(windowDays - 1L), to, autoRepair);
+		JobDataMap data = ctx.getMergedJobDataMap();
+		if (data.containsKey(KEY_EXPORT_FILE)) {
+			request = request.withExportFile(Path.of(data.getString(KEY_EXPORT_FILE)));
+		}
+		try {
+			ReconcileReport report = reconciler.reconcile(request);
+			log.info("[스케줄러] PaymentReconcileJob 완료: scanned={}, mismatched={}, report={}",
+				report.getScanned(), report.mismatched(), report.getFile());
+		} catch (Exception e) {
+			throw new JobExecutionException("결제 대사 실패", e);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.grow.payment_service.payment.infra.batch;
+
+import java.time.LocalDate;
+
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.payment.domain.service.OrderIdGenerator;
+import com.grow.payment_service.payment.expiry.ReadyOrderExpirySweeper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매일 새벽 방치된 READY 주문 일괄 만료
+ * - 주문일이 오늘로부터 after-days 일 이전인 READY 주문을 ABORTED 로 (orderId 날짜 기준이라 일 단위)
+ * - 오늘은 orderId 를 찍는 시간대(Asia/Seoul) 기준, 서버 시간대가 달라도 당일 주문을 만료하지 않도록
+ */
+@Slf4j
+@Component
+public class ReadyOrderExpiryJob implements Job {
+
+	private final ReadyOrderExpirySweeper sweeper;
+	private final int afterDays;
+
+	public ReadyOrderExpiryJob(
+		ReadyOrderExpirySweeper sweeper,
+		@Value("${app.ready-expiry.after-days:1}") int afterDays
+	) {
+		this.sweeper = sweeper;
+		this.afterDays = afterDays;
+	}
+
+	@Override
+	public void execute(JobExecutionContext ctx) throws JobExecutionException {
+		LocalDate orderedBefore = LocalDate.now(OrderIdGenerator.ORDER_DATE_ZONE).minusDays(afterDays);
+		try {
+			int expired = sweeper.sweep(orderedBefore);
+			log.info("[스케줄러] ReadyOrderExpiryJob 완료: orderedBefore={}, expired={}", orderedBefore, expired);
+		} catch (Exception e) {
+			throw new JobExecutionException("READY 주문 만료 실패", e);
+		}
+	}
+}
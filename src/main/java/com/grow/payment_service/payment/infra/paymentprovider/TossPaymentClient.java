@@ -1,5 +1,7 @@
 package com.grow.payment_service.payment.infra.paymentprovider;
 
+import java.time.Duration;
+
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingAuthResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossCancelResponse;
@@ -40,4 +42,10 @@ public interface TossPaymentClient {
 		Integer taxFreeAmount,
 		Integer taxExemptionAmount
 	);
-}
\ No newline at end of file
+
+	/** 주문번호로 결제 조회 (대사용) */
+	TossPaymentResponse getPaymentByOrderId(String orderId);
+
+	/** 토스 API 커넥션(TLS) 사전 수립 - 기동 워밍업용, 응답 상태는 무시 */
+	void warmUpConnection(Duration timeout);
+}
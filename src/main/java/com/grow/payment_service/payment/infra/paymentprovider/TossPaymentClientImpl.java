@@ -1,6 +1,7 @@
 package com.grow.payment_service.payment.infra.paymentprovider;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.grow.payment_service.global.exception.ErrorCode;
@@ -60,10 +62,8 @@ public class TossPaymentClientImpl implements TossPaymentClient {
 			))
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, resp ->
-				resp.bodyToMono(String.class)
-					.flatMap(body -> Mono.error(
-						new TossException(ErrorCode.TOSS_API_ERROR, new RuntimeException(body))
-					))
+				resp.createException()
+					.flatMap(ex -> Mono.error(new TossException(ErrorCode.TOSS_API_ERROR, ex)))
 			)
 			.bodyToMono(TossInitResponse.class)
 			.block();
@@ -86,10 +86,8 @@ public class TossPaymentClientImpl implements TossPaymentClient {
 			))
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, resp ->
-				resp.bodyToMono(String.class)
-					.flatMap(body -> Mono.error(
-						new TossException(ErrorCode.TOSS_API_ERROR, new RuntimeException(body))
-					))
+				resp.createException()
+					.flatMap(ex -> Mono.error(new TossException(ErrorCode.TOSS_API_ERROR, ex)))
 			)
 			.bodyToMono(TossPaymentResponse.class)
 			.block();
@@ -117,10 +115,8 @@ public class TossPaymentClientImpl implements TossPaymentClient {
 			))
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, resp ->
-				resp.bodyToMono(String.class)
-					.flatMap(body -> Mono.error(
-						new TossException(ErrorCode.TOSS_API_ERROR, new RuntimeException(body))
-					))
+				resp.createException()
+					.flatMap(ex -> Mono.error(new TossException(ErrorCode.TOSS_API_ERROR, ex)))
 			)
 			.bodyToMono(TossCancelResponse.class)
 			.block();
@@ -136,10 +132,8 @@ public class TossPaymentClientImpl implements TossPaymentClient {
 			.bodyValue(Map.of("authKey", authKey, "customerKey", customerKey))
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, resp ->
-				resp.bodyToMono(String.class)
-					.flatMap(body -> Mono.error(
-						new TossException(ErrorCode.TOSS_API_ERROR, new RuntimeException(body))
-					))
+				resp.createException()
+					.flatMap(ex -> Mono.error(new TossException(ErrorCode.TOSS_API_ERROR, ex)))
 			)
 			.bodyToMono(TossBillingAuthResponse.class)
 			.block();
@@ -177,15 +171,44 @@ public class TossPaymentClientImpl implements TossPaymentClient {
 			.bodyValue(body)
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, resp ->
-				resp.bodyToMono(String.class)
-					.flatMap(b -> Mono.error(
-						new TossException(ErrorCode.TOSS_API_ERROR, new RuntimeException(b))
-					))
+				resp.createException()
+					.flatMap(ex -> Mono.error(new TossException(ErrorCode.TOSS_API_ERROR, ex)))
 			)
 			.bodyToMono(TossBillingChargeResponse.class)
 			.block();
 	}
 
+	/** 주문번호로 결제 조회 */
+	@Override
+	public TossPaymentResponse getPaymentByOrderId(String orderId) {
+		return webClientBuilder
+			.baseUrl(baseUrl)
+			.defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + encodeKey(secretKey))
+			.build()
+			.get()
+			.uri("/payments/orders/{orderId}", orderId)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, resp ->
+				resp.createException()
+					.flatMap(ex -> Mono.error(new TossException(ErrorCode.TOSS_API_ERROR, ex)))
+			)
+			.bodyToMono(TossPaymentResponse.class)
+			.block();
+	}
+
+	/** 커넥션 사전 수립: HEAD 요청으로 DNS/TLS 핸드셰이크를 끝내고 풀에 반납 (인증 헤더 없음) */
+	@Override
+	public void warmUpConnection(Duration timeout) {
+		webClientBuilder
+			.baseUrl(baseUrl)
+			.build()
+			.head()
+			.uri("/")
+			.exchangeToMono(ClientResponse::releaseBody)
+			.timeout(timeout)
+			.block();
+	}
+
 	private static String encodeKey(String key) {
 		return Base64.getEncoder()
 			.encodeToString((key + ":").getBytes(StandardCharsets.UTF_8));
@@ -2,33 +2,47 @@ package com.grow.payment_service.payment.infra.paymentprovider.adapter;
 
 import org.springframework.stereotype.Component;
 
+import com.grow.payment_service.global.lane.TrafficLane;
 import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
 import com.grow.payment_service.payment.infra.paymentprovider.TossPaymentClient;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingAuthResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossCancelResponse;
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossPaymentResponse;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 토스 호출 어댑터
+ * - 연산별로 서킷 브레이커/벌크헤드/타임리미터 인스턴스를 분리 (TossCallGuard)
+ * - 호출 스레드의 레인(TrafficLane)으로 우선순위 결정: 배치가 몰려도 사용자 승인/취소 호출 자리는 남도록 함
+ */
 @Component
 @RequiredArgsConstructor
 public class PaymentGatewayAdapter implements PaymentGatewayPort {
 
+	static final String CONFIRM = "tossConfirm";
+	static final String CANCEL = "tossCancel";
+	static final String BILLING_ISSUE = "tossBillingIssue";
+	static final String BILLING_CHARGE = "tossBillingCharge";
+	static final String QUERY = "tossQuery";
+
 	private final TossPaymentClient tossClient;
+	private final TossCallGuard guard;
 
 	@Override
 	public void confirmPayment(String paymentKey, String orderId, int amount, String customerEmail, String customerName) {
-		tossClient.confirmPayment(paymentKey, orderId, amount);
+		guard.call(CONFIRM, TrafficLane.current(), () -> tossClient.confirmPayment(paymentKey, orderId, amount));
 	}
 
 	@Override
 	public TossCancelResponse cancelPayment(String paymentKey, String reason, int amount, String message) {
-		return tossClient.cancelPayment(paymentKey, reason, amount, message);
+		return guard.call(CANCEL, TrafficLane.current(), () -> tossClient.cancelPayment(paymentKey, reason, amount, message));
 	}
 
 	@Override
 	public TossBillingAuthResponse issueBillingKey(String authKey, String customerKey) {
-		return tossClient.issueBillingKey(authKey, customerKey);
+		return guard.call(BILLING_ISSUE, TrafficLane.current(), () -> tossClient.issueBillingKey(authKey, customerKey));
 	}
 
 	@Override
@@ -43,7 +57,7 @@ public class PaymentGatewayAdapter implements PaymentGatewayPort {
 		int taxFreeAmount,
 		int taxExemptionAmount
 	) {
-		return tossClient.chargeWithBillingKey(
+		return guard.call(BILLING_CHARGE, TrafficLane.current(), () -> tossClient.chargeWithBillingKey(
 			billingKey,
 			customerKey,
 			amount,
@@ -53,6 +67,12 @@ public class PaymentGatewayAdapter implements PaymentGatewayPort {
 			customerName,
 			taxFreeAmount,
 			taxExemptionAmount
-		);
+		));
+	}
+
+	/** 대사 배치 전용 조회라 호출 스레드와 무관하게 항상 BATCH 레인 (사용자 호출 자리를 잠식하지 않도록) */
+	@Override
+	public TossPaymentResponse getPaymentByOrderId(String orderId) {
+		return guard.call(QUERY, TrafficLane.BATCH, () -> tossClient.getPaymentByOrderId(orderId));
 	}
-}
\ No newline at end of file
+}
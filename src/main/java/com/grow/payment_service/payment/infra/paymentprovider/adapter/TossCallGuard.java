@@ -0,0 +1,100 @@
+package com.grow.payment_service.payment.infra.paymentprovider.adapter;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.global.lane.TrafficLane;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스 호출 보호막: 적응형 동시성 제한 → Bulkhead → CircuitBreaker → TimeLimiter 순으로 감싸 실행
+ * - 적응형 제한: 토스 지연/실패에 따라 허용 동시 호출 수를 조절, 배치보다 사용자 요청 우선 (TossConcurrencyLimiter)
+ * - Bulkhead: 연산별 동시 호출 수 제한, 초과 시 대기 없이 즉시 거절 (스레드 고갈 방지)
+ * - CircuitBreaker: 토스 장애(5xx/타임아웃) 비율이 높으면 열림 → 호출 없이 즉시 실패
+ * - TimeLimiter: 응답 지연 시 호출 스레드를 인터럽트하고 TOSS_TIMEOUT
+ * - 인스턴스 이름은 연산별(tossConfirm 등), 설정 기본값은 resilience4j-toss.properties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TossCallGuard {
+
+	static final String REJECTED = "toss_call_rejected_total";
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final BulkheadRegistry bulkheadRegistry;
+	private final TimeLimiterRegistry timeLimiterRegistry;
+	private final ExecutorService tossCallExecutor;
+	private final TossConcurrencyLimiter limiter;
+	private final PaymentMetrics metrics;
+	private final TossFailurePredicate failurePredicate = new TossFailurePredicate();
+
+	public <T> T call(String operation, TrafficLane lane, Supplier<T> call) {
+		TossConcurrencyLimiter.Permit permit = limiter.tryAcquire(lane);
+		if (permit == null) {
+			throw reject(operation, "concurrency_limit", ErrorCode.TOSS_UNAVAILABLE, null);
+		}
+
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(operation);
+		Bulkhead bulkhead = bulkheadRegistry.bulkhead(operation);
+		TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(operation);
+
+		Callable<T> timed = TimeLimiter.decorateFutureSupplier(timeLimiter, () -> tossCallExecutor.submit(call::get));
+		Callable<T> guarded = Bulkhead.decorateCallable(bulkhead, CircuitBreaker.decorateCallable(circuitBreaker, timed));
+		try {
+			T result = guarded.call();
+			permit.success();
+			return result;
+		} catch (CallNotPermittedException e) {
+			permit.ignore();
+			throw reject(operation, "circuit_open", ErrorCode.TOSS_UNAVAILABLE, e);
+		} catch (BulkheadFullException e) {
+			permit.ignore();
+			throw reject(operation, "bulkhead_full", ErrorCode.TOSS_UNAVAILABLE, e);
+		} catch (TimeoutException e) {
+			permit.dropped();
+			throw reject(operation, "timeout", ErrorCode.TOSS_TIMEOUT, e);
+		} catch (RuntimeException e) {
+			if (failurePredicate.test(e)) {
+				permit.dropped();
+			} else {
+				permit.success();
+			}
+			throw e;
+		} catch (InterruptedException e) {
+			permit.ignore();
+			Thread.currentThread().interrupt();
+			throw new TossException(ErrorCode.TOSS_API_ERROR, e);
+		} catch (Exception e) {
+			permit.dropped();
+			throw new TossException(ErrorCode.TOSS_API_ERROR, e);
+		} finally {
+			// 위에서 반납되지 않은 경우(Error 등)만 실제 반납됨, 이미 반납했으면 무시
+			permit.dropped();
+		}
+	}
+
+	/** 즉시 실패 응답 + 사유별 카운터 */
+	private TossException reject(String operation, String reason, ErrorCode code, Exception cause) {
+		metrics.result(REJECTED, "operation", operation, "reason", reason);
+		log.warn("[토스 호출 차단] operation={}, reason={}", operation, reason);
+		return cause == null ? new TossException(code) : new TossException(code, cause);
+	}
+}
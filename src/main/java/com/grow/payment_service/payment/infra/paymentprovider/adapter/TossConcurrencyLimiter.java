@@ -0,0 +1,162 @@
+package com.grow.payment_service.payment.infra.paymentprovider.adapter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.global.lane.TrafficLane;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 토스 동시 호출 수 적응형 제한 (AIMD)
+ * - 정상 응답이고 한도를 절반 이상 쓰고 있으면 한도를 조금씩 늘림 (한도 크기만큼 성공하면 +1)
+ * - 실패(5xx/타임아웃)나 slow-threshold 초과 응답이면 한도를 backoff-ratio 배로 줄임
+ *   동시에 몰린 실패로 한도가 한꺼번에 무너지지 않도록 slow-threshold 동안은 한 번만 감소
+ * - 레인 우선순위: 사용자 요청(INTERACTIVE)은 한도 전체를 쓰고 대기 없이 거절,
+ *   자동결제 배치(BATCH)는 한도의 batch-share 까지만 쓰며 자리가 날 때까지 batch-max-wait 동안 대기
+ * - 정적 상한은 resilience4j 벌크헤드가 맡고, 여기서는 그 아래에서 실제 허용량을 조절
+ */
+@Component
+public class TossConcurrencyLimiter {
+
+	static final String LIMIT = "toss_concurrency_limit";
+	static final String IN_FLIGHT = "toss_concurrency_in_flight";
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double batchShare;
+	private final double backoffRatio;
+	private final long slowThresholdNanos;
+	private final long batchMaxWaitNanos;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+
+	// 변경은 lock 안에서만, 게이지는 lock 없이 읽음
+	private volatile double limit;
+	private volatile int inFlight;
+	private long lastDecreaseNanos;
+
+	public TossConcurrencyLimiter(
+		MeterRegistry registry,
+		@Value("${app.toss.limiter.initial-limit:20}") int initialLimit,
+		@Value("${app.toss.limiter.min-limit:4}") int minLimit,
+		@Value("${app.toss.limiter.max-limit:64}") int maxLimit,
+		@Value("${app.toss.limiter.batch-share:0.5}") double batchShare,
+		@Value("${app.toss.limiter.backoff-ratio:0.9}") double backoffRatio,
+		@Value("${app.toss.limiter.slow-threshold:2s}") Duration slowThreshold,
+		@Value("${app.toss.limiter.batch-max-wait:5s}") Duration batchMaxWait
+	) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.batchShare = batchShare;
+		this.backoffRatio = backoffRatio;
+		this.slowThresholdNanos = slowThreshold.toNanos();
+		this.batchMaxWaitNanos = batchMaxWait.toNanos();
+		this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+		this.lastDecreaseNanos = System.nanoTime() - slowThresholdNanos;
+
+		Gauge.builder(LIMIT, this, TossConcurrencyLimiter::limit).register(registry);
+		Gauge.builder(IN_FLIGHT, this, TossConcurrencyLimiter::inFlight).register(registry);
+	}
+
+	/** 자리를 얻으면 Permit, 한도 초과면 null (호출 후 반드시 Permit 으로 반납) */
+	public Permit tryAcquire(TrafficLane lane) {
+		lock.lock();
+		try {
+			if (lane == TrafficLane.BATCH) {
+				long remaining = batchMaxWaitNanos;
+				while (inFlight >= capacity(lane)) {
+					if (remaining <= 0) {
+						return null;
+					}
+					remaining = released.awaitNanos(remaining);
+				}
+			} else if (inFlight >= capacity(lane)) {
+				return null;
+			}
+			inFlight++;
+			return new Permit(inFlight);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	double limit() {
+		return limit;
+	}
+
+	int inFlight() {
+		return inFlight;
+	}
+
+	private int capacity(TrafficLane lane) {
+		double share = lane == TrafficLane.BATCH ? limit * batchShare : limit;
+		return Math.max(1, (int) share);
+	}
+
+	private void release(Permit permit, boolean measured, boolean dropped) {
+		if (!permit.released.compareAndSet(false, true)) {
+			return;
+		}
+		long now = System.nanoTime();
+		lock.lock();
+		try {
+			inFlight--;
+			if (measured) {
+				adjust(now, now - permit.startNanos, dropped, permit.inFlightAtStart);
+			}
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void adjust(long now, long rttNanos, boolean dropped, int inFlightAtStart) {
+		if (dropped || rttNanos > slowThresholdNanos) {
+			if (now - lastDecreaseNanos >= slowThresholdNanos) {
+				limit = Math.max(minLimit, limit * backoffRatio);
+				lastDecreaseNanos = now;
+			}
+		} else if (inFlightAtStart * 2 >= limit) {
+			limit = Math.min(maxLimit, limit + 1.0 / limit);
+		}
+	}
+
+	/** 한 번의 토스 호출 자리: success/dropped/ignore 중 하나로 반납 (처음 한 번만 반영, 이후 호출은 무시) */
+	public final class Permit {
+
+		private final long startNanos = System.nanoTime();
+		private final AtomicBoolean released = new AtomicBoolean();
+		private final int inFlightAtStart;
+
+		private Permit(int inFlightAtStart) {
+			this.inFlightAtStart = inFlightAtStart;
+		}
+
+		/** 토스가 응답함 (4xx 포함): 지연 시간으로 한도 조정 */
+		public void success() {
+			release(this, true, false);
+		}
+
+		/** 토스 장애(5xx/타임아웃/연결 실패): 한도 감소 */
+		public void dropped() {
+			release(this, true, true);
+		}
+
+		/** 토스까지 가지 않음(서킷 열림 등): 한도 조정 없이 반납 */
+		public void ignore() {
+			release(this, false, false);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.grow.payment_service.payment.infra.paymentprovider.adapter;
+
+import java.util.function.Predicate;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.grow.payment_service.global.exception.TossException;
+
+/**
+ * 토스 서킷 브레이커 실패 판정
+ * - 4xx 응답(카드 거절, 잔액 부족, 잘못된 요청 등)은 토스가 정상 동작한 결과이므로 실패로 집계하지 않음
+ * - 5xx, 연결 실패, 타임아웃 등 나머지는 모두 실패로 집계
+ * - resilience4j.circuitbreaker.configs.toss.record-failure-predicate 로 등록 (기본 생성자 필요)
+ */
+public class TossFailurePredicate implements Predicate<Throwable> {
+
+	@Override
+	public boolean test(Throwable t) {
+		Throwable cause = (t instanceof TossException && t.getCause() != null) ? t.getCause() : t;
+		return !(cause instanceof WebClientResponseException res && res.getStatusCode().is4xxClientError());
+	}
+}
@@ -0,0 +1,64 @@
+package com.grow.payment_service.payment.infra.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import com.grow.payment_service.payment.domain.model.enums.CompensationStatus;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Builder
+@Table(
+	name = "payment_compensation_task",
+	indexes = @Index(name = "idx_compensation_status_next", columnList = "status, nextAttemptAt"),
+	// 승인 건(paymentKey)당 보상 1건: 자동결제는 달마다 같은 주문번호로 새 승인이 생기므로 주문번호만으로는 막지 않음
+	uniqueConstraints = @UniqueConstraint(name = "uk_compensation_order_payment", columnNames = {"orderId", "paymentKey"})
+)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CompensationTaskJpaEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long taskId;
+
+	@Column(nullable = false, length = 30)
+	private String orderId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private CompensationType type;
+
+	// 토스 취소 대상, 유니크 제약에 포함되므로 필수
+	@Column(nullable = false, length = 200)
+	private String paymentKey;
+
+	@Column(nullable = false)
+	private int amount;
+
+	@Column(columnDefinition = "TEXT")
+	private String cause;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private CompensationStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(columnDefinition = "TEXT")
+	private String lastError;
+}
@@ -0,0 +1,49 @@
+package com.grow.payment_service.payment.infra.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 이력 보관 테이블 (cold)
+ * - PaymentHistoryRepositoryImpl.archiveBefore 가 오래된 payment_history 행을 ID 그대로 옮겨 옴
+ * - 쓰기는 JDBC(INSERT ... SELECT)로만 수행, 컬럼명을 payment_history 와 맞춰 고정해 둠
+ */
+@Entity
+@Getter
+@Builder
+@Table(
+	name = "payment_history_archive",
+	indexes = @Index(name = "idx_payment_history_archive_payment", columnList = "payment_id, changed_at")
+)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentHistoryArchiveJpaEntity {
+
+	@Id
+	@Column(name = "payment_history_id")
+	private Long paymentHistoryId;
+
+	@Column(name = "payment_id", nullable = false)
+	private Long paymentId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	private PayStatus status;
+
+	@Column(name = "changed_at", nullable = false)
+	private LocalDateTime changedAt;
+
+	@Column(name = "reason_detail", columnDefinition = "TEXT")
+	private String reasonDetail;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+}
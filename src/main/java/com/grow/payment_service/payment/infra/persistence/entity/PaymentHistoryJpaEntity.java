@@ -14,7 +14,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Builder
-@Table(name = "payment_history")
+@Table(
+	name = "payment_history",
+	indexes = @Index(name = "idx_payment_history_payment", columnList = "paymentId, changedAt")
+)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 
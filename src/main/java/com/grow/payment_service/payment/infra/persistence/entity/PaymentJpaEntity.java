@@ -53,4 +53,9 @@ public class PaymentJpaEntity {
 
 	@Enumerated(EnumType.STRING)
 	private CancelReason cancelReason;
+
+	// 낙관적 락: 상태 전이는 version 조건부 UPDATE, 기존 행은 0 으로 채워 추가
+	@Version
+	@Column(nullable = false, columnDefinition = "bigint default 0")
+	private Long version;
 }
\ No newline at end of file
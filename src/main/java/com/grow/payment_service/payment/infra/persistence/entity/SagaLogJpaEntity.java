@@ -0,0 +1,63 @@
+package com.grow.payment_service.payment.infra.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사가 진행 기록 (추가 전용)
+ * - 쓰기는 SagaLogRepositoryImpl 의 JDBC 배치 INSERT 로만 수행, 컬럼명을 고정해 둠
+ */
+@Entity
+@Getter
+@Builder
+@Table(
+	name = "payment_saga_log",
+	indexes = {
+		@Index(name = "idx_saga_log_order_op", columnList = "order_id, operation"),
+		@Index(name = "idx_saga_log_logged_at", columnList = "logged_at")
+	}
+)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SagaLogJpaEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "log_id")
+	private Long logId;
+
+	@Column(name = "order_id", nullable = false, length = 30)
+	private String orderId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "operation", nullable = false, length = 20)
+	private SagaOperation operation;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "step", nullable = false, length = 20)
+	private SagaStep step;
+
+	@Column(name = "attempt", nullable = false)
+	private int attempt;
+
+	@Column(name = "payment_key")
+	private String paymentKey;
+
+	@Column(name = "amount", nullable = false)
+	private int amount;
+
+	@Column(name = "detail")
+	private String detail;
+
+	@Column(name = "logged_at", nullable = false)
+	private LocalDateTime loggedAt;
+}
@@ -0,0 +1,39 @@
+package com.grow.payment_service.payment.infra.persistence.mapper;
+
+import com.grow.payment_service.payment.domain.model.CompensationTask;
+import com.grow.payment_service.payment.infra.persistence.entity.CompensationTaskJpaEntity;
+
+public class CompensationTaskMapper {
+
+	public static CompensationTask toDomain(CompensationTaskJpaEntity e) {
+		return CompensationTask.of(
+			e.getTaskId(),
+			e.getOrderId(),
+			e.getType(),
+			e.getPaymentKey(),
+			e.getAmount(),
+			e.getCause(),
+			e.getStatus(),
+			e.getAttempts(),
+			e.getNextAttemptAt(),
+			e.getCreatedAt(),
+			e.getLastError()
+		);
+	}
+
+	public static CompensationTaskJpaEntity toEntity(CompensationTask d) {
+		return CompensationTaskJpaEntity.builder()
+			.taskId(d.getTaskId())
+			.orderId(d.getOrderId())
+			.type(d.getType())
+			.paymentKey(d.getPaymentKey())
+			.amount(d.getAmount())
+			.cause(d.getCause())
+			.status(d.getStatus())
+			.attempts(d.getAttempts())
+			.nextAttemptAt(d.getNextAttemptAt())
+			.createdAt(d.getCreatedAt())
+			.lastError(d.getLastError())
+			.build();
+	}
+}
@@ -18,7 +18,8 @@ public class PaymentMapper {
 			e.getPayStatus(),
 			e.getMethod(),
 			e.getFailureReason(),
-			e.getCancelReason()
+			e.getCancelReason(),
+			e.getVersion()
 		);
 	}
 
@@ -36,6 +37,7 @@ public class PaymentMapper {
 			.method(d.getMethod())
 			.failureReason(d.getFailureReason())
 			.cancelReason(d.getCancelReason())
+			.version(d.getVersion())
 			.build();
 	}
 }
@@ -0,0 +1,21 @@
+package com.grow.payment_service.payment.infra.persistence.mapper;
+
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+import com.grow.payment_service.payment.infra.persistence.entity.SagaLogJpaEntity;
+
+public class SagaLogMapper {
+
+	public static SagaLogEntry toDomain(SagaLogJpaEntity e) {
+		return SagaLogEntry.of(
+			e.getLogId(),
+			e.getOrderId(),
+			e.getOperation(),
+			e.getStep(),
+			e.getAttempt(),
+			e.getPaymentKey(),
+			e.getAmount(),
+			e.getDetail(),
+			e.getLoggedAt()
+		);
+	}
+}
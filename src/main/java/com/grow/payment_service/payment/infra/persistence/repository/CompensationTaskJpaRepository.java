@@ -0,0 +1,37 @@
+package com.grow.payment_service.payment.infra.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grow.payment_service.payment.domain.model.enums.CompensationStatus;
+import com.grow.payment_service.payment.infra.persistence.entity.CompensationTaskJpaEntity;
+
+public interface CompensationTaskJpaRepository extends JpaRepository<CompensationTaskJpaEntity, Long> {
+	boolean existsByOrderIdAndPaymentKey(String orderId, String paymentKey);
+	List<CompensationTaskJpaEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+		CompensationStatus status,
+		LocalDateTime now,
+		Pageable pageable
+	);
+	long countByStatus(CompensationStatus status);
+	Optional<CompensationTaskJpaEntity> findTop1ByStatusOrderByCreatedAtAsc(CompensationStatus status);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE CompensationTaskJpaEntity t SET t.nextAttemptAt = :leaseUntil "
+		+ "WHERE t.taskId = :taskId AND t.status = :status AND t.nextAttemptAt <= :now")
+	int claim(
+		@Param("taskId") Long taskId,
+		@Param("status") CompensationStatus status,
+		@Param("now") LocalDateTime now,
+		@Param("leaseUntil") LocalDateTime leaseUntil
+	);
+}
@@ -0,0 +1,57 @@
+package com.grow.payment_service.payment.infra.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import com.grow.payment_service.payment.domain.model.CompensationTask;
+import com.grow.payment_service.payment.domain.model.enums.CompensationStatus;
+import com.grow.payment_service.payment.domain.repository.CompensationTaskRepository;
+import com.grow.payment_service.payment.infra.persistence.entity.CompensationTaskJpaEntity;
+import com.grow.payment_service.payment.infra.persistence.mapper.CompensationTaskMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CompensationTaskRepositoryImpl implements CompensationTaskRepository {
+
+	private final CompensationTaskJpaRepository jpaRepository;
+
+	@Override
+	public CompensationTask save(CompensationTask task) {
+		return CompensationTaskMapper.toDomain(jpaRepository.save(CompensationTaskMapper.toEntity(task)));
+	}
+
+	@Override
+	public boolean existsByOrderIdAndPaymentKey(String orderId, String paymentKey) {
+		return jpaRepository.existsByOrderIdAndPaymentKey(orderId, paymentKey);
+	}
+
+	@Override
+	public List<CompensationTask> findDue(LocalDateTime now, int limit) {
+		return jpaRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+				CompensationStatus.PENDING, now, PageRequest.of(0, limit)).stream()
+			.map(CompensationTaskMapper::toDomain)
+			.toList();
+	}
+
+	@Override
+	public boolean claim(Long taskId, LocalDateTime now, LocalDateTime leaseUntil) {
+		return jpaRepository.claim(taskId, CompensationStatus.PENDING, now, leaseUntil) == 1;
+	}
+
+	@Override
+	public long countPending() {
+		return jpaRepository.countByStatus(CompensationStatus.PENDING);
+	}
+
+	@Override
+	public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+		return jpaRepository.findTop1ByStatusOrderByCreatedAtAsc(CompensationStatus.PENDING)
+			.map(CompensationTaskJpaEntity::getCreatedAt);
+	}
+}
@@ -1,18 +1,41 @@
 package com.grow.payment_service.payment.infra.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import com.grow.payment_service.payment.domain.model.enums.PayStatus;
 import com.grow.payment_service.payment.infra.persistence.entity.PaymentHistoryJpaEntity;
 
+/**
+ * 결제 이력 조회는 hot(payment_history) + cold(payment_history_archive) 를 UNION ALL 한 번으로 조회
+ * - 두 테이블 모두 (payment_id, changed_at) 인덱스를 타고, 쿼리 수는 보관 전과 같음
+ */
 public interface PaymentHistoryJpaRepository
 	extends JpaRepository<PaymentHistoryJpaEntity, Long> {
-	List<PaymentHistoryJpaEntity> findAllByPaymentId(Long paymentId);
-	Optional<PaymentHistoryJpaEntity> findTop1ByPaymentIdAndStatusInOrderByChangedAtDesc(
-		Long paymentId,
-		List<PayStatus> statuses
+
+	String COLUMNS = "payment_history_id, payment_id, status, changed_at, reason_detail";
+
+	@Query(nativeQuery = true, value = "SELECT h.* FROM ("
+		+ "SELECT " + COLUMNS + " FROM payment_history_archive WHERE payment_id IN (:paymentIds) "
+		+ "UNION ALL "
+		+ "SELECT " + COLUMNS + " FROM payment_history WHERE payment_id IN (:paymentIds)"
+		+ ") h ORDER BY h.changed_at, h.payment_history_id")
+	List<PaymentHistoryJpaEntity> findAllInBothTiers(@Param("paymentIds") Collection<Long> paymentIds);
+
+	/** 주어진 상태 중 changedAt 이 가장 최근인 이력 한 건 (status 는 PayStatus 이름) */
+	@Query(nativeQuery = true, value = "SELECT h.* FROM ("
+		+ "SELECT " + COLUMNS + " FROM payment_history_archive "
+		+ "WHERE payment_id = :paymentId AND status IN (:statuses) "
+		+ "UNION ALL "
+		+ "SELECT " + COLUMNS + " FROM payment_history "
+		+ "WHERE payment_id = :paymentId AND status IN (:statuses)"
+		+ ") h ORDER BY h.changed_at DESC LIMIT 1")
+	Optional<PaymentHistoryJpaEntity> findLastInBothTiers(
+		@Param("paymentId") Long paymentId,
+		@Param("statuses") Collection<String> statuses
 	);
-}
\ No newline at end of file
+}
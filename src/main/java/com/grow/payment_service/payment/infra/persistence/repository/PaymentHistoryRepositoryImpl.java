@@ -1,9 +1,14 @@
 package com.grow.payment_service.payment.infra.persistence.repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.payment_service.payment.domain.model.PaymentHistory;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
@@ -12,11 +17,32 @@ import com.grow.payment_service.payment.infra.persistence.mapper.PaymentHistoryM
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 결제 이력 저장소 (hot: payment_history, cold: payment_history_archive)
+ * - 쓰기는 항상 hot 테이블, 오래된 행은 archiveBefore 로 cold 테이블에 옮김
+ * - 조회는 두 테이블을 함께 읽으므로 호출 측은 보관 여부를 몰라도 됨
+ */
 @Repository
 @RequiredArgsConstructor
 public class PaymentHistoryRepositoryImpl implements PaymentHistoryRepository {
 
+	// IDENTITY 키라 JPA 로는 배치 INSERT 가 안 되므로 일괄 저장은 JDBC 배치로 처리
+	private static final String INSERT = "INSERT INTO payment_history "
+		+ "(payment_id, status, changed_at, reason_detail) VALUES (?, ?, ?, ?)";
+
+	// 보관 묶음 경계: 기준 시각 이전 행 중 ID 가 가장 작은 limit 건의 마지막 ID (PK 순서로 앞에서부터 읽음)
+	private static final String ARCHIVE_BOUNDARY = "SELECT MAX(payment_history_id) FROM ("
+		+ "SELECT payment_history_id FROM payment_history WHERE changed_at < ? "
+		+ "ORDER BY payment_history_id LIMIT ?) b";
+	private static final String ARCHIVE_COPY = "INSERT INTO payment_history_archive "
+		+ "(payment_history_id, payment_id, status, changed_at, reason_detail, archived_at) "
+		+ "SELECT payment_history_id, payment_id, status, changed_at, reason_detail, ? FROM payment_history "
+		+ "WHERE payment_history_id <= ? AND changed_at < ?";
+	private static final String ARCHIVE_PURGE = "DELETE FROM payment_history "
+		+ "WHERE payment_history_id <= ? AND changed_at < ?";
+
 	private final PaymentHistoryJpaRepository paymentHistoryJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public PaymentHistory save(PaymentHistory history) {
@@ -25,9 +51,30 @@ public class PaymentHistoryRepositoryImpl implements PaymentHistoryRepository {
 		);
 	}
 
+	@Override
+	public void saveAll(List<PaymentHistory> histories) {
+		if (histories.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT, histories, histories.size(), (ps, h) -> {
+			ps.setLong(1, h.getPaymentId());
+			ps.setString(2, h.getStatus().name());
+			ps.setTimestamp(3, Timestamp.valueOf(h.getChangedAt()));
+			ps.setString(4, h.getReasonDetail());
+		});
+	}
+
 	@Override
 	public List<PaymentHistory> findByPaymentId(Long paymentId) {
-		return paymentHistoryJpaRepository.findAllByPaymentId(paymentId).stream()
+		return findByPaymentIdIn(List.of(paymentId));
+	}
+
+	@Override
+	public List<PaymentHistory> findByPaymentIdIn(Collection<Long> paymentIds) {
+		if (paymentIds.isEmpty()) {
+			return List.of();
+		}
+		return paymentHistoryJpaRepository.findAllInBothTiers(paymentIds).stream()
 			.map(PaymentHistoryMapper::toDomain)
 			.toList();
 	}
@@ -38,7 +85,20 @@ public class PaymentHistoryRepositoryImpl implements PaymentHistoryRepository {
 		List<PayStatus> statuses
 	) {
 		return paymentHistoryJpaRepository
-			.findTop1ByPaymentIdAndStatusInOrderByChangedAtDesc(paymentId, statuses)
+			.findLastInBothTiers(paymentId, statuses.stream().map(PayStatus::name).toList())
 			.map(PaymentHistoryMapper::toDomain);
 	}
-}
\ No newline at end of file
+
+	@Override
+	@Transactional
+	public int archiveBefore(LocalDateTime cutoff, int limit) {
+		Timestamp before = Timestamp.valueOf(cutoff);
+		Long lastId = jdbcTemplate.queryForObject(ARCHIVE_BOUNDARY, Long.class, before, limit);
+		if (lastId == null) {
+			return 0;
+		}
+		// 같은 조건으로 복사 후 삭제 (이력은 추가 전용이고 새 행은 lastId 보다 큰 ID 라 두 문장의 대상이 같음)
+		jdbcTemplate.update(ARCHIVE_COPY, Timestamp.valueOf(LocalDateTime.now()), lastId, before);
+		return jdbcTemplate.update(ARCHIVE_PURGE, lastId, before);
+	}
+}
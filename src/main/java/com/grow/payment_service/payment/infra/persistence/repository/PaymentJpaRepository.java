@@ -1,25 +1,86 @@
 package com.grow.payment_service.payment.infra.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.grow.payment_service.payment.domain.model.enums.CancelReason;
+import com.grow.payment_service.payment.domain.model.enums.FailureReason;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
 import com.grow.payment_service.payment.infra.persistence.entity.PaymentHistoryJpaEntity;
 import com.grow.payment_service.payment.infra.persistence.entity.PaymentJpaEntity;
 
-import jakarta.persistence.LockModeType;
-
 public interface PaymentJpaRepository
 	extends JpaRepository<PaymentJpaEntity, Long> {
 	Optional<PaymentJpaEntity> findByOrderId(String orderId);
 	List<PaymentJpaEntity> findAllByMemberId(Long memberId);
 	List<PaymentJpaEntity> findAllByPayStatusAndBillingKeyIsNotNull(PayStatus payStatus);
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	@Query("SELECT p FROM PaymentJpaEntity p WHERE p.orderId = :orderId")
-	Optional<PaymentJpaEntity> findByOrderIdForUpdate(@Param("orderId") String orderId);
+	List<PaymentJpaEntity> findByPayStatusInAndOrderIdGreaterThanAndOrderIdLessThanOrderByOrderIdAsc(
+		Collection<PayStatus> statuses,
+		String afterOrderId,
+		String beforeOrderId,
+		Pageable pageable
+	);
+	/** version 이 일치할 때만 전이 결과(키/상태/사유)를 반영하고 version + 1, 반영된 행 수 반환 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE PaymentJpaEntity p SET p.paymentKey = :paymentKey, p.billingKey = :billingKey, "
+		+ "p.payStatus = :payStatus, p.failureReason = :failureReason, p.cancelReason = :cancelReason, "
+		+ "p.version = p.version + 1 "
+		+ "WHERE p.paymentId = :paymentId AND p.version = :version")
+	int updateIfVersion(
+		@Param("paymentId") Long paymentId,
+		@Param("version") Long version,
+		@Param("paymentKey") String paymentKey,
+		@Param("billingKey") String billingKey,
+		@Param("payStatus") PayStatus payStatus,
+		@Param("failureReason") FailureReason failureReason,
+		@Param("cancelReason") CancelReason cancelReason
+	);
+	/** 현재 상태가 from 일 때만 to 로 (version + 1), 반영된 행 수 반환 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE PaymentJpaEntity p SET p.payStatus = :to, p.version = p.version + 1 "
+		+ "WHERE p.orderId = :orderId AND p.payStatus = :from")
+	int updateStatusIf(
+		@Param("orderId") String orderId,
+		@Param("from") PayStatus from,
+		@Param("to") PayStatus to
+	);
+	/** 여러 결제를 현재 상태가 from 인 것만 to 로 (version + 1), 반영된 행 수 반환 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE PaymentJpaEntity p SET p.payStatus = :to, p.version = p.version + 1 "
+		+ "WHERE p.paymentId IN :paymentIds AND p.payStatus = :from")
+	int updateStatusIfIn(
+		@Param("paymentIds") Collection<Long> paymentIds,
+		@Param("from") PayStatus from,
+		@Param("to") PayStatus to
+	);
+	/** 상태가 status 이고 orderId 가 beforeOrderId 미만인 결제 ID (orderId 오름차순) */
+	@Query("SELECT p.paymentId FROM PaymentJpaEntity p "
+		+ "WHERE p.payStatus = :status AND p.orderId < :beforeOrderId ORDER BY p.orderId")
+	List<Long> findIdsByPayStatusAndOrderIdBefore(
+		@Param("status") PayStatus status,
+		@Param("beforeOrderId") String beforeOrderId,
+		Pageable pageable
+	);
+	@Query("SELECT p.paymentId FROM PaymentJpaEntity p WHERE p.paymentId IN :paymentIds AND p.payStatus = :status")
+	List<Long> findIdsByPaymentIdInAndPayStatus(
+		@Param("paymentIds") Collection<Long> paymentIds,
+		@Param("status") PayStatus status
+	);
+	/** 현재 상태가 from 중 하나일 때만 빌링키/실패 사유 제거 + to 로 (version + 1), 반영된 행 수 반환 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE PaymentJpaEntity p SET p.payStatus = :to, p.billingKey = NULL, p.failureReason = NULL, "
+		+ "p.version = p.version + 1 "
+		+ "WHERE p.paymentId = :paymentId AND p.payStatus IN :from")
+	int clearBillingKeyIf(
+		@Param("paymentId") Long paymentId,
+		@Param("from") Collection<PayStatus> from,
+		@Param("to") PayStatus to
+	);
 }
\ No newline at end of file
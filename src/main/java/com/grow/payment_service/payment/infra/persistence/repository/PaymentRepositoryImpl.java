@@ -1,11 +1,16 @@
 package com.grow.payment_service.payment.infra.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.grow.payment_service.payment.domain.exception.PaymentDomainException;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
 import com.grow.payment_service.payment.domain.repository.PaymentRepository;
@@ -13,6 +18,10 @@ import com.grow.payment_service.payment.infra.persistence.mapper.PaymentMapper;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 결제 저장소
+ * - 조건부 UPDATE(상태 CAS/버전 갱신)는 호출 측 트랜잭션이 있으면 참여하고, 없으면 UPDATE 한 건짜리 트랜잭션으로 실행
+ */
 @Repository
 @RequiredArgsConstructor
 public class PaymentRepositoryImpl implements PaymentRepository {
@@ -54,9 +63,77 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 	}
 
 	@Override
-	public Optional<Payment> findByOrderIdForUpdate(String orderId) {
+	@Transactional
+	public int transitionIfStatus(String orderId, PayStatus from, PayStatus to) {
+		if (!from.canTransitionTo(to)) {
+			throw PaymentDomainException.invalidStatusTransition(from, to);
+		}
+		return paymentJpaRepository.updateStatusIf(orderId, from, to);
+	}
+
+	@Override
+	@Transactional
+	public int transitionAllIfStatus(Collection<Long> paymentIds, PayStatus from, PayStatus to) {
+		if (!from.canTransitionTo(to)) {
+			throw PaymentDomainException.invalidStatusTransition(from, to);
+		}
+		if (paymentIds.isEmpty()) {
+			return 0;
+		}
+		return paymentJpaRepository.updateStatusIfIn(paymentIds, from, to);
+	}
+
+	@Override
+	public List<Long> findIdsByStatusOrderedBefore(PayStatus status, String beforeOrderId, int limit) {
+		return paymentJpaRepository.findIdsByPayStatusAndOrderIdBefore(status, beforeOrderId, PageRequest.of(0, limit));
+	}
+
+	@Override
+	public List<Long> findIdsInStatus(Collection<Long> paymentIds, PayStatus status) {
+		if (paymentIds.isEmpty()) {
+			return List.of();
+		}
+		return paymentJpaRepository.findIdsByPaymentIdInAndPayStatus(paymentIds, status);
+	}
+
+	@Override
+	@Transactional
+	public int clearBillingKeyIfStatus(Long paymentId, Set<PayStatus> from) {
+		for (PayStatus status : from) {
+			if (!status.canTransitionTo(PayStatus.ABORTED)) {
+				throw PaymentDomainException.invalidStatusTransition(status, PayStatus.ABORTED);
+			}
+		}
+		return paymentJpaRepository.clearBillingKeyIf(paymentId, from, PayStatus.ABORTED);
+	}
+
+	@Override
+	@Transactional
+	public Optional<Payment> updateIfVersionMatches(Payment payment) {
+		int updated = paymentJpaRepository.updateIfVersion(
+			payment.getPaymentId(),
+			payment.getVersion(),
+			payment.getPaymentKey(),
+			payment.getBillingKey(),
+			payment.getPayStatus(),
+			payment.getFailureReason(),
+			payment.getCancelReason()
+		);
+		return updated == 1 ? Optional.of(payment.withVersion(payment.getVersion() + 1)) : Optional.empty();
+	}
+
+	@Override
+	public List<Payment> findReconcilePage(
+		Collection<PayStatus> statuses,
+		String afterOrderId,
+		String beforeOrderId,
+		int limit
+	) {
 		return paymentJpaRepository
-			.findByOrderIdForUpdate(orderId)
-			.map(PaymentMapper::toDomain);
+			.findByPayStatusInAndOrderIdGreaterThanAndOrderIdLessThanOrderByOrderIdAsc(
+				statuses, afterOrderId, beforeOrderId, PageRequest.of(0, limit))
+			.stream()
+			.map(PaymentMapper::toDomain)
+			.toList();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.grow.payment_service.payment.infra.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+import com.grow.payment_service.payment.infra.persistence.entity.SagaLogJpaEntity;
+
+public interface SagaLogJpaRepository extends JpaRepository<SagaLogJpaEntity, Long> {
+
+	// 주문·작업별 마지막 기록만 골라 진행 중 단계인 것 (idx_saga_log_order_op 로 상관 서브쿼리 처리)
+	@Query("SELECT l FROM SagaLogJpaEntity l "
+		+ "WHERE l.loggedAt BETWEEN :from AND :to AND l.step IN :steps "
+		+ "AND l.logId = (SELECT MAX(l2.logId) FROM SagaLogJpaEntity l2 "
+		+ "WHERE l2.orderId = l.orderId AND l2.operation = l.operation) "
+		+ "ORDER BY l.logId")
+	List<SagaLogJpaEntity> findLatestIn(
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to,
+		@Param("steps") Collection<SagaStep> steps
+	);
+}
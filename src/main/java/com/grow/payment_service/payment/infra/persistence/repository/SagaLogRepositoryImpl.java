@@ -0,0 +1,49 @@
+package com.grow.payment_service.payment.infra.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+import com.grow.payment_service.payment.domain.repository.SagaLogRepository;
+import com.grow.payment_service.payment.infra.persistence.mapper.SagaLogMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class SagaLogRepositoryImpl implements SagaLogRepository {
+
+	// IDENTITY 키라 JPA 로는 배치 INSERT 가 안 되므로 쓰기는 JDBC 배치로 처리
+	private static final String INSERT = "INSERT INTO payment_saga_log "
+		+ "(order_id, operation, step, attempt, payment_key, amount, detail, logged_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SagaLogJpaRepository jpaRepository;
+
+	@Override
+	public void appendAll(List<SagaLogEntry> entries) {
+		jdbcTemplate.batchUpdate(INSERT, entries, entries.size(), (ps, e) -> {
+			ps.setString(1, e.getOrderId());
+			ps.setString(2, e.getOperation().name());
+			ps.setString(3, e.getStep().name());
+			ps.setInt(4, e.getAttempt());
+			ps.setString(5, e.getPaymentKey());
+			ps.setInt(6, e.getAmount());
+			ps.setString(7, e.getDetail());
+			ps.setTimestamp(8, Timestamp.valueOf(e.getLoggedAt()));
+		});
+	}
+
+	@Override
+	public List<SagaLogEntry> findOpen(LocalDateTime from, LocalDateTime to) {
+		return jpaRepository.findLatestIn(from, to, SagaStep.OPEN).stream()
+			.map(SagaLogMapper::toDomain)
+			.toList();
+	}
+}
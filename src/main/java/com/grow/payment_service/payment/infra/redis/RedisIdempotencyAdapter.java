@@ -1,9 +1,18 @@
 package com.grow.payment_service.payment.infra.redis;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -31,6 +40,40 @@ public class RedisIdempotencyAdapter {
 		);
 	}
 
+	/**
+	 * 여러 키를 한 번의 파이프라인으로 예약 (배치에서 사용)
+	 * 새로 예약된 키만 입력 순서대로 반환, 이미 있던 키는 제외
+	 */
+	public Set<String> reserveAll(Collection<String> keys) {
+		if (keys == null || keys.isEmpty()) {
+			return Set.of();
+		}
+		List<String> ordered = new ArrayList<>(keys);
+		byte[] value = "1".getBytes(StandardCharsets.UTF_8);
+		Expiration expiration = Expiration.from(TTL);
+
+		// SET key 1 EX ttl NX 명령을 모아서 한 번에 전송
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (String key : ordered) {
+				connection.stringCommands().set(
+					(PREFIX_REC + key).getBytes(StandardCharsets.UTF_8),
+					value,
+					expiration,
+					RedisStringCommands.SetOption.SET_IF_ABSENT
+				);
+			}
+			return null;
+		});
+
+		Set<String> reserved = new LinkedHashSet<>();
+		for (int i = 0; i < ordered.size() && i < results.size(); i++) {
+			if (Boolean.TRUE.equals(results.get(i))) {
+				reserved.add(ordered.get(i));
+			}
+		}
+		return reserved;
+	}
+
 	/**
 	 * 처리 완료 시 호출: 결과(paymentId)를 문자열로 저장
 	 */
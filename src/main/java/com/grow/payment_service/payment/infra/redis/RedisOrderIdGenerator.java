@@ -2,7 +2,6 @@ package com.grow.payment_service.payment.infra.redis;
 
 import java.time.Duration;
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
 import org.springframework.context.annotation.Primary;
@@ -25,7 +24,7 @@ public class RedisOrderIdGenerator implements OrderIdGenerator {
 	@Override
 	public String generate(Long memberId) {
 		// 현재 날짜를 YYYYMMDD 형식으로 가져오기
-		String date = LocalDate.now(ZoneId.of("Asia/Seoul")).format(DATE_FMT);
+		String date = LocalDate.now(ORDER_DATE_ZONE).format(DATE_FMT);
 
 		// redis 키 -> orderId:date:memberId
 		String key = "orderId:" + date + ":" + memberId;
@@ -37,11 +36,14 @@ public class RedisOrderIdGenerator implements OrderIdGenerator {
 		if (seq != null && seq == 1) {
 			redis.expire(key, Duration.ofDays(1));
 		}
-		// 4자리로 패딩
-		String padded = String.format("%04d", seq);
-		String id = date + memberId + padded;
+		String id = format(date, memberId, seq);
 
 		log.info("[OrderIdGen] Redis generator used -> {}", id);
 		return id;
 	}
+
+	/** orderId 포맷: YYYYMMDD + memberId + 4자리 패딩 시퀀스 */
+	static String format(String date, Long memberId, Long seq) {
+		return date + memberId + String.format("%04d", seq);
+	}
 }
\ No newline at end of file
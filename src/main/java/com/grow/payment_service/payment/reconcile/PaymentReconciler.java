@@ -0,0 +1,156 @@
+package com.grow.payment_service.payment.reconcile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.Drift;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.RepairAction;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.Result;
+import com.grow.payment_service.payment.saga.CompensationQueue;
+import com.grow.payment_service.payment.saga.RetryablePersistenceService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내부 결제 ↔ 토스 상태 대사
+ * 1. 상태·주문일 조건으로 결제를 orderId 키셋 페이지로 읽음 (offset 없음, 페이지 크기만큼만 메모리 사용)
+ * 2. 페이지 단위로 토스 상태 조회 (API 병렬 조회 또는 내보내기 파일 병합)
+ * 3. ReconcileDiff 규칙으로 비교 → 불일치는 리포트(CSV)와 메트릭으로 남김
+ * 4. autoRepair 면 기존 보상 경로로 처리 가능한 조치만 실행 (보상 작업 등록, 취소 완료 반영)
+ */
+@Slf4j
+@Service
+public class PaymentReconciler {
+
+	static final String SCANNED = "payment_reconcile_scanned_total";
+	static final String DRIFT = "payment_reconcile_drift_total";
+	static final String REPAIR = "payment_reconcile_repair_total";
+
+	private static final DateTimeFormatter ORDER_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final DateTimeFormatter FILE_TS = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	// orderId 는 숫자로만 구성되므로 '~' 는 모든 orderId 보다 뒤
+	private static final String UNBOUNDED = "~";
+
+	private final PaymentRepository paymentRepository;
+	private final TossApiStateSource apiSource;
+	private final CompensationQueue compensationQueue;
+	private final RetryablePersistenceService retryableService;
+	private final PaymentMetrics metrics;
+	private final int pageSize;
+	private final Path reportDir;
+
+	public PaymentReconciler(
+		PaymentRepository paymentRepository,
+		TossApiStateSource apiSource,
+		CompensationQueue compensationQueue,
+		RetryablePersistenceService retryableService,
+		PaymentMetrics metrics,
+		@Value("${app.reconcile.page-size:500}") int pageSize,
+		@Value("${app.reconcile.report-dir:${java.io.tmpdir}/payment-reconcile}") Path reportDir
+	) {
+		this.paymentRepository = paymentRepository;
+		this.apiSource = apiSource;
+		this.compensationQueue = compensationQueue;
+		this.retryableService = retryableService;
+		this.metrics = metrics;
+		this.pageSize = pageSize;
+		this.reportDir = reportDir;
+	}
+
+	public ReconcileReport reconcile(ReconcileRequest request) {
+		if (request.exportFile() == null) {
+			return run(request, apiSource);
+		}
+		try (TossExportFileSource fileSource = new TossExportFileSource(request.exportFile())) {
+			ReconcileReport report = run(request, fileSource);
+			report.skipped(fileSource.skipped());
+			return report;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private ReconcileReport run(ReconcileRequest request, TossStateSource source) {
+		String cursor = request.from() == null ? "" : request.from().format(ORDER_DATE);
+		String before = request.to() == null ? UNBOUNDED : request.to().plusDays(1).format(ORDER_DATE);
+		Path file = reportDir.resolve("reconcile-" + LocalDateTime.now().format(FILE_TS) + ".csv");
+		long startNanos = System.nanoTime();
+		log.info("[대사] 시작: from={}, to={}, source={}, autoRepair={}",
+			request.from(), request.to(), source.getClass().getSimpleName(), request.autoRepair());
+
+		try (ReconcileReport report = ReconcileReport.open(file)) {
+			while (true) {
+				List<Payment> page = paymentRepository.findReconcilePage(request.statuses(), cursor, before, pageSize);
+				if (page.isEmpty()) {
+					break;
+				}
+				Map<String, TossPaymentState> toss = source.fetch(page);
+				for (Payment local : page) {
+					TossPaymentState state = toss.getOrDefault(local.getOrderId(),
+						TossPaymentState.failed(local.getOrderId(), "조회 결과 없음"));
+					Result result = ReconcileDiff.diff(local, state);
+					report.record(local, state, result, repair(request, local, state, result));
+					if (result.drift() != Drift.MATCH) {
+						metrics.result(DRIFT, "drift", result.drift().name().toLowerCase());
+					}
+				}
+				metrics.result(SCANNED, page.size());
+				cursor = page.getLast().getOrderId();
+				if (page.size() < pageSize) {
+					break;
+				}
+			}
+			log.info("[대사] 완료: scanned={}, mismatched={}, repaired={}, repairFailed={}, skipped={}, "
+					+ "drifts={}, report={}, elapsedMs={}",
+				report.getScanned(), report.mismatched(), report.getRepaired(), report.getRepairFailed(),
+				report.getSkipped(), report.getDrifts(), file, (System.nanoTime() - startNanos) / 1_000_000);
+			return report;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** 조치 결과: "-"(조치 없음) / manual / proposed / applied / failed */
+	private String repair(ReconcileRequest request, Payment local, TossPaymentState toss, Result result) {
+		RepairAction action = result.action();
+		if (action == RepairAction.NONE) {
+			return "-";
+		}
+		String outcome = action == RepairAction.MANUAL_REVIEW ? "manual"
+			: request.autoRepair() ? apply(action, local, toss) : "proposed";
+		metrics.result(REPAIR, "action", action.name().toLowerCase(), "outcome", outcome);
+		return outcome;
+	}
+
+	private String apply(RepairAction action, Payment local, TossPaymentState toss) {
+		String orderId = local.getOrderId();
+		try {
+			switch (action) {
+				case COMPENSATE_APPROVAL -> compensationQueue.enqueue(CompensationType.APPROVAL, orderId,
+					toss.paymentKey(), (int) toss.totalAmount(), new IllegalStateException("대사: 토스 승인 내부 미반영"));
+				case COMPENSATE_AUTO_CHARGE -> compensationQueue.enqueue(CompensationType.AUTO_CHARGE, orderId,
+					toss.paymentKey(), (int) toss.totalAmount(), new IllegalStateException("대사: 토스 자동결제 내부 미반영"));
+				case COMPLETE_CANCEL -> retryableService.saveCancelComplete(orderId);
+				default -> {
+					return "manual";
+				}
+			}
+			return "applied";
+		} catch (Exception e) {
+			log.warn("[대사] 보정 실패: orderId={}, action={}, cause={}", orderId, action, e.toString());
+			return "failed";
+		}
+	}
+}
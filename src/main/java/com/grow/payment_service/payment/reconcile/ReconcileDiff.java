@@ -0,0 +1,129 @@
+package com.grow.payment_service.payment.reconcile;
+
+import static com.grow.payment_service.payment.domain.model.enums.PayStatus.*;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+/**
+ * 내부 결제 상태 vs 토스 상태 비교 규칙
+ * - 자동 보정은 기존 보상 경로로 처리 가능한 경우만 제안 (토스 승인 + 내부 미반영 → 보상 작업, 토스 취소 + 내부 취소 요청 → 취소 완료)
+ * - 돈이 오갔는지 판단이 필요한 나머지 불일치는 MANUAL_REVIEW
+ */
+public final class ReconcileDiff {
+
+	public enum Drift {
+		MATCH,
+		// 내부는 결제 완료인데 토스에 주문이 없음
+		MISSING_AT_TOSS,
+		// 토스는 승인(DONE)인데 내부는 미결제 상태
+		UNRECORDED_CHARGE,
+		// 내부는 취소 완료인데 토스는 승인 유지
+		UNREFUNDED,
+		STATUS_MISMATCH,
+		AMOUNT_MISMATCH,
+		LOOKUP_FAILED
+	}
+
+	public enum RepairAction {
+		NONE,
+		COMPENSATE_APPROVAL,
+		COMPENSATE_AUTO_CHARGE,
+		COMPLETE_CANCEL,
+		MANUAL_REVIEW
+	}
+
+	public record Result(Drift drift, RepairAction action, String note) {
+
+		static final Result MATCH = new Result(Drift.MATCH, RepairAction.NONE, null);
+	}
+
+	private static final Set<PayStatus> NOT_CHARGED = EnumSet.of(READY, IN_PROGRESS, FAILED, ABORTED, EXPIRED);
+	private static final Set<PayStatus> AUTO_NOT_CHARGED = EnumSet.of(AUTO_BILLING_IN_PROGRESS, AUTO_BILLING_FAILED);
+	private static final Set<PayStatus> CHARGED = EnumSet.of(DONE, AUTO_BILLING_APPROVED);
+
+	private ReconcileDiff() {
+	}
+
+	public static Result diff(Payment local, TossPaymentState toss) {
+		if (toss.isLookupFailed()) {
+			return new Result(Drift.LOOKUP_FAILED, RepairAction.NONE, toss.error());
+		}
+		PayStatus status = local.getPayStatus();
+
+		// 구독 건 중단(예약 취소/영구 실패/빌링키 삭제)은 지난 회차 paymentKey 를 유지하고 같은 주문번호를 재사용
+		if (status == ABORTED && hasBillingHistory(local)) {
+			return diffAutoBilling(local, toss);
+		}
+
+		if (NOT_CHARGED.contains(status)) {
+			if (!toss.isDone()) {
+				return Result.MATCH;
+			}
+			return new Result(Drift.UNRECORDED_CHARGE, RepairAction.COMPENSATE_APPROVAL, "토스 승인, 내부 " + status);
+		}
+
+		if (AUTO_NOT_CHARGED.contains(status)) {
+			return diffAutoBilling(local, toss);
+		}
+
+		if (CHARGED.contains(status)) {
+			if (toss.isNotFound()) {
+				return new Result(Drift.MISSING_AT_TOSS, RepairAction.MANUAL_REVIEW, "토스 결제 없음");
+			}
+			if (!toss.isDone()) {
+				return new Result(Drift.STATUS_MISMATCH, RepairAction.MANUAL_REVIEW, "토스 " + toss.status());
+			}
+			if (local.getTotalAmount() == null || local.getTotalAmount() != toss.totalAmount()) {
+				return new Result(Drift.AMOUNT_MISMATCH, RepairAction.MANUAL_REVIEW,
+					"내부 " + local.getTotalAmount() + " / 토스 " + toss.totalAmount());
+			}
+			return Result.MATCH;
+		}
+
+		if (status == CANCEL_REQUESTED) {
+			if (toss.isCanceled()) {
+				return new Result(Drift.STATUS_MISMATCH, RepairAction.COMPLETE_CANCEL, "토스 취소 완료, 내부 반영 전");
+			}
+			if (toss.isDone()) {
+				return new Result(Drift.STATUS_MISMATCH, RepairAction.MANUAL_REVIEW, "취소 요청 후 토스 취소 안 됨");
+			}
+			return Result.MATCH;
+		}
+
+		if (status == CANCELLED && toss.isDone()) {
+			return new Result(Drift.UNREFUNDED, RepairAction.MANUAL_REVIEW, "내부 취소, 토스 승인 유지");
+		}
+		// AUTO_BILLING_READY 는 같은 주문번호로 지난 회차가 조회되므로 비교 대상 아님
+		return Result.MATCH;
+	}
+
+	private static boolean hasBillingHistory(Payment local) {
+		return local.getBillingKey() != null || local.getPaymentKey() != null;
+	}
+
+	/**
+	 * 자동결제 진행 중/실패/중단 건: 같은 주문번호로 지난 회차 승인(DONE)이 조회될 수 있어 paymentKey 로 회차 구분
+	 * - 내부에 남은 지난 회차 키와 같으면 이번 회차는 아직 승인 없음 → MATCH
+	 * - 내부에 승인 기록이 아예 없으면 토스 승인은 이번 회차 미반영분 → 자동결제 보상
+	 * - 키가 다르면 이번 회차인지 그 사이 다른 회차인지 알 수 없음 → 수동 확인 (자동 취소로 정상 결제를 환불하지 않도록)
+	 */
+	private static Result diffAutoBilling(Payment local, TossPaymentState toss) {
+		if (!toss.isDone()) {
+			return Result.MATCH;
+		}
+		String localKey = local.getPaymentKey();
+		if (localKey != null && localKey.equals(toss.paymentKey())) {
+			return Result.MATCH;
+		}
+		if (localKey == null) {
+			return new Result(Drift.UNRECORDED_CHARGE, RepairAction.COMPENSATE_AUTO_CHARGE,
+				"토스 승인, 내부 " + local.getPayStatus());
+		}
+		return new Result(Drift.UNRECORDED_CHARGE, RepairAction.MANUAL_REVIEW,
+			"토스 승인 키 " + toss.paymentKey() + " / 내부 마지막 승인 키 " + localKey + ", 내부 " + local.getPayStatus());
+	}
+}
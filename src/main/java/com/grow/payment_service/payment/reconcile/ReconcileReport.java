@@ -0,0 +1,105 @@
+package com.grow.payment_service.payment.reconcile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.Drift;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.Result;
+
+import lombok.Getter;
+
+/**
+ * 대사 리포트
+ * - 불일치 행만 CSV 로 바로 기록하고 메모리에는 건수만 유지 (대상이 수백만 건이어도 일정)
+ */
+public class ReconcileReport implements AutoCloseable {
+
+	private static final String HEADER =
+		"orderId,localStatus,tossStatus,localAmount,tossAmount,drift,action,outcome,note";
+
+	@Getter
+	private final Path file;
+	private final BufferedWriter writer;
+	private final Map<Drift, Long> drifts = new EnumMap<>(Drift.class);
+	@Getter
+	private long scanned;
+	@Getter
+	private long repaired;
+	@Getter
+	private long repairFailed;
+	@Getter
+	private long skipped;
+
+	private ReconcileReport(Path file) throws IOException {
+		this.file = file;
+		this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+		writer.write(HEADER);
+		writer.newLine();
+	}
+
+	public static ReconcileReport open(Path file) throws IOException {
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		return new ReconcileReport(file);
+	}
+
+	void record(Payment local, TossPaymentState toss, Result result, String outcome) {
+		scanned++;
+		drifts.merge(result.drift(), 1L, Long::sum);
+		if ("applied".equals(outcome)) {
+			repaired++;
+		} else if ("failed".equals(outcome)) {
+			repairFailed++;
+		}
+		if (result.drift() == Drift.MATCH) {
+			return;
+		}
+		try {
+			writer.write(String.join(",",
+				local.getOrderId(),
+				local.getPayStatus().name(),
+				toss.status(),
+				String.valueOf(local.getTotalAmount()),
+				String.valueOf(toss.totalAmount()),
+				result.drift().name(),
+				result.action().name(),
+				outcome,
+				csv(result.note())));
+			writer.newLine();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	void skipped(long count) {
+		this.skipped = count;
+	}
+
+	public Map<Drift, Long> getDrifts() {
+		return Collections.unmodifiableMap(drifts);
+	}
+
+	/** MATCH 를 제외한 불일치 건수 */
+	public long mismatched() {
+		return scanned - drifts.getOrDefault(Drift.MATCH, 0L);
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+	private static String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+}
@@ -0,0 +1,37 @@
+package com.grow.payment_service.payment.reconcile;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+/**
+ * 대사 실행 조건
+ * - from/to: 주문일 범위 (orderId 앞 8자리 yyyyMMdd 기준, null 이면 제한 없음)
+ *   결제·상태 변경일이 아니라 주문 생성일이므로, 매달 같은 주문번호로 청구되는 자동결제는
+ *   구독 시작일이 범위 안일 때만 포함됨 (지난 구독의 이번 달 청구를 보려면 from 을 비워 전체 대사)
+ * - exportFile: 토스 내보내기 파일 경로, null 이면 토스 조회 API 사용
+ * - autoRepair: false 면 보정 조치를 리포트에만 남김
+ */
+public record ReconcileRequest(
+	LocalDate from,
+	LocalDate to,
+	Set<PayStatus> statuses,
+	Path exportFile,
+	boolean autoRepair
+) {
+
+	/** AUTO_BILLING_READY 는 같은 주문번호로 지난 회차가 조회되므로 기본 대상에서 제외 */
+	public static final Set<PayStatus> DEFAULT_STATUSES =
+		EnumSet.complementOf(EnumSet.of(PayStatus.AUTO_BILLING_READY));
+
+	public static ReconcileRequest window(LocalDate from, LocalDate to, boolean autoRepair) {
+		return new ReconcileRequest(from, to, DEFAULT_STATUSES, null, autoRepair);
+	}
+
+	public ReconcileRequest withExportFile(Path file) {
+		return new ReconcileRequest(from, to, statuses, file, autoRepair);
+	}
+}
@@ -0,0 +1,99 @@
+package com.grow.payment_service.payment.reconcile;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossPaymentResponse;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+
+/**
+ * 토스 조회 API 로 페이지의 주문 상태를 병렬 조회
+ * - 동시 조회 수는 parallelism, 초당 호출 수는 reconcileToss 레이트 리미터로 제한
+ * - 조회는 PaymentGatewayAdapter 에서 BATCH 레인 + tossQuery 서킷/벌크헤드를 거침
+ * - 한 건 실패는 LOOKUP_FAILED 로 남기고 나머지는 계속 (대사 전체를 멈추지 않음)
+ */
+@Component
+public class TossApiStateSource implements TossStateSource {
+
+	static final String RATE_LIMITER = "reconcileToss";
+
+	private final PaymentGatewayPort gatewayPort;
+	private final ExecutorService paymentIoExecutor;
+	private final RateLimiter rateLimiter;
+	private final int parallelism;
+
+	public TossApiStateSource(
+		PaymentGatewayPort gatewayPort,
+		ExecutorService paymentIoExecutor,
+		RateLimiterRegistry rateLimiterRegistry,
+		@Value("${app.reconcile.parallelism:8}") int parallelism
+	) {
+		this.gatewayPort = gatewayPort;
+		this.paymentIoExecutor = paymentIoExecutor;
+		this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER);
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public Map<String, TossPaymentState> fetch(List<Payment> page) {
+		Semaphore permits = new Semaphore(parallelism);
+		Map<String, Future<TossPaymentState>> pending = new LinkedHashMap<>();
+		for (Payment p : page) {
+			permits.acquireUninterruptibly();
+			String orderId = p.getOrderId();
+			pending.put(orderId, paymentIoExecutor.submit(() -> {
+				try {
+					return lookup(orderId);
+				} finally {
+					permits.release();
+				}
+			}));
+		}
+
+		Map<String, TossPaymentState> result = new LinkedHashMap<>();
+		pending.forEach((orderId, future) -> result.put(orderId, await(orderId, future)));
+		return result;
+	}
+
+	private TossPaymentState lookup(String orderId) {
+		try {
+			RateLimiter.waitForPermission(rateLimiter);
+			TossPaymentResponse res = gatewayPort.getPaymentByOrderId(orderId);
+			return res == null ? TossPaymentState.notFound(orderId) : TossPaymentState.from(res);
+		} catch (TossException e) {
+			if (e.getCause() instanceof WebClientResponseException res
+				&& res.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+				return TossPaymentState.notFound(orderId);
+			}
+			return TossPaymentState.failed(orderId, e.toString());
+		} catch (Exception e) {
+			return TossPaymentState.failed(orderId, e.toString());
+		}
+	}
+
+	private static TossPaymentState await(String orderId, Future<TossPaymentState> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return TossPaymentState.failed(orderId, e.toString());
+		} catch (ExecutionException e) {
+			return TossPaymentState.failed(orderId, String.valueOf(e.getCause()));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.grow.payment_service.payment.reconcile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.grow.payment_service.payment.domain.model.Payment;
+
+/**
+ * 토스 결제 내보내기 파일(CSV) 기반 상태 공급원
+ * - 형식: 헤더 1줄 + orderId,paymentKey,status,totalAmount (orderId 오름차순 정렬 필수)
+ * - 내부 페이지도 orderId 오름차순이므로 파일을 한 방향으로만 읽으며 병합 (메모리는 한 줄분)
+ *   orderId 는 날짜+숫자 문자열이라 DB 정렬과 문자열 비교 순서가 같음
+ * - 파일에 없는 주문은 NOT_FOUND, 내부에 없는 파일 행은 건너뜀 (skipped 로 집계)
+ */
+public class TossExportFileSource implements TossStateSource, AutoCloseable {
+
+	private final BufferedReader reader;
+	private TossPaymentState head;
+	private long skipped;
+
+	public TossExportFileSource(Path file) throws IOException {
+		this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+		reader.readLine(); // 헤더
+		advance();
+	}
+
+	@Override
+	public Map<String, TossPaymentState> fetch(List<Payment> page) {
+		Map<String, TossPaymentState> result = new LinkedHashMap<>();
+		for (Payment p : page) {
+			String orderId = p.getOrderId();
+			while (head != null && head.orderId().compareTo(orderId) < 0) {
+				skipped++;
+				advance();
+			}
+			if (head != null && head.orderId().equals(orderId)) {
+				result.put(orderId, head);
+				advance();
+			} else {
+				result.put(orderId, TossPaymentState.notFound(orderId));
+			}
+		}
+		return result;
+	}
+
+	/** 내부 결제와 짝이 없어 건너뛴 파일 행 수 */
+	public long skipped() {
+		return skipped;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private void advance() {
+		try {
+			String line = reader.readLine();
+			while (line != null && line.isBlank()) {
+				line = reader.readLine();
+			}
+			head = line == null ? null : parse(line);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static TossPaymentState parse(String line) {
+		String[] cols = line.split(",", -1);
+		return TossPaymentState.of(cols[0].trim(), cols[1].trim(), cols[2].trim(), Long.parseLong(cols[3].trim()));
+	}
+}
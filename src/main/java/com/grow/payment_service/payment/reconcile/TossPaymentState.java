@@ -0,0 +1,48 @@
+package com.grow.payment_service.payment.reconcile;
+
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossPaymentResponse;
+
+/**
+ * 대사 비교용 토스 결제 상태 한 건
+ * - status 는 토스 원문 값 (DONE, CANCELED, PARTIAL_CANCELED, ABORTED, EXPIRED 등)
+ * - 토스에 없는 주문은 NOT_FOUND, 조회 실패는 LOOKUP_FAILED (error 에 원인)
+ */
+public record TossPaymentState(String orderId, String paymentKey, String status, long totalAmount, String error) {
+
+	static final String DONE = "DONE";
+	static final String CANCELED = "CANCELED";
+	static final String NOT_FOUND = "NOT_FOUND";
+	static final String LOOKUP_FAILED = "LOOKUP_FAILED";
+
+	public static TossPaymentState of(String orderId, String paymentKey, String status, long totalAmount) {
+		return new TossPaymentState(orderId, paymentKey, status, totalAmount, null);
+	}
+
+	public static TossPaymentState from(TossPaymentResponse res) {
+		return of(res.getOrderId(), res.getPaymentKey(), res.getStatus(), res.getTotalAmount());
+	}
+
+	public static TossPaymentState notFound(String orderId) {
+		return new TossPaymentState(orderId, null, NOT_FOUND, 0, null);
+	}
+
+	public static TossPaymentState failed(String orderId, String error) {
+		return new TossPaymentState(orderId, null, LOOKUP_FAILED, 0, error);
+	}
+
+	public boolean isDone() {
+		return DONE.equals(status);
+	}
+
+	public boolean isCanceled() {
+		return CANCELED.equals(status);
+	}
+
+	public boolean isNotFound() {
+		return NOT_FOUND.equals(status);
+	}
+
+	public boolean isLookupFailed() {
+		return LOOKUP_FAILED.equals(status);
+	}
+}
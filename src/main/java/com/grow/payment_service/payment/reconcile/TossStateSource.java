@@ -0,0 +1,14 @@
+package com.grow.payment_service.payment.reconcile;
+
+import java.util.List;
+import java.util.Map;
+
+import com.grow.payment_service.payment.domain.model.Payment;
+
+/**
+ * 대사 비교 대상 토스 상태 공급원 (토스 조회 API 또는 토스 정산 내보내기 파일)
+ * - 페이지 단위(orderId 오름차순)로 호출되며, 페이지의 모든 orderId 에 대해 결과를 반환
+ */
+public interface TossStateSource {
+	Map<String, TossPaymentState> fetch(List<Payment> page);
+}
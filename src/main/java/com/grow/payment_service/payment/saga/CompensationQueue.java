@@ -0,0 +1,43 @@
+package com.grow.payment_service.payment.saga;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.CompensationTask;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.domain.repository.CompensationTaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보상 작업 등록
+ * - 요청 스레드에서는 작업만 영속화하고 바로 실패 응답 (토스 취소 대기 없음)
+ * - 실제 보상은 CompensationWorker 가 백오프 재시도로 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompensationQueue {
+
+	private final CompensationTaskRepository taskRepository;
+	private final PaymentMetrics metrics;
+
+	/**
+	 * 승인 건(주문번호 + paymentKey)당 1건만 등록 (이미 있으면 무시), 두 컬럼 유니크 제약으로 중복 방지
+	 * - 자동결제는 매달 같은 주문번호로 승인되므로 지난달 보상 작업이 있어도 이번 달 건은 따로 등록
+	 * - 호출 측 트랜잭션이 롤백돼도 작업은 남도록 별도 트랜잭션
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void enqueue(CompensationType type, String orderId, String paymentKey, int amount, Throwable cause) {
+		if (taskRepository.existsByOrderIdAndPaymentKey(orderId, paymentKey)) {
+			log.info("[결제-Comp] 보상 작업 이미 등록됨: orderId={}, type={}", orderId, type);
+			return;
+		}
+		taskRepository.save(CompensationTask.create(orderId, type, paymentKey, amount, String.valueOf(cause)));
+		metrics.result("payment_compensation_enqueued_total", "type", type.name().toLowerCase());
+		log.warn("[결제-Comp] 보상 작업 등록: orderId={}, type={}", orderId, type);
+	}
+}
@@ -0,0 +1,165 @@
+package com.grow.payment_service.payment.saga;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.global.lane.LaneGate;
+import com.grow.payment_service.global.lane.TrafficLane;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.CompensationTask;
+import com.grow.payment_service.payment.domain.model.enums.CancelReason;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.domain.repository.CompensationTaskRepository;
+import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보상 작업 처리기 (poll-interval 주기)
+ * 1. 재시도 시각이 지난 PENDING 작업 조회
+ * 2. 처리권 획득(claim) 후 BATCH 레인에서 토스 취소 → 내부 보상 트랜잭션
+ * 3. 성공: DONE / 실패: 지수 백오프 + 지터로 다음 시도 예약 / max-attempts 도달: FAILED (수동 처리)
+ * - 토스 취소는 이미 취소된 결제면 성공으로 간주해 재시도해도 안전
+ * - 적체 건수/가장 오래된 작업 나이를 게이지로 노출
+ */
+@Slf4j
+@Component
+public class CompensationWorker {
+
+	static final String BACKLOG = "payment_compensation_backlog";
+	static final String OLDEST_AGE = "payment_compensation_oldest_age_seconds";
+	static final String RESULT = "payment_compensation_task_total";
+	private static final String ALREADY_CANCELED = "ALREADY_CANCELED_PAYMENT";
+
+	private final CompensationTaskRepository taskRepository;
+	private final PaymentGatewayPort gatewayPort;
+	private final CompensationTransactionService compensationTxService;
+	private final LaneGate laneGate;
+	private final PaymentMetrics metrics;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration baseBackoff;
+	private final Duration maxBackoff;
+	private final Duration lease;
+
+	private final AtomicLong backlog = new AtomicLong();
+	private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+	public CompensationWorker(
+		CompensationTaskRepository taskRepository,
+		PaymentGatewayPort gatewayPort,
+		CompensationTransactionService compensationTxService,
+		LaneGate laneGate,
+		PaymentMetrics metrics,
+		MeterRegistry registry,
+		@Value("${app.compensation.batch-size:20}") int batchSize,
+		@Value("${app.compensation.max-attempts:10}") int maxAttempts,
+		@Value("${app.compensation.base-backoff:30s}") Duration baseBackoff,
+		@Value("${app.compensation.max-backoff:1h}") Duration maxBackoff,
+		@Value("${app.compensation.lease:5m}") Duration lease
+	) {
+		this.taskRepository = taskRepository;
+		this.gatewayPort = gatewayPort;
+		this.compensationTxService = compensationTxService;
+		this.laneGate = laneGate;
+		this.metrics = metrics;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.baseBackoff = baseBackoff;
+		this.maxBackoff = maxBackoff;
+		this.lease = lease;
+		Gauge.builder(BACKLOG, backlog, AtomicLong::get).register(registry);
+		Gauge.builder(OLDEST_AGE, oldestAgeSeconds, AtomicLong::get).baseUnit("seconds").register(registry);
+	}
+
+	@Scheduled(
+		initialDelayString = "${app.compensation.poll-interval:30s}",
+		fixedDelayString = "${app.compensation.poll-interval:30s}"
+	)
+	public void poll() {
+		LocalDateTime now = LocalDateTime.now();
+		for (CompensationTask task : taskRepository.findDue(now, batchSize)) {
+			if (taskRepository.claim(task.getTaskId(), now, now.plus(lease))) {
+				process(task);
+			}
+		}
+		refreshBacklog(LocalDateTime.now());
+	}
+
+	void process(CompensationTask task) {
+		String type = task.getType().name().toLowerCase();
+		try {
+			laneGate.run(TrafficLane.BATCH, () -> compensate(task));
+			taskRepository.save(task.complete());
+			metrics.result(RESULT, "type", type, "result", "done");
+			log.info("[결제-Comp] 보상 완료: orderId={}, type={}, attempts={}",
+				task.getOrderId(), task.getType(), task.getAttempts() + 1);
+		} catch (Exception ex) {
+			int attempts = task.getAttempts() + 1;
+			if (attempts >= maxAttempts) {
+				taskRepository.save(task.fail(ex.toString()));
+				metrics.result(RESULT, "type", type, "result", "failed");
+				log.error("[결제-Comp] 보상 재시도 한계 도달, 수동 처리 필요: orderId={}, type={}, attempts={}",
+					task.getOrderId(), task.getType(), attempts, ex);
+				return;
+			}
+			LocalDateTime next = LocalDateTime.now().plus(backoff(attempts));
+			taskRepository.save(task.retryAt(next, ex.toString()));
+			metrics.result(RESULT, "type", type, "result", "retry");
+			log.warn("[결제-Comp] 보상 실패, 재시도 예약: orderId={}, type={}, attempts={}, next={}, cause={}",
+				task.getOrderId(), task.getType(), attempts, next, ex.toString());
+		}
+	}
+
+	private void compensate(CompensationTask task) {
+		cancelAtToss(task);
+		Throwable cause = new IllegalStateException(task.getCause());
+		switch (task.getType()) {
+			case APPROVAL -> compensationTxService.compensateApprovalFailure(task.getOrderId(), cause);
+			case AUTO_CHARGE -> compensationTxService.compensateAutoChargeFailure(task.getOrderId(), cause);
+		}
+	}
+
+	private void cancelAtToss(CompensationTask task) {
+		String detail = task.getType() == CompensationType.APPROVAL ? "보상 취소" : "보상-자동 결제 취소";
+		try {
+			gatewayPort.cancelPayment(task.getPaymentKey(), CancelReason.SYSTEM_ERROR.name(), task.getAmount(), detail);
+		} catch (TossException e) {
+			if (!alreadyCancelled(e)) {
+				throw e;
+			}
+			log.info("[결제-Comp] 토스 결제 이미 취소됨: orderId={}", task.getOrderId());
+		}
+	}
+
+	/** 토스가 이미 취소된 결제라고 응답했는지 (취소 재시도를 성공으로 볼 수 있음) */
+	static boolean alreadyCancelled(TossException e) {
+		return e.getCause() instanceof WebClientResponseException res
+			&& res.getResponseBodyAsString().contains(ALREADY_CANCELED);
+	}
+
+	/** 지수 백오프 (base × 2^(n-1), 최대 max-backoff) + 최대 10% 지터 */
+	Duration backoff(int attempts) {
+		long base = baseBackoff.toMillis() << Math.min(attempts - 1, 20);
+		long capped = Math.min(maxBackoff.toMillis(), base);
+		long jitter = ThreadLocalRandom.current().nextLong(capped / 10 + 1);
+		return Duration.ofMillis(capped + jitter);
+	}
+
+	private void refreshBacklog(LocalDateTime now) {
+		backlog.set(taskRepository.countPending());
+		oldestAgeSeconds.set(taskRepository.findOldestPendingCreatedAt()
+			.map(createdAt -> Duration.between(createdAt, now).toSeconds())
+			.orElse(0L));
+	}
+}
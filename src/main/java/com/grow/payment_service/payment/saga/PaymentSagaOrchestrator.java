@@ -1,17 +1,23 @@
 package com.grow.payment_service.payment.saga;
 
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
+import com.grow.payment_service.global.metrics.SagaStepMetrics;
 import com.grow.payment_service.payment.application.dto.PaymentAutoChargeParam;
 import com.grow.payment_service.payment.application.dto.PaymentCancelResponse;
 import com.grow.payment_service.payment.application.dto.PaymentConfirmResponse;
 import com.grow.payment_service.payment.application.dto.PaymentIssueBillingKeyParam;
 import com.grow.payment_service.payment.application.dto.PaymentIssueBillingKeyResponse;
 import com.grow.payment_service.payment.application.service.PaymentPersistenceService;
+import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
 import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
 import com.grow.payment_service.global.exception.PaymentSagaException;
 import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.TossException;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingAuthResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
 import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
@@ -28,6 +34,8 @@ public class PaymentSagaOrchestrator {
 	private final RetryablePersistenceService retryableService;
 	private final RedisIdempotencyAdapter idempotencyAdapter;
 	private final PaymentPersistenceService persistenceService;
+	private final SagaStepMetrics stepMetrics;
+	private final SagaLog sagaLog;
 
 
 	/**
@@ -36,8 +44,12 @@ public class PaymentSagaOrchestrator {
 	 * 2) 토스 결제 승인 API 호출
 	 * 3) DB 저장(리트라이+보상)
 	 * 4) 처리 완료 후 결과 저장
+	 * 각 단계는 SagaLog 에 남겨 토스 승인 후 크래시가 나도 재기동 시 이어서 처리
+	 * 토스 응답을 못 받은 경우(타임아웃/전송 오류)는 승인됐을 수 있으므로 사가를 STARTED 로 두고 멱등키도 유지
+	 * → SagaRecoveryRunner 가 토스 조회로 결과를 확정한 뒤 멱등키를 완료/해제
+	 * 저장된 결제를 그대로 반환하므로 호출 측에서 재조회할 필요 없음
 	 */
-	public Long confirmWithCompensation(
+	public Payment confirmWithCompensation(
 		String paymentKey,
 		String orderId,
 		int amount,
@@ -45,39 +57,41 @@ public class PaymentSagaOrchestrator {
 		String customerEmail,
 		String customerName
 	) {
-		log.info("[SAGA][confirm] 시작 → paymentKey={}, orderId={}, amount={}, idempotencyKey={}, email={}, name={}",
-			paymentKey, orderId, amount, idempotencyKey, customerEmail, customerName);
-
-		log.debug("[SAGA][confirm] 멱등키 예약 시도 → key={}", idempotencyKey);
-		if (!idempotencyAdapter.reserve(idempotencyKey)) {
-			log.warn("[SAGA][confirm] 중복 요청 차단 → key={}", idempotencyKey);
+		// 흐름 요약은 호출 측(PaymentApplicationServiceImpl) FlowLog 가 한 줄로 기록, 여기서는 예외 상황만 기록
+		if (!stepMetrics.record("confirm", "idempotency_reserve", () -> idempotencyAdapter.reserve(idempotencyKey))) {
 			String prev = idempotencyAdapter.getResult(idempotencyKey);
+			log.warn("[SAGA][confirm] 중복 요청 → orderId={}, paymentId={}", orderId, prev);
 			if (prev != null) {
-				log.info("[SAGA][confirm] 이전 처리 결과 반환 → paymentId={}", prev);
-				return Long.valueOf(prev);
+				return persistenceService.findByOrderId(orderId);
 			}
 			throw new PaymentSagaException(ErrorCode.IDEMPOTENCY_IN_FLIGHT);
 		}
-		log.debug("[SAGA][confirm] 멱등키 예약 성공 → key={}", idempotencyKey);
 
 		try {
-			log.info("[SAGA][confirm] 토스 API 호출 → confirmPayment(paymentKey={}, orderId={}, amount={})",
-				paymentKey, orderId, amount);
-			gatewayPort.confirmPayment(paymentKey, orderId, amount, customerEmail, customerName);
-			log.info("[SAGA][confirm] 토스 API 호출 완료");
-
-			log.info("[SAGA][confirm] DB 저장(saveConfirmation) 시작 → orderId={}", orderId);
-			Long paymentId = retryableService.saveConfirmation(paymentKey, orderId, amount);
-			log.info("[SAGA][confirm] DB 저장 완료 → paymentId={}", paymentId);
+			// 멱등키를 함께 남겨 복구 시 결과에 따라 완료/해제
+			sagaLog.started(SagaOperation.CONFIRM, orderId, paymentKey, amount, idempotencyKey);
+			stepMetrics.run("confirm", "gateway",
+				() -> gatewayPort.confirmPayment(paymentKey, orderId, amount, customerEmail, customerName));
+			sagaLog.gatewayDone(SagaOperation.CONFIRM, orderId, paymentKey, amount, idempotencyKey);
 
-			log.debug("[SAGA][confirm] 멱등키 완료 처리 → key={}, paymentId={}", idempotencyKey, paymentId);
-			idempotencyAdapter.finish(idempotencyKey, paymentId.toString());
+			Payment confirmed = stepMetrics.record("confirm", "db_save",
+				() -> retryableService.saveConfirmation(paymentKey, orderId, amount));
+			sagaLog.completed(SagaOperation.CONFIRM, orderId);
+			Long paymentId = confirmed.getPaymentId();
 
-			log.info("[SAGA][confirm] 종료 → paymentId={}", paymentId);
-			return paymentId;
+			stepMetrics.run("confirm", "idempotency_finish",
+				() -> idempotencyAdapter.finish(idempotencyKey, paymentId.toString()));
+			return confirmed;
 
 		} catch (Exception ex) {
-			log.error("[SAGA][confirm] 에러 발생, 멱등키 무효화 → key={}, error={}", idempotencyKey, ex.getMessage(), ex);
+			if (outcomeUnknown(ex)) {
+				log.warn("[SAGA][confirm] 토스 승인 결과 불명, 복구 스캔이 토스 조회 후 처리 → orderId={}, error={}",
+					orderId, ex.toString());
+				throw ex;
+			}
+			// 스택 트레이스는 호출 측 흐름 요약(FlowLog.failure)에서 한 번만 기록
+			log.warn("[SAGA][confirm] 실패, 멱등키 무효화 → orderId={}, error={}", orderId, ex.toString());
+			sagaLog.failed(SagaOperation.CONFIRM, orderId, ex);
 			idempotencyAdapter.invalidate(idempotencyKey);
 			throw ex;
 		}
@@ -87,14 +101,16 @@ public class PaymentSagaOrchestrator {
 	 * 1) 멱등키 reserve/getResult 로직으로 중복 처리 방지
 	 * 2) 토스 자동결제 API 호출
 	 * 3) DB 저장(리트라이+보상)
-	 * 4) 처리 완료 후 결과 저장
+	 * 4) 승인이면 결과 저장, 거절이면 멱등키 무효화 (FAILED 저장 후 재시도 가능)
+	 * 토스 응답을 못 받은 경우는 승인 처리와 같이 사가·멱등키를 남겨 복구 스캔에 맡김
+	 * 응답은 저장된 결제로 만들고, 중복 요청일 때만 이전 결과를 재조회
 	 */
 	public PaymentConfirmResponse autoChargeWithCompensation(
 		PaymentAutoChargeParam param,
 		String idempotencyKey
 	) {
 		// 멱등 키 생성 또는 이전 결과 조회
-		if (!idempotencyAdapter.reserve(idempotencyKey)) {
+		if (!stepMetrics.record("auto_charge", "idempotency_reserve", () -> idempotencyAdapter.reserve(idempotencyKey))) {
 			// 이미 같은 키가 처리중 or 완료
 			String prev = idempotencyAdapter.getResult(idempotencyKey);
 			if (prev != null) {
@@ -117,8 +133,10 @@ public class PaymentSagaOrchestrator {
 			final int taxFree   = (param.getTaxFreeAmount() == null) ? 0 : param.getTaxFreeAmount();
 			final int taxExempt = (param.getTaxExemptionAmount() == null) ? 0 : param.getTaxExemptionAmount();
 
+			sagaLog.started(SagaOperation.AUTO_CHARGE, param.getOrderId(), null, param.getAmount(), idempotencyKey);
+
 			// 토스 자동결제 API 호출
-			TossBillingChargeResponse toss = gatewayPort.chargeWithBillingKey(
+			TossBillingChargeResponse toss = stepMetrics.record("auto_charge", "gateway", () -> gatewayPort.chargeWithBillingKey(
 				param.getBillingKey(),
 				param.getCustomerKey(),
 				param.getAmount(),
@@ -128,20 +146,44 @@ public class PaymentSagaOrchestrator {
 				param.getCustomerName(),
 				taxFree,          // ← null이면 0
 				taxExempt         // ← null이면 0
-			);
+			));
+			// 보상 시 토스 취소에 필요한 paymentKey 를 함께 기록
+			sagaLog.gatewayDone(SagaOperation.AUTO_CHARGE, param.getOrderId(), toss.getPaymentKey(),
+				param.getAmount(), idempotencyKey);
 
 			// DB 저장(리트라이+보상)
-			PaymentConfirmResponse res = retryableService.saveAutoCharge(
+			Payment charged = stepMetrics.record("auto_charge", "db_save", () -> retryableService.saveAutoCharge(
 				param.getBillingKey(),
 				param.getOrderId(),
 				param.getAmount(),
 				toss
+			));
+			sagaLog.completed(SagaOperation.AUTO_CHARGE, param.getOrderId());
+			if (charged.getPayStatus() == PayStatus.AUTO_BILLING_APPROVED) {
+				// 멱등 키 완료 처리
+				stepMetrics.run("auto_charge", "idempotency_finish",
+					() -> idempotencyAdapter.finish(idempotencyKey, String.valueOf(charged.getPaymentId())));
+			} else {
+				// 승인 거절은 이번 달 결제 완료가 아님 → 키를 풀어 배치 재시도가 다시 과금하도록
+				idempotencyAdapter.invalidate(idempotencyKey);
+			}
+			// paymentKey 는 이번 승인 건 기준 (거절이면 null, 저장된 결제에는 지난달 키가 남아 있을 수 있음)
+			return new PaymentConfirmResponse(
+				charged.getPaymentId(),
+				charged.getPayStatus().name(),
+				toss.getPaymentKey(),
+				param.getCustomerEmail(),
+				param.getCustomerName()
 			);
-			// 멱등 키 완료 처리
-			idempotencyAdapter.finish(idempotencyKey, String.valueOf(res.getPaymentId()));
-			return res;
 		} catch (Exception ex) {
+			if (outcomeUnknown(ex)) {
+				// 과금됐을 수 있으므로 사가·멱등키 유지 (배치 재시도는 복구 스캔이 결과를 확정할 때까지 중복 요청으로 막힘)
+				log.warn("[SAGA][auto_charge] 토스 자동결제 결과 불명, 복구 스캔이 토스 조회 후 처리 → orderId={}, error={}",
+					param.getOrderId(), ex.toString());
+				throw ex;
+			}
 			// 처리 중 예외 발생하면 멱등 키 리셋
+			sagaLog.failed(SagaOperation.AUTO_CHARGE, param.getOrderId(), ex);
 			idempotencyAdapter.invalidate(idempotencyKey);
 			throw ex;
 		}
@@ -152,6 +194,8 @@ public class PaymentSagaOrchestrator {
 	 * 1) DB 저장(취소 요청, 리트라이+보상)
 	 * 2) 토스 결제 취소 API 호출
 	 * 3) DB 저장(취소 완료, 리트라이+보상)
+	 * 취소 요청 저장 이후 단계는 SagaLog 에 남겨 재기동 시 이어서 취소
+	 * FAILED 는 토스 취소가 확실히 실패한 경우만 기록, 토스 취소 후 DB 반영 실패는 복구 스캔이 마무리
 	 */
 	public PaymentCancelResponse cancelWithCompensation(
 		String paymentKey,
@@ -159,9 +203,26 @@ public class PaymentSagaOrchestrator {
 		int amount,
 		CancelReason reason
 	) {
-		retryableService.saveCancelRequest(paymentKey, orderId, amount, reason);
-		gatewayPort.cancelPayment(paymentKey, reason.name(), amount, "사용자 요청 취소");
-		return retryableService.saveCancelComplete(orderId);
+		stepMetrics.record("cancel", "db_cancel_request",
+			() -> retryableService.saveCancelRequest(paymentKey, orderId, amount, reason));
+		// 취소 사유는 재기동 후 토스 취소를 다시 보낼 때 사용
+		sagaLog.started(SagaOperation.CANCEL, orderId, paymentKey, amount, reason.name());
+		try {
+			stepMetrics.record("cancel", "gateway",
+				() -> gatewayPort.cancelPayment(paymentKey, reason.name(), amount, "사용자 요청 취소"));
+		} catch (Exception ex) {
+			// 타임아웃/전송 오류는 토스에서 취소됐을 수 있으므로 STARTED 로 두고 복구 스캔이 취소를 다시 보냄
+			if (!outcomeUnknown(ex)) {
+				sagaLog.failed(SagaOperation.CANCEL, orderId, ex);
+			}
+			throw ex;
+		}
+		// 토스 취소 이후 실패는 사가를 열어 둠 → 복구 스캔이 CANCEL_REQUESTED 를 취소 완료로 반영
+		sagaLog.gatewayDone(SagaOperation.CANCEL, orderId, paymentKey, amount, reason.name());
+		PaymentCancelResponse res = stepMetrics.record("cancel", "db_cancel_complete",
+			() -> retryableService.saveCancelComplete(orderId));
+		sagaLog.completed(SagaOperation.CANCEL, orderId);
+		return res;
 	}
 
 	/**
@@ -172,10 +233,27 @@ public class PaymentSagaOrchestrator {
 	public PaymentIssueBillingKeyResponse issueKeyWithCompensation(
 		PaymentIssueBillingKeyParam param
 	) {
-		TossBillingAuthResponse toss = gatewayPort.issueBillingKey(
+		TossBillingAuthResponse toss = stepMetrics.record("issue_key", "gateway", () -> gatewayPort.issueBillingKey(
 			param.getAuthKey(),
 			param.getCustomerKey()
-		);
-		return retryableService.saveBillingKey(param.getOrderId(), toss.getBillingKey());
+		));
+		return stepMetrics.record("issue_key", "db_save",
+			() -> retryableService.saveBillingKey(param.getOrderId(), toss.getBillingKey()));
+	}
+
+	/**
+	 * 토스에 요청이 나간 뒤 응답을 못 받았는지 (타임아웃, 연결 끊김 등 전송 오류)
+	 * 토스에서는 처리됐을 수 있으므로 실패로 확정하지 않음, 호출 전 거절(TOSS_UNAVAILABLE)·4xx/5xx 응답은 해당 없음
+	 */
+	static boolean outcomeUnknown(Throwable ex) {
+		for (Throwable cur = ex; cur != null; cur = cur.getCause()) {
+			if (cur instanceof TossException e && e.getErrorCode() == ErrorCode.TOSS_TIMEOUT) {
+				return true;
+			}
+			if (cur instanceof WebClientRequestException) {
+				return true;
+			}
+		}
+		return false;
 	}
-}
\ No newline at end of file
+}
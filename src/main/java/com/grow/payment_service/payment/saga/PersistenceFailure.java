@@ -0,0 +1,99 @@
+package com.grow.payment_service.payment.saga;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+
+/**
+ * 결제 DB 저장 실패 분류 (dataSaveInstance 재시도 판단용)
+ * - LOCK_CONFLICT: 락 대기 초과, 데드락, 낙관적 락 충돌 → 짧게 기다렸다 재시도
+ * - TIMEOUT: 쿼리 타임아웃 등 그 밖의 일시 오류 → 조금 더 기다렸다 재시도
+ * - CONNECTION: 커넥션 획득/연결 실패 → 풀·DB 회복을 기다리도록 가장 길게
+ * - PERMANENT: 제약 조건 위반, 도메인 상태 오류 등 다시 해도 같은 결과 → 재시도 없이 바로 보상
+ */
+public enum PersistenceFailure {
+
+	LOCK_CONFLICT,
+	TIMEOUT,
+	CONNECTION,
+	PERMANENT;
+
+	// SQLState 클래스: 08 연결 오류, 40 트랜잭션 롤백(직렬화 실패/데드락), 57014 쿼리 취소
+	private static final String CONNECTION_STATE = "08";
+	private static final String ROLLBACK_STATE = "40";
+	private static final String QUERY_CANCELED_STATE = "57014";
+
+	public boolean isTransient() {
+		return this != PERMANENT;
+	}
+
+	/** 예외 체인을 따라가며 처음 식별되는 일시 오류 분류, 없으면 PERMANENT */
+	public static PersistenceFailure classify(Throwable t) {
+		for (Throwable cur = t; cur != null; cur = cur.getCause()) {
+			PersistenceFailure failure = classifyOne(cur);
+			if (failure != PERMANENT) {
+				return failure;
+			}
+		}
+		return PERMANENT;
+	}
+
+	public static boolean retryable(Throwable t) {
+		return classify(t).isTransient();
+	}
+
+	private static PersistenceFailure classifyOne(Throwable t) {
+		if (t instanceof PessimisticLockingFailureException
+			|| t instanceof OptimisticLockingFailureException
+			|| t instanceof PessimisticLockException
+			|| t instanceof LockTimeoutException
+			|| t instanceof OptimisticLockException
+			|| t instanceof SQLTransactionRollbackException) {
+			return LOCK_CONFLICT;
+		}
+		if (t instanceof DataAccessResourceFailureException
+			|| t instanceof CannotCreateTransactionException
+			|| t instanceof TransientDataAccessResourceException
+			|| t instanceof RecoverableDataAccessException
+			|| t instanceof SQLTransientConnectionException
+			|| t instanceof SQLRecoverableException) {
+			return CONNECTION;
+		}
+		if (t instanceof QueryTimeoutException
+			|| t instanceof jakarta.persistence.QueryTimeoutException
+			|| t instanceof SQLTimeoutException
+			|| t instanceof TransientDataAccessException
+			|| t instanceof SQLTransientException) {
+			return TIMEOUT;
+		}
+		if (t instanceof SQLException sql && sql.getSQLState() != null) {
+			String state = sql.getSQLState();
+			if (state.startsWith(CONNECTION_STATE)) {
+				return CONNECTION;
+			}
+			if (state.startsWith(ROLLBACK_STATE)) {
+				return LOCK_CONFLICT;
+			}
+			if (state.equals(QUERY_CANCELED_STATE)) {
+				return TIMEOUT;
+			}
+		}
+		return PERMANENT;
+	}
+}
@@ -0,0 +1,41 @@
+package com.grow.payment_service.payment.saga;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.core.functions.Either;
+
+/**
+ * dataSaveInstance 재시도 간격: 실패 분류(PersistenceFailure)별 지수 백오프 + 지터
+ * - 분류마다 시작 간격만 다르고 배수/지터/상한은 공통
+ * - 지터로 같은 행을 두고 충돌한 요청들이 같은 시점에 다시 몰리지 않게 함
+ * - PERMANENT 는 retryOnException 에서 걸러져 여기까지 오지 않음 (오더라도 가장 짧은 간격)
+ */
+public class PersistenceRetryBackoff implements IntervalBiFunction<Object> {
+
+	private final Map<PersistenceFailure, IntervalFunction> backoffs = new EnumMap<>(PersistenceFailure.class);
+
+	public PersistenceRetryBackoff(
+		Duration lockConflict, Duration timeout, Duration connection,
+		double multiplier, double randomization, Duration maxInterval
+	) {
+		backoffs.put(PersistenceFailure.LOCK_CONFLICT,
+			IntervalFunction.ofExponentialRandomBackoff(lockConflict, multiplier, randomization, maxInterval));
+		backoffs.put(PersistenceFailure.TIMEOUT,
+			IntervalFunction.ofExponentialRandomBackoff(timeout, multiplier, randomization, maxInterval));
+		backoffs.put(PersistenceFailure.CONNECTION,
+			IntervalFunction.ofExponentialRandomBackoff(connection, multiplier, randomization, maxInterval));
+		backoffs.put(PersistenceFailure.PERMANENT, backoffs.get(PersistenceFailure.LOCK_CONFLICT));
+	}
+
+	@Override
+	public Long apply(Integer attempt, Either<Throwable, Object> either) {
+		PersistenceFailure failure = either.isLeft()
+			? PersistenceFailure.classify(either.getLeft())
+			: PersistenceFailure.TIMEOUT;
+		return backoffs.get(failure).apply(attempt);
+	}
+}
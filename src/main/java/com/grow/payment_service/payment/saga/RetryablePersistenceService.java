@@ -3,12 +3,13 @@ package com.grow.payment_service.payment.saga;
 import org.springframework.stereotype.Service;
 import io.github.resilience4j.retry.annotation.Retry;
 
+import com.grow.payment_service.global.metrics.SagaStepMetrics;
 import com.grow.payment_service.payment.application.dto.PaymentCancelResponse;
-import com.grow.payment_service.payment.application.dto.PaymentConfirmResponse;
 import com.grow.payment_service.payment.application.dto.PaymentIssueBillingKeyResponse;
 import com.grow.payment_service.payment.application.service.PaymentPersistenceService;
+import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
-import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
 import com.grow.payment_service.global.exception.PaymentSagaException;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
 import com.grow.payment_service.global.exception.ErrorCode;
@@ -19,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 결제 DB 리트라이 + 보상 트랜잭션 관리 서비스
  * 결제 승인/취소/자동결제 등 DB 저장 시 리트라이 및 보상 트랜잭션을 조율하는 역할
+ * 재시도 조건/간격은 PersistenceRetryConfig (실패 분류: PersistenceFailure)
  */
 @Slf4j
 @Service
@@ -26,120 +28,122 @@ import lombok.extern.slf4j.Slf4j;
 public class RetryablePersistenceService {
 
 	private final PaymentPersistenceService persistenceService;
-	private final PaymentGatewayPort gatewayPort;
 	private final CompensationTransactionService compensationTxService;
+	private final CompensationQueue compensationQueue;
+	private final SagaStepMetrics stepMetrics;
 
 	/**
-	 * 1) 결제 승인 정보를 DB에 저장
-	 * 2) 저장 실패 시 3회 재시도 -> recoverConfirm에서 보상(자동 취소) 실행
+	 * 1) 결제 승인 정보를 DB에 저장, 저장된 결제 반환
+	 * 2) 일시 오류면 분류별 백오프로 재시도, 영구 오류나 재시도 소진 시 recoverConfirm에서 보상(자동 취소) 실행
 	 */
 	@Retry(name = "dataSaveInstance", fallbackMethod = "recoverConfirm")
-	public Long saveConfirmation(String paymentKey, String orderId, int amount) {
-		log.info("[결제-Retry] 결제 승인 정보 DB 저장 시도: orderId={}", orderId);
-		return persistenceService.savePaymentConfirmation(orderId, paymentKey);
+	public Payment saveConfirmation(String paymentKey, String orderId, int amount) {
+		log.debug("[결제-Retry] 결제 승인 정보 DB 저장 시도: orderId={}", orderId);
+		return stepMetrics.record("confirm", "db_attempt",
+			() -> persistenceService.savePaymentConfirmation(orderId, paymentKey));
 	}
 
 	/**
-	 * 결제 승인 정보 저장 실패 시 보상(자동 취소)
-	 * - 외부 결제 보상 취소 요청 후 내부 보상 트랜잭션 실행
-	 * - 보상 완료 시 SAGA_COMPENSATE_COMPLETED 예외 전파
+	 * 결제 승인 정보 저장 실패 시 보상(자동 취소) 작업 등록
+	 * - 토스 취소 + 내부 보상 트랜잭션은 CompensationWorker 가 비동기로 재시도하며 수행
+	 * - 등록 완료 시 SAGA_COMPENSATE_SCHEDULED 예외 전파 (요청은 즉시 실패 응답)
 	 */
-	public Long recoverConfirm(String paymentKey, String orderId, int amount, Throwable t) {
-		log.error("[결제-Retry] 결제 승인 DB 저장 실패, 보상 트랜잭션 실행: orderId={}, cause={}", orderId, t.toString());
+	public Payment recoverConfirm(String paymentKey, String orderId, int amount, Throwable t) {
+		log.error("[결제-Retry] 결제 승인 DB 저장 실패, 보상 작업 등록: orderId={}, cause={}", orderId, t.toString());
 		try {
-			gatewayPort.cancelPayment(paymentKey, CancelReason.SYSTEM_ERROR.name(), amount, "보상 취소");
-			compensationTxService.compensateApprovalFailure(orderId, t);
+			stepMetrics.run("confirm", "compensation",
+				() -> compensationQueue.enqueue(CompensationType.APPROVAL, orderId, paymentKey, amount, t));
 		} catch (Exception ex) {
-			// 보상 중 에러 발생 시
+			// 보상 작업 등록 실패 시
 			throw new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_ERROR, ex);
 		}
-		// 보상 완료 알림
-		throw new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_COMPLETED, t);
+		throw new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_SCHEDULED, t);
 	}
 
 	/**
 	 * 1) 사용자 요청 결제 취소 요청 내역을 DB에 저장
-	 * 2) 저장 실패 시 3회 재시도 -> recoverCancelRequest에서 보상 트랜잭션 실행
+	 * 2) 일시 오류면 분류별 백오프로 재시도, 영구 오류나 재시도 소진 시 recoverCancelRequest에서 보상 트랜잭션 실행
 	 */
 	@Retry(name = "dataSaveInstance", fallbackMethod = "recoverCancelRequest")
 	public PaymentCancelResponse saveCancelRequest(
 		String paymentKey, String orderId, int amount, CancelReason reason
 	) {
-		log.info("[결제-Retry] 결제 취소 요청 정보 DB 저장 시도: orderId={}", orderId);
-		return persistenceService.requestCancel(orderId, reason, amount);
+		log.debug("[결제-Retry] 결제 취소 요청 정보 DB 저장 시도: orderId={}", orderId);
+		return stepMetrics.record("cancel", "db_attempt",
+			() -> persistenceService.requestCancel(orderId, reason, amount));
 	}
 
 	public PaymentCancelResponse recoverCancelRequest(
 		String paymentKey, String orderId, int amount, CancelReason reason, Throwable t
 	) {
 		log.error("[결제-Retry] 결제 취소 요청 DB 저장 실패, 보상 트랜잭션 실행: orderId={}, cause={}", orderId, t.toString());
-		return compensationTxService.compensateCancelRequestFailure(orderId, t);
+		return stepMetrics.record("cancel", "compensation",
+			() -> compensationTxService.compensateCancelRequestFailure(orderId, t));
 	}
 
 	/**
 	 * 1) 사용자 요청 결제 취소 완료 내역을 DB에 저장
-	 * 2) 저장 실패 시 3회 재시도 -> recoverCancelComplete에서 보상 트랜잭션 실행
+	 * 2) 일시 오류면 분류별 백오프로 재시도, 영구 오류나 재시도 소진 시 recoverCancelComplete에서 보상 트랜잭션 실행
 	 */
 	@Retry(name = "dataSaveInstance", fallbackMethod = "recoverCancelComplete")
 	public PaymentCancelResponse saveCancelComplete(String orderId) {
-		log.info("[결제-Retry] 결제 취소 완료 정보 DB 저장 시도: orderId={}", orderId);
-		return persistenceService.completeCancel(orderId);
+		log.debug("[결제-Retry] 결제 취소 완료 정보 DB 저장 시도: orderId={}", orderId);
+		return stepMetrics.record("cancel", "db_attempt", () -> persistenceService.completeCancel(orderId));
 	}
 
 	public PaymentCancelResponse recoverCancelComplete(String orderId, Throwable t) {
 		log.error("[결제-Retry] 결제 취소 완료 DB 저장 실패, 보상 트랜잭션 실행: orderId={}, cause={}", orderId, t.toString());
-		return compensationTxService.compensateCancelCompleteFailure(orderId, t);
+		return stepMetrics.record("cancel", "compensation",
+			() -> compensationTxService.compensateCancelCompleteFailure(orderId, t));
 	}
 
 	/**
 	 * 1) 자동결제 빌링키를 DB에 저장
-	 * 2) 저장 실패 시 3회 재시도 -> recoverIssueKey에서 예외 전파
+	 * 2) 일시 오류면 분류별 백오프로 재시도, 영구 오류나 재시도 소진 시 recoverIssueKey에서 예외 전파
 	 */
 	@Retry(name = "dataSaveInstance", fallbackMethod = "recoverIssueKey")
 	public PaymentIssueBillingKeyResponse saveBillingKey(String orderId, String billingKey) {
-		log.info("[결제-Retry] 빌링키 발급 정보 DB 저장 시도: orderId={}", orderId);
-		return persistenceService.saveBillingKeyRegistration(orderId, billingKey);
+		log.debug("[결제-Retry] 빌링키 발급 정보 DB 저장 시도: orderId={}", orderId);
+		return stepMetrics.record("issue_key", "db_attempt",
+			() -> persistenceService.saveBillingKeyRegistration(orderId, billingKey));
 	}
 
 	public PaymentIssueBillingKeyResponse recoverIssueKey(String orderId, String billingKey, Throwable t) {
 		log.error("[결제-Retry] 빌링키 발급 DB 저장 실패: orderId={}, cause={}", orderId, t.toString());
-		compensationTxService.compensateIssueKeyFailure(orderId, billingKey, t);
+		stepMetrics.run("issue_key", "compensation",
+			() -> compensationTxService.compensateIssueKeyFailure(orderId, billingKey, t));
 		// 보상 후 예외가 던져지므로 도달하지 않음
 		throw new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_COMPLETED, t);
 	}
 
 	/**
-	 * 1) 자동결제 결과를 DB에 저장
-	 * 2) 저장 실패 시 3회 재시도 -> recoverAutoCharge에서 보상(자동 취소) 실행
+	 * 1) 자동결제 결과를 DB에 저장, 저장된 결제 반환
+	 * 2) 일시 오류면 분류별 백오프로 재시도, 영구 오류나 재시도 소진 시 recoverAutoCharge에서 보상(자동 취소) 실행
 	 */
 	@Retry(name = "dataSaveInstance", fallbackMethod = "recoverAutoCharge")
-	public PaymentConfirmResponse saveAutoCharge(
+	public Payment saveAutoCharge(
 		String billingKey, String orderId, int amount, TossBillingChargeResponse tossRes
 	) {
-		log.info("[결제-Retry] 자동결제 승인 결과 DB 저장 시도: orderId={}", orderId);
-		return persistenceService.saveAutoChargeResult(orderId, tossRes);
+		log.debug("[결제-Retry] 자동결제 승인 결과 DB 저장 시도: orderId={}", orderId);
+		return stepMetrics.record("auto_charge", "db_attempt",
+			() -> persistenceService.saveAutoChargeResult(orderId, tossRes));
 	}
 
 	/**
-	 * 자동결제 결과 저장 실패 시 보상(자동 취소)
-	 * - 외부 결제 취소 후 내부 보상 트랜잭션 실행
-	 * - 보상 완료 시 SAGA_COMPENSATE_COMPLETED 예외 전파
+	 * 자동결제 결과 저장 실패 시 보상(자동 취소) 작업 등록
+	 * - 토스 취소 + 내부 보상 트랜잭션은 CompensationWorker 가 비동기로 재시도하며 수행
+	 * - 등록 완료 시 SAGA_COMPENSATE_SCHEDULED 예외 전파
 	 */
-	public PaymentConfirmResponse recoverAutoCharge(
+	public Payment recoverAutoCharge(
 		String billingKey, String orderId, int amount, TossBillingChargeResponse tossRes, Throwable t
 	) {
-		log.error("[결제-Retry] 자동결제 승인 결과 DB 저장 실패, 보상 트랜잭션 실행: orderId={}, cause={}", orderId, t.toString());
+		log.error("[결제-Retry] 자동결제 승인 결과 DB 저장 실패, 보상 작업 등록: orderId={}, cause={}", orderId, t.toString());
 		try {
-			gatewayPort.cancelPayment(
-				tossRes.getPaymentKey(),
-				CancelReason.SYSTEM_ERROR.name(),
-				amount,
-				"보상-자동 결제 취소"
-			);
-			compensationTxService.compensateAutoChargeFailure(orderId, t);
+			stepMetrics.run("auto_charge", "compensation",
+				() -> compensationQueue.enqueue(CompensationType.AUTO_CHARGE, orderId, tossRes.getPaymentKey(), amount, t));
 		} catch (Exception ex) {
 			throw new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_ERROR, ex);
 		}
-		throw new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_COMPLETED, t);
+		throw new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_SCHEDULED, t);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.grow.payment_service.payment.saga;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+import com.grow.payment_service.payment.domain.repository.SagaLogRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사가 진행 기록기 (추가 전용, 그룹 커밋)
+ * - 기록은 큐에 넣고 전용 writer 스레드가 모아서 한 번의 배치 INSERT 로 저장
+ *   writer 가 이전 배치를 쓰는 동안 쌓인 기록이 다음 배치가 되므로 부하가 높을수록 배치가 커짐
+ * - GATEWAY_DONE(토스 처리 완료)만 저장될 때까지 대기 (최대 durable-timeout)
+ *   크래시가 나도 "토스에서 돈이 움직였다"는 사실은 남도록 하기 위함
+ * - 나머지 단계는 대기 없이 큐에만 넣음 (유실되면 복구 시 한 단계 앞에서 다시 판단)
+ * - 기록 실패·지연은 결제를 막지 않음: 경고 로그 + 메트릭만 남기고 진행
+ */
+@Slf4j
+@Component
+public class SagaLog {
+
+	static final String BATCH_SIZE = "saga_log_batch_size";
+	static final String DURABLE_WAIT = "saga_log_durable_wait";
+	static final String WRITE_FAILED = "saga_log_write_failed_total";
+
+	private final SagaLogRepository repository;
+	private final PaymentMetrics metrics;
+	private final int maxBatch;
+	private final Duration durableTimeout;
+	private final BlockingQueue<Pending> queue;
+	private final DistributionSummary batchSize;
+	private final Timer durableWait;
+	private final Thread writer;
+
+	private volatile boolean running = true;
+
+	public SagaLog(
+		SagaLogRepository repository,
+		PaymentMetrics metrics,
+		MeterRegistry registry,
+		@Value("${app.saga-log.max-batch:200}") int maxBatch,
+		@Value("${app.saga-log.queue-capacity:10000}") int queueCapacity,
+		@Value("${app.saga-log.durable-timeout:200ms}") Duration durableTimeout
+	) {
+		this.repository = repository;
+		this.metrics = metrics;
+		this.maxBatch = maxBatch;
+		this.durableTimeout = durableTimeout;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = DistributionSummary.builder(BATCH_SIZE).register(registry);
+		this.durableWait = Timer.builder(DURABLE_WAIT).publishPercentiles(0.5, 0.99).register(registry);
+		this.writer = Thread.ofPlatform().name("saga-log-writer").daemon().start(this::writeLoop);
+	}
+
+	public void started(SagaOperation operation, String orderId, String paymentKey, int amount, String detail) {
+		append(SagaLogEntry.create(orderId, operation, SagaStep.STARTED, 1, paymentKey, amount, detail));
+	}
+
+	/** 토스 처리 완료: 저장될 때까지 대기 */
+	public void gatewayDone(SagaOperation operation, String orderId, String paymentKey, int amount, String detail) {
+		appendDurable(SagaLogEntry.create(orderId, operation, SagaStep.GATEWAY_DONE, 1, paymentKey, amount, detail));
+	}
+
+	public void completed(SagaOperation operation, String orderId) {
+		append(SagaLogEntry.create(orderId, operation, SagaStep.COMPLETED, 1, null, 0, null));
+	}
+
+	public void failed(SagaOperation operation, String orderId, Throwable cause) {
+		append(SagaLogEntry.create(orderId, operation, SagaStep.FAILED, 1, null, 0, abbreviate(cause)));
+	}
+
+	/** 대기 없이 큐에 추가, 큐가 가득 차면 버림 */
+	public void append(SagaLogEntry entry) {
+		if (!queue.offer(new Pending(entry, null))) {
+			metrics.result(WRITE_FAILED, "reason", "queue_full");
+			log.warn("[SAGA-LOG] 큐 포화로 기록 누락: orderId={}, step={}", entry.getOrderId(), entry.getStep());
+		}
+	}
+
+	/** 저장될 때까지 대기 (최대 durable-timeout), 큐가 가득 차면 직접 저장 */
+	public void appendDurable(SagaLogEntry entry) {
+		long start = System.nanoTime();
+		try {
+			CompletableFuture<Void> flushed = new CompletableFuture<>();
+			if (queue.offer(new Pending(entry, flushed))) {
+				flushed.get(durableTimeout.toNanos(), TimeUnit.NANOSECONDS);
+			} else {
+				repository.appendAll(List.of(entry));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			durableFailed(entry, "interrupted", e);
+		} catch (TimeoutException e) {
+			durableFailed(entry, "durable_timeout", e);
+		} catch (Exception e) {
+			durableFailed(entry, "flush_error", e);
+		} finally {
+			durableWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/** 종료 시 큐에 남은 기록을 모두 저장 */
+	@PreDestroy
+	public void close() throws InterruptedException {
+		running = false;
+		writer.join(Duration.ofSeconds(5));
+	}
+
+	private void durableFailed(SagaLogEntry entry, String reason, Exception e) {
+		metrics.result(WRITE_FAILED, "reason", reason);
+		log.warn("[SAGA-LOG] 기록 저장 확인 실패, 결제는 계속 진행: orderId={}, step={}, reason={}",
+			entry.getOrderId(), entry.getStep(), e.toString());
+	}
+
+	private void writeLoop() {
+		List<Pending> batch = new ArrayList<>(maxBatch);
+		while (running || !queue.isEmpty()) {
+			try {
+				Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, maxBatch - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<Pending> batch) {
+		try {
+			repository.appendAll(batch.stream().map(Pending::entry).toList());
+			batchSize.record(batch.size());
+			batch.forEach(p -> p.complete(null));
+		} catch (Exception e) {
+			metrics.result(WRITE_FAILED, "reason", "flush_error");
+			log.error("[SAGA-LOG] 배치 저장 실패: size={}", batch.size(), e);
+			batch.forEach(p -> p.complete(e));
+		}
+	}
+
+	private static String abbreviate(Throwable cause) {
+		String s = String.valueOf(cause);
+		return s.length() > 200 ? s.substring(0, 200) : s;
+	}
+
+	private record Pending(SagaLogEntry entry, CompletableFuture<Void> flushed) {
+
+		void complete(Exception error) {
+			if (flushed == null) {
+				return;
+			}
+			if (error == null) {
+				flushed.complete(null);
+			} else {
+				flushed.completeExceptionally(error);
+			}
+		}
+	}
+}
@@ -0,0 +1,268 @@
+package com.grow.payment_service.payment.saga;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.PaymentSagaException;
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.global.lane.LaneGate;
+import com.grow.payment_service.global.lane.TrafficLane;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.domain.repository.SagaLogRepository;
+import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossPaymentResponse;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사가 복구 (기동 시 1회 + scan-interval 마다 주기 스캔)
+ * - SagaLog 에서 마지막 기록이 진행 중 단계(STARTED/GATEWAY_DONE)로 grace 이상 멈춘 사가를 찾아 처리
+ *   (grace 는 다른 인스턴스에서 아직 진행 중인 사가를 건드리지 않기 위한 여유, 사가 한 건의 최대 소요 시간보다 길게)
+ * - 기동 시점에 grace 가 안 지났던 사가나 기동 없이 멈춘 사가는 다음 주기 스캔에서 처리
+ * - 승인: 토스 승인 완료(GATEWAY_DONE)면 DB 반영 재개, 실패하면 기존 경로대로 보상 작업 등록
+ * - 자동결제: 토스 응답 원문이 없어 재개 대신 보상 작업 등록 (CompensationWorker 가 토스 취소)
+ *   결제에 이미 같은 paymentKey 가 반영돼 있으면(다음 달 READY 로 리셋된 뒤 포함) 완료로 간주
+ * - 취소: 토스 취소(이미 취소면 성공으로 간주) → 취소 완료 반영
+ * - 토스 처리 여부를 알 수 없는 승인/자동결제(STARTED: 응답 전 크래시, 타임아웃/전송 오류)는 토스 주문 조회로 확정
+ *   승인돼 있으면 위와 같이 반영/보상, 없으면 FAILED 로 종료, 조회 실패면 다음 스캔 때 다시 조회
+ * - 승인/자동결제 사가가 기록한 멱등키(detail)는 결과가 확정될 때 완료(반영) 또는 해제(미승인·보상)
+ * - 여러 인스턴스가 동시에 스캔해도 사가당 한 곳만 처리 (Redis 예약), 실패하면 예약을 풀어 다음 스캔 때 재시도
+ * - 결과: payment_saga_recovery_total{operation, action}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.saga-log.recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class SagaRecoveryRunner implements ApplicationRunner {
+
+	static final String RECOVERED = "payment_saga_recovery_total";
+	private static final String CLAIM_PREFIX = "saga-recovery:";
+	private static final String DONE = "DONE";
+
+	private final SagaLogRepository sagaLogRepository;
+	private final SagaLog sagaLog;
+	private final PaymentRepository paymentRepository;
+	private final RetryablePersistenceService retryableService;
+	private final CompensationQueue compensationQueue;
+	private final PaymentGatewayPort gatewayPort;
+	private final RedisIdempotencyAdapter idempotencyAdapter;
+	private final LaneGate laneGate;
+	private final PaymentMetrics metrics;
+	private final Duration grace;
+	private final Duration horizon;
+
+	public SagaRecoveryRunner(
+		SagaLogRepository sagaLogRepository,
+		SagaLog sagaLog,
+		PaymentRepository paymentRepository,
+		RetryablePersistenceService retryableService,
+		CompensationQueue compensationQueue,
+		PaymentGatewayPort gatewayPort,
+		RedisIdempotencyAdapter idempotencyAdapter,
+		LaneGate laneGate,
+		PaymentMetrics metrics,
+		@Value("${app.saga-log.recovery.grace:1m}") Duration grace,
+		@Value("${app.saga-log.recovery.horizon:24h}") Duration horizon
+	) {
+		this.sagaLogRepository = sagaLogRepository;
+		this.sagaLog = sagaLog;
+		this.paymentRepository = paymentRepository;
+		this.retryableService = retryableService;
+		this.compensationQueue = compensationQueue;
+		this.gatewayPort = gatewayPort;
+		this.idempotencyAdapter = idempotencyAdapter;
+		this.laneGate = laneGate;
+		this.metrics = metrics;
+		this.grace = grace;
+		this.horizon = horizon;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		recover();
+	}
+
+	@Scheduled(
+		initialDelayString = "${app.saga-log.recovery.scan-interval:5m}",
+		fixedDelayString = "${app.saga-log.recovery.scan-interval:5m}"
+	)
+	public void scan() {
+		recover();
+	}
+
+	/** 처리한 사가 수 반환 */
+	int recover() {
+		LocalDateTime now = LocalDateTime.now();
+		List<SagaLogEntry> open = sagaLogRepository.findOpen(now.minus(horizon), now.minus(grace));
+		if (open.isEmpty()) {
+			return 0;
+		}
+		log.warn("[SAGA-RECOVERY] 진행 중 사가 발견: {}건", open.size());
+
+		int handled = 0;
+		for (SagaLogEntry entry : open) {
+			// 같은 사가라도 이후 단계가 더 기록되면 logId 가 달라져 다시 예약 가능
+			String claimKey = CLAIM_PREFIX + entry.getOperation() + ":" + entry.getOrderId() + ":" + entry.getLogId();
+			if (!idempotencyAdapter.reserve(claimKey)) {
+				continue;
+			}
+			String operation = entry.getOperation().name().toLowerCase();
+			try {
+				String action = laneGate.call(TrafficLane.BATCH, () -> resolve(entry));
+				metrics.result(RECOVERED, "operation", operation, "action", action);
+				log.info("[SAGA-RECOVERY] 처리: orderId={}, operation={}, step={}, action={}",
+					entry.getOrderId(), entry.getOperation(), entry.getStep(), action);
+				handled++;
+			} catch (Exception e) {
+				idempotencyAdapter.invalidate(claimKey);
+				metrics.result(RECOVERED, "operation", operation, "action", "error");
+				log.error("[SAGA-RECOVERY] 처리 실패, 다음 스캔 때 재시도: orderId={}, operation={}, step={}",
+					entry.getOrderId(), entry.getOperation(), entry.getStep(), e);
+			}
+		}
+		return handled;
+	}
+
+	private String resolve(SagaLogEntry entry) {
+		Payment payment = paymentRepository.findByOrderId(entry.getOrderId()).orElse(null);
+		if (payment == null) {
+			return unresolved(entry, "주문 없음");
+		}
+		return switch (entry.getOperation()) {
+			case CONFIRM -> resolveConfirm(entry, payment);
+			case AUTO_CHARGE -> resolveAutoCharge(entry, payment);
+			case CANCEL -> resolveCancel(entry, payment.getPayStatus());
+		};
+	}
+
+	private String resolveConfirm(SagaLogEntry entry, Payment payment) {
+		if (payment.getPayStatus() == PayStatus.DONE) {
+			finishKey(entry, payment.getPaymentId());
+			return record(entry, SagaStep.COMPLETED, "이미 반영됨", "already_done");
+		}
+		if (entry.getStep() == SagaStep.STARTED) {
+			TossPaymentResponse toss = lookup(entry.getOrderId());
+			if (toss == null || !DONE.equals(toss.getStatus())) {
+				return notCharged(entry, "토스 승인 없음: " + (toss == null ? "주문 없음" : toss.getStatus()));
+			}
+			if (!entry.getPaymentKey().equals(toss.getPaymentKey())) {
+				return unresolved(entry, "토스 승인 paymentKey 불일치");
+			}
+		}
+		try {
+			Payment saved = retryableService.saveConfirmation(entry.getPaymentKey(), entry.getOrderId(), entry.getAmount());
+			finishKey(entry, saved.getPaymentId());
+			return record(entry, SagaStep.COMPLETED, "승인 반영 재개", "resumed");
+		} catch (PaymentSagaException e) {
+			// 재시도 후에도 저장 실패: recoverConfirm 이 보상 작업을 등록했으면 사가 종료
+			if (e.getErrorCode() != ErrorCode.SAGA_COMPENSATE_SCHEDULED) {
+				throw e;
+			}
+			releaseKey(entry);
+			return record(entry, SagaStep.FAILED, "보상 작업 등록", "compensated");
+		}
+	}
+
+	private String resolveAutoCharge(SagaLogEntry entry, Payment payment) {
+		boolean recorded = entry.getPaymentKey() != null && entry.getPaymentKey().equals(payment.getPaymentKey());
+		if (payment.getPayStatus() == PayStatus.AUTO_BILLING_APPROVED || recorded) {
+			finishKey(entry, payment.getPaymentId());
+			return record(entry, SagaStep.COMPLETED, "이미 반영됨", "already_done");
+		}
+		String paymentKey = entry.getPaymentKey();
+		if (entry.getStep() == SagaStep.STARTED) {
+			// 같은 주문번호로 지난 회차 승인이 조회될 수 있음 → 결제에 남은 지난 회차 키와 같으면 이번 회차 승인 없음
+			TossPaymentResponse toss = lookup(entry.getOrderId());
+			if (toss == null || !DONE.equals(toss.getStatus())
+				|| Objects.equals(toss.getPaymentKey(), payment.getPaymentKey())) {
+				return notCharged(entry, "토스 자동결제 없음: " + (toss == null ? "주문 없음" : toss.getStatus()));
+			}
+			paymentKey = toss.getPaymentKey();
+		}
+		compensationQueue.enqueue(CompensationType.AUTO_CHARGE, entry.getOrderId(), paymentKey,
+			entry.getAmount(), new IllegalStateException("사가 복구: 토스 자동결제 후 DB 반영 전 중단"));
+		// 토스 취소는 보상 작업이 처리, 이번 달 결제는 배치 재시도가 다시 시도하도록 멱등키 해제
+		releaseKey(entry);
+		return record(entry, SagaStep.FAILED, "보상 작업 등록", "compensated");
+	}
+
+	/** 토스 주문 조회, 주문이 없으면(404) null, 그 밖의 조회 실패는 예외 (예약을 풀고 다음 스캔 때 재조회) */
+	private TossPaymentResponse lookup(String orderId) {
+		try {
+			return gatewayPort.getPaymentByOrderId(orderId);
+		} catch (TossException e) {
+			if (e.getCause() instanceof WebClientResponseException res
+				&& res.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+				return null;
+			}
+			throw e;
+		}
+	}
+
+	/** 토스에서 처리되지 않은 것이 확인됨: 사가 종료 + 멱등키 해제 (같은 키로 다시 요청 가능) */
+	private String notCharged(SagaLogEntry entry, String reason) {
+		releaseKey(entry);
+		return record(entry, SagaStep.FAILED, reason, "not_charged");
+	}
+
+	private void finishKey(SagaLogEntry entry, Long paymentId) {
+		if (entry.getDetail() != null) {
+			idempotencyAdapter.finish(entry.getDetail(), String.valueOf(paymentId));
+		}
+	}
+
+	private void releaseKey(SagaLogEntry entry) {
+		if (entry.getDetail() != null) {
+			idempotencyAdapter.invalidate(entry.getDetail());
+		}
+	}
+
+	private String resolveCancel(SagaLogEntry entry, PayStatus status) {
+		if (status == PayStatus.CANCELLED) {
+			return record(entry, SagaStep.COMPLETED, "이미 반영됨", "already_done");
+		}
+		if (status != PayStatus.CANCEL_REQUESTED) {
+			return unresolved(entry, "예상치 못한 상태: " + status);
+		}
+		if (entry.getStep() == SagaStep.STARTED) {
+			try {
+				gatewayPort.cancelPayment(entry.getPaymentKey(), entry.getDetail(), entry.getAmount(), "사용자 요청 취소");
+			} catch (TossException e) {
+				if (!CompensationWorker.alreadyCancelled(e)) {
+					throw e;
+				}
+			}
+		}
+		retryableService.saveCancelComplete(entry.getOrderId());
+		return record(entry, SagaStep.COMPLETED, "취소 완료 반영 재개", "resumed");
+	}
+
+	private String unresolved(SagaLogEntry entry, String reason) {
+		log.warn("[SAGA-RECOVERY] 자동 처리 불가, 대사 필요: orderId={}, operation={}, reason={}",
+			entry.getOrderId(), entry.getOperation(), reason);
+		return record(entry, SagaStep.UNRESOLVED, reason, "unresolved");
+	}
+
+	private String record(SagaLogEntry entry, SagaStep step, String detail, String action) {
+		sagaLog.append(entry.next(step, entry.getAttempt() + 1, detail));
+		return action;
+	}
+}
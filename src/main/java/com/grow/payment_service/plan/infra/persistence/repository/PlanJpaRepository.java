@@ -2,7 +2,12 @@ package com.grow.payment_service.plan.infra.persistence.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
+import com.grow.payment_service.plan.domain.model.enums.PlanType;
 import com.grow.payment_service.plan.infra.persistence.entity.PlanJpaEntity;
 
 public interface PlanJpaRepository extends JpaRepository<PlanJpaEntity, Long> {
-}
\ No newline at end of file
+
+	/** 시드 멱등성 확인용: 같은 유형/금액/주기 플랜 존재 여부 */
+	boolean existsByTypeAndAmountAndPeriod(PlanType type, Long amount, PlanPeriod period);
+}
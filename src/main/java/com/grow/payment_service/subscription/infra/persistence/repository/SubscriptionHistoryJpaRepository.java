@@ -1,6 +1,7 @@
 package com.grow.payment_service.subscription.infra.persistence.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +36,8 @@ public interface SubscriptionHistoryJpaRepository extends JpaRepository<Subscrip
 	);
 
 	Optional<SubscriptionHistoryJpaEntity> findTopByMemberIdOrderByEndAtDesc(Long memberId);
+
+	/** 주어진 회원 중 구독 이력이 이미 있는 회원 ID (시드 멱등성 확인용) */
+	@Query("select distinct e.memberId from SubscriptionHistoryJpaEntity e where e.memberId in :memberIds")
+	List<Long> findMemberIdsWithHistory(@Param("memberIds") Collection<Long> memberIds);
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.grow.payment_service.global.lane;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.PaymentApplicationException;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("LaneGate 단위 테스트")
+class LaneGateTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private LaneGate gate(RateLimiterRegistry rateLimiters) {
+		return new LaneGate(registry, new PaymentMetrics(registry), rateLimiters, 8, 3, 1, Duration.ZERO);
+	}
+
+	@Test
+	@DisplayName("생성: 가중치로 배치 동시 실행 상한 계산, 사용자 요청 게이지는 풀 전체")
+	void capacity_splitByWeights() {
+		gate(RateLimiterRegistry.ofDefaults());
+
+		assertThat(registry.get(LaneGate.CAPACITY).tag("lane", "batch").gauge().value()).isEqualTo(2);
+		assertThat(registry.get(LaneGate.CAPACITY).tag("lane", "interactive").gauge().value()).isEqualTo(8);
+	}
+
+	@Test
+	@DisplayName("open: 레인 진입 중에는 current() 가 해당 레인, close 후 이전 레인 복원")
+	void open_setsAndRestoresLane() {
+		LaneGate gate = gate(RateLimiterRegistry.ofDefaults());
+
+		try (LaneGate.Ticket ignored = gate.open(TrafficLane.BATCH)) {
+			assertThat(TrafficLane.current()).isEqualTo(TrafficLane.BATCH);
+			assertThat(registry.get(LaneGate.IN_USE).tag("lane", "batch").gauge().value()).isEqualTo(1);
+		}
+
+		assertThat(TrafficLane.current()).isEqualTo(TrafficLane.INTERACTIVE);
+		assertThat(registry.get(LaneGate.IN_USE).tag("lane", "batch").gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("open: 배치 동시 실행 상한이 다 차면 LANE_BUSY, 사용자 요청은 계속 진입")
+	void open_batchCapacityExceeded_rejects() throws Exception {
+		LaneGate gate = gate(RateLimiterRegistry.ofDefaults());
+		CountDownLatch entered = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		for (int i = 0; i < 2; i++) {
+			executor.submit(() -> gate.run(TrafficLane.BATCH, () -> {
+				entered.countDown();
+				try {
+					release.await(1, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+		}
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> gate.open(TrafficLane.BATCH))
+			.isInstanceOf(PaymentApplicationException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.LANE_BUSY);
+		assertThat(registry.get(LaneGate.REJECTED).tag("reason", "capacity").counter().count()).isEqualTo(1);
+		assertThat(gate.call(TrafficLane.INTERACTIVE, () -> "ok")).isEqualTo("ok");
+
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("open: 배치 처리량 예산 초과 시 LANE_BUSY")
+	void open_batchRateExceeded_rejects() {
+		RateLimiterRegistry rateLimiters = RateLimiterRegistry.of(RateLimiterConfig.custom()
+			.limitForPeriod(1)
+			.limitRefreshPeriod(Duration.ofMinutes(1))
+			.timeoutDuration(Duration.ZERO)
+			.build());
+		LaneGate gate = gate(rateLimiters);
+
+		gate.run(TrafficLane.BATCH, () -> { });
+
+		assertThatThrownBy(() -> gate.run(TrafficLane.BATCH, () -> { }))
+			.isInstanceOf(PaymentApplicationException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.LANE_BUSY);
+		assertThat(registry.get(LaneGate.REJECTED).tag("reason", "rate").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("open: 이미 BATCH 레인 안이면 자리를 다시 잡지 않음")
+	void open_nestedBatch_doesNotTakeAnotherSlot() {
+		LaneGate gate = gate(RateLimiterRegistry.ofDefaults());
+
+		gate.run(TrafficLane.BATCH, () -> gate.run(TrafficLane.BATCH, () ->
+			assertThat(registry.get(LaneGate.IN_USE).tag("lane", "batch").gauge().value()).isEqualTo(1)));
+
+		assertThat(TrafficLane.current()).isEqualTo(TrafficLane.INTERACTIVE);
+	}
+}
@@ -0,0 +1,102 @@
+package com.grow.payment_service.global.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+@DisplayName("FlowLogger / LogMasker 단위 테스트")
+class FlowLoggerTest {
+
+	private final Logger flowLog = (Logger) FlowLogger.log;
+	private ListAppender<ILoggingEvent> appender;
+
+	@BeforeEach
+	void attach() {
+		appender = new ListAppender<>();
+		appender.start();
+		flowLog.addAppender(appender);
+		flowLog.setLevel(Level.INFO);
+	}
+
+	@AfterEach
+	void detach() {
+		flowLog.detachAppender(appender);
+		flowLog.setLevel(null);
+	}
+
+	@Test
+	@DisplayName("성공 흐름은 한 줄 요약, 민감 필드는 마스킹")
+	void success_singleMaskedLine() {
+		FlowLogger logger = new FlowLogger(1.0, Duration.ofSeconds(1));
+
+		logger.start("confirm")
+			.kv("orderId", "ord-1")
+			.masked("paymentKey", "pk_test_1234567890", LogMasker::key)
+			.masked("email", "member@grow.com", LogMasker::email)
+			.step("saga")
+			.success();
+
+		assertThat(appender.list).hasSize(1);
+		ILoggingEvent event = appender.list.get(0);
+		assertThat(event.getLevel()).isEqualTo(Level.INFO);
+		Map<String, Object> kv = keyValues(event);
+		assertThat(kv).containsEntry("flow", "confirm")
+			.containsEntry("outcome", "success")
+			.containsEntry("orderId", "ord-1")
+			.containsEntry("paymentKey", "pk_t****7890")
+			.containsEntry("email", "m***@grow.com")
+			.containsKey("steps");
+	}
+
+	@Test
+	@DisplayName("샘플링 0 이면 성공은 생략, 실패는 항상 ERROR 로 기록")
+	void sampling_skipsSuccessButKeepsFailure() {
+		FlowLogger logger = new FlowLogger(0.0, Duration.ofHours(1));
+
+		logger.start("confirm").kv("orderId", "ord-1").success();
+		IllegalStateException cause = new IllegalStateException("toss down");
+		logger.start("confirm").kv("orderId", "ord-2").failure(cause);
+
+		assertThat(appender.list).hasSize(1);
+		ILoggingEvent event = appender.list.get(0);
+		assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+		assertThat(event.getThrowableProxy().getMessage()).isEqualTo("toss down");
+		assertThat(keyValues(event)).containsEntry("orderId", "ord-2").containsEntry("outcome", "error");
+	}
+
+	@Test
+	@DisplayName("느린 성공 흐름은 샘플링과 무관하게 기록")
+	void slowSuccess_alwaysLogged() {
+		FlowLogger logger = new FlowLogger(0.0, Duration.ZERO);
+
+		logger.start("cancel").success();
+
+		assertThat(appender.list).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("LogMasker: 짧은 키/빈 값 처리")
+	void masker_edgeCases() {
+		assertThat(LogMasker.key("short")).isEqualTo("****");
+		assertThat(LogMasker.key(null)).isNull();
+		assertThat(LogMasker.email("no-at-sign")).isEqualTo("****");
+		assertThat(LogMasker.name("홍길동")).isEqualTo("홍**");
+	}
+
+	private static Map<String, Object> keyValues(ILoggingEvent event) {
+		return event.getKeyValuePairs().stream()
+			.collect(Collectors.toMap(kv -> kv.key, kv -> kv.value));
+	}
+}
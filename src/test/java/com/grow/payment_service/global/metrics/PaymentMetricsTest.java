@@ -0,0 +1,65 @@
+package com.grow.payment_service.global.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("PaymentMetrics 단위 테스트")
+class PaymentMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private PaymentMetrics metrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		metrics = new PaymentMetrics(registry);
+	}
+
+	@Test
+	@DisplayName("result: 같은 (이름, 태그) 는 같은 카운터에 누적, 태그가 다르면 별도 카운터")
+	void result_reusesCounterPerTags() {
+		metrics.result("payment_confirm_fail_total", "reason", "TIMEOUT");
+		metrics.result("payment_confirm_fail_total", "reason", "TIMEOUT");
+		metrics.result("payment_confirm_fail_total", "reason", "REJECTED");
+		metrics.result("payment_confirm_fail_total", 3, "reason", "TIMEOUT");
+
+		assertThat(registry.get("payment_confirm_fail_total").tag("reason", "TIMEOUT").counter().count())
+			.isEqualTo(5.0);
+		assertThat(registry.get("payment_confirm_fail_total").tag("reason", "REJECTED").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("result: 캐시 테이블 확장 이후에도 기존 카운터 유지")
+	void result_survivesResize() {
+		for (int i = 0; i < 200; i++) {
+			metrics.result("c_" + i);
+		}
+		for (int i = 0; i < 200; i++) {
+			metrics.result("c_" + i);
+		}
+
+		assertThat(registry.get("c_0").counter().count()).isEqualTo(2.0);
+		assertThat(registry.get("c_199").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("transition: 문자열/enum 호출이 같은 카운터로 집계, 알 수 없는 상태도 기록")
+	void transition_sharesCounterAcrossOverloads() {
+		metrics.transition("READY", "DONE");
+		metrics.transition(PayStatus.READY, PayStatus.DONE);
+		metrics.transition("unknown", "DONE");
+
+		assertThat(registry.get("payment_state_transition_total")
+			.tags("from", "READY", "to", "DONE").counter().count()).isEqualTo(2.0);
+		assertThat(registry.get("payment_state_transition_total")
+			.tags("from", "unknown", "to", "DONE").counter().count()).isEqualTo(1.0);
+	}
+}
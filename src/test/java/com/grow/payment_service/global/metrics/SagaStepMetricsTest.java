@@ -0,0 +1,53 @@
+package com.grow.payment_service.global.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SagaStepMetrics 단위 테스트")
+class SagaStepMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private SagaStepMetrics stepMetrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		stepMetrics = new SagaStepMetrics(registry);
+	}
+
+	@Test
+	@DisplayName("record: 성공/실패를 outcome 태그로 구분해 기록하고 결과/예외는 그대로 전달")
+	void record_tagsOutcome() {
+		String result = stepMetrics.record("confirm", "gateway", () -> "ok");
+		assertThatThrownBy(() -> stepMetrics.record("confirm", "gateway", () -> {
+			throw new IllegalStateException("toss down");
+		})).isInstanceOf(IllegalStateException.class);
+		stepMetrics.run("confirm", "gateway", () -> { });
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(timer("confirm", "gateway", "success").count()).isEqualTo(2);
+		assertThat(timer("confirm", "gateway", "error").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("타이머에 SLO 버킷이 게시됨")
+	void timer_publishesSloBuckets() {
+		stepMetrics.run("cancel", "db_cancel_request", () -> { });
+
+		CountAtBucket[] buckets = timer("cancel", "db_cancel_request", "success").takeSnapshot().histogramCounts();
+		assertThat(buckets).isNotEmpty();
+	}
+
+	private Timer timer(String operation, String step, String outcome) {
+		return registry.get(SagaStepMetrics.NAME)
+			.tags("operation", operation, "step", step, "outcome", outcome)
+			.timer();
+	}
+}
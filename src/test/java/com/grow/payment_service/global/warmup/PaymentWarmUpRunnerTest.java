@@ -0,0 +1,82 @@
+package com.grow.payment_service.global.warmup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.infra.paymentprovider.TossPaymentClient;
+import com.grow.payment_service.plan.domain.repository.PlanRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentWarmUpRunner 단위 테스트")
+class PaymentWarmUpRunnerTest {
+
+	@Mock StringRedisTemplate redisTemplate;
+	@Mock TossPaymentClient tossPaymentClient;
+	@Mock PaymentRepository paymentRepository;
+	@Mock PaymentHistoryRepository historyRepository;
+	@Mock PlanRepository planRepository;
+
+	private SimpleMeterRegistry registry;
+	private PaymentWarmUpRunner runner;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		runner = new PaymentWarmUpRunner(
+			registry, redisTemplate, tossPaymentClient, paymentRepository, historyRepository, planRepository);
+		ReflectionTestUtils.setField(runner, "iterations", 3);
+		ReflectionTestUtils.setField(runner, "tossTimeout", Duration.ofSeconds(1));
+	}
+
+	@Test
+	@DisplayName("run: 모든 단계 실행 후 단계별/전체 소요 시간 기록, 쓰기 없음")
+	void run_executesAllSteps() {
+		given(paymentRepository.findByOrderId("__warmup__")).willReturn(Optional.empty());
+		given(planRepository.findById(-1L)).willReturn(Optional.empty());
+
+		runner.run(null);
+
+		then(paymentRepository).should().findByOrderId("__warmup__");
+		then(paymentRepository).shouldHaveNoMoreInteractions();
+		then(historyRepository).should().findByPaymentIdIn(anyCollection());
+		then(historyRepository).shouldHaveNoMoreInteractions();
+		then(redisTemplate).should().execute(any(RedisCallback.class));
+		then(tossPaymentClient).should().warmUpConnection(Duration.ofSeconds(1));
+		for (String step : new String[] {"domain", "confirm_dry_run", "jpa", "redis", "toss", "total"}) {
+			assertThat(registry.find("payment_warmup_duration").tag("step", step).timer())
+				.as(step).isNotNull()
+				.satisfies(t -> assertThat(t.count()).isEqualTo(1));
+		}
+	}
+
+	@Test
+	@DisplayName("run: 한 단계가 실패해도 나머지 단계는 계속 실행")
+	void run_continuesAfterStepFailure() {
+		given(redisTemplate.execute(any(RedisCallback.class)))
+			.willThrow(new RedisConnectionFailureException("down"));
+
+		assertThatCode(() -> runner.run(null)).doesNotThrowAnyException();
+
+		then(tossPaymentClient).should().warmUpConnection(any(Duration.class));
+		assertThat(registry.find("payment_warmup_duration").tag("step", "redis").timer()).isNotNull();
+	}
+}
@@ -3,15 +3,20 @@ package com.grow.payment_service.payment.application.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -19,6 +24,7 @@ import org.mockito.quality.Strictness;
 import com.grow.payment_service.global.dto.RsData;
 import com.grow.payment_service.global.exception.ErrorCode;
 import com.grow.payment_service.global.exception.PaymentApplicationException;
+import com.grow.payment_service.global.logging.FlowLogger;
 import com.grow.payment_service.global.metrics.PaymentMetrics;
 import com.grow.payment_service.payment.application.dto.*;
 import com.grow.payment_service.payment.domain.exception.PaymentDomainException;
@@ -55,6 +61,10 @@ class PaymentApplicationServiceImplTest {
 
 	@Mock private PaymentNotificationProducer notificationProducer;
 
+	// 비동기 호출을 호출 스레드에서 바로 실행
+	@Spy private ExecutorService paymentIoExecutor = new DirectExecutorService();
+	@Spy private FlowLogger flowLogger = new FlowLogger(1.0, Duration.ofSeconds(1));
+
 	@InjectMocks
 	private PaymentApplicationServiceImpl service;
 
@@ -126,13 +136,13 @@ class PaymentApplicationServiceImplTest {
 
 		given(paymentSaga.confirmWithCompensation(
 			"pKey", ORDER_ID, 1234, "idem", "test@example.com", "TestUser"
-		)).willReturn(100L);
+		)).willReturn(confirmedPayment(100L));
 
-		Payment paid = Payment.create(
+		Payment order = Payment.create(
 			MEMBER_ID, PLAN_ID, ORDER_ID,
 			null, null, "cust_" + MEMBER_ID, 1234L, "CARD"
 		);
-		given(paymentRepository.findById(100L)).willReturn(Optional.of(paid));
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(order));
 
 		Long result = service.confirmPayment(
 			MEMBER_ID, "pKey", ORDER_ID, 1234, "idem"
@@ -142,7 +152,10 @@ class PaymentApplicationServiceImplTest {
 		then(paymentSaga).should().confirmWithCompensation(
 			"pKey", ORDER_ID, 1234, "idem", "test@example.com", "TestUser"
 		);
-		then(paymentRepository).should().findById(100L);
+		// 조회 예산: 결제 1회(승인 전 주문 조회), Plan 1회, SAGA 이후 재조회 없음
+		then(paymentRepository).should(times(1)).findByOrderId(ORDER_ID);
+		then(paymentRepository).shouldHaveNoMoreInteractions();
+		then(planRepository).should(times(1)).findById(PLAN_ID);
 		then(subscriptionService).should().recordSubscriptionRenewal(MEMBER_ID, PlanPeriod.MONTHLY);
 
 		// ✅ 승인 성공 알림 발행 검증
@@ -156,15 +169,11 @@ class PaymentApplicationServiceImplTest {
 		given(memberClient.getMyInfo(MEMBER_ID))
 			.willReturn(new RsData<>("200","OK", profile));
 
-		given(paymentSaga.confirmWithCompensation(
-			anyString(), anyString(), anyInt(), anyString(), anyString(), anyString()
-		)).willReturn(200L);
-
-		Payment paid = Payment.create(
+		Payment order = Payment.create(
 			999L, PLAN_ID, ORDER_ID,
 			null, null, "cust_999", 1000L, "CARD"
 		);
-		given(paymentRepository.findById(200L)).willReturn(Optional.of(paid));
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(order));
 
 		PaymentApplicationException ex = assertThrows(
 			PaymentApplicationException.class,
@@ -172,6 +181,9 @@ class PaymentApplicationServiceImplTest {
 		);
 		assertTrue(ex.getCause() instanceof PaymentDomainException);
 
+		// 소유권 검증이 SAGA 이전에 수행되므로 토스 승인 호출 없음
+		then(paymentSaga).shouldHaveNoInteractions();
+
 		then(notificationProducer).should(never()).paymentApproved(anyLong(), anyString(), anyInt());
 	}
 
@@ -185,6 +197,9 @@ class PaymentApplicationServiceImplTest {
 		given(paymentSaga.confirmWithCompensation(
 			anyString(), anyString(), anyInt(), anyString(), anyString(), anyString()
 		)).willThrow(new RuntimeException("oops"));
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(Payment.create(
+			MEMBER_ID, PLAN_ID, ORDER_ID, null, null, "cust_" + MEMBER_ID, 100L, "CARD"
+		)));
 
 		assertThrows(
 			RuntimeException.class,
@@ -359,23 +374,22 @@ class PaymentApplicationServiceImplTest {
 	}
 
 	@Test
-	@DisplayName("expireIfReady: READY → ABORTED로 전이하고 저장/이력 기록")
+	@DisplayName("expireIfReady: READY → ABORTED 상태 CAS 반영 후 이력 기록")
 	void expireIfReady_readyToAborted_success() {
 		Payment ready = Payment.create(
 			MEMBER_ID, PLAN_ID, ORDER_ID,
 			null, null, "cust_" + MEMBER_ID, 5000L, "CARD"
 		);
-		given(paymentRepository.findByOrderIdForUpdate(ORDER_ID))
+		given(paymentRepository.findByOrderId(ORDER_ID))
 			.willReturn(Optional.of(ready));
+		given(paymentRepository.transitionIfStatus(ORDER_ID, PayStatus.READY, PayStatus.ABORTED))
+			.willReturn(1);
 
 		service.expireIfReady(MEMBER_ID, ORDER_ID);
 
-		ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
-		then(paymentRepository).should().save(paymentCaptor.capture());
-		assertEquals(PayStatus.ABORTED, paymentCaptor.getValue().getPayStatus());
-
-		then(historyRepository).should(times(1)).save(any());
-		then(paymentRepository).should().findByOrderIdForUpdate(ORDER_ID);
+		then(paymentRepository).should().transitionIfStatus(ORDER_ID, PayStatus.READY, PayStatus.ABORTED);
+		then(paymentRepository).should(never()).save(any());
+		then(historyRepository).should(times(1)).save(argThat(h -> h.getStatus() == PayStatus.ABORTED));
 
 		// 만료는 알림 발행 대상 아님
 		then(notificationProducer).shouldHaveNoInteractions();
@@ -384,7 +398,7 @@ class PaymentApplicationServiceImplTest {
 	@Test
 	@DisplayName("expireIfReady: 주문 없음 → PaymentApplicationException(ORDER_NOT_FOUND)")
 	void expireIfReady_orderNotFound_throws() {
-		given(paymentRepository.findByOrderIdForUpdate(ORDER_ID))
+		given(paymentRepository.findByOrderId(ORDER_ID))
 			.willReturn(Optional.empty());
 
 		PaymentApplicationException ex = assertThrows(
@@ -393,8 +407,7 @@ class PaymentApplicationServiceImplTest {
 		);
 
 		assertEquals(ErrorCode.ORDER_NOT_FOUND, ex.getErrorCode());
-		then(paymentRepository).should().findByOrderIdForUpdate(ORDER_ID);
-		then(paymentRepository).should(never()).save(any());
+		then(paymentRepository).should(never()).transitionIfStatus(any(), any(), any());
 		then(historyRepository).should(never()).save(any());
 
 		then(notificationProducer).shouldHaveNoInteractions();
@@ -410,6 +423,8 @@ class PaymentApplicationServiceImplTest {
 			"CARD", null, null
 		);
 		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(paid));
+		given(paymentRepository.clearBillingKeyIfStatus(1L, EnumSet.of(PayStatus.AUTO_BILLING_APPROVED)))
+			.willReturn(1);
 
 		// 최근 승인 이력 없음(= 7일 초과로 간주)
 		given(historyRepository.findLastByPaymentIdAndStatuses(any(), anyList()))
@@ -421,16 +436,40 @@ class PaymentApplicationServiceImplTest {
 
 		assertEquals(PayStatus.ABORTED.name(), res.getStatus());
 
-		then(paymentRepository).should().save(argThat(p ->
-			p.getPayStatus() == PayStatus.ABORTED &&
-				p.getBillingKey() == null
-		));
-		then(historyRepository).should().save(any(PaymentHistory.class));
+		// 전체 저장 없이 빌링키 제거 CAS 한 번
+		then(paymentRepository).should().clearBillingKeyIfStatus(1L, EnumSet.of(PayStatus.AUTO_BILLING_APPROVED));
+		then(paymentRepository).should(never()).save(any());
+		then(historyRepository).should().save(argThat(h -> h.getStatus() == PayStatus.ABORTED));
 
 		// ✅ 해지 예약 알림
 		then(notificationProducer).should().cancelScheduled(MEMBER_ID, ORDER_ID);
 	}
 
+	@Test
+	@DisplayName("cancelPayment(구독): 7일 초과, 조회 후 상태가 바뀌어 반영 0건 → PAYMENT_CANCEL_ERROR (이력/알림 없음)")
+	void cancelPayment_subscription_after7days_lostRace_throws() {
+		Payment paid = Payment.of(
+			1L, MEMBER_ID, PLAN_ID, ORDER_ID,
+			"pKey-1", "bKey-1", "cust_" + MEMBER_ID,
+			3000L, PayStatus.AUTO_BILLING_READY,
+			"CARD", null, null
+		);
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(paid));
+		given(paymentRepository.clearBillingKeyIfStatus(1L, EnumSet.of(PayStatus.AUTO_BILLING_READY)))
+			.willReturn(0);
+		given(historyRepository.findLastByPaymentIdAndStatuses(any(), anyList()))
+			.willReturn(Optional.empty());
+
+		PaymentApplicationException ex = assertThrows(
+			PaymentApplicationException.class,
+			() -> service.cancelPayment(MEMBER_ID, ORDER_ID, 1000, CancelReason.USER_REQUEST)
+		);
+
+		assertEquals(ErrorCode.PAYMENT_CANCEL_ERROR, ex.getErrorCode());
+		then(historyRepository).should(never()).save(any());
+		then(notificationProducer).should(never()).cancelScheduled(anyLong(), anyString());
+	}
+
 	@Test
 	@DisplayName("cancelPayment(구독): 7일 이내이나 paymentKey 없음 → PAYMENT_CANCEL_ERROR (알림 없음)")
 	void cancelPayment_subscription_within7days_missingPaymentKey() {
@@ -585,10 +624,10 @@ class PaymentApplicationServiceImplTest {
 		given(memberClient.getMyInfo(MEMBER_ID)).willReturn(new RsData<>("200", "OK", profile));
 
 		given(paymentSaga.confirmWithCompensation(anyString(), anyString(), anyInt(), anyString(), anyString(), anyString()))
-			.willReturn(501L);
+			.willReturn(confirmedPayment(501L));
 
-		Payment paid = Payment.create(MEMBER_ID, PLAN_ID, ORDER_ID, null, null, "cust_" + MEMBER_ID, 1000L, "CARD");
-		given(paymentRepository.findById(501L)).willReturn(Optional.of(paid));
+		Payment order = Payment.create(MEMBER_ID, PLAN_ID, ORDER_ID, null, null, "cust_" + MEMBER_ID, 1000L, "CARD");
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(order));
 
 		Plan mockPlan = mock(Plan.class);
 		given(mockPlan.isAutoRenewal()).willReturn(false);
@@ -603,16 +642,13 @@ class PaymentApplicationServiceImplTest {
 	}
 
 	@Test
-	@DisplayName("confirmPayment: 결제는 승인됐으나 Plan 조회 실패 시 PAYMENT_CONFIRM_ERROR(현재 동작 기준)")
+	@DisplayName("confirmPayment: Plan 조회 실패 시 SAGA 호출 전에 PAYMENT_CONFIRM_ERROR")
 	void confirmPayment_planNotFound_throws() {
 		MemberInfoResponse profile = new MemberInfoResponse(1L, "t@e.com", "T");
 		given(memberClient.getMyInfo(MEMBER_ID)).willReturn(new RsData<>("200", "OK", profile));
 
-		given(paymentSaga.confirmWithCompensation(anyString(), anyString(), anyInt(), anyString(), anyString(), anyString()))
-			.willReturn(777L);
-
-		Payment paid = Payment.create(MEMBER_ID, PLAN_ID, ORDER_ID, null, null, "cust_" + MEMBER_ID, 1000L, "CARD");
-		given(paymentRepository.findById(777L)).willReturn(Optional.of(paid));
+		Payment order = Payment.create(MEMBER_ID, PLAN_ID, ORDER_ID, null, null, "cust_" + MEMBER_ID, 1000L, "CARD");
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(order));
 
 		given(planRepository.findById(PLAN_ID)).willReturn(Optional.empty());
 
@@ -622,7 +658,25 @@ class PaymentApplicationServiceImplTest {
 		);
 		assertEquals(ErrorCode.PAYMENT_CONFIRM_ERROR, ex.getErrorCode());
 
-		then(notificationProducer).should().paymentApproved(MEMBER_ID, ORDER_ID, 1000);
+		then(paymentSaga).shouldHaveNoInteractions();
+		then(notificationProducer).should(never()).paymentApproved(anyLong(), anyString(), anyInt());
+	}
+
+	@Test
+	@DisplayName("confirmPayment: 멤버 서비스 실패 시 원래 예외를 원인으로 PAYMENT_CONFIRM_ERROR")
+	void confirmPayment_memberLookupFails() {
+		given(memberClient.getMyInfo(MEMBER_ID)).willThrow(new IllegalStateException("member down"));
+
+		Payment order = Payment.create(MEMBER_ID, PLAN_ID, ORDER_ID, null, null, "cust_" + MEMBER_ID, 1000L, "CARD");
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(order));
+
+		PaymentApplicationException ex = assertThrows(
+			PaymentApplicationException.class,
+			() -> service.confirmPayment(MEMBER_ID, "pKey", ORDER_ID, 1000, "idem")
+		);
+		assertEquals(ErrorCode.PAYMENT_CONFIRM_ERROR, ex.getErrorCode());
+		assertTrue(ex.getCause() instanceof IllegalStateException);
+		then(paymentSaga).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -634,16 +688,31 @@ class PaymentApplicationServiceImplTest {
 			5000L, PayStatus.DONE,
 			"CARD", null, null
 		);
-		given(paymentRepository.findByOrderIdForUpdate(ORDER_ID)).willReturn(Optional.of(notReady));
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(notReady));
 
 		service.expireIfReady(MEMBER_ID, ORDER_ID);
 
-		then(paymentRepository).should(never()).save(any());
+		then(paymentRepository).should(never()).transitionIfStatus(any(), any(), any());
 		then(historyRepository).should(never()).save(any());
 
 		then(notificationProducer).shouldHaveNoInteractions();
 	}
 
+	@Test
+	@DisplayName("expireIfReady: 조회 후 다른 요청이 먼저 전이(반영 0건) → 이력 없이 스킵")
+	void expireIfReady_lostRace_skips() {
+		Payment ready = Payment.create(
+			MEMBER_ID, PLAN_ID, ORDER_ID,
+			null, null, "cust_" + MEMBER_ID, 5000L, "CARD"
+		);
+		given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(ready));
+		given(paymentRepository.transitionIfStatus(ORDER_ID, PayStatus.READY, PayStatus.ABORTED)).willReturn(0);
+
+		service.expireIfReady(MEMBER_ID, ORDER_ID);
+
+		then(historyRepository).should(never()).save(any());
+	}
+
 	@Test
 	@DisplayName("testTransitionToReady: 성공 → billingKey 등록, 저장 및 이력 기록")
 	void testTransitionToReady_success() {
@@ -675,4 +744,25 @@ class PaymentApplicationServiceImplTest {
 
 		then(notificationProducer).shouldHaveNoInteractions();
 	}
-}
\ No newline at end of file
+
+	/** SAGA 가 반환하는 승인 완료 결제 */
+	private Payment confirmedPayment(Long paymentId) {
+		return Payment.of(
+			paymentId, MEMBER_ID, PLAN_ID, ORDER_ID,
+			"pKey", null, "cust_" + MEMBER_ID, 1000L,
+			PayStatus.DONE, "CARD", null, null
+		);
+	}
+
+	/** 제출된 작업을 호출 스레드에서 즉시 실행하는 테스트용 ExecutorService */
+	static class DirectExecutorService extends AbstractExecutorService {
+		private volatile boolean shutdown;
+
+		@Override public void execute(Runnable command) { command.run(); }
+		@Override public void shutdown() { shutdown = true; }
+		@Override public java.util.List<Runnable> shutdownNow() { shutdown = true; return java.util.List.of(); }
+		@Override public boolean isShutdown() { return shutdown; }
+		@Override public boolean isTerminated() { return shutdown; }
+		@Override public boolean awaitTermination(long timeout, TimeUnit unit) { return true; }
+	}
+}
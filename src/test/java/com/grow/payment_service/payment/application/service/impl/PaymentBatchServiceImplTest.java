@@ -3,7 +3,9 @@ package com.grow.payment_service.payment.application.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,14 +72,75 @@ class PaymentBatchServiceImplTest {
 			null, null
 		);
 		given(paymentRepository.findAllByMemberId(20L)).willReturn(List.of(p));
+		given(paymentRepository.clearBillingKeyIfStatus(2L, EnumSet.of(PayStatus.AUTO_BILLING_FAILED))).willReturn(1);
 
 		batchService.removeBillingKeysForMember(20L);
 
-		then(paymentRepository).should().save(argThat(updated ->
-			updated.getBillingKey() == null &&
-				updated.getPayStatus() == PayStatus.ABORTED
+		// 조회 시점 상태 조건으로 빌링키 제거 + ABORTED (엔티티 save 없음)
+		then(paymentRepository).should().clearBillingKeyIfStatus(2L, EnumSet.of(PayStatus.AUTO_BILLING_FAILED));
+		then(paymentRepository).should(never()).save(any());
+		then(historyRepository).should().save(argThat(h -> h.getStatus() == PayStatus.ABORTED));
+	}
+
+	@Test
+	@DisplayName("removeBillingKeysForMember: 조회 후 상태가 바뀌어 반영 0건 → 이력 없이 스킵")
+	void removeBillingKeysForMember_stateChanged_skips() {
+		Payment p = Payment.of(
+			2L, 20L, 200L, "ord-2", null,
+			"bKey", "cust_20", 1000L,
+			PayStatus.AUTO_BILLING_READY, "CARD",
+			null, null
+		);
+		given(paymentRepository.findAllByMemberId(20L)).willReturn(List.of(p));
+		given(paymentRepository.clearBillingKeyIfStatus(2L, EnumSet.of(PayStatus.AUTO_BILLING_READY))).willReturn(0);
+
+		batchService.removeBillingKeysForMember(20L);
+
+		then(historyRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("expireReadyOrders: 전부 반영 → 만료 이력 일괄 저장")
+	void expireReadyOrders_allExpired() {
+		given(paymentRepository.transitionAllIfStatus(List.of(1L, 2L), PayStatus.READY, PayStatus.ABORTED))
+			.willReturn(2);
+
+		int expired = batchService.expireReadyOrders(List.of(1L, 2L));
+
+		assertEquals(2, expired);
+		then(historyRepository).should().saveAll(argThat(list ->
+			list.size() == 2 && list.stream().allMatch(h -> h.getStatus() == PayStatus.ABORTED)
 		));
-		then(historyRepository).should().save(any(PaymentHistory.class));
+		then(paymentRepository).should(never()).findIdsInStatus(any(), any());
+	}
+
+	@Test
+	@DisplayName("expireReadyOrders: 일부가 먼저 전이됨 → 이번에 ABORTED 가 되고 만료 이력이 없는 건만 기록")
+	void expireReadyOrders_partial_logsOnlyOwnTransitions() {
+		List<Long> ids = List.of(1L, 2L, 3L);
+		given(paymentRepository.transitionAllIfStatus(ids, PayStatus.READY, PayStatus.ABORTED)).willReturn(1);
+		// 2: 사용자 만료(expireIfReady)로 이미 ABORTED + 이력 있음, 3: 승인되어 DONE
+		given(historyRepository.findByPaymentIdIn(ids)).willReturn(List.of(
+			PaymentHistory.of(10L, 2L, PayStatus.ABORTED, LocalDateTime.now(), "사용자 이탈로 주문 만료")
+		));
+		given(paymentRepository.findIdsInStatus(ids, PayStatus.ABORTED)).willReturn(List.of(1L, 2L));
+
+		int expired = batchService.expireReadyOrders(ids);
+
+		assertEquals(1, expired);
+		then(historyRepository).should().saveAll(argThat(list ->
+			list.size() == 1 && list.get(0).getPaymentId().equals(1L)
+		));
+	}
+
+	@Test
+	@DisplayName("expireReadyOrders: 반영 0건 → 이력 없음")
+	void expireReadyOrders_noneExpired() {
+		given(paymentRepository.transitionAllIfStatus(List.of(1L), PayStatus.READY, PayStatus.ABORTED))
+			.willReturn(0);
+
+		assertEquals(0, batchService.expireReadyOrders(List.of(1L)));
+		then(historyRepository).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -104,16 +167,16 @@ class PaymentBatchServiceImplTest {
 		);
 		given(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(PayStatus.AUTO_BILLING_IN_PROGRESS))
 			.willReturn(List.of(p));
+		given(paymentRepository.clearBillingKeyIfStatus(3L, EnumSet.of(PayStatus.AUTO_BILLING_IN_PROGRESS)))
+			.willReturn(1);
 
 		batchService.markAutoChargeFailedPermanently();
 
-		// 저장된 엔티티: billingKey 제거 + 상태 ABORTED
-		then(paymentRepository).should().save(argThat(cleared ->
-			cleared.getBillingKey() == null &&
-				cleared.getPayStatus() == PayStatus.ABORTED
-		));
+		// 상태 조건부 UPDATE: billingKey 제거 + 상태 ABORTED
+		then(paymentRepository).should()
+			.clearBillingKeyIfStatus(3L, EnumSet.of(PayStatus.AUTO_BILLING_IN_PROGRESS));
 		// 히스토리 기록
-		then(historyRepository).should().save(any(PaymentHistory.class));
+		then(historyRepository).should().save(argThat(h -> h.getStatus() == PayStatus.ABORTED));
 
 		then(notificationProducer).should().autoBillingFailed(
 			eq(p.getMemberId()),
@@ -123,8 +186,8 @@ class PaymentBatchServiceImplTest {
 	}
 
 	@Test
-	@DisplayName("processSingleAutoCharge: reserve 실패")
-	void processSingleAutoCharge_reserveFails() {
+	@DisplayName("processSingleAutoCharge: 이번 달 결제 완료 결과가 있으면 중복 차단")
+	void processSingleAutoCharge_alreadyCharged() {
 		Payment p = Payment.of(
 			4L, 40L, 400L, "ord-4", null,
 			"bKey", "cust_40", 2000L,
@@ -133,17 +196,18 @@ class PaymentBatchServiceImplTest {
 		);
 		given(paymentRepository.findById(4L)).willReturn(Optional.of(p));
 		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem");
-		given(idempotencyAdapter.reserve("idem")).willReturn(false);
+		given(idempotencyAdapter.getResult("idem")).willReturn("4");
 
 		batchService.processSingleAutoCharge(4L);
 
 		then(paymentService).shouldHaveNoInteractions();
 		then(historyRepository).shouldHaveNoInteractions();
+		then(paymentRepository).should(never()).transitionIfStatus(anyString(), any(), any());
 		then(notificationProducer).shouldHaveNoInteractions(); // 실패 알림도 없음
 	}
 
 	@Test
-	@DisplayName("processSingleAutoCharge: 성공 흐름")
+	@DisplayName("processSingleAutoCharge: 성공 흐름 → 시작/리셋은 상태 CAS, 승인 저장은 사가에 맡김")
 	void processSingleAutoCharge_success() {
 		// 준비: payment 레코드
 		Payment p = Payment.of(
@@ -154,7 +218,10 @@ class PaymentBatchServiceImplTest {
 		);
 		given(paymentRepository.findById(5L)).willReturn(Optional.of(p));
 		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem");
-		given(idempotencyAdapter.reserve("idem")).willReturn(true);
+		given(paymentRepository.transitionIfStatus("ord-5",
+			PayStatus.AUTO_BILLING_READY, PayStatus.AUTO_BILLING_IN_PROGRESS)).willReturn(1);
+		given(paymentRepository.transitionIfStatus("ord-5",
+			PayStatus.AUTO_BILLING_APPROVED, PayStatus.AUTO_BILLING_READY)).willReturn(1);
 
 		// 준비: memberClient stub —> RsData 로 감싸서 반환
 		MemberInfoResponse memberDto = new MemberInfoResponse(50L, "foo@ex.com", "FooNick");
@@ -165,9 +232,9 @@ class PaymentBatchServiceImplTest {
 		PaymentConfirmResponse confirmRes = new PaymentConfirmResponse(
 			5L,
 			PayStatus.AUTO_BILLING_APPROVED.name(),
+			"paymentKey-5",
 			"foo@ex.com",
-			"FooNick",
-			"paymentKey-5"
+			"FooNick"
 		);
 		given(paymentService.chargeWithBillingKey(
 			eq(50L),
@@ -178,9 +245,13 @@ class PaymentBatchServiceImplTest {
 		// 실행
 		batchService.processSingleAutoCharge(5L);
 
-		// 검증: state transitions 저장 (IN_PROGRESS, APPROVED, READY)
-		then(paymentRepository).should(times(3)).save(any(Payment.class));
-		then(historyRepository).should(times(3)).save(any(PaymentHistory.class));
+		// 검증: 조회한 엔티티로 덮어쓰지 않고 상태 CAS 두 번 (IN_PROGRESS, READY), 이력도 두 건
+		then(paymentRepository).should(never()).save(any(Payment.class));
+		then(paymentRepository).should().transitionIfStatus("ord-5",
+			PayStatus.AUTO_BILLING_READY, PayStatus.AUTO_BILLING_IN_PROGRESS);
+		then(paymentRepository).should().transitionIfStatus("ord-5",
+			PayStatus.AUTO_BILLING_APPROVED, PayStatus.AUTO_BILLING_READY);
+		then(historyRepository).should(times(2)).save(any(PaymentHistory.class));
 
 		// 검증: 실제 호출된 param 에 이메일·이름 반영
 		ArgumentCaptor<PaymentAutoChargeParam> captor =
@@ -196,6 +267,131 @@ class PaymentBatchServiceImplTest {
 		then(notificationProducer).should(never()).autoBillingApproved(anyLong(), anyString(), anyInt());
 	}
 
+	@Test
+	@DisplayName("processSingleAutoCharge: 이전 시도가 남긴 IN_PROGRESS → 시작 전이 없이 바로 과금 재시도")
+	void processSingleAutoCharge_resumesInProgress() {
+		Payment p = Payment.of(
+			7L, 70L, 700L, "ord-7", null,
+			"bKey", "cust_70", 2500L,
+			PayStatus.AUTO_BILLING_IN_PROGRESS, "CARD",
+			null, null
+		);
+		given(paymentRepository.findById(7L)).willReturn(Optional.of(p));
+		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem");
+		given(memberClient.getMyInfo(70L))
+			.willReturn(new RsData<>("200", "OK", new MemberInfoResponse(70L, "bar@ex.com", "Bar")));
+		given(paymentService.chargeWithBillingKey(eq(70L), any(PaymentAutoChargeParam.class), eq("idem")))
+			.willReturn(new PaymentConfirmResponse(7L, PayStatus.AUTO_BILLING_APPROVED.name(), "pk-7", null, null));
+		given(paymentRepository.transitionIfStatus("ord-7",
+			PayStatus.AUTO_BILLING_APPROVED, PayStatus.AUTO_BILLING_READY)).willReturn(1);
+
+		batchService.processSingleAutoCharge(7L);
+
+		then(paymentRepository).should(never()).transitionIfStatus("ord-7",
+			PayStatus.AUTO_BILLING_READY, PayStatus.AUTO_BILLING_IN_PROGRESS);
+		then(historyRepository).should(times(1)).save(any(PaymentHistory.class));
+	}
+
+	@Test
+	@DisplayName("processSingleAutoCharge: 다른 실행이 먼저 시작 → 반영 0건, 과금 없이 건너뜀")
+	void processSingleAutoCharge_lostStartRace_skips() {
+		Payment p = Payment.of(
+			8L, 80L, 800L, "ord-8", null,
+			"bKey", "cust_80", 2500L,
+			PayStatus.AUTO_BILLING_READY, "CARD",
+			null, null
+		);
+		given(paymentRepository.findById(8L)).willReturn(Optional.of(p));
+		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem");
+		given(paymentRepository.transitionIfStatus("ord-8",
+			PayStatus.AUTO_BILLING_READY, PayStatus.AUTO_BILLING_IN_PROGRESS)).willReturn(0);
+
+		batchService.processSingleAutoCharge(8L);
+
+		then(paymentService).shouldHaveNoInteractions();
+		then(historyRepository).shouldHaveNoInteractions();
+		then(notificationProducer).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("processSingleAutoCharge: 승인 거절(FAILED) → 리셋 없이 실패 알림 후 예외")
+	void processSingleAutoCharge_declined_throwsWithoutReset() {
+		Payment p = Payment.of(
+			9L, 90L, 900L, "ord-9", null,
+			"bKey", "cust_90", 2500L,
+			PayStatus.AUTO_BILLING_READY, "CARD",
+			null, null
+		);
+		given(paymentRepository.findById(9L)).willReturn(Optional.of(p));
+		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem");
+		given(paymentRepository.transitionIfStatus("ord-9",
+			PayStatus.AUTO_BILLING_READY, PayStatus.AUTO_BILLING_IN_PROGRESS)).willReturn(1);
+		given(memberClient.getMyInfo(90L))
+			.willReturn(new RsData<>("200", "OK", new MemberInfoResponse(90L, "baz@ex.com", "Baz")));
+		given(paymentService.chargeWithBillingKey(eq(90L), any(PaymentAutoChargeParam.class), eq("idem")))
+			.willReturn(new PaymentConfirmResponse(9L, PayStatus.AUTO_BILLING_FAILED.name(), null, null, null));
+
+		PaymentApplicationException ex = assertThrows(
+			PaymentApplicationException.class,
+			() -> batchService.processSingleAutoCharge(9L)
+		);
+
+		assertEquals(ErrorCode.BATCH_AUTO_CHARGE_ERROR, ex.getErrorCode());
+		then(paymentRepository).should(never()).transitionIfStatus("ord-9",
+			PayStatus.AUTO_BILLING_APPROVED, PayStatus.AUTO_BILLING_READY);
+		then(notificationProducer).should().autoBillingFailed(90L, "ord-9", 2500);
+	}
+
+	@Test
+	@DisplayName("processSingleAutoCharge: 승인 거절로 남은 FAILED 재시도 → FAILED -> IN_PROGRESS CAS 후 다시 과금")
+	void processSingleAutoCharge_retryAfterDecline_restartsFromFailed() {
+		Payment p = Payment.of(
+			10L, 100L, 1000L, "ord-10", null,
+			"bKey", "cust_100", 2500L,
+			PayStatus.AUTO_BILLING_FAILED, "CARD",
+			null, null
+		);
+		given(paymentRepository.findById(10L)).willReturn(Optional.of(p));
+		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem");
+		given(paymentRepository.transitionIfStatus("ord-10",
+			PayStatus.AUTO_BILLING_FAILED, PayStatus.AUTO_BILLING_IN_PROGRESS)).willReturn(1);
+		given(memberClient.getMyInfo(100L))
+			.willReturn(new RsData<>("200", "OK", new MemberInfoResponse(100L, "qux@ex.com", "Qux")));
+		given(paymentService.chargeWithBillingKey(eq(100L), any(PaymentAutoChargeParam.class), eq("idem")))
+			.willReturn(new PaymentConfirmResponse(10L, PayStatus.AUTO_BILLING_APPROVED.name(), "pk-10", null, null));
+		given(paymentRepository.transitionIfStatus("ord-10",
+			PayStatus.AUTO_BILLING_APPROVED, PayStatus.AUTO_BILLING_READY)).willReturn(1);
+
+		batchService.processSingleAutoCharge(10L);
+
+		then(paymentRepository).should().transitionIfStatus("ord-10",
+			PayStatus.AUTO_BILLING_FAILED, PayStatus.AUTO_BILLING_IN_PROGRESS);
+		then(paymentService).should().chargeWithBillingKey(eq(100L), any(PaymentAutoChargeParam.class), eq("idem"));
+		then(notificationProducer).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("markAutoChargeFailedPermanently: 마지막 시도가 승인 거절로 끝난 FAILED 도 중단 + 빌링키 제거")
+	void markAutoChargeFailedPermanently_includesDeclined() {
+		Payment p = Payment.of(
+			11L, 110L, 1100L, "ord-11", "pk-prev",
+			"bKey", "cust_110", 2500L,
+			PayStatus.AUTO_BILLING_FAILED, "CARD",
+			null, null
+		);
+		given(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(PayStatus.AUTO_BILLING_IN_PROGRESS))
+			.willReturn(Collections.emptyList());
+		given(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(PayStatus.AUTO_BILLING_FAILED))
+			.willReturn(List.of(p));
+		given(paymentRepository.clearBillingKeyIfStatus(11L, EnumSet.of(PayStatus.AUTO_BILLING_FAILED)))
+			.willReturn(1);
+
+		batchService.markAutoChargeFailedPermanently();
+
+		then(historyRepository).should().save(argThat(h -> h.getStatus() == PayStatus.ABORTED));
+		then(notificationProducer).should().autoBillingFailed(110L, "ord-11", 2500);
+	}
+
 	@Test
 	@DisplayName("processSingleAutoCharge: 결제 정보 없음 → 예외")
 	void processSingleAutoCharge_notFound() {
@@ -0,0 +1,244 @@
+package com.grow.payment_service.payment.application.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.grow.payment_service.global.config.AsyncConfig;
+import com.grow.payment_service.global.dto.RsData;
+import com.grow.payment_service.global.logging.FlowLogger;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.global.metrics.SagaStepMetrics;
+import com.grow.payment_service.payment.application.dto.PaymentDetailResponse;
+import com.grow.payment_service.payment.application.event.PaymentNotificationProducer;
+import com.grow.payment_service.payment.application.service.PaymentApplicationService;
+import com.grow.payment_service.payment.application.service.PaymentBatchService;
+import com.grow.payment_service.payment.application.service.PaymentQueryService;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.PaymentHistory;
+import com.grow.payment_service.payment.domain.model.enums.CancelReason;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.service.OrderIdGenerator;
+import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+import com.grow.payment_service.payment.infra.client.MemberClient;
+import com.grow.payment_service.payment.infra.client.MemberInfoResponse;
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
+import com.grow.payment_service.payment.infra.persistence.mapper.PaymentHistoryMapper;
+import com.grow.payment_service.payment.infra.persistence.mapper.PaymentMapper;
+import com.grow.payment_service.payment.infra.persistence.repository.CompensationTaskRepositoryImpl;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentHistoryJpaRepository;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentHistoryRepositoryImpl;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentJpaRepository;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentRepositoryImpl;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
+import com.grow.payment_service.payment.saga.CompensationQueue;
+import com.grow.payment_service.payment.saga.CompensationTransactionService;
+import com.grow.payment_service.payment.saga.PaymentSagaOrchestrator;
+import com.grow.payment_service.payment.saga.SagaLog;
+import com.grow.payment_service.payment.saga.RetryablePersistenceService;
+import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
+import com.grow.payment_service.plan.domain.model.enums.PlanType;
+import com.grow.payment_service.plan.infra.persistence.entity.PlanJpaEntity;
+import com.grow.payment_service.plan.infra.persistence.repository.PlanJpaRepository;
+import com.grow.payment_service.plan.infra.persistence.repository.PlanRepositoryImpl;
+import com.grow.payment_service.subscription.application.service.SubscriptionHistoryApplicationService;
+import com.grow.payment_service.support.SqlStatementCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 핫 플로우별 SQL 실행 건수 예산 테스트
+ * - 외부 연동(토스, 멤버 서비스, Redis, Kafka)은 스텁, DB는 내장 H2
+ * - 각 플로우 실행 중 나간 SELECT/INSERT/UPDATE 건수가 예산을 넘으면 실패
+ * - 저장 단계가 REQUIRES_NEW 로 커밋하므로 테스트 트랜잭션 없이 실행, 시드는 바로 커밋하고 끝나면 지움
+ * - 예산을 올려야 한다면 새로 생긴 쿼리가 정말 필요한지 먼저 확인할 것 (N+1 방지)
+ */
+@SpringBootTest(
+	classes = PaymentFlowSqlBudgetTest.TestConfig.class,
+	properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+			+ "com.grow.payment_service.support.SqlStatementCounter"
+	}
+)
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DisplayName("결제 핫 플로우 SQL 실행 건수 예산")
+class PaymentFlowSqlBudgetTest {
+
+	@Configuration
+	@EntityScan(basePackages = "com.grow.payment_service")
+	@EnableJpaRepositories(basePackages = "com.grow.payment_service")
+	@Import({
+		PaymentRepositoryImpl.class,
+		PaymentHistoryRepositoryImpl.class,
+		PlanRepositoryImpl.class,
+		PaymentApplicationServiceImpl.class,
+		PaymentBatchServiceImpl.class,
+		PaymentQueryServiceImpl.class,
+		PaymentPersistenceServiceImpl.class,
+		PaymentSagaOrchestrator.class,
+		RetryablePersistenceService.class,
+		CompensationTransactionService.class,
+		CompensationQueue.class,
+		CompensationTaskRepositoryImpl.class,
+		SagaStepMetrics.class,
+		FlowLogger.class,
+		SimpleMeterRegistry.class,
+		AsyncConfig.class
+	})
+	static class TestConfig {
+	}
+
+	private static final Long MEMBER_ID = 1L;
+
+	@Autowired PaymentApplicationService paymentService;
+	@Autowired PaymentBatchService batchService;
+	@Autowired PaymentQueryService queryService;
+	@Autowired PaymentJpaRepository paymentJpaRepository;
+	@Autowired PaymentHistoryJpaRepository historyJpaRepository;
+	@Autowired PlanJpaRepository planJpaRepository;
+
+	@MockitoBean PaymentGatewayPort gatewayPort;
+	@MockitoBean MemberClient memberClient;
+	@MockitoBean RedisIdempotencyAdapter idempotencyAdapter;
+	@MockitoBean OrderIdGenerator orderIdGenerator;
+	@MockitoBean SubscriptionHistoryApplicationService subscriptionService;
+	@MockitoBean PaymentNotificationProducer notificationProducer;
+	@MockitoBean PaymentMetrics metrics;
+	// 사가 기록은 별도 스레드의 JDBC 배치 INSERT 라 요청 트랜잭션 예산과 무관
+	@MockitoBean SagaLog sagaLog;
+
+	@BeforeEach
+	void stubExternals() {
+		given(memberClient.getMyInfo(anyLong()))
+			.willReturn(new RsData<>("200", "OK", new MemberInfoResponse(MEMBER_ID, "m@grow.com", "member")));
+		given(idempotencyAdapter.reserve(anyString())).willReturn(true);
+		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem-auto");
+	}
+
+	@AfterEach
+	void cleanUp() {
+		historyJpaRepository.deleteAllInBatch();
+		paymentJpaRepository.deleteAllInBatch();
+		planJpaRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("confirmPayment: SELECT 3 / INSERT 1 / UPDATE 1 이하")
+	void confirmPayment_withinBudget() {
+		Long planId = seedPlan(PlanType.ONE_TIME_PAYMENT, PlanPeriod.YEARLY);
+		seedPayment("ord-confirm", planId, null, null, PayStatus.READY);
+		startMeasuring();
+
+		paymentService.confirmPayment(MEMBER_ID, "pk-confirm", "ord-confirm", 10000, "idem-confirm");
+
+		// 주문 조회, Plan 조회, 전이 전 조회 / 이력 1건 / 버전 조건부 갱신 1건
+		assertBudget(3, 1, 1);
+	}
+
+	@Test
+	@DisplayName("cancelPayment(원타임): SELECT 4 / INSERT 2 / UPDATE 2 이하")
+	void cancelPayment_withinBudget() {
+		Long planId = seedPlan(PlanType.ONE_TIME_PAYMENT, PlanPeriod.YEARLY);
+		seedPayment("ord-cancel", planId, "pk-cancel", null, PayStatus.DONE);
+		startMeasuring();
+
+		paymentService.cancelPayment(MEMBER_ID, "ord-cancel", 10000, CancelReason.USER_REQUEST);
+
+		// 주문 조회, Plan 조회, 취소요청/취소완료 전이 전 조회 / 이력 2건 / 버전 조건부 갱신 2건
+		assertBudget(4, 2, 2);
+	}
+
+	@Test
+	@DisplayName("processSingleAutoCharge: SELECT 3 / INSERT 3 / UPDATE 3 이하")
+	void processSingleAutoCharge_withinBudget() {
+		Long planId = seedPlan(PlanType.SUBSCRIPTION, PlanPeriod.MONTHLY);
+		Long paymentId = seedPayment("ord-auto", planId, null, "bill-auto", PayStatus.AUTO_BILLING_READY);
+
+		TossBillingChargeResponse toss = mock(TossBillingChargeResponse.class);
+		given(toss.getStatus()).willReturn("DONE");
+		given(toss.getPaymentKey()).willReturn("pk-auto");
+		given(gatewayPort.chargeWithBillingKey(
+			anyString(), anyString(), anyInt(), anyString(), anyString(), anyString(), anyString(), anyInt(), anyInt()
+		)).willReturn(toss);
+		startMeasuring();
+
+		batchService.processSingleAutoCharge(paymentId);
+
+		// 결제 조회(배치, 소유권 확인, 결과 저장) / 상태 이력 3건 / 진행중 CAS + 승인 조건부 갱신 + 리셋 CAS
+		assertBudget(3, 3, 3);
+	}
+
+	@Test
+	@DisplayName("getPaymentsByMemberId: 결제 건수와 무관하게 SELECT 2 (N+1 없음)")
+	void getPaymentsByMemberId_noNPlusOne() {
+		Long planId = seedPlan(PlanType.ONE_TIME_PAYMENT, PlanPeriod.YEARLY);
+		for (int i = 0; i < 5; i++) {
+			Long paymentId = seedPayment("ord-q" + i, planId, "pk-q" + i, null, PayStatus.DONE);
+			seedHistory(paymentId, PayStatus.READY);
+			seedHistory(paymentId, PayStatus.DONE);
+		}
+		startMeasuring();
+
+		List<PaymentDetailResponse> result = queryService.getPaymentsByMemberId(MEMBER_ID);
+
+		assertThat(result).hasSize(5);
+		assertThat(result).allSatisfy(r -> assertThat(r.getHistory()).hasSize(2));
+		// 결제 목록 1회 + 이력 IN 조회 1회
+		assertBudget(2, 0, 0);
+	}
+
+	private Long seedPlan(PlanType type, PlanPeriod period) {
+		return planJpaRepository.save(PlanJpaEntity.builder()
+			.type(type)
+			.amount(10000L)
+			.period(period)
+			.benefits("budget-test")
+			.build()).getPlanId();
+	}
+
+	private Long seedPayment(String orderId, Long planId, String paymentKey, String billingKey, PayStatus status) {
+		Payment payment = Payment.of(
+			null, MEMBER_ID, planId, orderId,
+			paymentKey, billingKey, "cust_" + MEMBER_ID,
+			10000L, status, "CARD", null, null
+		);
+		return paymentJpaRepository.save(PaymentMapper.toEntity(payment)).getPaymentId();
+	}
+
+	private void seedHistory(Long paymentId, PayStatus status) {
+		historyJpaRepository.save(PaymentHistoryMapper.toEntity(
+			PaymentHistory.create(paymentId, status, "budget-test")
+		));
+	}
+
+	/** 시드는 저장 시점에 커밋됐으므로 카운터만 비우고 측정 시작 */
+	private void startMeasuring() {
+		SqlStatementCounter.reset();
+	}
+
+	/** 각 단계가 자기 트랜잭션에서 커밋된 뒤라 지연된 UPDATE 없이 바로 예산 검증 */
+	private void assertBudget(int maxSelects, int maxInserts, int maxUpdates) {
+		SqlStatementCounter.Snapshot s = SqlStatementCounter.snapshot();
+		assertThat(s.selects()).as("SELECT 건수").isLessThanOrEqualTo(maxSelects);
+		assertThat(s.inserts()).as("INSERT 건수").isLessThanOrEqualTo(maxInserts);
+		assertThat(s.updates()).as("UPDATE 건수").isLessThanOrEqualTo(maxUpdates);
+	}
+}
@@ -9,7 +9,6 @@ import java.util.Optional;
 import com.grow.payment_service.global.exception.PaymentApplicationException;
 import com.grow.payment_service.global.metrics.PaymentMetrics;
 import com.grow.payment_service.payment.application.dto.PaymentCancelResponse;
-import com.grow.payment_service.payment.application.dto.PaymentConfirmResponse;
 import com.grow.payment_service.payment.application.dto.PaymentIssueBillingKeyResponse;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
@@ -22,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentPersistenceServiceImplTest {
@@ -52,14 +52,18 @@ class PaymentPersistenceServiceImplTest {
 	@DisplayName("savePaymentConfirmation: 정상 흐름 → paymentKey 저장 & DONE으로 전이")
 	void savePaymentConfirmation_success() {
 		Payment before = makePayment(PayStatus.READY);
-		given(paymentRepository.findByOrderIdForUpdate("ord-1"))
+		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(before));
-		given(paymentRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(paymentRepository.updateIfVersionMatches(any())).willAnswer(inv -> Optional.of(inv.getArgument(0)));
 
-		Long id = service.savePaymentConfirmation("ord-1", "pkey-1");
+		Payment saved = service.savePaymentConfirmation("ord-1", "pkey-1");
 
-		assertEquals(123L, id);
-		then(paymentRepository).should().save(argThat(p ->
+		// 저장된 결제를 그대로 반환 → 호출 측 재조회 불필요
+		assertEquals(123L, saved.getPaymentId());
+		assertEquals(PayStatus.DONE, saved.getPayStatus());
+		assertEquals("pkey-1", saved.getPaymentKey());
+		then(paymentRepository).should(times(1)).findByOrderId("ord-1");
+		then(paymentRepository).should().updateIfVersionMatches(argThat(p ->
 			p.getPayStatus() == PayStatus.DONE &&
 				"pkey-1".equals(p.getPaymentKey())
 		));
@@ -69,7 +73,7 @@ class PaymentPersistenceServiceImplTest {
 	@Test
 	@DisplayName("savePaymentConfirmation: 주문 미존재 → 예외")
 	void savePaymentConfirmation_notFound() {
-		given(paymentRepository.findByOrderIdForUpdate("ord-1"))
+		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.empty());
 
 		assertThrows(PaymentApplicationException.class, () ->
@@ -77,17 +81,30 @@ class PaymentPersistenceServiceImplTest {
 		);
 	}
 
+	@Test
+	@DisplayName("savePaymentConfirmation: 버전 충돌(동시 승인) → OptimisticLockingFailureException, 이력 저장 없음")
+	void savePaymentConfirmation_versionConflict() {
+		given(paymentRepository.findByOrderId("ord-1"))
+			.willReturn(Optional.of(makePayment(PayStatus.READY)));
+		given(paymentRepository.updateIfVersionMatches(any())).willReturn(Optional.empty());
+
+		assertThrows(OptimisticLockingFailureException.class, () ->
+			service.savePaymentConfirmation("ord-1", "pkey-1")
+		);
+		then(historyRepository).should(never()).save(any());
+	}
+
 	@Test
 	@DisplayName("requestCancel: 이미 CANCEL_REQUESTED인 경우, save 호출 없이 바로 리턴")
 	void requestCancel_alreadyRequested() {
 		Payment already = makePayment(PayStatus.CANCEL_REQUESTED);
-		given(paymentRepository.findByOrderIdForUpdate("ord-1"))
+		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(already));
 
 		PaymentCancelResponse resp = service.requestCancel("ord-1", CancelReason.USER_REQUEST, 100);
 
 		assertEquals(PayStatus.CANCEL_REQUESTED.name(), resp.getStatus());
-		then(paymentRepository).should(never()).save(any());
+		then(paymentRepository).should(never()).updateIfVersionMatches(any());
 		then(historyRepository).should(never()).save(any());
 	}
 
@@ -95,14 +112,14 @@ class PaymentPersistenceServiceImplTest {
 	@DisplayName("requestCancel: 정상 흐름 → CANCEL_REQUESTED로 전이")
 	void requestCancel_success() {
 		Payment before = makePayment(PayStatus.READY);
-		given(paymentRepository.findByOrderIdForUpdate("ord-1"))
+		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(before));
-		given(paymentRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(paymentRepository.updateIfVersionMatches(any())).willAnswer(inv -> Optional.of(inv.getArgument(0)));
 
 		PaymentCancelResponse resp = service.requestCancel("ord-1", CancelReason.USER_REQUEST, 100);
 
 		assertEquals(PayStatus.CANCEL_REQUESTED.name(), resp.getStatus());
-		then(paymentRepository).should().save(argThat(p -> p.getPayStatus() == PayStatus.CANCEL_REQUESTED));
+		then(paymentRepository).should().updateIfVersionMatches(argThat(p -> p.getPayStatus() == PayStatus.CANCEL_REQUESTED));
 		then(historyRepository).should().save(any());
 	}
 
@@ -110,13 +127,13 @@ class PaymentPersistenceServiceImplTest {
 	@DisplayName("completeCancel: READY 상태인 경우, 무시하고 현재 상태 리턴")
 	void completeCancel_notRequested() {
 		Payment before = makePayment(PayStatus.READY);
-		given(paymentRepository.findByOrderIdForUpdate("ord-1"))
+		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(before));
 
 		PaymentCancelResponse resp = service.completeCancel("ord-1");
 
 		assertEquals(PayStatus.READY.name(), resp.getStatus());
-		then(paymentRepository).should(never()).save(any());
+		then(paymentRepository).should(never()).updateIfVersionMatches(any());
 		then(historyRepository).should(never()).save(any());
 	}
 
@@ -124,30 +141,45 @@ class PaymentPersistenceServiceImplTest {
 	@DisplayName("completeCancel: 정상 흐름 → CANCELLED로 전이")
 	void completeCancel_success() {
 		Payment before = makePayment(PayStatus.CANCEL_REQUESTED);
-		given(paymentRepository.findByOrderIdForUpdate("ord-1"))
+		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(before));
-		given(paymentRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(paymentRepository.transitionIfStatus("ord-1", PayStatus.CANCEL_REQUESTED, PayStatus.CANCELLED))
+			.willReturn(1);
 
 		PaymentCancelResponse resp = service.completeCancel("ord-1");
 
 		assertEquals(PayStatus.CANCELLED.name(), resp.getStatus());
-		then(paymentRepository).should().save(argThat(p -> p.getPayStatus() == PayStatus.CANCELLED));
+		then(paymentRepository).should(never()).updateIfVersionMatches(any());
 		then(historyRepository).should().save(any());
 	}
 
+	@Test
+	@DisplayName("completeCancel: 동시에 다른 요청이 먼저 완료(반영 0건) → 이력 없이 CANCELLED 리턴")
+	void completeCancel_alreadyCompletedConcurrently() {
+		given(paymentRepository.findByOrderId("ord-1"))
+			.willReturn(Optional.of(makePayment(PayStatus.CANCEL_REQUESTED)));
+		given(paymentRepository.transitionIfStatus("ord-1", PayStatus.CANCEL_REQUESTED, PayStatus.CANCELLED))
+			.willReturn(0);
+
+		PaymentCancelResponse resp = service.completeCancel("ord-1");
+
+		assertEquals(PayStatus.CANCELLED.name(), resp.getStatus());
+		then(historyRepository).should(never()).save(any());
+	}
+
 	@Test
 	@DisplayName("saveBillingKeyRegistration: 정상 흐름 → AUTO_BILLING_READY로 전이")
 	void saveBillingKeyRegistration_success() {
 		Payment before = makePayment(PayStatus.READY);
-		given(paymentRepository.findByOrderIdForUpdate("ord-1"))
+		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(before));
-		given(paymentRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(paymentRepository.updateIfVersionMatches(any())).willAnswer(inv -> Optional.of(inv.getArgument(0)));
 
 		PaymentIssueBillingKeyResponse resp =
 			service.saveBillingKeyRegistration("ord-1", "bkey-123");
 
 		assertEquals("bkey-123", resp.getBillingKey());
-		then(paymentRepository).should().save(argThat(p ->
+		then(paymentRepository).should().updateIfVersionMatches(argThat(p ->
 			p.getPayStatus() == PayStatus.AUTO_BILLING_READY &&
 				"bkey-123".equals(p.getBillingKey())
 		));
@@ -160,16 +192,16 @@ class PaymentPersistenceServiceImplTest {
 		Payment before = makePayment(PayStatus.AUTO_BILLING_IN_PROGRESS);
 		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(before));
-		given(paymentRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(paymentRepository.updateIfVersionMatches(any())).willAnswer(inv -> Optional.of(inv.getArgument(0)));
 
 		TossBillingChargeResponse mockRes = mock(TossBillingChargeResponse.class);
 		given(mockRes.getStatus()).willReturn("DONE");
 		given(mockRes.getPaymentKey()).willReturn("pk-777");
 
-		PaymentConfirmResponse resp = service.saveAutoChargeResult("ord-1", mockRes);
+		Payment resp = service.saveAutoChargeResult("ord-1", mockRes);
 
 		// 저장 값 검증 (status & paymentKey)
-		then(paymentRepository).should().save(argThat(p ->
+		then(paymentRepository).should().updateIfVersionMatches(argThat(p ->
 			p.getPayStatus() == PayStatus.AUTO_BILLING_APPROVED &&
 				"pk-777".equals(p.getPaymentKey())
 		));
@@ -181,8 +213,8 @@ class PaymentPersistenceServiceImplTest {
 				h.getReasonDetail().contains("paymentKey=pk-777")
 		));
 
-		// 응답 검증 (status & paymentKey)
-		assertEquals(PayStatus.AUTO_BILLING_APPROVED.name(), resp.getPayStatus());
+		// 반환값 검증: 갱신된 결제 (status & paymentKey)
+		assertEquals(PayStatus.AUTO_BILLING_APPROVED, resp.getPayStatus());
 		assertEquals("pk-777", resp.getPaymentKey());
 	}
 
@@ -192,15 +224,14 @@ class PaymentPersistenceServiceImplTest {
 		Payment before = makePayment(PayStatus.AUTO_BILLING_IN_PROGRESS);
 		given(paymentRepository.findByOrderId("ord-1"))
 			.willReturn(Optional.of(before));
-		given(paymentRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+		given(paymentRepository.updateIfVersionMatches(any())).willAnswer(inv -> Optional.of(inv.getArgument(0)));
 
 		TossBillingChargeResponse mockRes = mock(TossBillingChargeResponse.class);
 		given(mockRes.getStatus()).willReturn("ERROR");
-		given(mockRes.getPaymentKey()).willReturn(null);
 
-		PaymentConfirmResponse resp = service.saveAutoChargeResult("ord-1", mockRes);
+		Payment resp = service.saveAutoChargeResult("ord-1", mockRes);
 
-		assertEquals(PayStatus.AUTO_BILLING_FAILED.name(), resp.getPayStatus());
+		assertEquals(PayStatus.AUTO_BILLING_FAILED, resp.getPayStatus());
 		assertNull(resp.getPaymentKey());
 
 		then(historyRepository).should().save(argThat(h ->
@@ -209,4 +240,22 @@ class PaymentPersistenceServiceImplTest {
 				h.getReasonDetail().contains("실패")
 		));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("saveAutoChargeResult: 버전 충돌(동시 전이) → OptimisticLockingFailureException, 이력 저장 없음")
+	void saveAutoChargeResult_versionConflict() {
+		given(paymentRepository.findByOrderId("ord-1"))
+			.willReturn(Optional.of(makePayment(PayStatus.AUTO_BILLING_IN_PROGRESS)));
+		given(paymentRepository.updateIfVersionMatches(any())).willReturn(Optional.empty());
+
+		TossBillingChargeResponse mockRes = mock(TossBillingChargeResponse.class);
+		given(mockRes.getStatus()).willReturn("DONE");
+		given(mockRes.getPaymentKey()).willReturn("pk-777");
+
+		assertThrows(OptimisticLockingFailureException.class, () ->
+			service.saveAutoChargeResult("ord-1", mockRes)
+		);
+		then(historyRepository).should(never()).save(any());
+		then(paymentRepository).should(never()).save(any());
+	}
+}
@@ -108,8 +108,8 @@ class PaymentQueryServiceImplTest {
 		);
 
 		given(paymentRepository.findAllByMemberId(10L)).willReturn(payments);
-		given(historyRepository.findByPaymentId(1L)).willReturn(hist1);
-		given(historyRepository.findByPaymentId(2L)).willReturn(hist2);
+		given(historyRepository.findByPaymentIdIn(List.of(1L, 2L)))
+			.willReturn(List.of(hist1.get(0), hist2.get(0)));
 
 		// when
 		List<PaymentDetailResponse> list = queryService.getPaymentsByMemberId(10L);
@@ -125,6 +125,10 @@ class PaymentQueryServiceImplTest {
 		assertEquals(2L, dto2.getPaymentId());
 		assertEquals(1, dto2.getHistory().size());
 		assertEquals("h2", dto2.getHistory().get(0).getReasonDetail());
+
+		// 결제 건수와 무관하게 이력 조회는 한 번
+		then(historyRepository).should(times(1)).findByPaymentIdIn(anyCollection());
+		then(historyRepository).should(never()).findByPaymentId(anyLong());
 	}
 
 	@Test
@@ -135,5 +139,6 @@ class PaymentQueryServiceImplTest {
 		List<PaymentDetailResponse> list = queryService.getPaymentsByMemberId(99L);
 
 		assertTrue(list.isEmpty());
+		then(historyRepository).shouldHaveNoInteractions();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,248 @@
+package com.grow.payment_service.payment.application.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grow.payment_service.global.config.AsyncConfig;
+import com.grow.payment_service.global.config.PersistenceRetryConfig;
+import com.grow.payment_service.global.dto.RsData;
+import com.grow.payment_service.global.exception.PaymentApplicationException;
+import com.grow.payment_service.global.logging.FlowLogger;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.global.metrics.SagaStepMetrics;
+import com.grow.payment_service.payment.application.event.PaymentNotificationProducer;
+import com.grow.payment_service.payment.application.service.PaymentBatchService;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.service.OrderIdGenerator;
+import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+import com.grow.payment_service.payment.infra.client.MemberClient;
+import com.grow.payment_service.payment.infra.client.MemberInfoResponse;
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
+import com.grow.payment_service.payment.infra.persistence.entity.PaymentHistoryJpaEntity;
+import com.grow.payment_service.payment.infra.persistence.entity.PaymentJpaEntity;
+import com.grow.payment_service.payment.infra.persistence.mapper.PaymentMapper;
+import com.grow.payment_service.payment.infra.persistence.repository.CompensationTaskRepositoryImpl;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentHistoryJpaRepository;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentHistoryRepositoryImpl;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentJpaRepository;
+import com.grow.payment_service.payment.infra.persistence.repository.PaymentRepositoryImpl;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
+import com.grow.payment_service.payment.saga.CompensationQueue;
+import com.grow.payment_service.payment.saga.CompensationTransactionService;
+import com.grow.payment_service.payment.saga.PaymentSagaOrchestrator;
+import com.grow.payment_service.payment.saga.RetryablePersistenceService;
+import com.grow.payment_service.payment.saga.SagaLog;
+import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
+import com.grow.payment_service.plan.domain.model.enums.PlanType;
+import com.grow.payment_service.plan.infra.persistence.entity.PlanJpaEntity;
+import com.grow.payment_service.plan.infra.persistence.repository.PlanJpaRepository;
+import com.grow.payment_service.plan.infra.persistence.repository.PlanRepositoryImpl;
+import com.grow.payment_service.subscription.application.service.SubscriptionHistoryApplicationService;
+
+import io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 사가 저장 단계 트랜잭션 경계 테스트 (내장 H2, 테스트 트랜잭션 없음)
+ * - 실제 트랜잭션 프록시와 재시도(dataSaveInstance) 애스펙트를 거쳐 호출
+ * - 저장 단계는 호출 측 트랜잭션과 상관없이 자기 트랜잭션에서 커밋되는지
+ * - 시도 중간에 실패하면 그 시도의 UPDATE/이력이 함께 롤백되고, 재시도는 새 트랜잭션에서 다시 읽는지
+ * - 자동결제 승인 거절이 재시도되고, 재시도 한계에서 중단 처리되는지
+ */
+@SpringBootTest(
+	classes = PaymentSagaTransactionTest.TestConfig.class,
+	properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"app.db-retry.lock-conflict.initial-interval=1ms"
+	}
+)
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DisplayName("사가 저장 단계 트랜잭션 경계 테스트")
+class PaymentSagaTransactionTest {
+
+	@Configuration
+	@EntityScan(basePackages = "com.grow.payment_service")
+	@EnableJpaRepositories(basePackages = "com.grow.payment_service")
+	@ImportAutoConfiguration({AopAutoConfiguration.class, RetryAutoConfiguration.class})
+	@Import({
+		PaymentRepositoryImpl.class,
+		PaymentHistoryRepositoryImpl.class,
+		PlanRepositoryImpl.class,
+		PaymentApplicationServiceImpl.class,
+		PaymentBatchServiceImpl.class,
+		PaymentPersistenceServiceImpl.class,
+		PaymentSagaOrchestrator.class,
+		RetryablePersistenceService.class,
+		CompensationTransactionService.class,
+		CompensationQueue.class,
+		CompensationTaskRepositoryImpl.class,
+		PersistenceRetryConfig.class,
+		SagaStepMetrics.class,
+		FlowLogger.class,
+		SimpleMeterRegistry.class,
+		AsyncConfig.class
+	})
+	static class TestConfig {
+	}
+
+	private static final Long MEMBER_ID = 1L;
+
+	@Autowired PaymentBatchService batchService;
+	@Autowired RetryablePersistenceService retryableService;
+	@Autowired PaymentJpaRepository paymentJpaRepository;
+	@Autowired PaymentHistoryJpaRepository historyJpaRepository;
+	@Autowired PlanJpaRepository planJpaRepository;
+	@Autowired TransactionTemplate transactionTemplate;
+
+	@MockitoBean PaymentGatewayPort gatewayPort;
+	@MockitoBean MemberClient memberClient;
+	@MockitoBean RedisIdempotencyAdapter idempotencyAdapter;
+	@MockitoBean OrderIdGenerator orderIdGenerator;
+	@MockitoBean SubscriptionHistoryApplicationService subscriptionService;
+	@MockitoBean PaymentNotificationProducer notificationProducer;
+	@MockitoBean PaymentMetrics metrics;
+	@MockitoBean SagaLog sagaLog;
+
+	@BeforeEach
+	void stubExternals() {
+		given(memberClient.getMyInfo(anyLong()))
+			.willReturn(new RsData<>("200", "OK", new MemberInfoResponse(MEMBER_ID, "m@grow.com", "member")));
+		given(idempotencyAdapter.reserve(anyString())).willReturn(true);
+		given(idempotencyAdapter.getOrCreateKey(anyString())).willReturn("idem-auto");
+	}
+
+	@AfterEach
+	void cleanUp() {
+		historyJpaRepository.deleteAllInBatch();
+		paymentJpaRepository.deleteAllInBatch();
+		planJpaRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("processSingleAutoCharge: 시작 CAS → 사가 승인 저장 → 리셋 CAS 가 각각 커밋, 승인 결과를 덮어쓰지 않음")
+	void processSingleAutoCharge_commitsEachStep() {
+		Long paymentId = seedPayment("ord-auto", "bill-auto", PayStatus.AUTO_BILLING_READY);
+		TossBillingChargeResponse toss = mock(TossBillingChargeResponse.class);
+		given(toss.getStatus()).willReturn("DONE");
+		given(toss.getPaymentKey()).willReturn("pk-auto");
+		given(gatewayPort.chargeWithBillingKey(
+			anyString(), anyString(), anyInt(), anyString(), anyString(), anyString(), anyString(), anyInt(), anyInt()
+		)).willReturn(toss);
+
+		batchService.processSingleAutoCharge(paymentId);
+
+		PaymentJpaEntity saved = paymentJpaRepository.findById(paymentId).orElseThrow();
+		assertThat(saved.getPayStatus()).isEqualTo(PayStatus.AUTO_BILLING_READY);
+		assertThat(saved.getPaymentKey()).isEqualTo("pk-auto");
+		// IN_PROGRESS, APPROVED, READY 이력 한 건씩
+		assertThat(historyJpaRepository.count()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("승인 거절 → 재시도도 거절 → 재시도 한계: FAILED 에서 다시 과금하고, 한계 도달 시 중단 + 빌링키 제거")
+	void processSingleAutoCharge_declineRetryExhaustion() {
+		Long paymentId = seedPayment("ord-decline", "bill-decline", PayStatus.AUTO_BILLING_READY);
+		TossBillingChargeResponse declined = mock(TossBillingChargeResponse.class);
+		given(declined.getStatus()).willReturn("ABORTED");
+		given(gatewayPort.chargeWithBillingKey(
+			anyString(), anyString(), anyInt(), anyString(), anyString(), anyString(), anyString(), anyInt(), anyInt()
+		)).willReturn(declined);
+
+		// 1차 시도: 거절 → FAILED 저장, 멱등키는 완료하지 않고 무효화
+		assertThatThrownBy(() -> batchService.processSingleAutoCharge(paymentId))
+			.isInstanceOf(PaymentApplicationException.class);
+		assertThat(paymentJpaRepository.findById(paymentId).orElseThrow().getPayStatus())
+			.isEqualTo(PayStatus.AUTO_BILLING_FAILED);
+		then(idempotencyAdapter).should(never()).finish(anyString(), anyString());
+		then(idempotencyAdapter).should().invalidate("idem-auto");
+
+		// 리스너 재시도: 완료 결과가 없으니 FAILED -> IN_PROGRESS 로 다시 시작해 과금
+		assertThatThrownBy(() -> batchService.processSingleAutoCharge(paymentId))
+			.isInstanceOf(PaymentApplicationException.class);
+		then(gatewayPort).should(times(2)).chargeWithBillingKey(
+			anyString(), anyString(), anyInt(), anyString(), anyString(), anyString(), anyString(), anyInt(), anyInt());
+
+		// 재시도 한계 도달: 거절로 남은 FAILED 도 중단 + 빌링키 제거
+		batchService.markAutoChargeFailedPermanently();
+
+		PaymentJpaEntity row = paymentJpaRepository.findById(paymentId).orElseThrow();
+		assertThat(row.getPayStatus()).isEqualTo(PayStatus.ABORTED);
+		assertThat(row.getBillingKey()).isNull();
+		then(notificationProducer).should(atLeastOnce()).autoBillingFailed(MEMBER_ID, "ord-decline", 10000);
+	}
+
+	@Test
+	@DisplayName("호출 측 트랜잭션이 롤백돼도 사가 저장 단계는 자기 트랜잭션에서 커밋")
+	void saveConfirmation_commitsIndependentlyOfCaller() {
+		Long paymentId = seedPayment("ord-outer", null, PayStatus.READY);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			retryableService.saveConfirmation("pk-outer", "ord-outer", 10000);
+			status.setRollbackOnly();
+		});
+
+		PaymentJpaEntity saved = paymentJpaRepository.findById(paymentId).orElseThrow();
+		assertThat(saved.getPayStatus()).isEqualTo(PayStatus.DONE);
+		assertThat(saved.getPaymentKey()).isEqualTo("pk-outer");
+		assertThat(historyJpaRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("저장 시도가 UPDATE/이력 INSERT 후 일시 오류로 실패 → 그 시도는 롤백, 재시도가 새 트랜잭션에서 한 번만 반영")
+	void saveConfirmation_transientFailureMidAttempt_retriesInFreshTransaction() {
+		Long paymentId = seedPayment("ord-retry", null, PayStatus.READY);
+		// 첫 시도: 버전 조건부 UPDATE 와 이력 INSERT 뒤, 커밋 전에 락 오류
+		willThrow(new CannotAcquireLockException("lock wait timeout"))
+			.willDoNothing()
+			.given(metrics).transition(anyString(), anyString());
+
+		Payment saved = retryableService.saveConfirmation("pk-retry", "ord-retry", 10000);
+
+		assertThat(saved.getPayStatus()).isEqualTo(PayStatus.DONE);
+		then(metrics).should(times(2)).transition(anyString(), anyString());
+
+		// 첫 시도의 UPDATE 가 남았다면 version 2, 이력 2건
+		PaymentJpaEntity row = paymentJpaRepository.findById(paymentId).orElseThrow();
+		assertThat(row.getPayStatus()).isEqualTo(PayStatus.DONE);
+		assertThat(row.getVersion()).isEqualTo(1L);
+		assertThat(historyJpaRepository.findAll())
+			.extracting(PaymentHistoryJpaEntity::getReasonDetail)
+			.containsExactly("결제 완료");
+	}
+
+	private Long seedPayment(String orderId, String billingKey, PayStatus status) {
+		Long planId = planJpaRepository.save(PlanJpaEntity.builder()
+			.type(billingKey == null ? PlanType.ONE_TIME_PAYMENT : PlanType.SUBSCRIPTION)
+			.amount(10000L)
+			.period(billingKey == null ? PlanPeriod.YEARLY : PlanPeriod.MONTHLY)
+			.benefits("tx-test")
+			.build()).getPlanId();
+		Payment payment = Payment.of(
+			null, MEMBER_ID, planId, orderId,
+			null, billingKey, "cust_" + MEMBER_ID,
+			10000L, status, "CARD", null, null
+		);
+		return paymentJpaRepository.save(PaymentMapper.toEntity(payment)).getPaymentId();
+	}
+}
@@ -2,6 +2,7 @@ package com.grow.payment_service.payment.application.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.grow.payment_service.global.dto.RsData;
+import com.grow.payment_service.global.logging.FlowLogger;
 import com.grow.payment_service.payment.application.service.EmailService;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.repository.PaymentRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -35,6 +37,9 @@ class WebhookServiceTest {
 	@Mock
 	private EmailService emailService;
 
+	@Spy
+	private FlowLogger flowLogger = new FlowLogger(1.0, Duration.ofSeconds(1));
+
 	private final ObjectMapper om = new ObjectMapper();
 
 	private static final Long MEMBER_ID = 1L;
@@ -0,0 +1,49 @@
+package com.grow.payment_service.payment.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentHistoryArchiver 단위 테스트")
+class PaymentHistoryArchiverTest {
+
+	@Mock PaymentHistoryRepository historyRepository;
+
+	private SimpleMeterRegistry registry;
+	private PaymentHistoryArchiver archiver;
+
+	private final LocalDateTime cutoff = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		archiver = new PaymentHistoryArchiver(historyRepository, new PaymentMetrics(registry), registry, 2);
+	}
+
+	@Test
+	@DisplayName("옮길 이력이 없을 때까지 묶음 단위로 반복, 옮긴 행 수/묶음 시간 메트릭 기록")
+	void archive_repeatsUntilNothingLeft() {
+		given(historyRepository.archiveBefore(cutoff, 2)).willReturn(2, 1, 0);
+
+		long archived = archiver.archive(cutoff);
+
+		assertThat(archived).isEqualTo(3);
+		then(historyRepository).should(times(3)).archiveBefore(cutoff, 2);
+		assertThat(registry.find(PaymentHistoryArchiver.ARCHIVED).counter().count()).isEqualTo(3);
+		assertThat(registry.find(PaymentHistoryArchiver.BATCH_DURATION).timer().count()).isEqualTo(3);
+	}
+}
@@ -219,11 +219,27 @@ class PaymentTest {
 			assertEquals(AUTO_BILLING_IN_PROGRESS, updated.getPayStatus());
 		}
 
+		@Test
+		@DisplayName("AUTO_BILLING_FAILED → AUTO_BILLING_IN_PROGRESS 로 전이 (승인 거절 후 재시도)")
+		void success_fromFailed() {
+			Payment original = Payment.of(
+				PAYMENT_ID, MEMBER_ID, PLAN_ID, ORDER_ID,
+				PAYMENT_KEY, BILLING_KEY, CUSTOMER_KEY,
+				AMOUNT, AUTO_BILLING_FAILED, METHOD,
+				/*failureReason=*/null,
+				/*cancelReason=*/null
+			);
+
+			Payment updated = original.startAutoBilling();
+
+			assertEquals(AUTO_BILLING_IN_PROGRESS, updated.getPayStatus());
+		}
+
 		@ParameterizedTest(name = "상태 {0} 에서 startAutoBilling() 호출 시 예외")
 		@EnumSource(
 			value = PayStatus.class,
 			mode  = EnumSource.Mode.EXCLUDE,
-			names = {"AUTO_BILLING_READY"}  // 오직 READY 단계만 허용
+			names = {"AUTO_BILLING_READY", "AUTO_BILLING_FAILED"}  // READY 와 거절 후 재시도만 허용
 		)
 		void failure_invalidState(PayStatus invalid) {
 			Payment original = Payment.of(
@@ -425,11 +441,33 @@ class PaymentTest {
 			);
 		}
 
+		@Test
+		@DisplayName("AUTO_BILLING_APPROVED → ABORTED + billingKey 제거 (다음 달 리셋 대신 해지)")
+		void success_fromApproved() {
+			Payment original = Payment.of(
+				PAYMENT_ID, MEMBER_ID, PLAN_ID, ORDER_ID,
+				PAYMENT_KEY, BILLING_KEY, CUSTOMER_KEY,
+				AMOUNT, AUTO_BILLING_APPROVED, METHOD,
+				/*failureReason=*/null,
+				/*cancelReason=*/null
+			);
+
+			Payment updated = original.clearBillingKey();
+
+			assertAll(
+				() -> assertEquals(ABORTED, updated.getPayStatus(), "상태는 ABORTED"),
+				() -> assertNull(updated.getBillingKey(), "billingKey 제거"),
+				() -> assertEquals(PAYMENT_KEY, updated.getPaymentKey(), "이번 달 승인 paymentKey 유지")
+			);
+		}
+
 		@ParameterizedTest(name = "상태 {0} 에서 clearBillingKey() 호출 시 예외 발생")
 		@EnumSource(
 			value = PayStatus.class,
 			mode = EnumSource.Mode.EXCLUDE,
-			names = {"AUTO_BILLING_READY", "AUTO_BILLING_IN_PROGRESS", "AUTO_BILLING_FAILED"}  // READY, IN_PROGRESS, FAILED만 허용
+			// 전이 표에서 ABORTED 로 갈 수 있는 상태만 허용
+			names = {"READY", "IN_PROGRESS",
+				"AUTO_BILLING_READY", "AUTO_BILLING_IN_PROGRESS", "AUTO_BILLING_APPROVED", "AUTO_BILLING_FAILED"}
 		)
 		void failure_invalidState(PayStatus invalid) {
 			Payment original = Payment.of(
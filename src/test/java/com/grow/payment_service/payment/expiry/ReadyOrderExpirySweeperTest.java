@@ -0,0 +1,89 @@
+package com.grow.payment_service.payment.expiry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.application.service.PaymentBatchService;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadyOrderExpirySweeper 단위 테스트")
+class ReadyOrderExpirySweeperTest {
+
+	@Mock PaymentRepository paymentRepository;
+	@Mock PaymentBatchService batchService;
+
+	private SimpleMeterRegistry registry;
+	private ReadyOrderExpirySweeper sweeper;
+
+	private final LocalDate before = LocalDate.of(2025, 1, 2);
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		sweeper = new ReadyOrderExpirySweeper(paymentRepository, batchService, new PaymentMetrics(registry),
+			registry, 2);
+	}
+
+	private double rows(String result) {
+		var counter = registry.find(ReadyOrderExpirySweeper.ROWS).tag("result", result).counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	@Test
+	@DisplayName("묶음 크기만큼 반복 만료, 마지막 묶음이 덜 차면 종료 + 처리량/묶음 메트릭")
+	void sweep_expiresInChunksUntilShortChunk() {
+		given(paymentRepository.findIdsByStatusOrderedBefore(PayStatus.READY, "20250102", 2))
+			.willReturn(List.of(1L, 2L))
+			.willReturn(List.of(3L));
+		given(batchService.expireReadyOrders(List.of(1L, 2L))).willReturn(2);
+		given(batchService.expireReadyOrders(List.of(3L))).willReturn(1);
+
+		int expired = sweeper.sweep(before);
+
+		assertThat(expired).isEqualTo(3);
+		then(paymentRepository).should(times(2)).findIdsByStatusOrderedBefore(PayStatus.READY, "20250102", 2);
+		assertThat(rows("expired")).isEqualTo(3);
+		assertThat(registry.find(ReadyOrderExpirySweeper.CHUNK_ROWS).summary().count()).isEqualTo(2);
+		assertThat(registry.find(ReadyOrderExpirySweeper.CHUNK_DURATION).timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("조회 후 먼저 전이된 건은 skipped 로 집계, 한 건도 반영되지 않으면 같은 묶음을 반복하지 않음")
+	void sweep_countsSkippedAndStopsWhenNothingApplied() {
+		given(paymentRepository.findIdsByStatusOrderedBefore(PayStatus.READY, "20250102", 2))
+			.willReturn(List.of(1L, 2L));
+		given(batchService.expireReadyOrders(List.of(1L, 2L))).willReturn(0);
+
+		int expired = sweeper.sweep(before);
+
+		assertThat(expired).isZero();
+		then(batchService).should(times(1)).expireReadyOrders(anyList());
+		assertThat(rows("skipped")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("대상이 없으면 만료 호출 없음")
+	void sweep_noTargets() {
+		given(paymentRepository.findIdsByStatusOrderedBefore(PayStatus.READY, "20250102", 2))
+			.willReturn(List.of());
+
+		assertThat(sweeper.sweep(before)).isZero();
+		then(batchService).shouldHaveNoInteractions();
+	}
+}
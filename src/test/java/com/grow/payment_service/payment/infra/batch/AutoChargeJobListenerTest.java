@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.quartz.*;
 
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.PaymentApplicationException;
 import com.grow.payment_service.payment.application.service.PaymentBatchService;
 import com.grow.payment_service.plan.domain.model.enums.PlanPeriod;
 import com.grow.payment_service.subscription.application.service.SubscriptionHistoryApplicationService;
@@ -110,4 +112,32 @@ class AutoChargeJobListenerTest {
 		verify(scheduler).deleteJob(key);
 		verify(scheduler, never()).scheduleJob(any(Trigger.class));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("배치 레인 혼잡(LANE_BUSY) → retryCount 그대로 두고 재실행 예약, 마지막 시도여도 영구 실패 처리 안 함")
+	void testJobWasExecuted_laneBusy_keepsRetryCount() throws Exception {
+		JobExecutionException jobEx = new JobExecutionException(new PaymentApplicationException(ErrorCode.LANE_BUSY));
+		JobExecutionContext ctx = makeContext(2, 3);
+		JobKey key = ctx.getJobDetail().getKey();
+
+		listener.jobWasExecuted(ctx, jobEx);
+
+		assertEquals(2, ctx.getJobDetail().getJobDataMap().getInt("retryCount"), "레인 혼잡은 재시도 횟수를 쓰지 않음");
+		verify(scheduler).scheduleJob(any(Trigger.class));
+		verify(scheduler, never()).deleteJob(key);
+		verify(batchService, never()).markAutoChargeFailedPermanently();
+	}
+
+	@Test
+	@DisplayName("자동결제 실패로 감싼 안쪽 LANE_BUSY 는 일반 실패로 보고 retryCount 증가")
+	void testJobWasExecuted_wrappedLaneBusy_countsAsFailure() throws Exception {
+		JobExecutionException jobEx = new JobExecutionException(new PaymentApplicationException(
+			ErrorCode.BATCH_AUTO_CHARGE_ERROR, new PaymentApplicationException(ErrorCode.LANE_BUSY)));
+		JobExecutionContext ctx = makeContext(1, 3);
+
+		listener.jobWasExecuted(ctx, jobEx);
+
+		assertEquals(2, ctx.getJobDetail().getJobDataMap().getInt("retryCount"));
+		verify(scheduler).scheduleJob(any(Trigger.class));
+	}
+}
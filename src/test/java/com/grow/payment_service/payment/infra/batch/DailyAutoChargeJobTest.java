@@ -8,8 +8,11 @@ import static org.mockito.Mockito.never;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,11 +25,13 @@ import org.quartz.Scheduler;
 import org.quartz.Trigger;
 import org.quartz.SchedulerException;
 
+import com.grow.payment_service.global.tracing.QuartzTracing;
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.PaymentHistory;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
 import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
 import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
 
 @DisplayName("DailyAutoChargeJob 테스트")
 class DailyAutoChargeJobTest {
@@ -34,6 +39,8 @@ class DailyAutoChargeJobTest {
 	@Mock PaymentRepository paymentRepository;
 	@Mock PaymentHistoryRepository historyRepository;
 	@Mock Scheduler scheduler;
+	@Mock RedisIdempotencyAdapter idempotencyAdapter;
+	@Mock QuartzTracing quartzTracing;
 	@Mock JobExecutionContext context;
 
 	@InjectMocks
@@ -42,6 +49,9 @@ class DailyAutoChargeJobTest {
 	@BeforeEach
 	void setup() {
 		MockitoAnnotations.openMocks(this);
+		// 기본: 요청된 디스패치 키는 모두 새로 예약됨
+		given(idempotencyAdapter.reserveAll(anyCollection()))
+			.willAnswer(inv -> new LinkedHashSet<>(inv.<Collection<String>>getArgument(0)));
 	}
 
 	/**
@@ -129,4 +139,81 @@ class DailyAutoChargeJobTest {
 		// scheduleJob 호출 시도 후에도 예외는 잡혀있어야 함
 		verify(scheduler).scheduleJob(any(), any());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 이미 다른 실행이 디스패치 키를 예약했다면 스케줄링하지 않는다.
+	 */
+	@Test
+	@DisplayName("디스패치 키 예약에 실패한 결제는 스케줄링하지 않음")
+	void execute_whenDispatchAlreadyReserved_skipsScheduling() throws Exception {
+		Payment p = Mockito.mock(Payment.class);
+		given(p.getPaymentId()).willReturn(333L);
+		given(p.getOrderId()).willReturn("order-333");
+		given(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(PayStatus.AUTO_BILLING_READY))
+			.willReturn(List.of(p));
+
+		PaymentHistory hist = Mockito.mock(PaymentHistory.class);
+		given(hist.getChangedAt()).willReturn(LocalDate.now().minusMonths(1).atStartOfDay());
+		given(historyRepository.findLastByPaymentIdAndStatuses(eq(333L), anyList()))
+			.willReturn(Optional.of(hist));
+
+		given(idempotencyAdapter.reserveAll(anyCollection())).willReturn(Set.of());
+
+		job.execute(context);
+
+		verify(idempotencyAdapter).reserveAll(argThat(keys -> keys.size() == 1
+			&& keys.iterator().next().startsWith("autoCharge:dispatch:order-333:")));
+		verify(scheduler, never()).scheduleJob(any(), any());
+	}
+
+	/**
+	 * 스케줄 실패 시 디스패치 예약을 해제해 다음 실행에서 다시 시도할 수 있어야 한다.
+	 */
+	@Test
+	@DisplayName("SchedulerException 발생 시 디스패치 키 예약 해제")
+	void execute_whenSchedulerThrows_releasesDispatchKey() throws Exception {
+		Payment p = Mockito.mock(Payment.class);
+		given(p.getPaymentId()).willReturn(444L);
+		given(p.getOrderId()).willReturn("order-444");
+		given(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(PayStatus.AUTO_BILLING_READY))
+			.willReturn(List.of(p));
+
+		PaymentHistory hist = Mockito.mock(PaymentHistory.class);
+		given(hist.getChangedAt()).willReturn(LocalDate.now().minusMonths(1).atStartOfDay());
+		given(historyRepository.findLastByPaymentIdAndStatuses(eq(444L), anyList()))
+			.willReturn(Optional.of(hist));
+
+		willThrow(new SchedulerException("boom"))
+			.given(scheduler).scheduleJob(any(), any());
+
+		job.execute(context);
+
+		verify(idempotencyAdapter).invalidate(startsWith("autoCharge:dispatch:order-444:"));
+	}
+
+	/**
+	 * Quartz 외 예외(추적 헤더 기록 실패 등)로 스케줄이 끝나지 않아도 디스패치 예약을 해제해야 한다.
+	 */
+	@Test
+	@DisplayName("스케줄 중 런타임 예외 발생 시에도 디스패치 키 예약 해제")
+	void execute_whenRuntimeExceptionBeforeSchedule_releasesDispatchKey() throws Exception {
+		Payment p = Mockito.mock(Payment.class);
+		given(p.getPaymentId()).willReturn(555L);
+		given(p.getOrderId()).willReturn("order-555");
+		given(paymentRepository.findAllByPayStatusAndBillingKeyIsNotNull(PayStatus.AUTO_BILLING_READY))
+			.willReturn(List.of(p));
+
+		PaymentHistory hist = Mockito.mock(PaymentHistory.class);
+		given(hist.getChangedAt()).willReturn(LocalDate.now().minusMonths(1).atStartOfDay());
+		given(historyRepository.findLastByPaymentIdAndStatuses(eq(555L), anyList()))
+			.willReturn(Optional.of(hist));
+
+		willThrow(new IllegalStateException("tracing-down"))
+			.given(quartzTracing).inject(any(JobDetail.class));
+
+		job.execute(context);
+
+		verify(scheduler, never()).scheduleJob(any(), any());
+		verify(idempotencyAdapter).invalidate(startsWith("autoCharge:dispatch:order-555:"));
+	}
+}
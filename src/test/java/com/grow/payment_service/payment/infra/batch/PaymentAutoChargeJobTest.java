@@ -3,14 +3,22 @@ package com.grow.payment_service.payment.infra.batch;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.quartz.*;
 
+import com.grow.payment_service.global.lane.LaneGate;
+import com.grow.payment_service.global.lane.TrafficLane;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
 import com.grow.payment_service.payment.application.service.PaymentBatchService;
 
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @DisplayName("PaymentAutoChargeJob 테스트 (수정판)")
 class PaymentAutoChargeJobTest {
 
@@ -22,7 +30,10 @@ class PaymentAutoChargeJobTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		job = new PaymentAutoChargeJob(batchService);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		LaneGate laneGate = new LaneGate(registry, new PaymentMetrics(registry), RateLimiterRegistry.ofDefaults(),
+			10, 3, 1, Duration.ofSeconds(1));
+		job = new PaymentAutoChargeJob(batchService, laneGate);
 	}
 
 	private JobExecutionContext makeContext(long paymentId) {
@@ -46,6 +57,22 @@ class PaymentAutoChargeJobTest {
 		verify(batchService, times(1)).processSingleAutoCharge(paymentId);
 	}
 
+	@Test
+	@DisplayName("execute() 는 BATCH 레인 안에서 실행되고, 종료 후 레인이 해제된다")
+	void execute_runsInBatchLane() throws Exception {
+		long paymentId = 43L;
+		JobExecutionContext ctx = makeContext(paymentId);
+		doAnswer(inv -> {
+			assertEquals(TrafficLane.BATCH, TrafficLane.current());
+			return null;
+		}).when(batchService).processSingleAutoCharge(paymentId);
+
+		job.execute(ctx);
+
+		verify(batchService).processSingleAutoCharge(paymentId);
+		assertEquals(TrafficLane.INTERACTIVE, TrafficLane.current());
+	}
+
 	@Test
 	@DisplayName("processSingleAutoCharge가 RuntimeException을 던지면 그대로 전파된다")
 	void execute_whenServiceThrowsRuntimeException_propagates() throws Exception {
@@ -0,0 +1,199 @@
+package com.grow.payment_service.payment.infra.paymentprovider.adapter;
+
+import static com.grow.payment_service.global.lane.TrafficLane.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TossCallGuard 단위 테스트")
+class TossCallGuardTest {
+
+	private static final String OP = "tossConfirm";
+
+	private SimpleMeterRegistry meterRegistry;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private ExecutorService executor;
+	private TossConcurrencyLimiter limiter;
+	private TossCallGuard guard;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+			.slidingWindowSize(2)
+			.minimumNumberOfCalls(2)
+			.recordException(new TossFailurePredicate())
+			.build());
+		BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+			.maxConcurrentCalls(1)
+			.maxWaitDuration(Duration.ZERO)
+			.build());
+		TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+			.timeoutDuration(Duration.ofMillis(200))
+			.cancelRunningFuture(true)
+			.build());
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		limiter = new TossConcurrencyLimiter(meterRegistry, 4, 1, 8, 0.5, 0.5,
+			Duration.ofSeconds(10), Duration.ZERO);
+		guard = new TossCallGuard(circuitBreakerRegistry, bulkheadRegistry, timeLimiterRegistry, executor,
+			limiter, new PaymentMetrics(meterRegistry));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("call: 정상 응답은 그대로 반환")
+	void call_returnsResult() {
+		assertThat(guard.call(OP, INTERACTIVE, () -> "ok")).isEqualTo("ok");
+	}
+
+	@Test
+	@DisplayName("call: 토스 예외는 감싸지 않고 그대로 전파")
+	void call_propagatesTossException() {
+		TossException original = new TossException(ErrorCode.TOSS_API_ERROR);
+
+		assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> { throw original; })).isSameAs(original);
+	}
+
+	@Test
+	@DisplayName("call: Error 가 전파돼도 적응형 한도 자리는 반납")
+	void call_error_releasesPermit() {
+		LinkageError error = new LinkageError("boom");
+
+		assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> { throw error; })).isSameAs(error);
+		assertThat(limiter.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("call: 서킷 열림 → 토스 호출 없이 TOSS_UNAVAILABLE + 거절 카운터")
+	void call_circuitOpen_failsFast() {
+		circuitBreakerRegistry.circuitBreaker(OP).transitionToForcedOpenState();
+		AtomicBoolean invoked = new AtomicBoolean();
+
+		assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> invoked.getAndSet(true)))
+			.isInstanceOf(TossException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.TOSS_UNAVAILABLE);
+		assertThat(invoked).isFalse();
+		assertThat(meterRegistry.get(TossCallGuard.REJECTED).tag("reason", "circuit_open").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("call: 적응형 한도 초과 → 토스 호출 없이 TOSS_UNAVAILABLE")
+	void call_concurrencyLimitExceeded_failsFast() {
+		for (int i = 0; i < 4; i++) {
+			limiter.tryAcquire(INTERACTIVE);
+		}
+		AtomicBoolean invoked = new AtomicBoolean();
+
+		assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> invoked.getAndSet(true)))
+			.isInstanceOf(TossException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.TOSS_UNAVAILABLE);
+		assertThat(invoked).isFalse();
+		assertThat(meterRegistry.get(TossCallGuard.REJECTED).tag("reason", "concurrency_limit").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("call: 응답 지연 → TOSS_TIMEOUT, 호출 스레드는 인터럽트, 적응형 한도 감소")
+	void call_timeout_interruptsCall() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> {
+			try {
+				Thread.sleep(5_000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return "late";
+		}))
+			.isInstanceOf(TossException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.TOSS_TIMEOUT);
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(limiter.limit()).isEqualTo(2.0);
+		assertThat(limiter.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("call: 동시 호출 상한 초과 → 대기 없이 TOSS_UNAVAILABLE")
+	void call_bulkheadFull_failsFast() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> first = executor.submit(() -> guard.call(OP, INTERACTIVE, () -> {
+			entered.countDown();
+			try {
+				release.await(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "first";
+		}));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> "second"))
+			.isInstanceOf(TossException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.TOSS_UNAVAILABLE);
+		assertThat(meterRegistry.get(TossCallGuard.REJECTED).tag("reason", "bulkhead_full").counter().count())
+			.isEqualTo(1);
+
+		release.countDown();
+		assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+	}
+
+	@Test
+	@DisplayName("call: 4xx 거절은 실패로 집계하지 않고, 5xx 는 집계해 서킷을 연다")
+	void call_onlyServerErrorsOpenCircuit() {
+		AtomicInteger calls = new AtomicInteger();
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> {
+				calls.incrementAndGet();
+				throw tossError(400);
+			})).isInstanceOf(TossException.class);
+		}
+		assertThat(circuitBreakerRegistry.circuitBreaker(OP).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> guard.call(OP, INTERACTIVE, () -> {
+				calls.incrementAndGet();
+				throw tossError(500);
+			})).isInstanceOf(TossException.class);
+		}
+		assertThat(circuitBreakerRegistry.circuitBreaker(OP).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(calls).hasValue(4);
+	}
+
+	private static TossException tossError(int status) {
+		return new TossException(ErrorCode.TOSS_API_ERROR,
+			WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0], null));
+	}
+}
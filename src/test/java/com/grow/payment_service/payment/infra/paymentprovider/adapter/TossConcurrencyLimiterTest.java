@@ -0,0 +1,111 @@
+package com.grow.payment_service.payment.infra.paymentprovider.adapter;
+
+import static com.grow.payment_service.global.lane.TrafficLane.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.grow.payment_service.payment.infra.paymentprovider.adapter.TossConcurrencyLimiter.Permit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TossConcurrencyLimiter 단위 테스트")
+class TossConcurrencyLimiterTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private TossConcurrencyLimiter limiter(int initial, Duration batchMaxWait) {
+		return new TossConcurrencyLimiter(registry, initial, 2, 16, 0.5, 0.5, Duration.ofSeconds(10), batchMaxWait);
+	}
+
+	@Test
+	@DisplayName("tryAcquire: 사용자 요청은 한도 전체, 배치는 batch-share 까지만 사용")
+	void tryAcquire_batchCappedAtShare() {
+		TossConcurrencyLimiter limiter = limiter(4, Duration.ZERO);
+
+		assertThat(limiter.tryAcquire(BATCH)).isNotNull();
+		assertThat(limiter.tryAcquire(BATCH)).isNotNull();
+		assertThat(limiter.tryAcquire(BATCH)).isNull();
+		assertThat(limiter.tryAcquire(INTERACTIVE)).isNotNull();
+		assertThat(limiter.tryAcquire(INTERACTIVE)).isNotNull();
+		assertThat(limiter.tryAcquire(INTERACTIVE)).isNull();
+		assertThat(registry.get(TossConcurrencyLimiter.IN_FLIGHT).gauge().value()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("dropped: 한도를 backoff-ratio 배로 줄이되, slow-threshold 안의 연속 실패는 한 번만 반영")
+	void dropped_decreasesOncePerWindow() {
+		TossConcurrencyLimiter limiter = limiter(8, Duration.ZERO);
+
+		limiter.tryAcquire(INTERACTIVE).dropped();
+		limiter.tryAcquire(INTERACTIVE).dropped();
+
+		assertThat(limiter.limit()).isEqualTo(4.0);
+		assertThat(registry.get(TossConcurrencyLimiter.LIMIT).gauge().value()).isEqualTo(4.0);
+		assertThat(limiter.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("success: 한도를 절반 이상 쓰는 중이면 증가, 여유가 많으면 유지")
+	void success_increasesOnlyWhenUtilized() {
+		TossConcurrencyLimiter limiter = limiter(4, Duration.ZERO);
+
+		limiter.tryAcquire(INTERACTIVE).success();
+		assertThat(limiter.limit()).isEqualTo(4.0);
+
+		Permit first = limiter.tryAcquire(INTERACTIVE);
+		Permit second = limiter.tryAcquire(INTERACTIVE);
+		second.success();
+		first.success();
+
+		assertThat(limiter.limit()).isEqualTo(4.25);
+	}
+
+	@Test
+	@DisplayName("ignore: 토스까지 가지 않은 호출은 한도 조정 없이 자리만 반납")
+	void ignore_releasesWithoutAdjusting() {
+		TossConcurrencyLimiter limiter = limiter(4, Duration.ZERO);
+
+		limiter.tryAcquire(INTERACTIVE).ignore();
+
+		assertThat(limiter.limit()).isEqualTo(4.0);
+		assertThat(limiter.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("Permit: 두 번 반납해도 자리/한도는 처음 한 번만 반영")
+	void permit_releasedOnlyOnce() {
+		TossConcurrencyLimiter limiter = limiter(8, Duration.ZERO);
+		limiter.tryAcquire(INTERACTIVE);
+		Permit permit = limiter.tryAcquire(INTERACTIVE);
+
+		permit.success();
+		permit.dropped();
+
+		assertThat(limiter.inFlight()).isEqualTo(1);
+		assertThat(limiter.limit()).isEqualTo(8.0);
+	}
+
+	@Test
+	@DisplayName("tryAcquire: 배치는 자리가 날 때까지 대기 후 획득")
+	void tryAcquire_batchWaitsForRelease() throws Exception {
+		TossConcurrencyLimiter limiter = limiter(4, Duration.ofSeconds(5));
+		List<Permit> held = new ArrayList<>();
+		held.add(limiter.tryAcquire(BATCH));
+		held.add(limiter.tryAcquire(BATCH));
+
+		CompletableFuture<Permit> waiting = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(BATCH));
+		assertThat(waiting).isNotDone();
+
+		held.getFirst().ignore();
+
+		assertThat(waiting.get(1, TimeUnit.SECONDS)).isNotNull();
+	}
+}
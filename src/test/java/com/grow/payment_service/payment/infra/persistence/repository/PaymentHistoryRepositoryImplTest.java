@@ -0,0 +1,110 @@
+package com.grow.payment_service.payment.infra.persistence.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grow.payment_service.payment.domain.model.PaymentHistory;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.repository.PaymentHistoryRepository;
+
+/**
+ * 결제 이력 hot/cold 보관 테스트 (내장 H2)
+ * - archiveBefore 가 기준 시각 이전 행만 묶음 단위로 옮기는지
+ * - 옮긴 뒤에도 조회 메서드가 두 테이블을 함께 읽는지
+ */
+@SpringBootTest(
+	classes = PaymentHistoryRepositoryImplTest.TestConfig.class,
+	properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+	}
+)
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Transactional
+@DisplayName("결제 이력 보관(hot/cold) 테스트")
+class PaymentHistoryRepositoryImplTest {
+
+	@Configuration
+	@EntityScan(basePackages = "com.grow.payment_service.payment.infra.persistence.entity")
+	@EnableJpaRepositories(basePackages = "com.grow.payment_service.payment.infra.persistence.repository")
+	@Import(PaymentHistoryRepositoryImpl.class)
+	static class TestConfig {
+	}
+
+	private static final Long PAYMENT_ID = 7L;
+
+	@Autowired PaymentHistoryRepository historyRepository;
+	@Autowired JdbcTemplate jdbcTemplate;
+
+	private final LocalDateTime cutoff = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+	private void seed(PayStatus status, LocalDateTime changedAt) {
+		historyRepository.save(PaymentHistory.of(null, PAYMENT_ID, status, changedAt, "archive-test"));
+	}
+
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+	@Test
+	@DisplayName("기준 시각 이전 이력만 묶음 단위로 옮기고, 더 없으면 0 반환")
+	void archiveBefore_movesOnlyOldRowsInBatches() {
+		seed(PayStatus.AUTO_BILLING_READY, cutoff.minusDays(60));
+		seed(PayStatus.AUTO_BILLING_APPROVED, cutoff.minusDays(30));
+		seed(PayStatus.AUTO_BILLING_APPROVED, cutoff.plusDays(1));
+
+		assertThat(historyRepository.archiveBefore(cutoff, 1)).isEqualTo(1);
+		assertThat(historyRepository.archiveBefore(cutoff, 1)).isEqualTo(1);
+		assertThat(historyRepository.archiveBefore(cutoff, 1)).isZero();
+
+		assertThat(count("payment_history")).isEqualTo(1);
+		assertThat(count("payment_history_archive")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("옮긴 뒤에도 결제별 이력은 두 테이블을 합쳐 changedAt 순으로 조회")
+	void findByPaymentId_coversBothTiers() {
+		seed(PayStatus.READY, cutoff.minusDays(10));
+		seed(PayStatus.AUTO_BILLING_READY, cutoff.plusDays(1));
+		historyRepository.archiveBefore(cutoff, 100);
+
+		List<PaymentHistory> histories = historyRepository.findByPaymentId(PAYMENT_ID);
+
+		assertThat(histories).extracting(PaymentHistory::getStatus)
+			.containsExactly(PayStatus.READY, PayStatus.AUTO_BILLING_READY);
+		assertThat(historyRepository.findByPaymentIdIn(List.of(PAYMENT_ID, 99L))).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("마지막 이력 조회: 보관된 이력만 있으면 보관 테이블에서, 새 이력이 있으면 그 건을 반환")
+	void findLast_coversBothTiers() {
+		List<PayStatus> statuses = List.of(PayStatus.AUTO_BILLING_READY, PayStatus.AUTO_BILLING_APPROVED);
+		seed(PayStatus.AUTO_BILLING_READY, cutoff.minusDays(40));
+		seed(PayStatus.AUTO_BILLING_APPROVED, cutoff.minusDays(10));
+		historyRepository.archiveBefore(cutoff, 100);
+
+		assertThat(historyRepository.findLastByPaymentIdAndStatuses(PAYMENT_ID, statuses))
+			.hasValueSatisfying(h -> assertThat(h.getChangedAt()).isEqualTo(cutoff.minusDays(10)));
+
+		seed(PayStatus.AUTO_BILLING_APPROVED, cutoff.plusDays(20));
+
+		assertThat(historyRepository.findLastByPaymentIdAndStatuses(PAYMENT_ID, statuses))
+			.hasValueSatisfying(h -> assertThat(h.getChangedAt()).isEqualTo(cutoff.plusDays(20)));
+	}
+}
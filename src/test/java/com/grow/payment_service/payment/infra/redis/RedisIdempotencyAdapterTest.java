@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.*;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
@@ -152,4 +155,24 @@ class RedisIdempotencyAdapterTest {
 		String fallback = adapter.getOrCreateKey(record);
 		assertNotNull(fallback, "get이 null인 경우에도 새 키를 반환해야 함");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("reserveAll: 파이프라인 결과가 true인 키만 반환")
+	void reserveAll_returnsOnlyNewlyReserved() {
+		when(redisTemplate.executePipelined(any(RedisCallback.class)))
+			.thenReturn(List.of(true, false, true));
+
+		Set<String> reserved = adapter.reserveAll(List.of("a", "b", "c"));
+
+		assertEquals(Set.of("a", "c"), reserved);
+		verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+	}
+
+	@Test
+	@DisplayName("reserveAll: 빈 입력이면 Redis 호출 없이 빈 결과")
+	void reserveAll_emptyInput() {
+		assertTrue(adapter.reserveAll(List.of()).isEmpty());
+
+		verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+	}
+}
@@ -0,0 +1,127 @@
+package com.grow.payment_service.payment.reconcile;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.Drift;
+import com.grow.payment_service.payment.saga.CompensationQueue;
+import com.grow.payment_service.payment.saga.RetryablePersistenceService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentReconciler 단위 테스트")
+class PaymentReconcilerTest {
+
+	@Mock PaymentRepository paymentRepository;
+	@Mock TossApiStateSource apiSource;
+	@Mock CompensationQueue compensationQueue;
+	@Mock RetryablePersistenceService retryableService;
+
+	@TempDir Path tempDir;
+
+	private SimpleMeterRegistry registry;
+	private PaymentReconciler reconciler;
+
+	private final LocalDate day = LocalDate.of(2025, 1, 1);
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		reconciler = new PaymentReconciler(paymentRepository, apiSource, compensationQueue, retryableService,
+			new PaymentMetrics(registry), 2, tempDir.resolve("reports"));
+	}
+
+	private Payment payment(String orderId, PayStatus status) {
+		return Payment.of(1L, 1L, 1L, orderId, "pk-" + orderId, null, "cust", 1000L, status, "CARD", null, null);
+	}
+
+	@Test
+	@DisplayName("orderId 키셋으로 페이지를 이어 읽고 불일치만 리포트에 기록")
+	void reconcile_pagesByKeyset_reportsDriftOnly() throws Exception {
+		Payment a = payment("2025010110001", PayStatus.DONE);
+		Payment b = payment("2025010110002", PayStatus.READY);
+		Payment c = payment("2025010120001", PayStatus.DONE);
+		given(paymentRepository.findReconcilePage(anyCollection(), eq("20250101"), eq("20250102"), eq(2)))
+			.willReturn(List.of(a, b));
+		given(paymentRepository.findReconcilePage(anyCollection(), eq("2025010110002"), eq("20250102"), eq(2)))
+			.willReturn(List.of(c));
+		given(apiSource.fetch(List.of(a, b))).willReturn(Map.of(
+			a.getOrderId(), TossPaymentState.of(a.getOrderId(), "pk", "DONE", 1000),
+			b.getOrderId(), TossPaymentState.of(b.getOrderId(), "pk", "DONE", 1000)));
+		given(apiSource.fetch(List.of(c))).willReturn(Map.of(
+			c.getOrderId(), TossPaymentState.of(c.getOrderId(), "pk", "DONE", 1000)));
+
+		ReconcileReport report = reconciler.reconcile(ReconcileRequest.window(day, day, false));
+
+		assertThat(report.getScanned()).isEqualTo(3);
+		assertThat(report.mismatched()).isEqualTo(1);
+		assertThat(report.getDrifts()).containsEntry(Drift.UNRECORDED_CHARGE, 1L);
+		assertThat(Files.readAllLines(report.getFile())).hasSize(2)
+			.last().asString().startsWith("2025010110002,READY,DONE").contains("proposed");
+		then(compensationQueue).shouldHaveNoInteractions();
+		assertThat(registry.get(PaymentReconciler.SCANNED).counter().count()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("autoRepair: 승인 미반영은 보상 작업 등록, 취소 미반영은 취소 완료 반영")
+	void reconcile_autoRepair_appliesExistingCompensationPaths() {
+		Payment charged = payment("2025010110001", PayStatus.IN_PROGRESS);
+		Payment cancel = payment("2025010110002", PayStatus.CANCEL_REQUESTED);
+		given(paymentRepository.findReconcilePage(anyCollection(), anyString(), anyString(), anyInt()))
+			.willReturn(List.of(charged, cancel), List.of());
+		given(apiSource.fetch(anyList())).willReturn(Map.of(
+			charged.getOrderId(), TossPaymentState.of(charged.getOrderId(), "toss-pk", "DONE", 1000),
+			cancel.getOrderId(), TossPaymentState.of(cancel.getOrderId(), "toss-pk2", "CANCELED", 1000)));
+
+		ReconcileReport report = reconciler.reconcile(ReconcileRequest.window(day, day, true));
+
+		then(compensationQueue).should()
+			.enqueue(eq(CompensationType.APPROVAL), eq(charged.getOrderId()), eq("toss-pk"), eq(1000), any());
+		then(retryableService).should().saveCancelComplete(cancel.getOrderId());
+		assertThat(report.getRepaired()).isEqualTo(2);
+		assertThat(registry.get(PaymentReconciler.REPAIR)
+			.tag("action", "compensate_approval").tag("outcome", "applied").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("내보내기 파일: 정렬 병합으로 비교, 파일에 없는 주문은 NOT_FOUND, 짝 없는 파일 행은 skipped")
+	void reconcile_exportFile_mergesSortedRows() throws Exception {
+		Path export = tempDir.resolve("toss.csv");
+		Files.write(export, List.of(
+			"orderId,paymentKey,status,totalAmount",
+			"2025010100001,pk-x,DONE,500",
+			"2025010110001,pk-a,DONE,1000"));
+		Payment a = payment("2025010110001", PayStatus.DONE);
+		Payment b = payment("2025010110002", PayStatus.DONE);
+		given(paymentRepository.findReconcilePage(anyCollection(), anyString(), anyString(), anyInt()))
+			.willReturn(List.of(a, b), List.of());
+
+		ReconcileReport report = reconciler.reconcile(ReconcileRequest.window(day, day, false).withExportFile(export));
+
+		assertThat(report.getScanned()).isEqualTo(2);
+		assertThat(report.getDrifts()).containsEntry(Drift.MATCH, 1L).containsEntry(Drift.MISSING_AT_TOSS, 1L);
+		assertThat(report.getSkipped()).isEqualTo(1);
+		then(apiSource).shouldHaveNoInteractions();
+	}
+}
@@ -0,0 +1,139 @@
+package com.grow.payment_service.payment.reconcile;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.Drift;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.RepairAction;
+import com.grow.payment_service.payment.reconcile.ReconcileDiff.Result;
+
+@DisplayName("ReconcileDiff 규칙 테스트")
+class ReconcileDiffTest {
+
+	private static final String ORDER_ID = "2025010110001";
+
+	private Payment payment(PayStatus status, long amount) {
+		return Payment.of(1L, 1L, 1L, ORDER_ID, "pk-1", null, "cust", amount, status, "CARD", null, null);
+	}
+
+	private Payment autoBilling(PayStatus status, String lastPaymentKey) {
+		return Payment.of(1L, 1L, 1L, ORDER_ID, lastPaymentKey, "bk", "cust", 1000L, status, "CARD", null, null);
+	}
+
+	private TossPaymentState toss(String status, long amount) {
+		return TossPaymentState.of(ORDER_ID, "pk-1", status, amount);
+	}
+
+	@Test
+	@DisplayName("내부 DONE + 토스 DONE + 금액 일치 → MATCH")
+	void done_done_match() {
+		Result result = ReconcileDiff.diff(payment(PayStatus.DONE, 1000), toss("DONE", 1000));
+
+		assertThat(result.drift()).isEqualTo(Drift.MATCH);
+		assertThat(result.action()).isEqualTo(RepairAction.NONE);
+	}
+
+	@Test
+	@DisplayName("내부 미결제 + 토스 DONE → UNRECORDED_CHARGE, 승인 보상 제안")
+	void ready_tossDone_compensateApproval() {
+		Result result = ReconcileDiff.diff(payment(PayStatus.READY, 1000), toss("DONE", 1000));
+
+		assertThat(result.drift()).isEqualTo(Drift.UNRECORDED_CHARGE);
+		assertThat(result.action()).isEqualTo(RepairAction.COMPENSATE_APPROVAL);
+	}
+
+	@Test
+	@DisplayName("자동결제 진행 중 + 내부 승인 기록 없음 + 토스 DONE → 자동결제 보상 제안")
+	void autoBillingInProgress_noPriorCharge_tossDone_compensateAutoCharge() {
+		Result result = ReconcileDiff.diff(autoBilling(PayStatus.AUTO_BILLING_IN_PROGRESS, null), toss("DONE", 1000));
+
+		assertThat(result.drift()).isEqualTo(Drift.UNRECORDED_CHARGE);
+		assertThat(result.action()).isEqualTo(RepairAction.COMPENSATE_AUTO_CHARGE);
+	}
+
+	@Test
+	@DisplayName("자동결제 진행 중/실패 + 토스 DONE 이 지난 회차 승인(같은 paymentKey) → MATCH, 보상하지 않음")
+	void autoBilling_tossDoneIsLastCycle_match() {
+		assertThat(ReconcileDiff.diff(autoBilling(PayStatus.AUTO_BILLING_IN_PROGRESS, "pk-1"), toss("DONE", 1000)))
+			.isEqualTo(Result.MATCH);
+		assertThat(ReconcileDiff.diff(autoBilling(PayStatus.AUTO_BILLING_FAILED, "pk-1"), toss("DONE", 1000)))
+			.isEqualTo(Result.MATCH);
+	}
+
+	@Test
+	@DisplayName("자동결제 실패 + 토스 DONE 이 내부 마지막 승인과 다른 paymentKey → 회차 판단 불가, 수동 확인")
+	void autoBillingFailed_tossDoneOtherKey_manual() {
+		Result result = ReconcileDiff.diff(autoBilling(PayStatus.AUTO_BILLING_FAILED, "pk-0"), toss("DONE", 1000));
+
+		assertThat(result.drift()).isEqualTo(Drift.UNRECORDED_CHARGE);
+		assertThat(result.action()).isEqualTo(RepairAction.MANUAL_REVIEW);
+	}
+
+	@Test
+	@DisplayName("구독 중단(ABORTED) + 지난달 paymentKey 보유 + 토스 DONE 이 지난달 승인 → MATCH, 환불 제안하지 않음")
+	void abortedSubscription_tossDoneIsLastMonth_match() {
+		Payment aborted = Payment.of(1L, 1L, 1L, ORDER_ID, "pk-1", null, "cust", 1000L,
+			PayStatus.ABORTED, "CARD", null, null);
+
+		assertThat(ReconcileDiff.diff(aborted, toss("DONE", 1000))).isEqualTo(Result.MATCH);
+		assertThat(ReconcileDiff.diff(autoBilling(PayStatus.ABORTED, "pk-1"), toss("DONE", 1000)))
+			.isEqualTo(Result.MATCH);
+	}
+
+	@Test
+	@DisplayName("구독 중단(ABORTED) + 토스 DONE 이 내부 마지막 승인과 다른 paymentKey → 수동 확인")
+	void abortedSubscription_tossDoneOtherKey_manual() {
+		Result result = ReconcileDiff.diff(autoBilling(PayStatus.ABORTED, "pk-0"), toss("DONE", 1000));
+
+		assertThat(result.drift()).isEqualTo(Drift.UNRECORDED_CHARGE);
+		assertThat(result.action()).isEqualTo(RepairAction.MANUAL_REVIEW);
+	}
+
+	@Test
+	@DisplayName("내부 DONE + 금액 불일치 → AMOUNT_MISMATCH, 수동 확인")
+	void done_amountMismatch_manual() {
+		Result result = ReconcileDiff.diff(payment(PayStatus.DONE, 1000), toss("DONE", 900));
+
+		assertThat(result.drift()).isEqualTo(Drift.AMOUNT_MISMATCH);
+		assertThat(result.action()).isEqualTo(RepairAction.MANUAL_REVIEW);
+	}
+
+	@Test
+	@DisplayName("내부 DONE + 토스에 주문 없음 → MISSING_AT_TOSS")
+	void done_notFound_missing() {
+		Result result = ReconcileDiff.diff(payment(PayStatus.DONE, 1000), TossPaymentState.notFound(ORDER_ID));
+
+		assertThat(result.drift()).isEqualTo(Drift.MISSING_AT_TOSS);
+	}
+
+	@Test
+	@DisplayName("취소 요청 + 토스 CANCELED → 취소 완료 반영 제안")
+	void cancelRequested_tossCanceled_completeCancel() {
+		Result result = ReconcileDiff.diff(payment(PayStatus.CANCEL_REQUESTED, 1000), toss("CANCELED", 1000));
+
+		assertThat(result.drift()).isEqualTo(Drift.STATUS_MISMATCH);
+		assertThat(result.action()).isEqualTo(RepairAction.COMPLETE_CANCEL);
+	}
+
+	@Test
+	@DisplayName("내부 취소 완료 + 토스 DONE → UNREFUNDED")
+	void cancelled_tossDone_unrefunded() {
+		Result result = ReconcileDiff.diff(payment(PayStatus.CANCELLED, 1000), toss("DONE", 1000));
+
+		assertThat(result.drift()).isEqualTo(Drift.UNREFUNDED);
+		assertThat(result.action()).isEqualTo(RepairAction.MANUAL_REVIEW);
+	}
+
+	@Test
+	@DisplayName("토스 조회 실패 → LOOKUP_FAILED, 조치 없음")
+	void lookupFailed() {
+		Result result = ReconcileDiff.diff(payment(PayStatus.DONE, 1000), TossPaymentState.failed(ORDER_ID, "timeout"));
+
+		assertThat(result.drift()).isEqualTo(Drift.LOOKUP_FAILED);
+		assertThat(result.action()).isEqualTo(RepairAction.NONE);
+	}
+}
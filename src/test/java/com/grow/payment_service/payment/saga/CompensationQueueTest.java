@@ -0,0 +1,65 @@
+package com.grow.payment_service.payment.saga;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.infra.persistence.entity.CompensationTaskJpaEntity;
+import com.grow.payment_service.payment.infra.persistence.repository.CompensationTaskJpaRepository;
+import com.grow.payment_service.payment.infra.persistence.repository.CompensationTaskRepositoryImpl;
+
+/**
+ * 보상 작업 등록 중복 방지 테스트 (내장 H2)
+ * - 같은 승인 건(주문번호 + paymentKey)은 한 번만 등록
+ * - 자동결제처럼 같은 주문번호로 다음 달 승인이 생기면 따로 등록
+ */
+@SpringBootTest(
+	classes = CompensationQueueTest.TestConfig.class,
+	properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+	}
+)
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DisplayName("보상 작업 등록 중복 방지 테스트")
+class CompensationQueueTest {
+
+	@Configuration
+	@EntityScan(basePackages = "com.grow.payment_service.payment.infra.persistence.entity")
+	@EnableJpaRepositories(basePackages = "com.grow.payment_service.payment.infra.persistence.repository")
+	@Import({CompensationQueue.class, CompensationTaskRepositoryImpl.class})
+	static class TestConfig {
+	}
+
+	@Autowired CompensationQueue compensationQueue;
+	@Autowired CompensationTaskJpaRepository taskJpaRepository;
+
+	@MockitoBean PaymentMetrics metrics;
+
+	private final RuntimeException cause = new RuntimeException("db-down");
+
+	@Test
+	@DisplayName("자동결제 보상: 지난달 작업이 있어도 이번 달 승인 건은 따로 등록, 같은 승인 건 재등록은 무시")
+	void enqueue_secondMonthOfSameOrder_isRegistered() {
+		compensationQueue.enqueue(CompensationType.AUTO_CHARGE, "ord-sub", "pk-2025-05", 10000, cause);
+		compensationQueue.enqueue(CompensationType.AUTO_CHARGE, "ord-sub", "pk-2025-06", 10000, cause);
+		compensationQueue.enqueue(CompensationType.AUTO_CHARGE, "ord-sub", "pk-2025-06", 10000, cause);
+
+		assertThat(taskJpaRepository.findAll())
+			.extracting(CompensationTaskJpaEntity::getPaymentKey)
+			.containsExactlyInAnyOrder("pk-2025-05", "pk-2025-06");
+	}
+}
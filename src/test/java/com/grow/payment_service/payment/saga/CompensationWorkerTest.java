@@ -0,0 +1,169 @@
+package com.grow.payment_service.payment.saga;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.global.lane.LaneGate;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.CompensationTask;
+import com.grow.payment_service.payment.domain.model.enums.CancelReason;
+import com.grow.payment_service.payment.domain.model.enums.CompensationStatus;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.domain.repository.CompensationTaskRepository;
+import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompensationWorker 단위 테스트")
+class CompensationWorkerTest {
+
+	@Mock CompensationTaskRepository taskRepository;
+	@Mock PaymentGatewayPort gatewayPort;
+	@Mock CompensationTransactionService compTx;
+
+	private SimpleMeterRegistry registry;
+	private CompensationWorker worker;
+
+	private final String orderId = "order-1";
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		PaymentMetrics metrics = new PaymentMetrics(registry);
+		LaneGate laneGate = new LaneGate(registry, metrics, RateLimiterRegistry.ofDefaults(),
+			10, 3, 1, Duration.ofSeconds(1));
+		worker = new CompensationWorker(taskRepository, gatewayPort, compTx, laneGate, metrics, registry,
+			20, 3, Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMinutes(5));
+	}
+
+	private CompensationTask task(CompensationType type, int attempts) {
+		LocalDateTime created = LocalDateTime.now().minusMinutes(2);
+		return CompensationTask.of(1L, orderId, type, "pk-1", 1000, "db down",
+			CompensationStatus.PENDING, attempts, created, created, null);
+	}
+
+	private CompensationTask saved() {
+		ArgumentCaptor<CompensationTask> captor = ArgumentCaptor.forClass(CompensationTask.class);
+		then(taskRepository).should().save(captor.capture());
+		return captor.getValue();
+	}
+
+	private void due(CompensationTask task) {
+		given(taskRepository.findDue(any(), eq(20))).willReturn(List.of(task));
+		given(taskRepository.claim(eq(task.getTaskId()), any(), any())).willReturn(true);
+	}
+
+	@Test
+	@DisplayName("poll: 토스 취소 → 승인 보상 트랜잭션 → DONE")
+	void poll_approval_completes() {
+		due(task(CompensationType.APPROVAL, 0));
+
+		worker.poll();
+
+		then(gatewayPort).should().cancelPayment("pk-1", CancelReason.SYSTEM_ERROR.name(), 1000, "보상 취소");
+		then(compTx).should().compensateApprovalFailure(eq(orderId), any());
+		assertThat(saved().getStatus()).isEqualTo(CompensationStatus.DONE);
+	}
+
+	@Test
+	@DisplayName("poll: 처리권을 얻지 못한 작업은 건너뜀 (다른 인스턴스가 처리 중)")
+	void poll_notClaimed_skips() {
+		CompensationTask task = task(CompensationType.APPROVAL, 0);
+		given(taskRepository.findDue(any(), eq(20))).willReturn(List.of(task));
+		given(taskRepository.claim(eq(1L), any(), any())).willReturn(false);
+
+		worker.poll();
+
+		then(gatewayPort).shouldHaveNoInteractions();
+		then(taskRepository).should(never()).save(any());
+	}
+
+	@Test
+	@DisplayName("process: 토스 취소 실패 → 백오프 후 재시도 예약, 보상 트랜잭션은 실행 안 함")
+	void process_tossFailure_schedulesRetry() {
+		CompensationTask task = task(CompensationType.AUTO_CHARGE, 0);
+		willThrow(new TossException(ErrorCode.TOSS_UNAVAILABLE))
+			.given(gatewayPort).cancelPayment(anyString(), anyString(), anyInt(), anyString());
+
+		worker.process(task);
+
+		then(compTx).shouldHaveNoInteractions();
+		CompensationTask retry = saved();
+		assertThat(retry.getStatus()).isEqualTo(CompensationStatus.PENDING);
+		assertThat(retry.getAttempts()).isEqualTo(1);
+		assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(25));
+		assertThat(registry.get(CompensationWorker.RESULT).tag("result", "retry").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("process: 토스에 이미 취소된 결제면 성공으로 보고 내부 보상 진행")
+	void process_alreadyCancelled_continues() {
+		CompensationTask task = task(CompensationType.AUTO_CHARGE, 1);
+		WebClientResponseException res = WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY,
+			"{\"code\":\"ALREADY_CANCELED_PAYMENT\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+		willThrow(new TossException(ErrorCode.TOSS_API_ERROR, res))
+			.given(gatewayPort).cancelPayment(anyString(), anyString(), anyInt(), anyString());
+
+		worker.process(task);
+
+		then(compTx).should().compensateAutoChargeFailure(eq(orderId), any());
+		assertThat(saved().getStatus()).isEqualTo(CompensationStatus.DONE);
+	}
+
+	@Test
+	@DisplayName("process: 재시도 한계 도달 → FAILED")
+	void process_maxAttempts_fails() {
+		CompensationTask task = task(CompensationType.APPROVAL, 2);
+		willThrow(new IllegalStateException("comp-err")).given(compTx).compensateApprovalFailure(eq(orderId), any());
+
+		worker.process(task);
+
+		CompensationTask failed = saved();
+		assertThat(failed.getStatus()).isEqualTo(CompensationStatus.FAILED);
+		assertThat(failed.getAttempts()).isEqualTo(3);
+		assertThat(failed.getLastError()).contains("comp-err");
+	}
+
+	@Test
+	@DisplayName("poll: 적체 건수와 가장 오래된 작업 나이를 게이지로 갱신")
+	void poll_refreshesBacklogGauges() {
+		given(taskRepository.findDue(any(), eq(20))).willReturn(List.of());
+		given(taskRepository.countPending()).willReturn(4L);
+		given(taskRepository.findOldestPendingCreatedAt())
+			.willReturn(Optional.of(LocalDateTime.now().minusMinutes(10)));
+
+		worker.poll();
+
+		assertThat(registry.get(CompensationWorker.BACKLOG).gauge().value()).isEqualTo(4);
+		assertThat(registry.get(CompensationWorker.OLDEST_AGE).gauge().value()).isBetween(599.0, 601.0);
+	}
+
+	@Test
+	@DisplayName("backoff: 지수 증가 후 max-backoff 에서 고정 (지터 10% 이내)")
+	void backoff_isExponentialAndCapped() {
+		assertThat(worker.backoff(1)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(33));
+		assertThat(worker.backoff(2)).isBetween(Duration.ofSeconds(60), Duration.ofSeconds(66));
+		assertThat(worker.backoff(10)).isBetween(Duration.ofMinutes(10), Duration.ofMinutes(11));
+	}
+}
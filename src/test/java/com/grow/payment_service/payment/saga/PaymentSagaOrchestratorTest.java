@@ -3,15 +3,24 @@ package com.grow.payment_service.payment.saga;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeoutException;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import com.grow.payment_service.global.exception.PaymentSagaException;
 import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.global.metrics.SagaStepMetrics;
 import com.grow.payment_service.payment.application.dto.PaymentAutoChargeParam;
 import com.grow.payment_service.payment.application.dto.PaymentCancelResponse;
 import com.grow.payment_service.payment.application.dto.PaymentConfirmResponse;
@@ -21,12 +30,15 @@ import com.grow.payment_service.payment.application.service.PaymentPersistenceSe
 import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
 import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
 import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingAuthResponse;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
 import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
 
-@SpringBootTest(classes = PaymentSagaOrchestrator.class)
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(classes = {PaymentSagaOrchestrator.class, SagaStepMetrics.class, SimpleMeterRegistry.class})
 class PaymentSagaOrchestratorTest {
 
 	@Autowired
@@ -44,19 +56,26 @@ class PaymentSagaOrchestratorTest {
 	@MockitoBean
 	private PaymentPersistenceService persistenceService;
 
+	@MockitoBean
+	private SagaLog sagaLog;
+
 	@Test
 	@DisplayName("confirmWithCompensation: 성공 시 reserve → gateway → retryable → finish 호출")
 	void confirmWithCompensation_success() {
 		given(idempotencyAdapter.reserve("idem-key")).willReturn(true);
 		willDoNothing().given(gatewayPort)
 			.confirmPayment("key", "order1", 1000, "e@mail", "name");
-		given(retryableService.saveConfirmation("key", "order1", 1000)).willReturn(42L);
+		Payment confirmed = mock(Payment.class);
+		given(confirmed.getPaymentId()).willReturn(42L);
+		given(retryableService.saveConfirmation("key", "order1", 1000)).willReturn(confirmed);
 
-		Long result = saga.confirmWithCompensation(
+		Payment result = saga.confirmWithCompensation(
 			"key", "order1", 1000, "idem-key", "e@mail", "name"
 		);
 
-		assertThat(result).isEqualTo(42L);
+		assertThat(result).isSameAs(confirmed);
+		// 저장 결과를 그대로 사용하므로 추가 조회 없음
+		verifyNoInteractions(persistenceService);
 		InOrder o = inOrder(idempotencyAdapter, gatewayPort, retryableService, idempotencyAdapter);
 		o.verify(idempotencyAdapter).reserve("idem-key");
 		o.verify(gatewayPort).confirmPayment("key", "order1", 1000, "e@mail", "name");
@@ -70,15 +89,19 @@ class PaymentSagaOrchestratorTest {
 	void confirmWithCompensation_idempotentBranch() {
 		given(idempotencyAdapter.reserve("idem-key")).willReturn(false);
 		given(idempotencyAdapter.getResult("idem-key")).willReturn("77");
+		Payment existing = mock(Payment.class);
+		given(existing.getPaymentId()).willReturn(77L);
+		given(persistenceService.findByOrderId("order1")).willReturn(existing);
 
-		Long result = saga.confirmWithCompensation(
+		Payment result = saga.confirmWithCompensation(
 			"key", "order1", 1000, "idem-key", "e@mail", "name"
 		);
 
-		assertThat(result).isEqualTo(77L);
+		assertThat(result.getPaymentId()).isEqualTo(77L);
 		verify(idempotencyAdapter).reserve("idem-key");
 		verify(idempotencyAdapter).getResult("idem-key");
-		verifyNoInteractions(gatewayPort, retryableService, persistenceService);
+		verify(persistenceService, times(1)).findByOrderId("order1");
+		verifyNoInteractions(gatewayPort, retryableService);
 	}
 
 	@Test
@@ -122,6 +145,87 @@ class PaymentSagaOrchestratorTest {
 		verify(idempotencyAdapter, never()).finish(anyString(), anyString());
 	}
 
+	@Test
+	@DisplayName("confirmWithCompensation: 토스 타임아웃 → 승인 여부 불명, 사가는 STARTED 로 두고 멱등키 유지")
+	void confirmWithCompensation_tossTimeout_leavesSagaOpen() {
+		given(idempotencyAdapter.reserve("idem-key")).willReturn(true);
+		TossException timeout = new TossException(ErrorCode.TOSS_TIMEOUT, new TimeoutException());
+		willThrow(timeout).given(gatewayPort).confirmPayment("key", "order1", 1000, "e@mail", "name");
+
+		assertThatThrownBy(() ->
+			saga.confirmWithCompensation("key", "order1", 1000, "idem-key", "e@mail", "name")
+		).isSameAs(timeout);
+
+		verify(sagaLog).started(SagaOperation.CONFIRM, "order1", "key", 1000, "idem-key");
+		verify(sagaLog, never()).failed(any(), anyString(), any());
+		verify(idempotencyAdapter, never()).invalidate(anyString());
+		verifyNoInteractions(retryableService);
+	}
+
+	@Test
+	@DisplayName("confirmWithCompensation: 호출 전 거절(TOSS_UNAVAILABLE) → 승인 안 됨이 확실하므로 FAILED + 멱등키 무효화")
+	void confirmWithCompensation_tossRejected_fails() {
+		given(idempotencyAdapter.reserve("idem-key")).willReturn(true);
+		TossException rejected = new TossException(ErrorCode.TOSS_UNAVAILABLE);
+		willThrow(rejected).given(gatewayPort).confirmPayment("key", "order1", 1000, "e@mail", "name");
+
+		assertThatThrownBy(() ->
+			saga.confirmWithCompensation("key", "order1", 1000, "idem-key", "e@mail", "name")
+		).isSameAs(rejected);
+
+		verify(sagaLog).failed(SagaOperation.CONFIRM, "order1", rejected);
+		verify(idempotencyAdapter).invalidate("idem-key");
+	}
+
+	@Test
+	@DisplayName("confirmWithCompensation: 토스 승인 직후 GATEWAY_DONE 을 DB 저장보다 먼저 기록")
+	void confirmWithCompensation_logsGatewayDoneBeforeSave() {
+		given(idempotencyAdapter.reserve("idem-key")).willReturn(true);
+		Payment confirmed = mock(Payment.class);
+		given(confirmed.getPaymentId()).willReturn(42L);
+		given(retryableService.saveConfirmation("key", "order1", 1000)).willReturn(confirmed);
+
+		saga.confirmWithCompensation("key", "order1", 1000, "idem-key", "e@mail", "name");
+
+		InOrder o = inOrder(sagaLog, gatewayPort, retryableService);
+		o.verify(sagaLog).started(SagaOperation.CONFIRM, "order1", "key", 1000, "idem-key");
+		o.verify(gatewayPort).confirmPayment("key", "order1", 1000, "e@mail", "name");
+		o.verify(sagaLog).gatewayDone(SagaOperation.CONFIRM, "order1", "key", 1000, "idem-key");
+		o.verify(retryableService).saveConfirmation("key", "order1", 1000);
+		o.verify(sagaLog).completed(SagaOperation.CONFIRM, "order1");
+		verify(sagaLog, never()).failed(any(), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("cancelWithCompensation: 토스 취소 실패 시 FAILED 기록 후 예외 전파")
+	void cancelWithCompensation_gatewayFailure_logsFailed() {
+		IllegalStateException boom = new IllegalStateException("toss down");
+		given(gatewayPort.cancelPayment("key", CancelReason.USER_REQUEST.name(), 200, "사용자 요청 취소"))
+			.willThrow(boom);
+
+		assertThatThrownBy(() -> saga.cancelWithCompensation("key", "order1", 200, CancelReason.USER_REQUEST))
+			.isSameAs(boom);
+
+		verify(sagaLog).started(SagaOperation.CANCEL, "order1", "key", 200, CancelReason.USER_REQUEST.name());
+		verify(sagaLog).failed(SagaOperation.CANCEL, "order1", boom);
+		verify(sagaLog, never()).gatewayDone(any(), anyString(), anyString(), anyInt(), anyString());
+		verify(retryableService, never()).saveCancelComplete(anyString());
+	}
+
+	@Test
+	@DisplayName("cancelWithCompensation: 토스 취소 후 취소 완료 저장 실패 → FAILED 기록 없이 사가를 열어 둠 (복구 스캔이 반영)")
+	void cancelWithCompensation_saveFailsAfterGateway_leavesSagaOpen() {
+		IllegalStateException dbDown = new IllegalStateException("db down");
+		given(retryableService.saveCancelComplete("order1")).willThrow(dbDown);
+
+		assertThatThrownBy(() -> saga.cancelWithCompensation("key", "order1", 200, CancelReason.USER_REQUEST))
+			.isSameAs(dbDown);
+
+		verify(sagaLog).gatewayDone(SagaOperation.CANCEL, "order1", "key", 200, CancelReason.USER_REQUEST.name());
+		verify(sagaLog, never()).failed(any(), anyString(), any());
+		verify(sagaLog, never()).completed(any(), anyString());
+	}
+
 	@Test
 	@DisplayName("cancelWithCompensation: 정상 플로우")
 	void cancelWithCompensation_success() {
@@ -211,12 +315,19 @@ class PaymentSagaOrchestratorTest {
 			eq(0), eq(0)
 		)).willReturn(tossCharge);
 
-		given(retryableService.saveAutoCharge("bkey", "oid", 500, tossCharge))
-			.willReturn(new PaymentConfirmResponse(99L, "DONE", "paymentkey", "e@mail", "name"));
+		given(tossCharge.getPaymentKey()).willReturn("paymentkey");
+
+		// 저장된 결제로 응답을 만들고 재조회하지 않음
+		Payment charged = mock(Payment.class);
+		given(charged.getPaymentId()).willReturn(99L);
+		given(charged.getPayStatus()).willReturn(PayStatus.AUTO_BILLING_APPROVED);
+		given(retryableService.saveAutoCharge("bkey", "oid", 500, tossCharge)).willReturn(charged);
 
 		PaymentConfirmResponse res = saga.autoChargeWithCompensation(param, "idem-key");
 
-		assertThat(res.getPayStatus()).isEqualTo("DONE");
+		assertThat(res.getPaymentId()).isEqualTo(99L);
+		assertThat(res.getPayStatus()).isEqualTo(PayStatus.AUTO_BILLING_APPROVED.name());
+		assertThat(res.getPaymentKey()).isEqualTo("paymentkey");
 		assertThat(res.getCustomerEmail()).isEqualTo("e@mail");
 		assertThat(res.getCustomerName()).isEqualTo("name");
 
@@ -230,6 +341,65 @@ class PaymentSagaOrchestratorTest {
 		);
 		o.verify(retryableService).saveAutoCharge("bkey", "oid", 500, tossCharge);
 		o.verify(idempotencyAdapter).finish("idem-key", "99");
+		then(persistenceService).should(never()).findByOrderId(anyString());
+	}
+
+	@Test
+	@DisplayName("autoChargeWithCompensation: 승인 거절(FAILED 저장) → 멱등키 완료 대신 무효화, 사가는 완료")
+	void autoChargeWithCompensation_declined_invalidatesKey() {
+		given(idempotencyAdapter.reserve("idem-key")).willReturn(true);
+
+		var param = PaymentAutoChargeParam.builder()
+			.billingKey("bkey")
+			.customerKey("ckey")
+			.amount(500)
+			.orderId("oid")
+			.orderName("order")
+			.build();
+
+		TossBillingChargeResponse tossCharge = mock(TossBillingChargeResponse.class);
+		given(gatewayPort.chargeWithBillingKey(
+			anyString(), anyString(), anyInt(), anyString(), anyString(), any(), any(), anyInt(), anyInt()
+		)).willReturn(tossCharge);
+
+		Payment declined = mock(Payment.class);
+		given(declined.getPaymentId()).willReturn(99L);
+		given(declined.getPayStatus()).willReturn(PayStatus.AUTO_BILLING_FAILED);
+		given(retryableService.saveAutoCharge("bkey", "oid", 500, tossCharge)).willReturn(declined);
+
+		PaymentConfirmResponse res = saga.autoChargeWithCompensation(param, "idem-key");
+
+		assertThat(res.getPayStatus()).isEqualTo(PayStatus.AUTO_BILLING_FAILED.name());
+		verify(idempotencyAdapter).invalidate("idem-key");
+		verify(idempotencyAdapter, never()).finish(anyString(), anyString());
+		verify(sagaLog).completed(SagaOperation.AUTO_CHARGE, "oid");
+		verify(sagaLog, never()).failed(any(), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("autoChargeWithCompensation: 전송 오류 → 과금 여부 불명, 사가는 STARTED 로 두고 멱등키 유지")
+	void autoChargeWithCompensation_transportError_leavesSagaOpen() {
+		given(idempotencyAdapter.reserve("idem-key")).willReturn(true);
+		var param = PaymentAutoChargeParam.builder()
+			.billingKey("bkey")
+			.customerKey("ckey")
+			.amount(500)
+			.orderId("oid")
+			.orderName("order")
+			.build();
+		WebClientRequestException reset = new WebClientRequestException(
+			new IOException("Connection reset"), HttpMethod.POST, URI.create("https://api.tosspayments.com"),
+			HttpHeaders.EMPTY);
+		given(gatewayPort.chargeWithBillingKey(
+			anyString(), anyString(), anyInt(), anyString(), anyString(), any(), any(), anyInt(), anyInt()
+		)).willThrow(reset);
+
+		assertThatThrownBy(() -> saga.autoChargeWithCompensation(param, "idem-key")).isSameAs(reset);
+
+		verify(sagaLog).started(SagaOperation.AUTO_CHARGE, "oid", null, 500, "idem-key");
+		verify(sagaLog, never()).failed(any(), anyString(), any());
+		verify(idempotencyAdapter, never()).invalidate(anyString());
+		verifyNoInteractions(retryableService);
 	}
 
 	@Test
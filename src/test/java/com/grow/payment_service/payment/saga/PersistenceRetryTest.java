@@ -0,0 +1,155 @@
+package com.grow.payment_service.payment.saga;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.orm.jpa.JpaSystemException;
+
+import com.grow.payment_service.global.config.PersistenceRetryConfig;
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.PaymentSagaException;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.global.metrics.SagaStepMetrics;
+import com.grow.payment_service.payment.application.service.PaymentPersistenceService;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * dataSaveInstance 재시도 + fallback(보상) 경로에 DB 오류를 주입해 보상까지 걸리는 시간을 측정
+ * - 운영과 같은 분류/간격 규칙(PersistenceRetryConfig.classified)으로 Retry 를 만들고 간격만 줄여 실행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제 DB 저장 재시도 분류/백오프 테스트")
+class PersistenceRetryTest {
+
+	@Mock PaymentPersistenceService persistenceService;
+	@Mock CompensationTransactionService compTx;
+	@Mock CompensationQueue compensationQueue;
+
+	private SimpleMeterRegistry registry;
+	private RetryablePersistenceService svc;
+	private Retry retry;
+
+	private final String paymentKey = "payKey";
+	private final String orderId = "order-123";
+	private final int amount = 1000;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		svc = new RetryablePersistenceService(persistenceService, compTx, compensationQueue,
+			new SagaStepMetrics(registry));
+		// 락 10ms / 타임아웃 20ms / 연결 100ms 에서 시작, 2배씩, ±50% 지터
+		PersistenceRetryBackoff backoff = new PersistenceRetryBackoff(Duration.ofMillis(10), Duration.ofMillis(20),
+			Duration.ofMillis(100), 2.0, 0.5, Duration.ofSeconds(1));
+		@SuppressWarnings("unchecked")
+		RetryConfig config = PersistenceRetryConfig.classified(RetryConfig.custom().maxAttempts(4), backoff).build();
+		retry = Retry.of(PersistenceRetryConfig.INSTANCE, config);
+		PersistenceRetryConfig.record(retry, new PaymentMetrics(registry));
+	}
+
+	/** @Retry(fallbackMethod = "recoverConfirm") 와 같은 흐름: 재시도 → 실패 시 보상, 보상 등록까지 걸린 ms 반환 */
+	private long confirmUntilCompensated() {
+		Supplier<Payment> decorated = Retry.decorateSupplier(retry,
+			() -> svc.saveConfirmation(paymentKey, orderId, amount));
+		long start = System.nanoTime();
+		try {
+			decorated.get();
+			fail("보상 경로로 가야 함");
+		} catch (RuntimeException e) {
+			assertThatThrownBy(() -> svc.recoverConfirm(paymentKey, orderId, amount, e))
+				.isInstanceOf(PaymentSagaException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.SAGA_COMPENSATE_SCHEDULED);
+		}
+		return Duration.ofNanos(System.nanoTime() - start).toMillis();
+	}
+
+	private double retryEvents(String failure, String event) {
+		var counter = registry.find(PersistenceRetryConfig.RETRY)
+			.tags("name", PersistenceRetryConfig.INSTANCE, "failure", failure, "event", event).counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	@Test
+	@DisplayName("영구 오류(제약 조건 위반): 재시도 없이 바로 보상")
+	void permanent_compensatesImmediately() {
+		given(persistenceService.savePaymentConfirmation(orderId, paymentKey))
+			.willThrow(new DataIntegrityViolationException("duplicate key"));
+
+		long elapsed = confirmUntilCompensated();
+
+		then(persistenceService).should(times(1)).savePaymentConfirmation(orderId, paymentKey);
+		then(compensationQueue).should()
+			.enqueue(eq(CompensationType.APPROVAL), eq(orderId), eq(paymentKey), eq(amount), any());
+		assertThat(elapsed).isLessThan(100);
+		assertThat(retryEvents("permanent", "not_retried")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("락 충돌: 짧은 백오프로 재시도 후 성공하면 보상 없음")
+	void lockConflict_recoversWithoutCompensation() {
+		Payment saved = mock(Payment.class);
+		given(persistenceService.savePaymentConfirmation(orderId, paymentKey))
+			.willThrow(new CannotAcquireLockException("lock wait timeout"))
+			.willThrow(new CannotAcquireLockException("deadlock"))
+			.willReturn(saved);
+
+		Payment result = retry.executeSupplier(() -> svc.saveConfirmation(paymentKey, orderId, amount));
+
+		assertThat(result).isSameAs(saved);
+		then(persistenceService).should(times(3)).savePaymentConfirmation(orderId, paymentKey);
+		then(compensationQueue).shouldHaveNoInteractions();
+		assertThat(retryEvents("lock_conflict", "retry")).isEqualTo(2);
+		assertThat(retryEvents("lock_conflict", "recovered")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("연결 실패 지속: 가장 긴 백오프로 4회 시도 후 보상, 보상까지 백오프 최소 합 이상")
+	void connection_exhaustsThenCompensates() {
+		given(persistenceService.savePaymentConfirmation(orderId, paymentKey))
+			.willThrow(new CannotGetJdbcConnectionException("pool exhausted"));
+
+		long elapsed = confirmUntilCompensated();
+
+		then(persistenceService).should(times(4)).savePaymentConfirmation(orderId, paymentKey);
+		then(compensationQueue).should()
+			.enqueue(eq(CompensationType.APPROVAL), eq(orderId), eq(paymentKey), eq(amount), any());
+		// 100, 200, 400ms 에 -50% 지터 → 최소 350ms
+		assertThat(elapsed).isGreaterThanOrEqualTo(350);
+		assertThat(retryEvents("connection", "retry")).isEqualTo(3);
+		assertThat(retryEvents("connection", "exhausted")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("분류: 래핑된 예외는 원인 체인과 SQLState 로 판단")
+	void classify_walksCauseChain() {
+		assertThat(PersistenceFailure.classify(
+			new JpaSystemException(new RuntimeException(new SQLTransientConnectionException("closed")))))
+			.isEqualTo(PersistenceFailure.CONNECTION);
+		assertThat(PersistenceFailure.classify(
+			new JpaSystemException(new RuntimeException(new SQLException("deadlock", "40P01")))))
+			.isEqualTo(PersistenceFailure.LOCK_CONFLICT);
+		assertThat(PersistenceFailure.classify(new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_ERROR,
+			new IllegalStateException("잘못된 상태"))))
+			.isEqualTo(PersistenceFailure.PERMANENT);
+	}
+}
@@ -12,21 +12,25 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.grow.payment_service.global.exception.ErrorCode;
 import com.grow.payment_service.global.exception.PaymentSagaException;
+import com.grow.payment_service.global.metrics.SagaStepMetrics;
 import com.grow.payment_service.payment.application.dto.PaymentCancelResponse;
-import com.grow.payment_service.payment.application.dto.PaymentConfirmResponse;
 import com.grow.payment_service.payment.application.dto.PaymentIssueBillingKeyResponse;
 import com.grow.payment_service.payment.application.service.PaymentPersistenceService;
+import com.grow.payment_service.payment.domain.model.Payment;
 import com.grow.payment_service.payment.domain.model.enums.CancelReason;
-import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
 import com.grow.payment_service.payment.infra.paymentprovider.dto.TossBillingChargeResponse;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RetryablePersistenceService 단위 테스트")
 class RetryablePersistenceServiceTest {
 
 	@Mock PaymentPersistenceService persistenceService;
-	@Mock PaymentGatewayPort gatewayPort;
 	@Mock CompensationTransactionService compTx;
+	@Mock CompensationQueue compensationQueue;
+	@Spy SagaStepMetrics stepMetrics = new SagaStepMetrics(new SimpleMeterRegistry());
 	@InjectMocks RetryablePersistenceService svc;
 
 	private final String paymentKey = "payKey";
@@ -37,20 +41,16 @@ class RetryablePersistenceServiceTest {
 	private final RuntimeException cause = new RuntimeException("fail");
 
 	@Test
-	@DisplayName("recoverConfirm: 외부 cancel + 보상 호출 후 SAGA_COMPENSATE_COMPLETED 예외")
-	void recoverConfirm_callsCancelAndCompensate_thenSagaCompleted() {
-		when(gatewayPort.cancelPayment(eq(paymentKey), eq(CancelReason.SYSTEM_ERROR.name()), eq(amount), eq("보상 취소")))
-			.thenReturn(null);
-		doNothing().when(compTx).compensateApprovalFailure(orderId, cause);
-
+	@DisplayName("recoverConfirm: 보상 작업 등록 후 SAGA_COMPENSATE_SCHEDULED 예외 (토스 취소/보상은 워커가 수행)")
+	void recoverConfirm_enqueuesCompensation_thenSagaScheduled() {
 		PaymentSagaException ex = assertThrows(
 			PaymentSagaException.class,
 			() -> svc.recoverConfirm(paymentKey, orderId, amount, cause)
 		);
-		assertEquals(ErrorCode.SAGA_COMPENSATE_COMPLETED, ex.getErrorCode());
+		assertEquals(ErrorCode.SAGA_COMPENSATE_SCHEDULED, ex.getErrorCode());
 
-		verify(gatewayPort).cancelPayment(eq(paymentKey), eq(CancelReason.SYSTEM_ERROR.name()), eq(amount), eq("보상 취소"));
-		verify(compTx).compensateApprovalFailure(orderId, cause);
+		verify(compensationQueue).enqueue(CompensationType.APPROVAL, orderId, paymentKey, amount, cause);
+		verifyNoInteractions(compTx);
 	}
 
 	@Test
@@ -89,43 +89,31 @@ class RetryablePersistenceServiceTest {
 	}
 
 	@Test
-	@DisplayName("recoverAutoCharge: 외부 cancel + 보상 호출 후 SAGA_COMPENSATE_COMPLETED 예외")
-	void recoverAutoCharge_callsCancelAndCompensate_thenSagaCompleted() {
-		when(tossRes.getPaymentKey()).thenReturn("pk-123"); // 🔹 추가
-
-		when(gatewayPort.cancelPayment(
-			eq("pk-123"),
-			eq(CancelReason.SYSTEM_ERROR.name()),
-			eq(amount),
-			eq("보상-자동 결제 취소")
-		)).thenReturn(null);
-
-		doNothing().when(compTx).compensateAutoChargeFailure(orderId, cause);
+	@DisplayName("recoverAutoCharge: 승인된 paymentKey 로 보상 작업 등록 후 SAGA_COMPENSATE_SCHEDULED 예외")
+	void recoverAutoCharge_enqueuesCompensation_thenSagaScheduled() {
+		when(tossRes.getPaymentKey()).thenReturn("pk-123");
 
 		PaymentSagaException ex = assertThrows(
 			PaymentSagaException.class,
 			() -> svc.recoverAutoCharge(billingKey, orderId, amount, tossRes, cause)
 		);
-		assertEquals(ErrorCode.SAGA_COMPENSATE_COMPLETED, ex.getErrorCode());
+		assertEquals(ErrorCode.SAGA_COMPENSATE_SCHEDULED, ex.getErrorCode());
 
-		// 검증도 paymentKey 기준으로
-		verify(gatewayPort).cancelPayment(
-			eq("pk-123"),
-			eq(CancelReason.SYSTEM_ERROR.name()),
-			eq(amount),
-			eq("보상-자동 결제 취소")
-		);
-		verify(compTx).compensateAutoChargeFailure(orderId, cause);
+		verify(compensationQueue).enqueue(CompensationType.AUTO_CHARGE, orderId, "pk-123", amount, cause);
+		verifyNoInteractions(compTx);
 	}
 
 	@Test
-	@DisplayName("saveConfirmation: 저장 성공 시 paymentId 반환 (paymentKey 포함)")
+	@DisplayName("saveConfirmation: 저장 성공 시 저장된 결제 반환 (paymentKey 포함)")
 	void saveConfirmation_success() {
-		when(persistenceService.savePaymentConfirmation(orderId, paymentKey)).thenReturn(10L);
+		Payment saved = mock(Payment.class);
+		when(saved.getPaymentId()).thenReturn(10L);
+		when(persistenceService.savePaymentConfirmation(orderId, paymentKey)).thenReturn(saved);
 
-		Long id = svc.saveConfirmation(paymentKey, orderId, amount);
+		Payment result = svc.saveConfirmation(paymentKey, orderId, amount);
 
-		assertEquals(10L, id);
+		assertSame(saved, result);
+		assertEquals(10L, result.getPaymentId());
 		verify(persistenceService).savePaymentConfirmation(orderId, paymentKey);
 	}
 
@@ -166,27 +154,22 @@ class RetryablePersistenceServiceTest {
 	}
 
 	@Test
-	@DisplayName("saveAutoCharge: 저장 성공 → AUTO_BILLING_APPROVED + paymentKey 포함")
+	@DisplayName("saveAutoCharge: 저장 성공 → 저장된 결제를 그대로 반환")
 	void saveAutoCharge_success() {
-		// 현재 구조: 상태 문자열은 AUTO_BILLING_APPROVED, 3번째 파라미터는 paymentKey
-		PaymentConfirmResponse dummy =
-			new PaymentConfirmResponse(99L, "AUTO_BILLING_APPROVED", "paymentkey", "e@mail", "name");
-
-		when(persistenceService.saveAutoChargeResult(orderId, tossRes)).thenReturn(dummy);
+		Payment saved = mock(Payment.class);
+		when(persistenceService.saveAutoChargeResult(orderId, tossRes)).thenReturn(saved);
 
-		var res = svc.saveAutoCharge(billingKey, orderId, amount, tossRes);
+		Payment res = svc.saveAutoCharge(billingKey, orderId, amount, tossRes);
 
-		assertEquals(99L, res.getPaymentId());
-		assertEquals("AUTO_BILLING_APPROVED", res.getPayStatus());
-		assertEquals("paymentkey", res.getPaymentKey());
+		assertSame(saved, res);
 		verify(persistenceService).saveAutoChargeResult(orderId, tossRes);
 	}
 
 	@Test
-	@DisplayName("recoverConfirm: 보상 중 에러 → SAGA_COMPENSATE_ERROR")
-	void recoverConfirm_compensationError() {
-		when(gatewayPort.cancelPayment(eq(paymentKey), anyString(), anyInt(), anyString())).thenReturn(null);
-		doThrow(new IllegalStateException("comp-err")).when(compTx).compensateApprovalFailure(orderId, cause);
+	@DisplayName("recoverConfirm: 보상 작업 등록 실패 → SAGA_COMPENSATE_ERROR")
+	void recoverConfirm_enqueueError() {
+		doThrow(new IllegalStateException("db-down"))
+			.when(compensationQueue).enqueue(any(), anyString(), anyString(), anyInt(), any());
 
 		PaymentSagaException ex = assertThrows(
 			PaymentSagaException.class,
@@ -196,10 +179,11 @@ class RetryablePersistenceServiceTest {
 	}
 
 	@Test
-	@DisplayName("recoverAutoCharge: 보상 중 에러 → SAGA_COMPENSATE_ERROR")
-	void recoverAutoCharge_compensationError() {
-		when(gatewayPort.cancelPayment(eq(billingKey), anyString(), anyInt(), anyString())).thenReturn(null);
-		doThrow(new IllegalStateException("comp-err")).when(compTx).compensateAutoChargeFailure(orderId, cause);
+	@DisplayName("recoverAutoCharge: 보상 작업 등록 실패 → SAGA_COMPENSATE_ERROR")
+	void recoverAutoCharge_enqueueError() {
+		when(tossRes.getPaymentKey()).thenReturn("pk-123");
+		doThrow(new IllegalStateException("db-down"))
+			.when(compensationQueue).enqueue(any(), anyString(), anyString(), anyInt(), any());
 
 		PaymentSagaException ex = assertThrows(
 			PaymentSagaException.class,
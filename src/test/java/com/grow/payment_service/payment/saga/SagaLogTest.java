@@ -0,0 +1,146 @@
+package com.grow.payment_service.payment.saga;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+import com.grow.payment_service.payment.domain.repository.SagaLogRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SagaLog 단위 테스트")
+class SagaLogTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final FakeRepository repository = new FakeRepository();
+	private SagaLog sagaLog;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		repository.release.countDown();
+		sagaLog.close();
+	}
+
+	private SagaLog sagaLog(Duration durableTimeout) {
+		sagaLog = new SagaLog(repository, new PaymentMetrics(registry), registry, 200, 100, durableTimeout);
+		return sagaLog;
+	}
+
+	@Test
+	@DisplayName("gatewayDone: 저장이 끝난 뒤에 반환")
+	void gatewayDone_returnsAfterFlush() {
+		repository.release.countDown();
+		sagaLog(Duration.ofSeconds(1));
+
+		sagaLog.gatewayDone(SagaOperation.CONFIRM, "order-1", "pk-1", 1000, null);
+
+		assertThat(repository.entries()).singleElement().satisfies(e -> {
+			assertThat(e.getStep()).isEqualTo(SagaStep.GATEWAY_DONE);
+			assertThat(e.getPaymentKey()).isEqualTo("pk-1");
+			assertThat(e.getAttempt()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	@DisplayName("그룹 커밋: writer 가 저장하는 동안 쌓인 기록은 다음 배치 한 번으로 저장")
+	void append_groupsQueuedEntriesIntoOneBatch() throws Exception {
+		repository.blockFirst = true;
+		sagaLog(Duration.ofSeconds(1));
+		sagaLog.started(SagaOperation.CONFIRM, "order-0", "pk-0", 1000, null);
+		assertThat(repository.firstEntered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		for (int i = 1; i <= 5; i++) {
+			sagaLog.started(SagaOperation.CONFIRM, "order-" + i, "pk-" + i, 1000, null);
+		}
+		repository.release.countDown();
+		sagaLog.close();
+
+		assertThat(repository.batches).extracting(List::size).containsExactly(1, 5);
+		assertThat(registry.get(SagaLog.BATCH_SIZE).summary().max()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("gatewayDone: 저장이 durable-timeout 안에 끝나지 않아도 결제는 계속 진행")
+	void gatewayDone_timeout_doesNotThrow() {
+		repository.blockFirst = true;
+		sagaLog(Duration.ofMillis(50));
+
+		assertThatCode(() -> sagaLog.gatewayDone(SagaOperation.CONFIRM, "order-1", "pk-1", 1000, null))
+			.doesNotThrowAnyException();
+		assertThat(registry.get(SagaLog.WRITE_FAILED).tag("reason", "durable_timeout").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("gatewayDone: 배치 저장 실패는 메트릭만 남기고 예외를 던지지 않음")
+	void gatewayDone_flushError_doesNotThrow() {
+		repository.fail = true;
+		sagaLog(Duration.ofSeconds(1));
+
+		assertThatCode(() -> sagaLog.gatewayDone(SagaOperation.AUTO_CHARGE, "order-1", "pk-1", 1000, null))
+			.doesNotThrowAnyException();
+		assertThat(registry.get(SagaLog.WRITE_FAILED).tag("reason", "flush_error").counter().count())
+			.isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("close: 큐에 남은 기록을 모두 저장한 뒤 종료")
+	void close_drainsQueue() throws InterruptedException {
+		repository.release.countDown();
+		sagaLog(Duration.ofSeconds(1));
+		sagaLog.started(SagaOperation.CANCEL, "order-1", "pk-1", 1000, "USER_REQUEST");
+		sagaLog.completed(SagaOperation.CANCEL, "order-1");
+
+		sagaLog.close();
+
+		assertThat(repository.entries()).extracting(SagaLogEntry::getStep)
+			.containsExactly(SagaStep.STARTED, SagaStep.COMPLETED);
+	}
+
+	private static class FakeRepository implements SagaLogRepository {
+
+		final List<List<SagaLogEntry>> batches = new CopyOnWriteArrayList<>();
+		final CountDownLatch firstEntered = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		volatile boolean blockFirst;
+		volatile boolean fail;
+
+		@Override
+		public void appendAll(List<SagaLogEntry> entries) {
+			if (fail) {
+				throw new IllegalStateException("db down");
+			}
+			if (blockFirst && batches.isEmpty()) {
+				firstEntered.countDown();
+				try {
+					release.await(1, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			batches.add(List.copyOf(entries));
+		}
+
+		@Override
+		public List<SagaLogEntry> findOpen(LocalDateTime from, LocalDateTime to) {
+			return List.of();
+		}
+
+		List<SagaLogEntry> entries() {
+			return batches.stream().flatMap(List::stream).toList();
+		}
+	}
+}
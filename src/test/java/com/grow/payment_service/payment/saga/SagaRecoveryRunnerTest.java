@@ -0,0 +1,321 @@
+package com.grow.payment_service.payment.saga;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.grow.payment_service.global.exception.ErrorCode;
+import com.grow.payment_service.global.exception.PaymentSagaException;
+import com.grow.payment_service.global.exception.TossException;
+import com.grow.payment_service.global.lane.LaneGate;
+import com.grow.payment_service.global.metrics.PaymentMetrics;
+import com.grow.payment_service.payment.domain.model.Payment;
+import com.grow.payment_service.payment.domain.model.SagaLogEntry;
+import com.grow.payment_service.payment.domain.model.enums.CompensationType;
+import com.grow.payment_service.payment.domain.model.enums.PayStatus;
+import com.grow.payment_service.payment.domain.model.enums.SagaOperation;
+import com.grow.payment_service.payment.domain.model.enums.SagaStep;
+import com.grow.payment_service.payment.domain.repository.PaymentRepository;
+import com.grow.payment_service.payment.domain.repository.SagaLogRepository;
+import com.grow.payment_service.payment.domain.service.PaymentGatewayPort;
+import com.grow.payment_service.payment.infra.paymentprovider.dto.TossPaymentResponse;
+import com.grow.payment_service.payment.infra.redis.RedisIdempotencyAdapter;
+
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SagaRecoveryRunner 단위 테스트")
+class SagaRecoveryRunnerTest {
+
+	@Mock SagaLogRepository sagaLogRepository;
+	@Mock SagaLog sagaLog;
+	@Mock PaymentRepository paymentRepository;
+	@Mock RetryablePersistenceService retryableService;
+	@Mock CompensationQueue compensationQueue;
+	@Mock PaymentGatewayPort gatewayPort;
+	@Mock RedisIdempotencyAdapter idempotencyAdapter;
+
+	private SimpleMeterRegistry registry;
+	private SagaRecoveryRunner runner;
+
+	private final String orderId = "order-1";
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		PaymentMetrics metrics = new PaymentMetrics(registry);
+		LaneGate laneGate = new LaneGate(registry, metrics, RateLimiterRegistry.ofDefaults(),
+			10, 3, 1, Duration.ofSeconds(1));
+		runner = new SagaRecoveryRunner(sagaLogRepository, sagaLog, paymentRepository, retryableService,
+			compensationQueue, gatewayPort, idempotencyAdapter, laneGate, metrics,
+			Duration.ofMinutes(1), Duration.ofHours(24));
+	}
+
+	private void open(SagaOperation operation, SagaStep step, String detail) {
+		SagaLogEntry entry = SagaLogEntry.of(7L, orderId, operation, step, 1, "pk-1", 1000, detail,
+			LocalDateTime.now().minusMinutes(5));
+		given(sagaLogRepository.findOpen(any(), any())).willReturn(List.of(entry));
+		given(idempotencyAdapter.reserve(anyString())).willReturn(true);
+	}
+
+	private void status(PayStatus status) {
+		Payment payment = mock(Payment.class);
+		given(payment.getPayStatus()).willReturn(status);
+		given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+	}
+
+	private Payment saved(Long paymentId) {
+		Payment payment = mock(Payment.class);
+		given(payment.getPaymentId()).willReturn(paymentId);
+		return payment;
+	}
+
+	private TossPaymentResponse tossPayment(String status, String paymentKey) {
+		TossPaymentResponse res = mock(TossPaymentResponse.class);
+		given(res.getStatus()).willReturn(status);
+		given(res.getPaymentKey()).willReturn(paymentKey);
+		return res;
+	}
+
+	private SagaLogEntry recorded() {
+		ArgumentCaptor<SagaLogEntry> captor = ArgumentCaptor.forClass(SagaLogEntry.class);
+		then(sagaLog).should().append(captor.capture());
+		return captor.getValue();
+	}
+
+	private double recovered(String action) {
+		return registry.get(SagaRecoveryRunner.RECOVERED).tag("action", action).counter().count();
+	}
+
+	@Test
+	@DisplayName("승인 GATEWAY_DONE + 결제 미반영 → DB 반영 재개 후 COMPLETED")
+	void confirm_gatewayDone_resumesSave() {
+		open(SagaOperation.CONFIRM, SagaStep.GATEWAY_DONE, "idem-1");
+		status(PayStatus.READY);
+		given(retryableService.saveConfirmation("pk-1", orderId, 1000)).willReturn(saved(42L));
+
+		assertThat(runner.recover()).isEqualTo(1);
+
+		then(retryableService).should().saveConfirmation("pk-1", orderId, 1000);
+		// 사가가 남긴 멱등키를 완료 처리 → 같은 키 재요청은 이 결과를 받음
+		then(idempotencyAdapter).should().finish("idem-1", "42");
+		SagaLogEntry done = recorded();
+		assertThat(done.getStep()).isEqualTo(SagaStep.COMPLETED);
+		assertThat(done.getAttempt()).isEqualTo(2);
+		assertThat(recovered("resumed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("승인 GATEWAY_DONE + 반영 재시도 실패 → 보상 작업 등록됐으면 FAILED 로 종료")
+	void confirm_saveFails_compensated() {
+		open(SagaOperation.CONFIRM, SagaStep.GATEWAY_DONE, null);
+		status(PayStatus.READY);
+		given(retryableService.saveConfirmation("pk-1", orderId, 1000))
+			.willThrow(new PaymentSagaException(ErrorCode.SAGA_COMPENSATE_SCHEDULED));
+
+		runner.recover();
+
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.FAILED);
+		assertThat(recovered("compensated")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("승인 STARTED(타임아웃 등) + 토스 조회 DONE → DB 반영 재개 후 멱등키 완료")
+	void confirm_started_tossDone_resumesSave() {
+		open(SagaOperation.CONFIRM, SagaStep.STARTED, "idem-1");
+		status(PayStatus.READY);
+		given(gatewayPort.getPaymentByOrderId(orderId)).willReturn(tossPayment("DONE", "pk-1"));
+		given(retryableService.saveConfirmation("pk-1", orderId, 1000)).willReturn(saved(42L));
+
+		runner.recover();
+
+		then(idempotencyAdapter).should().finish("idem-1", "42");
+		then(idempotencyAdapter).should(never()).invalidate("idem-1");
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.COMPLETED);
+		assertThat(recovered("resumed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("승인 STARTED + 토스에 주문 없음(404) → 승인 안 됨 확정, FAILED + 멱등키 해제")
+	void confirm_started_tossNotFound_releasesKey() {
+		open(SagaOperation.CONFIRM, SagaStep.STARTED, "idem-1");
+		status(PayStatus.READY);
+		WebClientResponseException notFound = WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY,
+			new byte[0], StandardCharsets.UTF_8);
+		given(gatewayPort.getPaymentByOrderId(orderId)).willThrow(new TossException(ErrorCode.TOSS_API_ERROR, notFound));
+
+		runner.recover();
+
+		then(retryableService).shouldHaveNoInteractions();
+		then(idempotencyAdapter).should().invalidate("idem-1");
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.FAILED);
+		assertThat(recovered("not_charged")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("승인 STARTED + 토스 조회 실패 → 멱등키 유지, 사가 예약만 풀고 다음 스캔 때 재조회")
+	void confirm_started_lookupFails_keepsKey() {
+		open(SagaOperation.CONFIRM, SagaStep.STARTED, "idem-1");
+		status(PayStatus.READY);
+		given(gatewayPort.getPaymentByOrderId(orderId)).willThrow(new TossException(ErrorCode.TOSS_TIMEOUT));
+
+		assertThat(runner.recover()).isZero();
+
+		then(idempotencyAdapter).should().invalidate("saga-recovery:CONFIRM:order-1:7");
+		then(idempotencyAdapter).should(never()).invalidate("idem-1");
+		then(sagaLog).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("자동결제 STARTED + 토스 DONE 이 지난 회차 승인(결제에 남은 키) → 이번 회차 과금 없음, 보상 없이 멱등키 해제")
+	void autoCharge_started_tossDoneIsLastCycle_notCharged() {
+		open(SagaOperation.AUTO_CHARGE, SagaStep.STARTED, "idem-1");
+		Payment payment = mock(Payment.class);
+		given(payment.getPayStatus()).willReturn(PayStatus.AUTO_BILLING_IN_PROGRESS);
+		given(payment.getPaymentKey()).willReturn("pk-prev");
+		given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+		given(gatewayPort.getPaymentByOrderId(orderId)).willReturn(tossPayment("DONE", "pk-prev"));
+
+		runner.recover();
+
+		then(compensationQueue).shouldHaveNoInteractions();
+		then(idempotencyAdapter).should().invalidate("idem-1");
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.FAILED);
+	}
+
+	@Test
+	@DisplayName("자동결제 STARTED + 토스에 이번 회차 승인 → 조회한 paymentKey 로 보상 작업 등록 후 멱등키 해제")
+	void autoCharge_started_tossCharged_enqueuesCompensation() {
+		open(SagaOperation.AUTO_CHARGE, SagaStep.STARTED, "idem-1");
+		Payment payment = mock(Payment.class);
+		given(payment.getPayStatus()).willReturn(PayStatus.AUTO_BILLING_IN_PROGRESS);
+		given(payment.getPaymentKey()).willReturn("pk-prev");
+		given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+		given(gatewayPort.getPaymentByOrderId(orderId)).willReturn(tossPayment("DONE", "pk-new"));
+
+		runner.recover();
+
+		then(compensationQueue).should()
+			.enqueue(eq(CompensationType.AUTO_CHARGE), eq(orderId), eq("pk-new"), eq(1000), any());
+		then(idempotencyAdapter).should().invalidate("idem-1");
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.FAILED);
+	}
+
+	@Test
+	@DisplayName("자동결제 GATEWAY_DONE + 미반영 → 보상 작업 등록")
+	void autoCharge_gatewayDone_enqueuesCompensation() {
+		open(SagaOperation.AUTO_CHARGE, SagaStep.GATEWAY_DONE, null);
+		status(PayStatus.AUTO_BILLING_IN_PROGRESS);
+
+		runner.recover();
+
+		then(compensationQueue).should()
+			.enqueue(eq(CompensationType.AUTO_CHARGE), eq(orderId), eq("pk-1"), eq(1000), any());
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.FAILED);
+	}
+
+	@Test
+	@DisplayName("자동결제: 이미 승인 반영된 결제면 COMPLETED 만 기록")
+	void autoCharge_alreadyApproved_completes() {
+		open(SagaOperation.AUTO_CHARGE, SagaStep.GATEWAY_DONE, null);
+		status(PayStatus.AUTO_BILLING_APPROVED);
+
+		runner.recover();
+
+		then(compensationQueue).shouldHaveNoInteractions();
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.COMPLETED);
+		assertThat(recovered("already_done")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("취소 STARTED → 토스 취소(이미 취소면 통과) 후 취소 완료 반영")
+	void cancel_started_resumes() {
+		open(SagaOperation.CANCEL, SagaStep.STARTED, "USER_REQUEST");
+		status(PayStatus.CANCEL_REQUESTED);
+		WebClientResponseException res = WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY,
+			"{\"code\":\"ALREADY_CANCELED_PAYMENT\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+		willThrow(new TossException(ErrorCode.TOSS_API_ERROR, res))
+			.given(gatewayPort).cancelPayment("pk-1", "USER_REQUEST", 1000, "사용자 요청 취소");
+
+		runner.recover();
+
+		then(retryableService).should().saveCancelComplete(orderId);
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.COMPLETED);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 먼저 예약한 사가는 건너뜀")
+	void notClaimed_skips() {
+		given(sagaLogRepository.findOpen(any(), any())).willReturn(List.of(SagaLogEntry.of(7L, orderId,
+			SagaOperation.CONFIRM, SagaStep.GATEWAY_DONE, 1, "pk-1", 1000, null, LocalDateTime.now().minusMinutes(5))));
+		given(idempotencyAdapter.reserve(anyString())).willReturn(false);
+
+		assertThat(runner.recover()).isZero();
+
+		then(paymentRepository).shouldHaveNoInteractions();
+		then(sagaLog).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("처리 중 예외 → 예약 해제 후 다음 사가 계속, 다음 스캔 때 재시도")
+	void failure_releasesClaim() {
+		open(SagaOperation.CANCEL, SagaStep.GATEWAY_DONE, "USER_REQUEST");
+		status(PayStatus.CANCEL_REQUESTED);
+		given(retryableService.saveCancelComplete(orderId)).willThrow(new IllegalStateException("db down"));
+
+		assertThat(runner.recover()).isZero();
+
+		then(idempotencyAdapter).should().invalidate("saga-recovery:CANCEL:order-1:7");
+		then(sagaLog).shouldHaveNoInteractions();
+		assertThat(recovered("error")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("기동 시 grace 가 안 지나 건너뛴 사가 → 다음 주기 스캔에서 같은 예약 키로 처리")
+	void youngerThanGrace_handledByLaterScan() {
+		SagaLogEntry entry = SagaLogEntry.of(7L, orderId, SagaOperation.CANCEL, SagaStep.GATEWAY_DONE, 1, "pk-1", 1000,
+			"USER_REQUEST", LocalDateTime.now().minusMinutes(5));
+		given(sagaLogRepository.findOpen(any(), any())).willReturn(List.of(), List.of(entry));
+		given(idempotencyAdapter.reserve("saga-recovery:CANCEL:order-1:7")).willReturn(true);
+		status(PayStatus.CANCEL_REQUESTED);
+
+		runner.run(null);
+		runner.scan();
+
+		then(retryableService).should().saveCancelComplete(orderId);
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.COMPLETED);
+	}
+
+	@Test
+	@DisplayName("자동결제 GATEWAY_DONE + 같은 paymentKey 가 이미 반영(다음 달 READY 로 리셋됨) → 보상 없이 COMPLETED")
+	void autoCharge_alreadyRecordedAndReset_noCompensation() {
+		open(SagaOperation.AUTO_CHARGE, SagaStep.GATEWAY_DONE, null);
+		Payment payment = mock(Payment.class);
+		given(payment.getPayStatus()).willReturn(PayStatus.AUTO_BILLING_READY);
+		given(payment.getPaymentKey()).willReturn("pk-1");
+		given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+
+		runner.recover();
+
+		then(compensationQueue).shouldHaveNoInteractions();
+		assertThat(recorded().getStep()).isEqualTo(SagaStep.COMPLETED);
+		assertThat(recovered("already_done")).isEqualTo(1);
+	}
+}
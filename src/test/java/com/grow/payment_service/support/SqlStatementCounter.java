@@ -0,0 +1,50 @@
+package com.grow.payment_service.support;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 을 종류별로 세는 StatementInspector
+ * - hibernate.session_factory.statement_inspector 로 등록
+ * - Hibernate 가 직접 인스턴스를 만들기 때문에 카운터는 static 으로 공유
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final AtomicInteger SELECT = new AtomicInteger();
+	private static final AtomicInteger INSERT = new AtomicInteger();
+	private static final AtomicInteger UPDATE = new AtomicInteger();
+	private static final AtomicInteger DELETE = new AtomicInteger();
+
+	@Override
+	public String inspect(String sql) {
+		String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+		if (head.startsWith("select") || head.startsWith("with")) {
+			SELECT.incrementAndGet();
+		} else if (head.startsWith("insert")) {
+			INSERT.incrementAndGet();
+		} else if (head.startsWith("update")) {
+			UPDATE.incrementAndGet();
+		} else if (head.startsWith("delete")) {
+			DELETE.incrementAndGet();
+		}
+		return sql;
+	}
+
+	/** 측정 시작 전 카운터 초기화 */
+	public static void reset() {
+		SELECT.set(0);
+		INSERT.set(0);
+		UPDATE.set(0);
+		DELETE.set(0);
+	}
+
+	/** 현재까지 실행된 SQL 건수 */
+	public static Snapshot snapshot() {
+		return new Snapshot(SELECT.get(), INSERT.get(), UPDATE.get(), DELETE.get());
+	}
+
+	public record Snapshot(int selects, int inserts, int updates, int deletes) {
+	}
+}